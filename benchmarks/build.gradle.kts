@@ -0,0 +1,24 @@
+plugins {
+    java
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = JavaVersion.VERSION_17
+}
+
+dependencies {
+    implementation(projects.serializationGson)
+    implementation(projects.serializationNbt)
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator)
+}
+
+// Runs the benchmarks, with any arguments for JMH given with -PjmhArgs, for example, -PjmhArgs="RecordCodecBenchmark -f 1".
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks."
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    providers.gradleProperty("jmhArgs").orNull?.let { args(it.split(' ')) }
+}
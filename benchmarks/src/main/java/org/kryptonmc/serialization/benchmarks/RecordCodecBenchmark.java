@@ -0,0 +1,110 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.benchmarks;
+
+import com.google.gson.JsonElement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.kryptonmc.serialization.Codec;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.codecs.RecordCodecBuilder;
+import org.kryptonmc.serialization.gson.GsonOps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the three ways that record codecs can be run: the standard
+ * interpreted implementation, the compiled field table, and the generated
+ * hidden class.
+ *
+ * <p>Which one is used is decided once, when the record codec classes are
+ * loaded, so each is run in its own forks, with the system property that
+ * selects it.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public abstract class RecordCodecBenchmark {
+
+    private static final Codec<Position> POSITION_CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.DOUBLE.fieldOf("x").gettingDouble(Position::x),
+            Codec.DOUBLE.fieldOf("y").gettingDouble(Position::y),
+            Codec.DOUBLE.fieldOf("z").gettingDouble(Position::z)
+    ).apply(instance, Position::new));
+    private static final Codec<Entity> ENTITY_CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.STRING.fieldOf("name").getting(Entity::name),
+            Codec.INT.fieldOf("level").gettingInt(Entity::level),
+            Codec.LONG.fieldOf("seed").gettingLong(Entity::seed),
+            Codec.DOUBLE.fieldOf("health").gettingDouble(Entity::health),
+            Codec.BOOLEAN.fieldOf("active").getting(Entity::active),
+            POSITION_CODEC.fieldOf("position").getting(Entity::position),
+            Codec.STRING.listOf().fieldOf("tags").getting(Entity::tags)
+    ).apply(instance, Entity::new));
+
+    private final Entity entity = new Entity("zombie", 12, 8_675_309L, 17.5, true, new Position(128.5, 64.0, -32.25), List.of("hostile", "undead"));
+    private final JsonElement encoded = ENTITY_CODEC.encodeStartOrThrow(entity, GsonOps.INSTANCE);
+
+    @Benchmark
+    public DataResult<Entity> decode() {
+        return ENTITY_CODEC.read(encoded, GsonOps.INSTANCE);
+    }
+
+    @Benchmark
+    public Entity decodeDirect() {
+        return ENTITY_CODEC.readOrThrow(encoded, GsonOps.INSTANCE);
+    }
+
+    @Benchmark
+    public DataResult<JsonElement> encode() {
+        return ENTITY_CODEC.encodeStart(entity, GsonOps.INSTANCE);
+    }
+
+    @Benchmark
+    public JsonElement encodeDirect() {
+        return ENTITY_CODEC.encodeStartOrThrow(entity, GsonOps.INSTANCE);
+    }
+
+    /**
+     * Runs record codecs with the standard implementation, which builds a
+     * decoder and an encoder out of each field.
+     */
+    @Fork(value = 2, jvmArgsAppend = "-Dorg.kryptonmc.serialization.disableRecordCompilation=true")
+    public static class Interpreted extends RecordCodecBenchmark {
+    }
+
+    /**
+     * Runs record codecs compiled in to a flat table of fields, which is the
+     * default.
+     */
+    @Fork(2)
+    public static class Compiled extends RecordCodecBenchmark {
+    }
+
+    /**
+     * Runs record codecs through a hidden class generated for each record.
+     */
+    @Fork(value = 2, jvmArgsAppend = "-Dorg.kryptonmc.serialization.generateRecordCodecs=true")
+    public static class Generated extends RecordCodecBenchmark {
+    }
+
+    record Position(double x, double y, double z) {
+    }
+
+    record Entity(String name, int level, long seed, double health, boolean active, Position position, List<String> tags) {
+    }
+}
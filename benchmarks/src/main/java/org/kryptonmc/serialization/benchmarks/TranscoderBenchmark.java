@@ -0,0 +1,141 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.benchmarks;
+
+import com.google.gson.JsonElement;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.kryptonmc.nbt.Tag;
+import org.kryptonmc.serialization.Transcoder;
+import org.kryptonmc.serialization.gson.GsonOps;
+import org.kryptonmc.serialization.nbt.NbtOps;
+import org.kryptonmc.util.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares converting a large NBT compound to JSON sequentially with
+ * converting it in parallel, in pools of different sizes.
+ *
+ * <p>The compound is a synthetic region of chunks, several megabytes in
+ * size, with enough chunks that the list of them is split between tasks.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TranscoderBenchmark {
+
+    private static final int CHUNKS = 4096;
+    private static final int SECTIONS = 4;
+    private static final int BLOCK_LONGS = 64;
+    private static final int PALETTE_SIZE = 4;
+    private static final int ENTITIES = 2;
+
+    private Tag region;
+
+    @Setup
+    public void createRegion() {
+        final var random = new SplittableRandom(0);
+        region = map(
+                entry("version", NbtOps.INSTANCE.createInt(3120)),
+                entry("chunks", NbtOps.INSTANCE.createList(IntStream.range(0, CHUNKS).mapToObj(index -> chunk(index, random))))
+        );
+    }
+
+    @Benchmark
+    public JsonElement sequential() {
+        return Transcoder.convert(NbtOps.INSTANCE, GsonOps.INSTANCE, region);
+    }
+
+    @Benchmark
+    public JsonElement parallel(final Pool pool) {
+        return Transcoder.convertParallel(NbtOps.INSTANCE, GsonOps.INSTANCE, region, pool.pool, Transcoder.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    private static Tag chunk(final int index, final SplittableRandom random) {
+        return map(
+                entry("x", NbtOps.INSTANCE.createInt(index % 64)),
+                entry("z", NbtOps.INSTANCE.createInt(index / 64)),
+                entry("status", NbtOps.INSTANCE.createString("minecraft:full")),
+                entry("sections", NbtOps.INSTANCE.createList(IntStream.range(0, SECTIONS).mapToObj(y -> section(y, random)))),
+                entry("entities", NbtOps.INSTANCE.createList(IntStream.range(0, ENTITIES).mapToObj(id -> entity(id, random))))
+        );
+    }
+
+    private static Tag section(final int y, final SplittableRandom random) {
+        return map(
+                entry("y", NbtOps.INSTANCE.createInt(y)),
+                entry("blocks", NbtOps.INSTANCE.createLongArray(random.longs(BLOCK_LONGS).toArray())),
+                entry("palette", NbtOps.INSTANCE.createList(IntStream.range(0, PALETTE_SIZE).mapToObj(id -> map(
+                        entry("name", NbtOps.INSTANCE.createString("minecraft:block_" + id)),
+                        entry("properties", map(entry("waterlogged", NbtOps.INSTANCE.createBoolean(random.nextBoolean()))))
+                ))))
+        );
+    }
+
+    private static Tag entity(final int id, final SplittableRandom random) {
+        return map(
+                entry("id", NbtOps.INSTANCE.createString("minecraft:entity_" + id)),
+                entry("health", NbtOps.INSTANCE.createFloat((float) random.nextDouble(20))),
+                entry("pos", NbtOps.INSTANCE.createList(random.doubles(3).mapToObj(NbtOps.INSTANCE::createDouble)))
+        );
+    }
+
+    @SafeVarargs
+    private static Tag map(final Pair<Tag, Tag>... entries) {
+        final var builder = Stream.<Pair<Tag, Tag>>builder();
+        for (final var entry : entries) {
+            builder.add(entry);
+        }
+        return NbtOps.INSTANCE.createMap(builder.build());
+    }
+
+    private static Pair<Tag, Tag> entry(final String key, final Tag value) {
+        return Pair.of(NbtOps.INSTANCE.createString(key), value);
+    }
+
+    /**
+     * The pool that the parallel conversion runs in, with each of the given
+     * numbers of threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Pool {
+
+        @Param({"1", "2", "4", "8"})
+        public int parallelism;
+
+        ForkJoinPool pool;
+
+        @Setup
+        public void createPool() {
+            pool = new ForkJoinPool(parallelism);
+        }
+
+        @TearDown
+        public void shutdownPool() {
+            pool.shutdown();
+        }
+    }
+}
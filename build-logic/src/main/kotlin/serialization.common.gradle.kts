@@ -17,6 +17,8 @@ dependencies {
     errorprone(libs.errorprone)
     annotationProcessor(libs.contractValidator)
     checkstyle(libs.stylecheck)
+    testImplementation(libs.junit.api)
+    testRuntimeOnly(libs.junit.engine)
 }
 
 indra {
@@ -1,8 +1,46 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
     id("serialization.common")
 }
 
+// Classes that are replaced on Java 21 and newer, packaged in to META-INF/versions/21 of the multi-release jar.
+val java21 by sourceSets.creating {
+    java.srcDir("src/main/java21")
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
 dependencies {
     api(libs.guava)
     compileOnlyApi(libs.annotations)
 }
+
+tasks {
+    // Runs the tests again with generated record codecs enabled, so that both implementations are tested.
+    val generatedRecordCodecsTest by registering(Test::class) {
+        description = "Runs the tests with generated record codecs enabled."
+        group = LifecycleBasePlugin.VERIFICATION_GROUP
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        systemProperty("org.kryptonmc.serialization.generateRecordCodecs", true)
+        useJUnitPlatform()
+    }
+    check {
+        dependsOn(generatedRecordCodecsTest)
+    }
+    named<JavaCompile>(java21.compileJavaTaskName) {
+        javaCompiler.set(project.javaToolchains.compilerFor {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        })
+        options.release.set(21)
+        options.errorprone.isEnabled.set(false)
+    }
+    jar {
+        into("META-INF/versions/21") {
+            from(java21.output)
+        }
+        manifest {
+            attributes("Multi-Release" to true)
+        }
+    }
+}
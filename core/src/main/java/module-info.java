@@ -13,6 +13,7 @@ module org.kryptonmc.serialization {
     requires static transitive org.jetbrains.annotations;
 
     exports org.kryptonmc.serialization;
+    exports org.kryptonmc.serialization.annotations;
     exports org.kryptonmc.serialization.codecs;
     exports org.kryptonmc.util;
     exports org.kryptonmc.util.function;
@@ -0,0 +1,30 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Provides the executor that batches of inputs are decoded and encoded on
+ * when no executor is given.
+ *
+ * <p>On Java 21 and newer, this class is replaced by one that starts a
+ * virtual thread for every task, from {@code META-INF/versions/21}.</p>
+ */
+final class BatchExecutors {
+
+    static @NotNull Executor defaultExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    private BatchExecutors() {
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A publisher that applies a function to a batch of independent inputs on an
+ * executor, and publishes the results in the same order as the inputs.
+ *
+ * <p>At most the given number of inputs are processed at once, and inputs
+ * are only processed once their results have been requested, so a slow
+ * subscriber holds back processing, rather than results building up. Each
+ * subscriber gets its own run over the inputs.</p>
+ *
+ * @param <I> The input type.
+ * @param <R> The result type.
+ */
+final class BatchPublisher<I, R> implements Flow.Publisher<R> {
+
+    private final List<I> inputs;
+    private final Function<? super I, ? extends R> function;
+    private final Executor executor;
+    private final int parallelism;
+
+    BatchPublisher(final @NotNull Collection<? extends I> inputs, final @NotNull Function<? super I, ? extends R> function,
+                   final @NotNull Executor executor, final int parallelism) {
+        Objects.requireNonNull(inputs, "inputs");
+        Objects.requireNonNull(executor, "executor");
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1, was " + parallelism + "!");
+        this.inputs = new ArrayList<>(inputs);
+        this.function = function;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Processes all the inputs, completing the returned future with all of
+     * the results, in order, once they are done.
+     *
+     * @return The future results.
+     */
+    @NotNull CompletableFuture<List<R>> collect() {
+        final var future = new CompletableFuture<List<R>>();
+        subscribe(new Flow.Subscriber<>() {
+            private final List<R> results = new ArrayList<>(inputs.size());
+
+            @Override
+            public void onSubscribe(final Flow.@NotNull Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(final R item) {
+                results.add(item);
+            }
+
+            @Override
+            public void onError(final @NotNull Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(results);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void subscribe(final Flow.@NotNull Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        final var subscription = new Batch(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /*
+     * All the signals to the subscriber, and all the decisions about what to process next, are made in drain, which only ever runs on
+     * one thread at once. Whichever thread finds no one else draining, whether it's a finished task or a request from the subscriber,
+     * does the work for everyone, and anyone who arrives while it's draining just tells it to go round again.
+     */
+    private final class Batch implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super R> subscriber;
+        // Results that are done, but not yet published, by the index of their input.
+        private final AtomicReferenceArray<R> results = new AtomicReferenceArray<>(inputs.size());
+        private final AtomicInteger drains = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private volatile @Nullable Throwable error;
+        private volatile boolean cancelled;
+        // These are only used from within drain.
+        private int started;
+        private int published;
+        private boolean done;
+
+        Batch(final Flow.@NotNull Subscriber<? super R> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long count) {
+            if (count <= 0) {
+                fail(new IllegalArgumentException("Requested " + count + " results, which is not positive!"));
+                return;
+            }
+            requested.getAndAccumulate(count, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void fail(final @NotNull Throwable throwable) {
+            if (error == null) error = throwable;
+            drain();
+        }
+
+        void drain() {
+            if (drains.getAndIncrement() != 0) return;
+            int missed = 1;
+            do {
+                drainOnce();
+                missed = drains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainOnce() {
+            if (done) return;
+            if (cancelled) {
+                done = true;
+                return;
+            }
+            final Throwable failure = error;
+            if (failure != null) {
+                done = true;
+                subscriber.onError(failure);
+                return;
+            }
+
+            final long demand = requested.get();
+            long sent = 0;
+            while (sent != demand && published < inputs.size()) {
+                final R result = results.get(published);
+                if (result == null) break;
+                results.set(published++, null);
+                subscriber.onNext(result);
+                sent++;
+                if (cancelled) {
+                    done = true;
+                    return;
+                }
+            }
+            final long remaining = demand == Long.MAX_VALUE ? demand : requested.addAndGet(-sent);
+            if (published == inputs.size()) {
+                done = true;
+                subscriber.onComplete();
+                return;
+            }
+
+            // We only start inputs whose results have been asked for, so we never hold more results than the subscriber wants.
+            while (started < inputs.size() && running.get() < parallelism && started - published < remaining) {
+                final int index = started++;
+                running.incrementAndGet();
+                try {
+                    executor.execute(() -> process(index));
+                } catch (final RuntimeException exception) {
+                    running.decrementAndGet();
+                    if (error == null) error = exception;
+                    // The next pass round the drain loop will publish the error.
+                    drains.incrementAndGet();
+                    return;
+                }
+            }
+        }
+
+        private void process(final int index) {
+            try {
+                if (!cancelled && error == null) {
+                    results.set(index, Objects.requireNonNull(function.apply(inputs.get(index)), "result"));
+                }
+            } catch (final Throwable throwable) {
+                if (error == null) error = throwable;
+            } finally {
+                running.decrementAndGet();
+            }
+            drain();
+        }
+    }
+}
@@ -18,8 +18,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
@@ -29,9 +31,13 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.kryptonmc.serialization.codecs.EitherCodec;
 import org.kryptonmc.serialization.codecs.KeyDispatchCodec;
+import org.kryptonmc.serialization.codecs.LazyCodec;
+import org.kryptonmc.serialization.codecs.LazyListCodec;
 import org.kryptonmc.serialization.codecs.ListCodec;
 import org.kryptonmc.serialization.codecs.OptionalFieldCodec;
 import org.kryptonmc.serialization.codecs.PairCodec;
+import org.kryptonmc.serialization.codecs.ParallelListCodec;
+import org.kryptonmc.serialization.codecs.ParallelMapCodec;
 import org.kryptonmc.serialization.codecs.UnboundedMapCodec;
 import org.kryptonmc.util.Either;
 import org.kryptonmc.util.Pair;
@@ -84,6 +90,11 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             return ops.getNumberValue(input).map(Number::byteValue);
         }
 
+        @Override
+        public <T> @NotNull Byte readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+            return FailFastException.unwrap(ops.getNumberValue(input)).byteValue();
+        }
+
         @Override
         public <T> @NotNull T write(final @NotNull Byte value, final @NotNull DataOps<T> ops) {
             return ops.createByte(value);
@@ -100,6 +111,11 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             return ops.getNumberValue(input).map(Number::shortValue);
         }
 
+        @Override
+        public <T> @NotNull Short readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+            return FailFastException.unwrap(ops.getNumberValue(input)).shortValue();
+        }
+
         @Override
         public <T> @NotNull T write(final @NotNull Short value, final @NotNull DataOps<T> ops) {
             return ops.createShort(value);
@@ -110,14 +126,19 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             return "Short";
         }
     };
-    @NotNull Codec<Integer> INT = new PrimitiveCodec<>() {
+    @NotNull IntCodec INT = new IntCodec() {
         @Override
         public <T> @NotNull DataResult<Integer> read(final @NotNull T input, final @NotNull DataOps<T> ops) {
-            return ops.getNumberValue(input).map(Number::intValue);
+            return ops.getIntValue(input);
+        }
+
+        @Override
+        public <T> int readInt(final @NotNull T input, final @NotNull DataOps<T> ops) {
+            return ops.getIntDirect(input);
         }
 
         @Override
-        public <T> @NotNull T write(final @NotNull Integer value, final @NotNull DataOps<T> ops) {
+        public <T> @NotNull T writeInt(final int value, final @NotNull DataOps<T> ops) {
             return ops.createInt(value);
         }
 
@@ -126,14 +147,19 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             return "Int";
         }
     };
-    @NotNull Codec<Long> LONG = new PrimitiveCodec<>() {
+    @NotNull LongCodec LONG = new LongCodec() {
         @Override
         public <T> @NotNull DataResult<Long> read(final @NotNull T input, final @NotNull DataOps<T> ops) {
-            return ops.getNumberValue(input).map(Number::longValue);
+            return ops.getLongValue(input);
         }
 
         @Override
-        public <T> @NotNull T write(final @NotNull Long value, final @NotNull DataOps<T> ops) {
+        public <T> long readLong(final @NotNull T input, final @NotNull DataOps<T> ops) {
+            return ops.getLongDirect(input);
+        }
+
+        @Override
+        public <T> @NotNull T writeLong(final long value, final @NotNull DataOps<T> ops) {
             return ops.createLong(value);
         }
 
@@ -148,6 +174,11 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             return ops.getNumberValue(input).map(Number::floatValue);
         }
 
+        @Override
+        public <T> @NotNull Float readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+            return FailFastException.unwrap(ops.getNumberValue(input)).floatValue();
+        }
+
         @Override
         public <T> @NotNull T write(final @NotNull Float value, final @NotNull DataOps<T> ops) {
             return ops.createFloat(value);
@@ -158,14 +189,19 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             return "Float";
         }
     };
-    @NotNull Codec<Double> DOUBLE = new PrimitiveCodec<>() {
+    @NotNull DoubleCodec DOUBLE = new DoubleCodec() {
         @Override
         public <T> @NotNull DataResult<Double> read(final @NotNull T input, final @NotNull DataOps<T> ops) {
-            return ops.getNumberValue(input).map(Number::doubleValue);
+            return ops.getDoubleValue(input);
         }
 
         @Override
-        public <T> @NotNull T write(final @NotNull Double value, final @NotNull DataOps<T> ops) {
+        public <T> double readDouble(final @NotNull T input, final @NotNull DataOps<T> ops) {
+            return ops.getDoubleDirect(input);
+        }
+
+        @Override
+        public <T> @NotNull T writeDouble(final double value, final @NotNull DataOps<T> ops) {
             return ops.createDouble(value);
         }
 
@@ -238,6 +274,54 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             return "LongStream";
         }
     };
+    @NotNull Codec<byte[]> BYTE_ARRAY = new PrimitiveCodec<>() {
+        @Override
+        public <T> @NotNull DataResult<byte[]> read(final @NotNull T input, final @NotNull DataOps<T> ops) {
+            return ops.getByteArray(input);
+        }
+
+        @Override
+        public <T> @NotNull T write(final byte @NotNull [] value, final @NotNull DataOps<T> ops) {
+            return ops.createByteArray(value);
+        }
+
+        @Override
+        public String toString() {
+            return "byte[]";
+        }
+    };
+    @NotNull Codec<int[]> INT_ARRAY = new PrimitiveCodec<>() {
+        @Override
+        public <T> @NotNull DataResult<int[]> read(final @NotNull T input, final @NotNull DataOps<T> ops) {
+            return ops.getIntArray(input);
+        }
+
+        @Override
+        public <T> @NotNull T write(final int @NotNull [] value, final @NotNull DataOps<T> ops) {
+            return ops.createIntArray(value);
+        }
+
+        @Override
+        public String toString() {
+            return "int[]";
+        }
+    };
+    @NotNull Codec<long[]> LONG_ARRAY = new PrimitiveCodec<>() {
+        @Override
+        public <T> @NotNull DataResult<long[]> read(final @NotNull T input, final @NotNull DataOps<T> ops) {
+            return ops.getLongArray(input);
+        }
+
+        @Override
+        public <T> @NotNull T write(final long @NotNull [] value, final @NotNull DataOps<T> ops) {
+            return ops.createLongArray(value);
+        }
+
+        @Override
+        public String toString() {
+            return "long[]";
+        }
+    };
     @NotNull Codec<Dynamic<?>> PASSTHROUGH = new Codec<>() {
         @Override
         public <T> @NotNull DataResult<Pair<Dynamic<?>, T>> decode(final T input, final @NotNull DataOps<T> ops) {
@@ -249,10 +333,11 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             if (input.value() == input.ops().empty()) return DataResult.success(prefix, Lifecycle.experimental());
             final T converted = input.convert(ops).value();
             if (prefix == ops.empty()) return DataResult.success(converted, Lifecycle.experimental());
-            return ops.getMap(converted).flatMap(map -> ops.mergeToMap(prefix, map)).result().map(DataResult::success).orElseGet(() ->
-                    ops.getStream(converted)
-                            .flatMap(stream -> ops.mergeToList(prefix, stream.collect(Collectors.toList()))).result().map(DataResult::success)
-                            .orElseGet(() -> DataResult.error("Cannot merge prefix " + prefix + " and value " + converted + "!", prefix)));
+            final T mergedMap = ops.getMap(converted).flatMap(map -> ops.mergeToMap(prefix, map)).getOrNull();
+            if (mergedMap != null) return DataResult.success(mergedMap);
+            final T mergedList = ops.getStream(converted).flatMap(stream -> ops.mergeToList(prefix, stream.collect(Collectors.toList()))).getOrNull();
+            if (mergedList != null) return DataResult.success(mergedList);
+            return DataResult.error(() -> "Cannot merge prefix " + prefix + " and value " + converted + "!", prefix);
         }
 
         @Override
@@ -300,6 +385,16 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
                 return encoder.encode(input, ops, prefix);
             }
 
+            @Override
+            public <T> @NotNull A readDirect(final T input, final @NotNull DataOps<T> ops) {
+                return decoder.readDirect(input, ops);
+            }
+
+            @Override
+            public <T> @NotNull T encodeDirect(final A input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+                return encoder.encodeDirect(input, ops, prefix);
+            }
+
             @Override
             public String toString() {
                 return name;
@@ -376,6 +471,81 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
         return new ListCodec<>(elementCodec);
     }
 
+    /**
+     * Creates a new codec that encodes/decodes a list of values using the
+     * element codec to process each element, and decodes straight in to lists
+     * created by the given factory.
+     *
+     * <p>The factory is given the number of elements in the input, and must
+     * return a new, empty, mutable list every time it is called, such as
+     * {@code ArrayList::new}. The decoded list is owned by the caller, so
+     * this avoids copying decoded lists that are going to be modified.</p>
+     *
+     * @param elementCodec The element codec.
+     * @param factory The factory to create decoded lists with.
+     * @param <E> The element type.
+     * @return A new list codec.
+     * @see ListCodec
+     */
+    static <E> @NotNull Codec<List<E>> list(final @NotNull Codec<E> elementCodec, final @NotNull IntFunction<? extends List<E>> factory) {
+        return new ListCodec<>(elementCodec, Objects.requireNonNull(factory, "factory"));
+    }
+
+    /**
+     * Creates a new codec that encodes/decodes a list of values using the
+     * given element codec to process each value of the list, processing the
+     * elements of lists with more than the given threshold of elements in
+     * parallel, in the common fork/join pool.
+     *
+     * @param elementCodec The element codec.
+     * @param threshold The most elements to process in one task.
+     * @param <E> The element type.
+     * @return A new parallel list codec.
+     * @see ParallelListCodec
+     */
+    static <E> @NotNull Codec<List<E>> parallelList(final @NotNull Codec<E> elementCodec, final int threshold) {
+        return new ParallelListCodec<>(elementCodec, threshold);
+    }
+
+    /**
+     * Creates a new codec that encodes/decodes a list of values using the
+     * given element codec to process each value of the list, processing the
+     * elements of lists with more than the given threshold of elements in
+     * parallel, in the given pool.
+     *
+     * <p>The decoded and encoded values, and any errors, are exactly the same
+     * as those from {@link #list(Codec)}, just produced faster when the
+     * elements are expensive to process.</p>
+     *
+     * @param elementCodec The element codec.
+     * @param threshold The most elements to process in one task.
+     * @param pool The pool to process elements in.
+     * @param <E> The element type.
+     * @return A new parallel list codec.
+     * @see ParallelListCodec
+     */
+    static <E> @NotNull Codec<List<E>> parallelList(final @NotNull Codec<E> elementCodec, final int threshold, final @NotNull ForkJoinPool pool) {
+        return new ParallelListCodec<>(elementCodec, threshold, pool);
+    }
+
+    /**
+     * Creates a new codec that encodes/decodes a list of values using the
+     * given element codec to process each value of the list, and decodes
+     * inputs to list views that only decode each element the first time it
+     * is asked for.
+     *
+     * <p>Elements that fail to decode throw an exception when they are asked
+     * for, rather than failing decoding of the list.</p>
+     *
+     * @param elementCodec The element codec.
+     * @param <E> The element type.
+     * @return A new lazy list codec.
+     * @see LazyListCodec
+     */
+    static <E> @NotNull Codec<List<E>> lazyList(final @NotNull Codec<E> elementCodec) {
+        return new LazyListCodec<>(elementCodec);
+    }
+
     /**
      * Creates a new codec that encodes/decodes a map of values using the key
      * codec to process the keys and the value codec to process the values.
@@ -390,6 +560,71 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
         return new UnboundedMapCodec<>(keyCodec, valueCodec);
     }
 
+    /**
+     * Creates a new codec that encodes/decodes a map of values using the key
+     * codec to process the keys and the value codec to process the values,
+     * and decodes straight in to maps created by the given factory.
+     *
+     * <p>The factory is given the number of entries in the input, and must
+     * return a new, empty, mutable map every time it is called, such as
+     * {@code LinkedHashMap::new}, or {@code size -> new EnumMap<>(Key.class)}.
+     * The decoded map is owned by the caller, and if the input contains the
+     * same key more than once, the last value decoded for it is kept.</p>
+     *
+     * @param keyCodec The key codec.
+     * @param valueCodec The value codec.
+     * @param factory The factory to create decoded maps with.
+     * @param <K> The key type.
+     * @param <V> The value type.
+     * @return A new map codec.
+     */
+    static <K, V> @NotNull Codec<Map<K, V>> map(final @NotNull Codec<K> keyCodec, final @NotNull Codec<V> valueCodec,
+                                                final @NotNull IntFunction<? extends Map<K, V>> factory) {
+        return new UnboundedMapCodec<>(keyCodec, valueCodec, Objects.requireNonNull(factory, "factory"));
+    }
+
+    /**
+     * Creates a new codec that encodes/decodes a map of values using the key
+     * codec to process the keys and the value codec to process the values,
+     * processing the entries of maps with more than the given threshold of
+     * entries in parallel, in the common fork/join pool.
+     *
+     * @param keyCodec The key codec.
+     * @param valueCodec The value codec.
+     * @param threshold The most entries to process in one task.
+     * @param <K> The key type.
+     * @param <V> The value type.
+     * @return A new parallel map codec.
+     * @see ParallelMapCodec
+     */
+    static <K, V> @NotNull Codec<Map<K, V>> parallelMap(final @NotNull Codec<K> keyCodec, final @NotNull Codec<V> valueCodec, final int threshold) {
+        return new ParallelMapCodec<>(keyCodec, valueCodec, threshold);
+    }
+
+    /**
+     * Creates a new codec that encodes/decodes a map of values using the key
+     * codec to process the keys and the value codec to process the values,
+     * processing the entries of maps with more than the given threshold of
+     * entries in parallel, in the given pool.
+     *
+     * <p>The decoded and encoded values, and any errors, are exactly the same
+     * as those from {@link #map(Codec, Codec)}, just produced faster when the
+     * entries are expensive to process.</p>
+     *
+     * @param keyCodec The key codec.
+     * @param valueCodec The value codec.
+     * @param threshold The most entries to process in one task.
+     * @param pool The pool to process entries in.
+     * @param <K> The key type.
+     * @param <V> The value type.
+     * @return A new parallel map codec.
+     * @see ParallelMapCodec
+     */
+    static <K, V> @NotNull Codec<Map<K, V>> parallelMap(final @NotNull Codec<K> keyCodec, final @NotNull Codec<V> valueCodec, final int threshold,
+                                                        final @NotNull ForkJoinPool pool) {
+        return new ParallelMapCodec<>(keyCodec, valueCodec, threshold, pool);
+    }
+
     /**
      * Creates a new codec that optionally processes a field with the given
      * name using the given element codec to process the value of the field, if
@@ -463,6 +698,23 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
         return list(this);
     }
 
+    /**
+     * Converts this codec to a new codec that decodes inputs to
+     * {@link Lazy lazy values}, which are only decoded with this codec when
+     * they are first used.
+     *
+     * <p>This is useful for large values that are rarely used, as they are
+     * never decoded if they aren't used, and are encoded back to exactly what
+     * they were decoded from.</p>
+     *
+     * @return A new lazy codec.
+     * @see LazyCodec
+     */
+    @ApiStatus.NonExtendable
+    default @NotNull Codec<Lazy<A>> lazy() {
+        return new LazyCodec<>(this);
+    }
+
     /**
      * Maps this codec to a new codec that applies the given to and from
      * functions to the input and output values respectively.
@@ -779,7 +1031,11 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             @Override
             public <T> @NotNull DataResult<Pair<A, T>> apply(final T input, final @NotNull DataOps<T> ops,
                                                              final @NotNull DataResult<Pair<A, T>> result) {
-                return DataResult.success(result.mapError(onError).result().orElseGet(() -> Pair.of(value, input)));
+                final Pair<A, T> decoded = result.getOrNull();
+                if (decoded != null) return DataResult.success(decoded);
+                // The error message is rendered lazily, so mapping it would never call the handler for a result we're discarding.
+                onError.apply(result.error().orElseThrow().message());
+                return DataResult.success(Pair.of(value, input));
             }
 
             @Override
@@ -827,7 +1083,11 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             @Override
             public <T> @NotNull DataResult<Pair<A, T>> apply(final T input, final @NotNull DataOps<T> ops,
                                                              final @NotNull DataResult<Pair<A, T>> result) {
-                return DataResult.success(result.mapError(onError).result().orElseGet(() -> Pair.of(value.get(), input)));
+                final Pair<A, T> decoded = result.getOrNull();
+                if (decoded != null) return DataResult.success(decoded);
+                // The error message is rendered lazily, so mapping it would never call the handler for a result we're discarding.
+                onError.apply(result.error().orElseThrow().message());
+                return DataResult.success(Pair.of(value.get(), input));
             }
 
             @Override
@@ -856,7 +1116,9 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             @Override
             public <T> @NotNull DataResult<Pair<A, T>> apply(final T input, final @NotNull DataOps<T> ops,
                                                              final @NotNull DataResult<Pair<A, T>> result) {
-                return DataResult.success(result.result().orElseGet(() -> Pair.of(value, input)));
+                final Pair<A, T> decoded = result.getOrNull();
+                if (decoded != null) return DataResult.success(decoded);
+                return DataResult.success(Pair.of(value, input));
             }
 
             @Override
@@ -887,7 +1149,9 @@ public interface Codec<A> extends Encoder<A>, Decoder<A> {
             @Override
             public <T> @NotNull DataResult<Pair<A, T>> apply(final T input, final @NotNull DataOps<T> ops,
                                                              final @NotNull DataResult<Pair<A, T>> result) {
-                return DataResult.success(result.result().orElseGet(() -> Pair.of(value.get(), input)));
+                final Pair<A, T> decoded = result.getOrNull();
+                if (decoded != null) return DataResult.success(decoded);
+                return DataResult.success(Pair.of(value.get(), input));
             }
 
             @Override
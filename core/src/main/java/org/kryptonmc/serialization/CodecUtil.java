@@ -38,7 +38,7 @@ final class CodecUtil {
                                                                                                     final @NotNull N maxInclusive) {
         return value -> {
             if (value.compareTo(minInclusive) >= 0 && value.compareTo(maxInclusive) <= 0) return DataResult.success(value);
-            return DataResult.error("Value " + value + " outside of range [" + minInclusive + ":" + maxInclusive + "]", value);
+            return DataResult.error(() -> "Value " + value + " outside of range [" + minInclusive + ":" + maxInclusive + "]", value);
         };
     }
 
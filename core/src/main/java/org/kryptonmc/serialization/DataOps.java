@@ -15,6 +15,7 @@ package org.kryptonmc.serialization;
 
 import com.google.common.collect.ImmutableMap;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,13 +54,42 @@ public interface DataOps<T> {
     @NotNull DataResult<Number> getNumberValue(final @NotNull T input);
 
     default @NotNull Number getNumberValue(final @NotNull T input, final @NotNull Number defaultValue) {
-        return getNumberValue(input).result().orElse(defaultValue);
+        final Number value = getNumberValue(input).getOrNull();
+        return value != null ? value : defaultValue;
+    }
+
+    default @NotNull DataResult<Integer> getIntValue(final @NotNull T input) {
+        return getNumberValue(input).map(Number::intValue);
+    }
+
+    default @NotNull DataResult<Long> getLongValue(final @NotNull T input) {
+        return getNumberValue(input).map(Number::longValue);
+    }
+
+    default @NotNull DataResult<Double> getDoubleValue(final @NotNull T input) {
+        return getNumberValue(input).map(Number::doubleValue);
+    }
+
+    /*
+     * The direct getters are used by the direct decoding paths, and throw FailFastException.INSTANCE if the input is not a number, so
+     * that implementations can return the value without boxing it or wrapping it in a result.
+     */
+    default int getIntDirect(final @NotNull T input) {
+        return FailFastException.unwrap(getIntValue(input));
+    }
+
+    default long getLongDirect(final @NotNull T input) {
+        return FailFastException.unwrap(getLongValue(input));
+    }
+
+    default double getDoubleDirect(final @NotNull T input) {
+        return FailFastException.unwrap(getDoubleValue(input));
     }
 
     @NotNull DataResult<String> getStringValue(final @NotNull T input);
 
     default @NotNull DataResult<T> mergeToPrimitive(final @NotNull T prefix, final @NotNull T value) {
-        if (!Objects.equals(prefix, empty())) return DataResult.error("Cannot append primitive value " + value + " to " + prefix + "!");
+        if (!Objects.equals(prefix, empty())) return DataResult.error(() -> "Cannot append primitive value " + value + " to " + prefix + "!");
         return DataResult.success(value);
     }
 
@@ -69,51 +99,83 @@ public interface DataOps<T> {
         return getStream(input).map(stream -> stream::forEach);
     }
 
+    // The returned list may be a view of the input, so it must not be modified. Lists that support fast random access should implement
+    // RandomAccess. Lists that don't, such as ones read from a stream, are only ever iterated once, and don't need to know their size.
+    default @NotNull DataResult<List<T>> getIndexedList(final @NotNull T input) {
+        return getStream(input).map(Stream::toList);
+    }
+
     @NotNull DataResult<T> mergeToList(final @NotNull T list, final @NotNull T value);
 
     default @NotNull DataResult<T> mergeToList(final @NotNull T list, final @NotNull List<T> values) {
         var result = DataResult.success(list);
         for (final var value : values) {
-            result = result.flatMap(r -> mergeToList(r, value));
+            // Optimization: Only the first merge copies the given list, as every merge after that merges in to the copy, which we own.
+            result = result.flatMap(r -> r == list ? mergeToList(r, value) : mergeToListOwned(r, value));
         }
         return result;
     }
 
-    @SuppressWarnings("OptionalGetWithoutIsPresent")
+    /*
+     * The owned merges are the same as the standard merges, except that the caller guarantees that it exclusively owns the given list or
+     * map, so implementations may modify it in place and return it, rather than copying it. A list or map is owned by the caller if the
+     * caller created it, or if it was returned by a standard or owned merge with the caller's own arguments, so implementations that
+     * override these must make sure that their standard merges always return a new list or map.
+     */
+    default @NotNull DataResult<T> mergeToListOwned(final @NotNull T list, final @NotNull T value) {
+        return mergeToList(list, value);
+    }
+
     default @NotNull DataResult<ByteBuffer> getByteBuffer(final @NotNull T input) {
-        return getStream(input).flatMap(stream -> {
-            if (stream.allMatch(element -> getNumberValue(element).result().isPresent())) {
-                final var list = stream.toList();
-                final var buffer = ByteBuffer.wrap(new byte[list.size()]);
-                for (int i = 0; i < list.size(); i++) {
-                    // We already checked earlier if this is present.
-                    buffer.put(i, getNumberValue(list.get(i)).result().get().byteValue());
-                }
-                return DataResult.success(buffer);
+        return getByteArray(input).map(ByteBuffer::wrap);
+    }
+
+    default @NotNull DataResult<IntStream> getIntStream(final @NotNull T input) {
+        return getIntArray(input).map(Arrays::stream);
+    }
+
+    default @NotNull DataResult<LongStream> getLongStream(final @NotNull T input) {
+        return getLongArray(input).map(Arrays::stream);
+    }
+
+    /*
+     * The array getters may return the array backing the input rather than a copy, so callers must not modify the returned arrays.
+     * Likewise, the array creators may use the given array as the backing array of the result, so callers must not modify the given
+     * arrays afterwards.
+     */
+    default @NotNull DataResult<byte[]> getByteArray(final @NotNull T input) {
+        return getIndexedList(input).flatMap(list -> {
+            final byte[] result = new byte[list.size()];
+            for (int i = 0; i < result.length; i++) {
+                final Number value = getNumberValue(list.get(i)).getOrNull();
+                if (value == null) return DataResult.error(() -> "Some elements in the given input " + input + " are not bytes!");
+                result[i] = value.byteValue();
             }
-            return DataResult.error("Some elements in the given input " + input + " are not bytes!");
+            return DataResult.success(result);
         });
     }
 
-    @SuppressWarnings("OptionalGetWithoutIsPresent")
-    default @NotNull DataResult<IntStream> getIntStream(final @NotNull T input) {
-        return getStream(input).flatMap(stream -> {
-            if (stream.allMatch(element -> getNumberValue(element).result().isPresent())) {
-                // We already checked earlier if this is present.
-                return DataResult.success(stream.mapToInt(element -> getNumberValue(element).result().get().intValue()));
+    default @NotNull DataResult<int[]> getIntArray(final @NotNull T input) {
+        return getIndexedList(input).flatMap(list -> {
+            final int[] result = new int[list.size()];
+            for (int i = 0; i < result.length; i++) {
+                final Number value = getNumberValue(list.get(i)).getOrNull();
+                if (value == null) return DataResult.error(() -> "Some elements in the given input " + input + " are not integers!");
+                result[i] = value.intValue();
             }
-            return DataResult.error("Some elements in the given input " + input + " are not integers!");
+            return DataResult.success(result);
         });
     }
 
-    @SuppressWarnings("OptionalGetWithoutIsPresent")
-    default @NotNull DataResult<LongStream> getLongStream(final @NotNull T input) {
-        return getStream(input).flatMap(stream -> {
-            if (stream.allMatch(element -> getNumberValue(element).result().isPresent())) {
-                // We already checked earlier if this is present.
-                return DataResult.success(stream.mapToLong(element -> getNumberValue(element).result().get().longValue()));
+    default @NotNull DataResult<long[]> getLongArray(final @NotNull T input) {
+        return getIndexedList(input).flatMap(list -> {
+            final long[] result = new long[list.size()];
+            for (int i = 0; i < result.length; i++) {
+                final Number value = getNumberValue(list.get(i)).getOrNull();
+                if (value == null) return DataResult.error(() -> "Some elements in the given input " + input + " are not longs!");
+                result[i] = value.longValue();
             }
-            return DataResult.error("Some elements in the given input " + input + " are not longs!");
+            return DataResult.success(result);
         });
     }
 
@@ -128,22 +190,29 @@ public interface DataOps<T> {
             try {
                 return DataResult.success(MapLike.forMap(stream.collect(Pair.toMap()), this));
             } catch (final IllegalStateException exception) {
-                return DataResult.error("Error whilst trying to build map for input " + input + ": " + exception.getMessage());
+                return DataResult.error(() -> "Error whilst trying to build map for input " + input + ": " + exception.getMessage());
             }
         });
     }
 
     default @NotNull T set(final @NotNull T input, final @NotNull String key, final @NotNull T value) {
-        return mergeToMap(input, createString(key), value).result().orElse(input);
+        final T result = mergeToMap(input, createString(key), value).getOrNull();
+        return result != null ? result : input;
     }
 
     @NotNull T remove(final @NotNull T input, final @NotNull String key);
 
     @NotNull DataResult<T> mergeToMap(final @NotNull T map, final @NotNull T key, final @NotNull T value);
 
+    default @NotNull DataResult<T> mergeToMapOwned(final @NotNull T map, final @NotNull T key, final @NotNull T value) {
+        return mergeToMap(map, key, value);
+    }
+
     default @NotNull DataResult<T> mergeToMap(final @NotNull T map, final @NotNull MapLike<T> values) {
         final AtomicReference<DataResult<T>> result = new AtomicReference<>(DataResult.success(map));
-        values.entries().forEach(entry -> result.setPlain(result.getPlain().flatMap(r -> mergeToMap(r, entry.first(), entry.second()))));
+        // Optimization: Only the first merge copies the given map, as every merge after that merges in to the copy, which we own.
+        values.forEachEntry((key, value) -> result.setPlain(result.getPlain().flatMap(r -> r == map ? mergeToMap(r, key, value) :
+                mergeToMapOwned(r, key, value))));
         return result.getPlain();
     }
 
@@ -183,6 +252,22 @@ public interface DataOps<T> {
 
     @NotNull T createString(final @NotNull String value);
 
+    /**
+     * Creates the given field key as a key for a map, in the same way as
+     * {@link #createString(String)}.
+     *
+     * <p>By default, this creates a new key every time it is called. Data
+     * operations that live for a long time, such as singletons, should
+     * override this to return keys from a {@link FieldKey.Cache}, so that each
+     * key is only created once.</p>
+     *
+     * @param key The field key.
+     * @return The created key.
+     */
+    default @NotNull T createKey(final @NotNull FieldKey key) {
+        return createString(key.name());
+    }
+
     @NotNull T createList(final @NotNull Stream<T> input);
 
     default @NotNull T createByteList(final @NotNull ByteBuffer input) {
@@ -197,10 +282,27 @@ public interface DataOps<T> {
         return createList(input.mapToObj(this::createLong));
     }
 
+    default @NotNull T createByteArray(final byte @NotNull [] input) {
+        return createByteList(ByteBuffer.wrap(input));
+    }
+
+    default @NotNull T createIntArray(final int @NotNull [] input) {
+        return createIntList(Arrays.stream(input));
+    }
+
+    default @NotNull T createLongArray(final long @NotNull [] input) {
+        return createLongList(Arrays.stream(input));
+    }
+
     default @NotNull ListBuilder<T> listBuilder() {
         return new ListBuilder.Default<>(this);
     }
 
+    // The expected size is only a hint, so implementations may ignore it, and the builder must still accept any number of values.
+    default @NotNull ListBuilder<T> listBuilder(final int expectedSize) {
+        return listBuilder();
+    }
+
     @NotNull T createMap(final @NotNull Stream<Pair<T, T>> map);
 
     default @NotNull T createMap(final @NotNull Map<T, T> map) {
@@ -211,8 +313,64 @@ public interface DataOps<T> {
         return new RecordBuilder.Default<>(this);
     }
 
+    default @NotNull RecordBuilder<T> mapBuilder(final int expectedSize) {
+        return mapBuilder();
+    }
+
     <U> @NotNull U convertTo(final @NotNull DataOps<U> outOps, final @NotNull T input);
 
+    /*
+     * Visits the given value with the given visitor, calling exactly one of its methods. Lists and maps must be given to the visitor as
+     * views, without visiting the values inside them. This is used by the transcoder to convert values between data types without
+     * recursion, so implementations should override it to give the visitor the most specific kind of value they can, without boxing.
+     */
+    default void visit(final @NotNull T input, final @NotNull DataVisitor<T> visitor) {
+        if (Objects.equals(input, empty())) {
+            visitor.visitEmpty();
+            return;
+        }
+        final MapLike<T> map = getMap(input).getOrNull();
+        if (map != null) {
+            visitor.visitMap(map);
+            return;
+        }
+        final List<T> list = getIndexedList(input).getOrNull();
+        if (list != null) {
+            visitor.visitList(list);
+            return;
+        }
+        final String string = getStringValue(input).getOrNull();
+        if (string != null) {
+            visitor.visitString(string);
+            return;
+        }
+        final Number number = getNumberValue(input).getOrNull();
+        if (number instanceof Byte) {
+            visitor.visitByte(number.byteValue());
+        } else if (number instanceof Short) {
+            visitor.visitShort(number.shortValue());
+        } else if (number instanceof Integer) {
+            visitor.visitInt(number.intValue());
+        } else if (number instanceof Long) {
+            visitor.visitLong(number.longValue());
+        } else if (number instanceof Float) {
+            visitor.visitFloat(number.floatValue());
+        } else if (number != null) {
+            visitor.visitDouble(number.doubleValue());
+        } else {
+            visitor.visitEmpty();
+        }
+    }
+
+    /*
+     * Whether these operations can be used from more than one thread at once. This is false unless operations say otherwise, as
+     * operations that have state, such as the ones that read from or write to a stream, can't be, and parallel conversion and codecs
+     * fall back to using operations that aren't from one thread.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     default <U> @NotNull U convertList(final @NotNull DataOps<U> outOps, final @NotNull T input) {
         return outOps.createList(getStream(input).result().orElse(Stream.empty()).map(element -> convertTo(outOps, element)));
     }
@@ -13,6 +13,8 @@
  */
 package org.kryptonmc.serialization;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -20,10 +22,26 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 import org.kryptonmc.util.Either;
+import org.kryptonmc.util.Unit;
+import org.kryptonmc.util.function.Function10;
+import org.kryptonmc.util.function.Function11;
+import org.kryptonmc.util.function.Function12;
+import org.kryptonmc.util.function.Function13;
+import org.kryptonmc.util.function.Function14;
+import org.kryptonmc.util.function.Function15;
+import org.kryptonmc.util.function.Function16;
 import org.kryptonmc.util.function.Function3;
+import org.kryptonmc.util.function.Function4;
+import org.kryptonmc.util.function.Function5;
+import org.kryptonmc.util.function.Function6;
+import org.kryptonmc.util.function.Function7;
+import org.kryptonmc.util.function.Function8;
+import org.kryptonmc.util.function.Function9;
 import org.kryptonmc.util.functional.App;
 import org.kryptonmc.util.functional.Applicative;
 import org.kryptonmc.util.functional.K1;
@@ -40,7 +58,14 @@ import org.kryptonmc.util.functional.K1;
  * @param <R> The result type.
  * @see <a href="https://en.wikipedia.org/wiki/Result_type">Result Type</a>
  */
-public final class DataResult<R> implements App<DataResult.Mu, R> {
+public abstract sealed class DataResult<R> implements App<DataResult.Mu, R> {
+
+    // Optimization: These are by far the most common successful results that get created, as every element of every list and map results
+    // in a unit success, and every absent optional field results in an empty success, so we cache them to avoid allocating new ones.
+    private static final DataResult<Unit> UNIT_STABLE = new Success<>(Unit.INSTANCE, Lifecycle.stable());
+    private static final DataResult<Unit> UNIT_EXPERIMENTAL = new Success<>(Unit.INSTANCE, Lifecycle.experimental());
+    private static final DataResult<Optional<?>> EMPTY_STABLE = new Success<>(Optional.empty(), Lifecycle.stable());
+    private static final DataResult<Optional<?>> EMPTY_EXPERIMENTAL = new Success<>(Optional.empty(), Lifecycle.experimental());
 
     /**
      * Creates a new data result that represents a successful result with the
@@ -63,8 +88,21 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @param <R> The result type.
      * @return A new successful data result.
      */
+    @SuppressWarnings("unchecked")
     public static <R> @NotNull DataResult<R> success(final @NotNull R result, final @NotNull Lifecycle lifecycle) {
-        return create(Either.left(result), lifecycle);
+        if (!Lifecycle.isTracked()) {
+            if (result == Unit.INSTANCE) return (DataResult<R>) UNIT_STABLE;
+            if (result == Optional.empty()) return (DataResult<R>) EMPTY_STABLE;
+            return new Success<>(result, Lifecycle.stable());
+        }
+        if (result == Unit.INSTANCE) {
+            if (lifecycle == Lifecycle.stable()) return (DataResult<R>) UNIT_STABLE;
+            if (lifecycle == Lifecycle.experimental()) return (DataResult<R>) UNIT_EXPERIMENTAL;
+        } else if (result == Optional.empty()) {
+            if (lifecycle == Lifecycle.stable()) return (DataResult<R>) EMPTY_STABLE;
+            if (lifecycle == Lifecycle.experimental()) return (DataResult<R>) EMPTY_EXPERIMENTAL;
+        }
+        return new Success<>(result, lifecycle);
     }
 
     /**
@@ -76,6 +114,22 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @return A new error data result.
      */
     public static <R> @NotNull DataResult<R> error(final @NotNull String message) {
+        return error(() -> message);
+    }
+
+    /**
+     * Creates a new data result that represents an error result with the given
+     * error message supplier.
+     *
+     * <p>The supplier will only be called when the message is actually
+     * requested, which avoids building expensive messages for errors that
+     * are discarded by the caller.</p>
+     *
+     * @param message The error message supplier.
+     * @param <R> The result type.
+     * @return A new error data result.
+     */
+    public static <R> @NotNull DataResult<R> error(final @NotNull Supplier<String> message) {
         return error(message, Lifecycle.experimental());
     }
 
@@ -90,6 +144,20 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @return A new error data result.
      */
     public static <R> @NotNull DataResult<R> error(final @NotNull String message, final @NotNull R partialResult) {
+        return error(() -> message, partialResult);
+    }
+
+    /**
+     * Creates a new data result that represents an error result with the given
+     * error message supplier and partial result that indicates the result
+     * before the error occurred.
+     *
+     * @param message The error message supplier.
+     * @param partialResult The partial result.
+     * @param <R> The result type.
+     * @return A new error data result.
+     */
+    public static <R> @NotNull DataResult<R> error(final @NotNull Supplier<String> message, final @NotNull R partialResult) {
         return error(message, partialResult, Lifecycle.experimental());
     }
 
@@ -106,7 +174,23 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      */
     public static <R> @NotNull DataResult<R> error(final @NotNull String message, final @NotNull R partialResult,
                                                    final @NotNull Lifecycle lifecycle) {
-        return create(Either.right(new PartialResult<>(message, Optional.of(partialResult))), lifecycle);
+        return error(() -> message, partialResult, lifecycle);
+    }
+
+    /**
+     * Creates a new data result that represents an error result with the given
+     * error message supplier, lifecycle, and partial result that indicates the
+     * result before the error occurred.
+     *
+     * @param message The error message supplier.
+     * @param partialResult The partial result.
+     * @param lifecycle The lifecycle.
+     * @param <R> The result type.
+     * @return A new error data result.
+     */
+    public static <R> @NotNull DataResult<R> error(final @NotNull Supplier<String> message, final @NotNull R partialResult,
+                                                   final @NotNull Lifecycle lifecycle) {
+        return new Error<>(message, Objects.requireNonNull(partialResult, "partialResult"), lifecycle);
     }
 
     /**
@@ -119,7 +203,48 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @return A new error data result.
      */
     public static <R> @NotNull DataResult<R> error(final @NotNull String message, final @NotNull Lifecycle lifecycle) {
-        return create(Either.right(new PartialResult<>(message, Optional.empty())), lifecycle);
+        return error(() -> message, lifecycle);
+    }
+
+    /**
+     * Creates a new data result that represents an error result with the given
+     * error message supplier and lifecycle.
+     *
+     * @param message The error message supplier.
+     * @param lifecycle The lifecycle.
+     * @param <R> The result type.
+     * @return A new error data result.
+     */
+    public static <R> @NotNull DataResult<R> error(final @NotNull Supplier<String> message, final @NotNull Lifecycle lifecycle) {
+        return new Error<>(message, null, lifecycle);
+    }
+
+    /**
+     * Applies the given function to the values of all the given results if
+     * they are all successful, or combines all of their errors, in order, if
+     * they are not.
+     *
+     * <p>This is the same as applying the function through
+     * {@link #instance()}, but for any number of results, and is used by
+     * codecs that have already flattened out their structure.</p>
+     *
+     * @param function The function to apply to the values, in the same order
+     *                 as the results.
+     * @param results The results.
+     * @param <R> The result type.
+     * @return The combined result.
+     */
+    @ApiStatus.Internal
+    public static <R> @NotNull DataResult<R> applyAll(final @NotNull Function<Object[], R> function,
+                                                      final @NotNull DataResult<?> @NotNull [] results) {
+        final var values = new Object[results.length];
+        Lifecycle lifecycle = Lifecycle.experimental();
+        for (int i = 0; i < results.length; i++) {
+            if (!(results[i] instanceof final Success<?> success)) return Instance.combineErrors(function, results);
+            values[i] = success.value;
+            lifecycle = i == 0 ? success.lifecycle : lifecycle.add(success.lifecycle);
+        }
+        return success(function.apply(values), lifecycle);
     }
 
     /**
@@ -133,29 +258,37 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
 
     @VisibleForTesting
     static <R> @NotNull DataResult<R> create(final @NotNull Either<R, PartialResult<R>> result, final @NotNull Lifecycle lifecycle) {
-        return new DataResult<>(result, lifecycle);
+        return result.map(
+                value -> success(value, lifecycle),
+                partial -> new Error<>(partial.messageSupplier(), partial.partialResult().orElse(null), lifecycle)
+        );
     }
 
     private static <R> @NotNull DataResult<R> unbox(final @NotNull App<Mu, R> box) {
         return (DataResult<R>) box;
     }
 
-    private final Either<R, PartialResult<R>> result;
-    private final Lifecycle lifecycle;
+    private static @NotNull Supplier<String> appendMessages(final @NotNull Supplier<String> first, final @NotNull Supplier<String> second) {
+        return ErrorTree.append(ErrorTree.of(first), ErrorTree.of(second));
+    }
+
+    final Lifecycle lifecycle;
 
-    private DataResult(final @NotNull Either<R, PartialResult<R>> result, final @NotNull Lifecycle lifecycle) {
-        this.result = Objects.requireNonNull(result);
-        this.lifecycle = Objects.requireNonNull(lifecycle);
+    private DataResult(final @NotNull Lifecycle lifecycle) {
+        Objects.requireNonNull(lifecycle, "lifecycle");
+        this.lifecycle = Lifecycle.isTracked() ? lifecycle : Lifecycle.stable();
     }
 
     /**
      * Gets the backing result contained within this data result.
      *
+     * <p>The returned either is created on demand, so
+     * {@link #isSuccess()} and {@link #getOrNull()} should be preferred where
+     * possible.</p>
+     *
      * @return The backing result.
      */
-    public @NotNull Either<R, PartialResult<R>> get() {
-        return result;
-    }
+    public abstract @NotNull Either<R, PartialResult<R>> get();
 
     /**
      * Gets the successful result, if present, from the backing result
@@ -163,9 +296,7 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      *
      * @return The successful result, if present.
      */
-    public @NotNull Optional<R> result() {
-        return result.left();
-    }
+    public abstract @NotNull Optional<R> result();
 
     /**
      * Gets the error result, if present, from the backing result contained
@@ -173,16 +304,40 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      *
      * @return The error result, if present.
      */
-    public @NotNull Optional<PartialResult<R>> error() {
-        return result.right();
+    public abstract @NotNull Optional<PartialResult<R>> error();
+
+    /**
+     * Checks if this data result is a successful result.
+     *
+     * @return True if this result is successful, false if it is an error.
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Checks if this data result is an error result.
+     *
+     * @return True if this result is an error, false if it is successful.
+     */
+    public final boolean isError() {
+        return !isSuccess();
     }
 
+    /**
+     * Gets the successful result, or null if this data result is an error
+     * result.
+     *
+     * <p>Unlike {@link #result()}, this does not allocate anything.</p>
+     *
+     * @return The successful result, or null if this result is an error.
+     */
+    public abstract @Nullable R getOrNull();
+
     /**
      * Gets the lifecycle of this data result.
      *
      * @return The lifecycle.
      */
-    public @NotNull Lifecycle lifecycle() {
+    public final @NotNull Lifecycle lifecycle() {
         return lifecycle;
     }
 
@@ -196,12 +351,7 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @return The successful result, if present, or the partial result, if
      *         present.
      */
-    public @NotNull Optional<R> resultOrPartial(final @NotNull Consumer<String> onError) {
-        return result.map(Optional::of, partial -> {
-            onError.accept(partial.message);
-            return partial.partialResult;
-        });
-    }
+    public abstract @NotNull Optional<R> resultOrPartial(final @NotNull Consumer<String> onError);
 
     /**
      * Gets the successful result, if present, from the backing result
@@ -222,13 +372,7 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      *                          allowPartial is false, or allowPartial is true
      *                          and the partial result is absent.
      */
-    public @NotNull R getOrThrow(final boolean allowPartial, final @NotNull Consumer<String> onError) {
-        return result.map(Function.identity(), partial -> {
-            onError.accept(partial.message);
-            if (allowPartial && partial.partialResult.isPresent()) return partial.partialResult.get();
-            throw new RuntimeException(partial.message);
-        });
-    }
+    public abstract @NotNull R getOrThrow(final boolean allowPartial, final @NotNull Consumer<String> onError);
 
     /**
      * Maps this data result to a new result, applying the given mapper to the
@@ -238,9 +382,7 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @param <R2> The new result type.
      * @return The resulting data result.
      */
-    public <R2> @NotNull DataResult<R2> map(final @NotNull Function<? super R, ? extends R2> mapper) {
-        return create(result.mapBoth(mapper, partial -> new PartialResult<>(partial.message, partial.partialResult.map(mapper))), lifecycle);
-    }
+    public abstract <R2> @NotNull DataResult<R2> map(final @NotNull Function<? super R, ? extends R2> mapper);
 
     /**
      * Promotes the partial result contained within this data result if it is
@@ -254,23 +396,7 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @param onError The on error handler.
      * @return The resulting data result.
      */
-    public @NotNull DataResult<R> promotePartial(final @NotNull Consumer<String> onError) {
-        // Optimization: Avoid unnecessarily recreating the data result.
-        // In the original code, for the left half, when the result is left, it creates a new data result with a new left either wrapping the
-        // successful result, using this result's lifecycle. However, if, when we call map, it calls the left mapper, we know the either is left,
-        // and whatever value we were provided was the left value, so we can just return this result, as it's the same thing.
-        // For the right half, when the result is right, and the partial result is not present, it creates a new data result with a new right
-        // either wrapping the partial result, using this result's lifecycle. However, if, when we call map, it calls the right mapper, we know
-        // the either is right, and whatever value we were provided was the right value, so we can just return this result, as it's the same thing.
-        return result.map(value -> this, partial -> {
-            onError.accept(partial.message);
-            return partial.partialResult.map(value -> create(Either.left(value), lifecycle)).orElse(this);
-        });
-    }
-
-    private static @NotNull String appendMessages(final @NotNull String first, final @NotNull String second) {
-        return first + "; " + second;
-    }
+    public abstract @NotNull DataResult<R> promotePartial(final @NotNull Consumer<String> onError);
 
     /**
      * Maps this data result to a new result, applying the given mapper to the
@@ -285,47 +411,18 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @param <R2> The new result type.
      * @return The resulting data result.
      */
-    public <R2> @NotNull DataResult<R2> flatMap(final @NotNull Function<? super R, ? extends DataResult<R2>> mapper) {
-        final Function<? super R, ? extends DataResult<R2>> leftMapper = value -> {
-            final DataResult<R2> second = mapper.apply(value);
-            return create(second.get(), lifecycle.add(second.lifecycle));
-        };
-        final Function<? super PartialResult<R>, ? extends DataResult<R2>> rightMapper = partial -> partial.partialResult
-                .map(value -> {
-                    final DataResult<R2> second = mapper.apply(value);
-                    return create(Either.right(second.get().map(
-                            left -> new PartialResult<>(partial.message, Optional.of(left)),
-                            right -> new PartialResult<>(appendMessages(partial.message, right.message), right.partialResult)
-                    )), lifecycle.add(second.lifecycle));
-                })
-                .orElseGet(() -> create(Either.right(new PartialResult<>(partial.message, Optional.empty())), lifecycle));
-        return result.map(leftMapper, rightMapper);
-    }
+    public abstract <R2> @NotNull DataResult<R2> flatMap(final @NotNull Function<? super R, ? extends DataResult<R2>> mapper);
 
     @SuppressWarnings("MissingJavadocMethod")
-    public <R2> @NotNull DataResult<R2> ap(final @NotNull DataResult<Function<R, R2>> functionResult) {
-        return create(result.map(
-                argument -> functionResult.result.mapBoth(
-                        function -> function.apply(argument),
-                        functionError -> new PartialResult<>(functionError.message, functionError.partialResult.map(f -> f.apply(argument)))
-                ),
-                argumentError -> Either.right(functionResult.result.map(
-                        function -> new PartialResult<>(argumentError.message, argumentError.partialResult.map(function)),
-                        functionError -> new PartialResult<>(
-                                appendMessages(argumentError.message, functionError.message),
-                                argumentError.partialResult.flatMap(a -> functionError.partialResult.map(f -> f.apply(a)))
-                        )
-                ))
-        ), lifecycle.add(functionResult.lifecycle));
-    }
+    public abstract <R2> @NotNull DataResult<R2> ap(final @NotNull DataResult<Function<R, R2>> functionResult);
 
     @SuppressWarnings("MissingJavadocMethod")
-    public <R2, S> @NotNull DataResult<S> apply2(final @NotNull BiFunction<R, R2, S> function, final @NotNull DataResult<R2> second) {
+    public final <R2, S> @NotNull DataResult<S> apply2(final @NotNull BiFunction<R, R2, S> function, final @NotNull DataResult<R2> second) {
         return unbox(instance().apply2(function, this, second));
     }
 
     @SuppressWarnings("MissingJavadocMethod")
-    public <R2, S> @NotNull DataResult<S> apply2stable(final @NotNull BiFunction<R, R2, S> function, final @NotNull DataResult<R2> second) {
+    public final <R2, S> @NotNull DataResult<S> apply2stable(final @NotNull BiFunction<R, R2, S> function, final @NotNull DataResult<R2> second) {
         return unbox(instance().ap2(unbox(instance().point(function)).withLifecycle(Lifecycle.stable()), this, second));
     }
 
@@ -336,12 +433,7 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @param partial The new partial result supplier.
      * @return The resulting data result.
      */
-    public @NotNull DataResult<R> withPartial(final @NotNull Supplier<R> partial) {
-        // Optimization: If the result is not right, we don't need to recreate the data result, as our result is successful and doesn't
-        // have an existing partial result to change.
-        if (result.right().isEmpty()) return this;
-        return create(result.mapRight(right -> new PartialResult<>(right.message, Optional.of(partial.get()))), lifecycle);
-    }
+    public abstract @NotNull DataResult<R> withPartial(final @NotNull Supplier<R> partial);
 
     /**
      * Maps this data result to a new result, with the given partial value as
@@ -351,26 +443,18 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @param partial The new partial result.
      * @return The resulting data result.
      */
-    public @NotNull DataResult<R> withPartial(final @NotNull R partial) {
-        // Optimization: If the result is not right, we don't need to recreate the data result, as our result is successful and doesn't
-        // have an existing partial result to change.
-        if (result.right().isEmpty()) return this;
-        return create(result.mapRight(right -> new PartialResult<>(right.message, Optional.of(partial))), lifecycle);
-    }
+    public abstract @NotNull DataResult<R> withPartial(final @NotNull R partial);
 
     /**
      * Maps the error message, if any, contained within this data result with
      * the given mapper.
      *
+     * <p>The mapper is applied lazily, only when the message is requested.</p>
+     *
      * @param mapper The mapper to apply to the error message.
      * @return The resulting data result.
      */
-    public @NotNull DataResult<R> mapError(final @NotNull UnaryOperator<String> mapper) {
-        // Optimization: If the result is not right, we don't need to recreate the data result, as our result is successful and doesn't
-        // have an existing partial result to map the error message of.
-        if (result.right().isEmpty()) return this;
-        return create(result.mapRight(right -> new PartialResult<>(mapper.apply(right.message), right.partialResult)), lifecycle);
-    }
+    public abstract @NotNull DataResult<R> mapError(final @NotNull UnaryOperator<String> mapper);
 
     /**
      * Sets the lifecycle of the data result to the given lifecycle, returning
@@ -382,10 +466,11 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @param lifecycle The new lifecycle.
      * @return The resulting data result.
      */
-    public @NotNull DataResult<R> withLifecycle(final @NotNull Lifecycle lifecycle) {
-        // Optimization: If the provided lifecycle is the same as the one we already have, don't recreate the data result.
-        if (this.lifecycle.equals(lifecycle)) return this;
-        return create(result, lifecycle);
+    public final @NotNull DataResult<R> withLifecycle(final @NotNull Lifecycle lifecycle) {
+        // Optimization: If the provided lifecycle is the same as the one we already have, or we aren't tracking lifecycles, don't recreate
+        // the data result.
+        if (!Lifecycle.isTracked() || this.lifecycle.equals(lifecycle)) return this;
+        return copy(lifecycle);
     }
 
     /**
@@ -398,29 +483,295 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * @param lifecycle The lifecycle to add.
      * @return The resulting data result.
      */
-    public @NotNull DataResult<R> addLifecycle(final @NotNull Lifecycle lifecycle) {
+    public final @NotNull DataResult<R> addLifecycle(final @NotNull Lifecycle lifecycle) {
+        if (!Lifecycle.isTracked()) return this;
         // Optimization: We add the lifecycles early and check if the existing lifecycle is the same as the new one, because if it is,
         // we don't need to recreate the data result.
         final var newLifecycle = this.lifecycle.add(lifecycle);
         if (this.lifecycle.equals(newLifecycle)) return this;
-        return create(result, newLifecycle);
+        return copy(newLifecycle);
     }
 
-    @Override
-    public boolean equals(final Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        return Objects.equals(result, ((DataResult<?>) o).result);
-    }
+    /**
+     * Adds the given key to the start of the path of the error, if any,
+     * contained within this data result.
+     *
+     * <p>Paths are included in the rendered error message, so that errors
+     * deep within some input can be precisely located, for example,
+     * {@code entities[42].pos.x}.</p>
+     *
+     * @param key The key.
+     * @return The resulting data result.
+     */
+    public abstract @NotNull DataResult<R> atKey(final @NotNull String key);
+
+    /**
+     * Adds the given index to the start of the path of the error, if any,
+     * contained within this data result.
+     *
+     * @param index The index.
+     * @return The resulting data result.
+     * @see #atKey(String)
+     */
+    public abstract @NotNull DataResult<R> atIndex(final int index);
+
+    abstract @NotNull DataResult<R> copy(final @NotNull Lifecycle lifecycle);
+
+    private static final class Success<R> extends DataResult<R> {
+
+        private final R value;
+
+        Success(final @NotNull R value, final @NotNull Lifecycle lifecycle) {
+            super(lifecycle);
+            this.value = Objects.requireNonNull(value, "value");
+        }
+
+        @Override
+        public @NotNull Either<R, PartialResult<R>> get() {
+            return Either.left(value);
+        }
+
+        @Override
+        public @NotNull Optional<R> result() {
+            return Optional.of(value);
+        }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(result);
+        @Override
+        public @NotNull Optional<PartialResult<R>> error() {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public @NotNull R getOrNull() {
+            return value;
+        }
+
+        @Override
+        public @NotNull Optional<R> resultOrPartial(final @NotNull Consumer<String> onError) {
+            return Optional.of(value);
+        }
+
+        @Override
+        public @NotNull R getOrThrow(final boolean allowPartial, final @NotNull Consumer<String> onError) {
+            return value;
+        }
+
+        @Override
+        public <R2> @NotNull DataResult<R2> map(final @NotNull Function<? super R, ? extends R2> mapper) {
+            return success(mapper.apply(value), lifecycle);
+        }
+
+        @Override
+        public @NotNull DataResult<R> promotePartial(final @NotNull Consumer<String> onError) {
+            return this;
+        }
+
+        @Override
+        public <R2> @NotNull DataResult<R2> flatMap(final @NotNull Function<? super R, ? extends DataResult<R2>> mapper) {
+            final DataResult<R2> second = mapper.apply(value);
+            return second.withLifecycle(lifecycle.add(second.lifecycle));
+        }
+
+        @Override
+        public <R2> @NotNull DataResult<R2> ap(final @NotNull DataResult<Function<R, R2>> functionResult) {
+            final var newLifecycle = lifecycle.add(functionResult.lifecycle);
+            if (functionResult instanceof final Success<Function<R, R2>> function) return success(function.value.apply(value), newLifecycle);
+            final var functionError = (Error<Function<R, R2>>) functionResult;
+            final R2 partial = functionError.partial != null ? functionError.partial.apply(value) : null;
+            return new Error<>(functionError.messageSupplier, partial, newLifecycle);
+        }
+
+        @Override
+        public @NotNull DataResult<R> withPartial(final @NotNull Supplier<R> partial) {
+            return this;
+        }
+
+        @Override
+        public @NotNull DataResult<R> withPartial(final @NotNull R partial) {
+            return this;
+        }
+
+        @Override
+        public @NotNull DataResult<R> mapError(final @NotNull UnaryOperator<String> mapper) {
+            return this;
+        }
+
+        @Override
+        public @NotNull DataResult<R> atKey(final @NotNull String key) {
+            return this;
+        }
+
+        @Override
+        public @NotNull DataResult<R> atIndex(final int index) {
+            return this;
+        }
+
+        @Override
+        @NotNull DataResult<R> copy(final @NotNull Lifecycle lifecycle) {
+            return success(value, lifecycle);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return value.equals(((Success<?>) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "DataResult[Left[" + value + "]]";
+        }
     }
 
-    @Override
-    public String toString() {
-        return "DataResult[" + result + ']';
+    private static final class Error<R> extends DataResult<R> {
+
+        private final ErrorTree messageSupplier;
+        private final @Nullable R partial;
+
+        Error(final @NotNull Supplier<String> messageSupplier, final @Nullable R partial, final @NotNull Lifecycle lifecycle) {
+            super(lifecycle);
+            this.messageSupplier = ErrorTree.of(Objects.requireNonNull(messageSupplier, "messageSupplier"));
+            this.partial = partial;
+        }
+
+        private @NotNull PartialResult<R> toPartialResult() {
+            return new PartialResult<>(messageSupplier, Optional.ofNullable(partial));
+        }
+
+        @Override
+        public @NotNull Either<R, PartialResult<R>> get() {
+            return Either.right(toPartialResult());
+        }
+
+        @Override
+        public @NotNull Optional<R> result() {
+            return Optional.empty();
+        }
+
+        @Override
+        public @NotNull Optional<PartialResult<R>> error() {
+            return Optional.of(toPartialResult());
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public @Nullable R getOrNull() {
+            return null;
+        }
+
+        @Override
+        public @NotNull Optional<R> resultOrPartial(final @NotNull Consumer<String> onError) {
+            onError.accept(messageSupplier.get());
+            return Optional.ofNullable(partial);
+        }
+
+        @Override
+        public @NotNull R getOrThrow(final boolean allowPartial, final @NotNull Consumer<String> onError) {
+            final String message = messageSupplier.get();
+            onError.accept(message);
+            if (allowPartial && partial != null) return partial;
+            throw new RuntimeException(message);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R2> @NotNull DataResult<R2> map(final @NotNull Function<? super R, ? extends R2> mapper) {
+            // Optimization: If there's no partial result, there's nothing to map, and the result type is irrelevant.
+            if (partial == null) return (DataResult<R2>) this;
+            return new Error<>(messageSupplier, mapper.apply(partial), lifecycle);
+        }
+
+        @Override
+        public @NotNull DataResult<R> promotePartial(final @NotNull Consumer<String> onError) {
+            onError.accept(messageSupplier.get());
+            return partial != null ? success(partial, lifecycle) : this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <R2> @NotNull DataResult<R2> flatMap(final @NotNull Function<? super R, ? extends DataResult<R2>> mapper) {
+            // Optimization: If there's no partial result, there's nothing to map, and the result type is irrelevant.
+            if (partial == null) return (DataResult<R2>) this;
+            final DataResult<R2> second = mapper.apply(partial);
+            final var newLifecycle = lifecycle.add(second.lifecycle);
+            if (second instanceof final Success<R2> success) return new Error<>(messageSupplier, success.value, newLifecycle);
+            final var error = (Error<R2>) second;
+            return new Error<>(appendMessages(messageSupplier, error.messageSupplier), error.partial, newLifecycle);
+        }
+
+        @Override
+        public <R2> @NotNull DataResult<R2> ap(final @NotNull DataResult<Function<R, R2>> functionResult) {
+            final var newLifecycle = lifecycle.add(functionResult.lifecycle);
+            if (functionResult instanceof final Success<Function<R, R2>> function) {
+                return new Error<>(messageSupplier, partial != null ? function.value.apply(partial) : null, newLifecycle);
+            }
+            final var functionError = (Error<Function<R, R2>>) functionResult;
+            final R2 newPartial = partial != null && functionError.partial != null ? functionError.partial.apply(partial) : null;
+            // The function's error comes from arguments that were applied before this one, so it goes first, which keeps errors in order.
+            return new Error<>(appendMessages(functionError.messageSupplier, messageSupplier), newPartial, newLifecycle);
+        }
+
+        @Override
+        public @NotNull DataResult<R> withPartial(final @NotNull Supplier<R> partial) {
+            return new Error<>(messageSupplier, partial.get(), lifecycle);
+        }
+
+        @Override
+        public @NotNull DataResult<R> withPartial(final @NotNull R partial) {
+            return new Error<>(messageSupplier, partial, lifecycle);
+        }
+
+        @Override
+        public @NotNull DataResult<R> mapError(final @NotNull UnaryOperator<String> mapper) {
+            return new Error<>(messageSupplier.map(mapper), partial, lifecycle);
+        }
+
+        @Override
+        public @NotNull DataResult<R> atKey(final @NotNull String key) {
+            return new Error<>(messageSupplier.atKey(key), partial, lifecycle);
+        }
+
+        @Override
+        public @NotNull DataResult<R> atIndex(final int index) {
+            return new Error<>(messageSupplier.atIndex(index), partial, lifecycle);
+        }
+
+        @Override
+        @NotNull DataResult<R> copy(final @NotNull Lifecycle lifecycle) {
+            return new Error<>(messageSupplier, partial, lifecycle);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return toPartialResult().equals(((Error<?>) o).toPartialResult());
+        }
+
+        @Override
+        public int hashCode() {
+            return toPartialResult().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "DataResult[Right[" + toPartialResult() + "]]";
+        }
     }
 
     /**
@@ -432,11 +783,24 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
      * result, which should be the result that would be returned if execution
      * was halted at the point of the error occurring.</p>
      *
-     * @param message The error message.
+     * <p>The error message is held as a supplier, and is only rendered when
+     * {@link #message()} is called, as most errors are discarded without ever
+     * being looked at, and building the message can be expensive.</p>
+     *
+     * @param messageSupplier The supplier of the error message.
      * @param partialResult The partial result, if any.
      * @param <R> The result type.
      */
-    public record PartialResult<R>(@NotNull String message, @NotNull Optional<R> partialResult) {
+    public record PartialResult<R>(@NotNull Supplier<String> messageSupplier, @NotNull Optional<R> partialResult) {
+
+        /**
+         * Renders the error message.
+         *
+         * @return The error message.
+         */
+        public @NotNull String message() {
+            return messageSupplier.get();
+        }
 
         /**
          * Maps this partial result, applying the given mapper to the partial
@@ -447,7 +811,7 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
          * @return The resulting partial result.
          */
         public <R2> @NotNull PartialResult<R2> map(final @NotNull Function<? super R, ? extends R2> mapper) {
-            return new PartialResult<>(message, partialResult.map(mapper));
+            return new PartialResult<>(messageSupplier, partialResult.map(mapper));
         }
 
         /**
@@ -467,7 +831,7 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
         public <R2> @NotNull PartialResult<R2> flatMap(final @NotNull Function<R, PartialResult<R2>> mapper) {
             if (partialResult.isPresent()) {
                 final PartialResult<R2> result = mapper.apply(partialResult.get());
-                return new PartialResult<>(appendMessages(message, result.message), result.partialResult);
+                return new PartialResult<>(appendMessages(messageSupplier, result.messageSupplier), result.partialResult);
             }
             // Optimization: If the partial result is not present, we know that it's Optional.empty(), which is a constant, so we will be
             // returning the same as creating a new partial result with the result set to Optional.empty().
@@ -475,9 +839,106 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
             return (PartialResult<R2>) this;
         }
 
+        // Suppliers don't have meaningful equality, so we compare the rendered messages instead. This is the only place, other than
+        // explicitly asking for the message, where the message will be rendered.
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final PartialResult<?> that = (PartialResult<?>) o;
+            return message().equals(that.message()) && partialResult.equals(that.partialResult);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(message(), partialResult);
+        }
+
         @Override
         public String toString() {
-            return "DynamicException[" + message + ' ' + partialResult + ']';
+            return "DynamicException[" + message() + ' ' + partialResult + ']';
+        }
+    }
+
+    /**
+     * A mutable accumulator for the results of decoding the elements of a
+     * collection one at a time.
+     *
+     * <p>This produces the same result as folding all the element results
+     * together with {@link #apply2stable(BiFunction, DataResult)}, but without
+     * creating a new result for every element. The lifecycles are folded and
+     * the errors are combined, in order, as elements are added, and the list
+     * of failed inputs is only created once the first input fails.</p>
+     *
+     * @param <I> The input type.
+     */
+    @ApiStatus.Internal
+    public static final class Accumulator<I> {
+
+        private Lifecycle lifecycle = Lifecycle.stable();
+        private @Nullable ErrorTree errors;
+        private @Nullable List<I> failed;
+        private boolean hasPartial = true;
+
+        /**
+         * Creates a new empty accumulator, with a stable lifecycle and no
+         * errors.
+         */
+        public Accumulator() {
+        }
+
+        /**
+         * Adds the given result to this accumulator.
+         *
+         * <p>The returned value should be added to the collection being built
+         * if it is not null. It will be null if the given result has no value
+         * or partial result, or if an earlier result had neither, in which
+         * case there is no partial collection left to add to.</p>
+         *
+         * @param result The result.
+         * @param <R> The result type.
+         * @return The value to add, if any.
+         */
+        public <R> @Nullable R add(final @NotNull DataResult<R> result) {
+            lifecycle = lifecycle.add(result.lifecycle);
+            if (result instanceof final Success<R> success) return hasPartial ? success.value : null;
+            final var error = (Error<R>) result;
+            errors = errors == null ? error.messageSupplier : ErrorTree.append(errors, error.messageSupplier);
+            if (error.partial == null) hasPartial = false;
+            return hasPartial ? error.partial : null;
+        }
+
+        /**
+         * Records the given input as one that failed to decode.
+         *
+         * @param input The failed input.
+         */
+        public void addFailed(final @NotNull I input) {
+            if (failed == null) failed = new ArrayList<>();
+            failed.add(input);
+        }
+
+        /**
+         * Gets all the inputs recorded as failed, in the order they were
+         * recorded.
+         *
+         * @return The failed inputs.
+         */
+        public @NotNull List<I> failed() {
+            return failed != null ? failed : List.of();
+        }
+
+        /**
+         * Creates the result of decoding the collection, which is an error
+         * result with the given value as its partial result if any of the
+         * added results failed.
+         *
+         * @param value The decoded collection.
+         * @param <R> The result type.
+         * @return The result.
+         */
+        public <R> @NotNull DataResult<R> build(final @NotNull R value) {
+            return errors == null ? success(value, lifecycle) : new Error<>(errors, value, lifecycle);
         }
     }
 
@@ -521,23 +982,25 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
         }
 
         @Override
-        public <A, B, R> @NotNull App<DataResult.Mu, R> ap2(final @NotNull App<DataResult.Mu, BiFunction<A, B, R>> function,
-                                                            final @NotNull App<DataResult.Mu, A> a, final @NotNull App<DataResult.Mu, B> b) {
+        @SuppressWarnings("unchecked")
+        public <A, B, R> @NotNull App<DataResult.Mu, R> ap2(
+                final @NotNull App<DataResult.Mu, BiFunction<A, B, R>> function, final @NotNull App<DataResult.Mu, A> a,
+                final @NotNull App<DataResult.Mu, B> b) {
             final var fr = unbox(function);
             final var ra = unbox(a);
             final var rb = unbox(b);
 
             // Optimization: Avoid recursion for the common case where the function and all the results are a success.
-            if (fr.result.left().isPresent() && ra.result.left().isPresent() && rb.result.left().isPresent()) {
-                return create(
-                        Either.left(fr.result.left().get().apply(ra.result.left().get(), rb.result.left().get())),
-                        fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle)
-                );
+            if (fr instanceof final Success<BiFunction<A, B, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb) {
+                return success(fn.value.apply(sa.value, sb.value), fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle));
             }
-            return Applicative.super.ap2(function, a, b);
+            return combineErrors(values -> ((BiFunction<A, B, R>) values[0]).apply((A) values[1], (B) values[2]),
+                    fr, ra, rb);
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <A, B, C, R> @NotNull App<DataResult.Mu, R> ap3(
                 final @NotNull App<DataResult.Mu, Function3<A, B, C, R>> function, final @NotNull App<DataResult.Mu, A> a,
                 final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c) {
@@ -547,13 +1010,503 @@ public final class DataResult<R> implements App<DataResult.Mu, R> {
             final var rc = unbox(c);
 
             // Optimization: Avoid recursion for the common case where the function and all the results are a success.
-            if (fr.result.left().isPresent() && ra.result.left().isPresent() && rb.result.left().isPresent() && rc.result.left().isPresent()) {
-                return create(
-                        Either.left(fr.result.left().get().apply(ra.result.left().get(), rb.result.left().get(), rc.result.left().get())),
-                        fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle)
-                );
+            if (fr instanceof final Success<Function3<A, B, C, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function3<A, B, C, R>) values[0]).apply((A) values[1], (B) values[2], (C) values[3]),
+                    fr, ra, rb, rc);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, R> @NotNull App<DataResult.Mu, R> ap4(
+                final @NotNull App<DataResult.Mu, Function4<A, B, C, D, R>> function, final @NotNull App<DataResult.Mu, A> a,
+                final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c, final @NotNull App<DataResult.Mu, D> d) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function4<A, B, C, D, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function4<A, B, C, D, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4]),
+                    fr, ra, rb, rc, rd);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, R> @NotNull App<DataResult.Mu, R> ap5(
+                final @NotNull App<DataResult.Mu, Function5<A, B, C, D, E, R>> function, final @NotNull App<DataResult.Mu, A> a,
+                final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c, final @NotNull App<DataResult.Mu, D> d,
+                final @NotNull App<DataResult.Mu, E> e) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function5<A, B, C, D, E, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd
+                    && re instanceof final Success<E> se) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function5<A, B, C, D, E, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5]),
+                    fr, ra, rb, rc, rd, re);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, R> @NotNull App<DataResult.Mu, R> ap6(
+                final @NotNull App<DataResult.Mu, Function6<A, B, C, D, E, F, R>> function, final @NotNull App<DataResult.Mu, A> a,
+                final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c, final @NotNull App<DataResult.Mu, D> d,
+                final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function6<A, B, C, D, E, F, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd
+                    && re instanceof final Success<E> se && rf instanceof final Success<F> sf) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function6<A, B, C, D, E, F, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6]),
+                    fr, ra, rb, rc, rd, re, rf);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, R> @NotNull App<DataResult.Mu, R> ap7(
+                final @NotNull App<DataResult.Mu, Function7<A, B, C, D, E, F, G, R>> function, final @NotNull App<DataResult.Mu, A> a,
+                final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c, final @NotNull App<DataResult.Mu, D> d,
+                final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f, final @NotNull App<DataResult.Mu, G> g) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+            final var rg = unbox(g);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function7<A, B, C, D, E, F, G, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd
+                    && re instanceof final Success<E> se && rf instanceof final Success<F> sf && rg instanceof final Success<G> sg) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle).add(rg.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value, sg.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function7<A, B, C, D, E, F, G, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6], (G) values[7]),
+                    fr, ra, rb, rc, rd, re, rf, rg);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, R> @NotNull App<DataResult.Mu, R> ap8(
+                final @NotNull App<DataResult.Mu, Function8<A, B, C, D, E, F, G, H, R>> function, final @NotNull App<DataResult.Mu, A> a,
+                final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c, final @NotNull App<DataResult.Mu, D> d,
+                final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f, final @NotNull App<DataResult.Mu, G> g,
+                final @NotNull App<DataResult.Mu, H> h) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+            final var rg = unbox(g);
+            final var rh = unbox(h);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function8<A, B, C, D, E, F, G, H, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd
+                    && re instanceof final Success<E> se && rf instanceof final Success<F> sf && rg instanceof final Success<G> sg
+                    && rh instanceof final Success<H> sh) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle).add(rg.lifecycle).add(rh.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value, sg.value, sh.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function8<A, B, C, D, E, F, G, H, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6], (G) values[7], (H) values[8]),
+                    fr, ra, rb, rc, rd, re, rf, rg, rh);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, R> @NotNull App<DataResult.Mu, R> ap9(
+                final @NotNull App<DataResult.Mu, Function9<A, B, C, D, E, F, G, H, I, R>> function, final @NotNull App<DataResult.Mu, A> a,
+                final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c, final @NotNull App<DataResult.Mu, D> d,
+                final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f, final @NotNull App<DataResult.Mu, G> g,
+                final @NotNull App<DataResult.Mu, H> h, final @NotNull App<DataResult.Mu, I> i) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+            final var rg = unbox(g);
+            final var rh = unbox(h);
+            final var ri = unbox(i);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function9<A, B, C, D, E, F, G, H, I, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd
+                    && re instanceof final Success<E> se && rf instanceof final Success<F> sf && rg instanceof final Success<G> sg
+                    && rh instanceof final Success<H> sh && ri instanceof final Success<I> si) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle).add(rg.lifecycle).add(rh.lifecycle).add(ri.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value, sg.value, sh.value, si.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function9<A, B, C, D, E, F, G, H, I, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6], (G) values[7], (H) values[8],
+                    (I) values[9]),
+                    fr, ra, rb, rc, rd, re, rf, rg, rh, ri);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, R> @NotNull App<DataResult.Mu, R> ap10(
+                final @NotNull App<DataResult.Mu, Function10<A, B, C, D, E, F, G, H, I, J, R>> function,
+                final @NotNull App<DataResult.Mu, A> a, final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c,
+                final @NotNull App<DataResult.Mu, D> d, final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f,
+                final @NotNull App<DataResult.Mu, G> g, final @NotNull App<DataResult.Mu, H> h, final @NotNull App<DataResult.Mu, I> i,
+                final @NotNull App<DataResult.Mu, J> j) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+            final var rg = unbox(g);
+            final var rh = unbox(h);
+            final var ri = unbox(i);
+            final var rj = unbox(j);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function10<A, B, C, D, E, F, G, H, I, J, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd
+                    && re instanceof final Success<E> se && rf instanceof final Success<F> sf && rg instanceof final Success<G> sg
+                    && rh instanceof final Success<H> sh && ri instanceof final Success<I> si && rj instanceof final Success<J> sj) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle).add(rg.lifecycle).add(rh.lifecycle).add(ri.lifecycle).add(rj.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value, sg.value, sh.value, si.value,
+                        sj.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function10<A, B, C, D, E, F, G, H, I, J, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6], (G) values[7], (H) values[8],
+                    (I) values[9], (J) values[10]),
+                    fr, ra, rb, rc, rd, re, rf, rg, rh, ri, rj);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, R> @NotNull App<DataResult.Mu, R> ap11(
+                final @NotNull App<DataResult.Mu, Function11<A, B, C, D, E, F, G, H, I, J, K, R>> function,
+                final @NotNull App<DataResult.Mu, A> a, final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c,
+                final @NotNull App<DataResult.Mu, D> d, final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f,
+                final @NotNull App<DataResult.Mu, G> g, final @NotNull App<DataResult.Mu, H> h, final @NotNull App<DataResult.Mu, I> i,
+                final @NotNull App<DataResult.Mu, J> j, final @NotNull App<DataResult.Mu, K> k) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+            final var rg = unbox(g);
+            final var rh = unbox(h);
+            final var ri = unbox(i);
+            final var rj = unbox(j);
+            final var rk = unbox(k);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function11<A, B, C, D, E, F, G, H, I, J, K, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd
+                    && re instanceof final Success<E> se && rf instanceof final Success<F> sf && rg instanceof final Success<G> sg
+                    && rh instanceof final Success<H> sh && ri instanceof final Success<I> si && rj instanceof final Success<J> sj
+                    && rk instanceof final Success<K> sk) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle).add(rg.lifecycle).add(rh.lifecycle).add(ri.lifecycle).add(rj.lifecycle)
+                        .add(rk.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value, sg.value, sh.value, si.value,
+                        sj.value, sk.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function11<A, B, C, D, E, F, G, H, I, J, K, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6], (G) values[7], (H) values[8],
+                    (I) values[9], (J) values[10], (K) values[11]),
+                    fr, ra, rb, rc, rd, re, rf, rg, rh, ri, rj, rk);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, L, R> @NotNull App<DataResult.Mu, R> ap12(
+                final @NotNull App<DataResult.Mu, Function12<A, B, C, D, E, F, G, H, I, J, K, L, R>> function,
+                final @NotNull App<DataResult.Mu, A> a, final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c,
+                final @NotNull App<DataResult.Mu, D> d, final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f,
+                final @NotNull App<DataResult.Mu, G> g, final @NotNull App<DataResult.Mu, H> h, final @NotNull App<DataResult.Mu, I> i,
+                final @NotNull App<DataResult.Mu, J> j, final @NotNull App<DataResult.Mu, K> k, final @NotNull App<DataResult.Mu, L> l) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+            final var rg = unbox(g);
+            final var rh = unbox(h);
+            final var ri = unbox(i);
+            final var rj = unbox(j);
+            final var rk = unbox(k);
+            final var rl = unbox(l);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function12<A, B, C, D, E, F, G, H, I, J, K, L, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd
+                    && re instanceof final Success<E> se && rf instanceof final Success<F> sf && rg instanceof final Success<G> sg
+                    && rh instanceof final Success<H> sh && ri instanceof final Success<I> si && rj instanceof final Success<J> sj
+                    && rk instanceof final Success<K> sk && rl instanceof final Success<L> sl) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle).add(rg.lifecycle).add(rh.lifecycle).add(ri.lifecycle).add(rj.lifecycle)
+                        .add(rk.lifecycle).add(rl.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value, sg.value, sh.value, si.value,
+                        sj.value, sk.value, sl.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function12<A, B, C, D, E, F, G, H, I, J, K, L, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6], (G) values[7], (H) values[8],
+                    (I) values[9], (J) values[10], (K) values[11], (L) values[12]),
+                    fr, ra, rb, rc, rd, re, rf, rg, rh, ri, rj, rk, rl);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, L, M, R> @NotNull App<DataResult.Mu, R> ap13(
+                final @NotNull App<DataResult.Mu, Function13<A, B, C, D, E, F, G, H, I, J, K, L, M, R>> function,
+                final @NotNull App<DataResult.Mu, A> a, final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c,
+                final @NotNull App<DataResult.Mu, D> d, final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f,
+                final @NotNull App<DataResult.Mu, G> g, final @NotNull App<DataResult.Mu, H> h, final @NotNull App<DataResult.Mu, I> i,
+                final @NotNull App<DataResult.Mu, J> j, final @NotNull App<DataResult.Mu, K> k, final @NotNull App<DataResult.Mu, L> l,
+                final @NotNull App<DataResult.Mu, M> m) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+            final var rg = unbox(g);
+            final var rh = unbox(h);
+            final var ri = unbox(i);
+            final var rj = unbox(j);
+            final var rk = unbox(k);
+            final var rl = unbox(l);
+            final var rm = unbox(m);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function13<A, B, C, D, E, F, G, H, I, J, K, L, M, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd
+                    && re instanceof final Success<E> se && rf instanceof final Success<F> sf && rg instanceof final Success<G> sg
+                    && rh instanceof final Success<H> sh && ri instanceof final Success<I> si && rj instanceof final Success<J> sj
+                    && rk instanceof final Success<K> sk && rl instanceof final Success<L> sl && rm instanceof final Success<M> sm) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle).add(rg.lifecycle).add(rh.lifecycle).add(ri.lifecycle).add(rj.lifecycle)
+                        .add(rk.lifecycle).add(rl.lifecycle).add(rm.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value, sg.value, sh.value, si.value,
+                        sj.value, sk.value, sl.value, sm.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function13<A, B, C, D, E, F, G, H, I, J, K, L, M, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6], (G) values[7], (H) values[8],
+                    (I) values[9], (J) values[10], (K) values[11], (L) values[12], (M) values[13]),
+                    fr, ra, rb, rc, rd, re, rf, rg, rh, ri, rj, rk, rl, rm);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, R> @NotNull App<DataResult.Mu, R> ap14(
+                final @NotNull App<DataResult.Mu, Function14<A, B, C, D, E, F, G, H, I, J, K, L, M, N, R>> function,
+                final @NotNull App<DataResult.Mu, A> a, final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c,
+                final @NotNull App<DataResult.Mu, D> d, final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f,
+                final @NotNull App<DataResult.Mu, G> g, final @NotNull App<DataResult.Mu, H> h, final @NotNull App<DataResult.Mu, I> i,
+                final @NotNull App<DataResult.Mu, J> j, final @NotNull App<DataResult.Mu, K> k, final @NotNull App<DataResult.Mu, L> l,
+                final @NotNull App<DataResult.Mu, M> m, final @NotNull App<DataResult.Mu, N> n) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+            final var rg = unbox(g);
+            final var rh = unbox(h);
+            final var ri = unbox(i);
+            final var rj = unbox(j);
+            final var rk = unbox(k);
+            final var rl = unbox(l);
+            final var rm = unbox(m);
+            final var rn = unbox(n);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function14<A, B, C, D, E, F, G, H, I, J, K, L, M, N, R>> fn && ra instanceof final Success<A> sa
+                    && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc && rd instanceof final Success<D> sd
+                    && re instanceof final Success<E> se && rf instanceof final Success<F> sf && rg instanceof final Success<G> sg
+                    && rh instanceof final Success<H> sh && ri instanceof final Success<I> si && rj instanceof final Success<J> sj
+                    && rk instanceof final Success<K> sk && rl instanceof final Success<L> sl && rm instanceof final Success<M> sm
+                    && rn instanceof final Success<N> sn) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle).add(rg.lifecycle).add(rh.lifecycle).add(ri.lifecycle).add(rj.lifecycle)
+                        .add(rk.lifecycle).add(rl.lifecycle).add(rm.lifecycle).add(rn.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value, sg.value, sh.value, si.value,
+                        sj.value, sk.value, sl.value, sm.value, sn.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function14<A, B, C, D, E, F, G, H, I, J, K, L, M, N, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6], (G) values[7], (H) values[8],
+                    (I) values[9], (J) values[10], (K) values[11], (L) values[12], (M) values[13], (N) values[14]),
+                    fr, ra, rb, rc, rd, re, rf, rg, rh, ri, rj, rk, rl, rm, rn);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, R> @NotNull App<DataResult.Mu, R> ap15(
+                final @NotNull App<DataResult.Mu, Function15<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, R>> function,
+                final @NotNull App<DataResult.Mu, A> a, final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c,
+                final @NotNull App<DataResult.Mu, D> d, final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f,
+                final @NotNull App<DataResult.Mu, G> g, final @NotNull App<DataResult.Mu, H> h, final @NotNull App<DataResult.Mu, I> i,
+                final @NotNull App<DataResult.Mu, J> j, final @NotNull App<DataResult.Mu, K> k, final @NotNull App<DataResult.Mu, L> l,
+                final @NotNull App<DataResult.Mu, M> m, final @NotNull App<DataResult.Mu, N> n, final @NotNull App<DataResult.Mu, O> o) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+            final var rg = unbox(g);
+            final var rh = unbox(h);
+            final var ri = unbox(i);
+            final var rj = unbox(j);
+            final var rk = unbox(k);
+            final var rl = unbox(l);
+            final var rm = unbox(m);
+            final var rn = unbox(n);
+            final var ro = unbox(o);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function15<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, R>> fn
+                    && ra instanceof final Success<A> sa && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc
+                    && rd instanceof final Success<D> sd && re instanceof final Success<E> se && rf instanceof final Success<F> sf
+                    && rg instanceof final Success<G> sg && rh instanceof final Success<H> sh && ri instanceof final Success<I> si
+                    && rj instanceof final Success<J> sj && rk instanceof final Success<K> sk && rl instanceof final Success<L> sl
+                    && rm instanceof final Success<M> sm && rn instanceof final Success<N> sn && ro instanceof final Success<O> so) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle).add(rg.lifecycle).add(rh.lifecycle).add(ri.lifecycle).add(rj.lifecycle)
+                        .add(rk.lifecycle).add(rl.lifecycle).add(rm.lifecycle).add(rn.lifecycle).add(ro.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value, sg.value, sh.value, si.value,
+                        sj.value, sk.value, sl.value, sm.value, sn.value, so.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function15<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6], (G) values[7], (H) values[8],
+                    (I) values[9], (J) values[10], (K) values[11], (L) values[12], (M) values[13], (N) values[14], (O) values[15]),
+                    fr, ra, rb, rc, rd, re, rf, rg, rh, ri, rj, rk, rl, rm, rn, ro);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, R> @NotNull App<DataResult.Mu, R> ap16(
+                final @NotNull App<DataResult.Mu, Function16<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, R>> function,
+                final @NotNull App<DataResult.Mu, A> a, final @NotNull App<DataResult.Mu, B> b, final @NotNull App<DataResult.Mu, C> c,
+                final @NotNull App<DataResult.Mu, D> d, final @NotNull App<DataResult.Mu, E> e, final @NotNull App<DataResult.Mu, F> f,
+                final @NotNull App<DataResult.Mu, G> g, final @NotNull App<DataResult.Mu, H> h, final @NotNull App<DataResult.Mu, I> i,
+                final @NotNull App<DataResult.Mu, J> j, final @NotNull App<DataResult.Mu, K> k, final @NotNull App<DataResult.Mu, L> l,
+                final @NotNull App<DataResult.Mu, M> m, final @NotNull App<DataResult.Mu, N> n, final @NotNull App<DataResult.Mu, O> o,
+                final @NotNull App<DataResult.Mu, P> p) {
+            final var fr = unbox(function);
+            final var ra = unbox(a);
+            final var rb = unbox(b);
+            final var rc = unbox(c);
+            final var rd = unbox(d);
+            final var re = unbox(e);
+            final var rf = unbox(f);
+            final var rg = unbox(g);
+            final var rh = unbox(h);
+            final var ri = unbox(i);
+            final var rj = unbox(j);
+            final var rk = unbox(k);
+            final var rl = unbox(l);
+            final var rm = unbox(m);
+            final var rn = unbox(n);
+            final var ro = unbox(o);
+            final var rp = unbox(p);
+
+            // Optimization: Avoid recursion for the common case where the function and all the results are a success.
+            if (fr instanceof final Success<Function16<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, R>> fn
+                    && ra instanceof final Success<A> sa && rb instanceof final Success<B> sb && rc instanceof final Success<C> sc
+                    && rd instanceof final Success<D> sd && re instanceof final Success<E> se && rf instanceof final Success<F> sf
+                    && rg instanceof final Success<G> sg && rh instanceof final Success<H> sh && ri instanceof final Success<I> si
+                    && rj instanceof final Success<J> sj && rk instanceof final Success<K> sk && rl instanceof final Success<L> sl
+                    && rm instanceof final Success<M> sm && rn instanceof final Success<N> sn && ro instanceof final Success<O> so
+                    && rp instanceof final Success<P> sp) {
+                final var lifecycle = fr.lifecycle.add(ra.lifecycle).add(rb.lifecycle).add(rc.lifecycle).add(rd.lifecycle)
+                        .add(re.lifecycle).add(rf.lifecycle).add(rg.lifecycle).add(rh.lifecycle).add(ri.lifecycle).add(rj.lifecycle)
+                        .add(rk.lifecycle).add(rl.lifecycle).add(rm.lifecycle).add(rn.lifecycle).add(ro.lifecycle).add(rp.lifecycle);
+                return success(fn.value.apply(sa.value, sb.value, sc.value, sd.value, se.value, sf.value, sg.value, sh.value, si.value,
+                        sj.value, sk.value, sl.value, sm.value, sn.value, so.value, sp.value), lifecycle);
+            }
+            return combineErrors(values -> ((Function16<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P, R>) values[0]).apply(
+                    (A) values[1], (B) values[2], (C) values[3], (D) values[4], (E) values[5], (F) values[6], (G) values[7], (H) values[8],
+                    (I) values[9], (J) values[10], (K) values[11], (L) values[12], (M) values[13], (N) values[14], (O) values[15],
+                    (P) values[16]),
+                    fr, ra, rb, rc, rd, re, rf, rg, rh, ri, rj, rk, rl, rm, rn, ro, rp);
+        }
+
+        // Optimization: Rather than building up the error one argument at a time, which is what happens if we fall back to currying, we go
+        // over all the results once, folding the lifecycles and merging the errors as we go, and only apply the function if every result
+        // has either a value or a partial result.
+        private static <R> @NotNull DataResult<R> combineErrors(final @NotNull Function<Object[], R> function,
+                                                                final @NotNull DataResult<?> @NotNull ... results) {
+            final var values = new Object[results.length];
+            Lifecycle lifecycle = results[0].lifecycle;
+            Supplier<String> messageSupplier = null;
+            boolean hasPartial = true;
+
+            for (int i = 0; i < results.length; i++) {
+                final DataResult<?> result = results[i];
+                if (i > 0) lifecycle = lifecycle.add(result.lifecycle);
+                if (result instanceof final Success<?> success) {
+                    values[i] = success.value;
+                    continue;
+                }
+                final var error = (Error<?>) result;
+                messageSupplier = messageSupplier == null ? error.messageSupplier : appendMessages(messageSupplier, error.messageSupplier);
+                if (error.partial == null) {
+                    hasPartial = false;
+                } else {
+                    values[i] = error.partial;
+                }
             }
-            return Applicative.super.ap3(function, a, b, c);
+            return new Error<>(Objects.requireNonNull(messageSupplier), hasPartial ? function.apply(values) : null, lifecycle);
         }
 
         /**
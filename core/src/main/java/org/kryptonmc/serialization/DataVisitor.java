@@ -0,0 +1,135 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A visitor that is told what kind of value a value of some data type is,
+ * and what it holds, without having to ask the data operations for each
+ * kind in turn.
+ *
+ * <p>Exactly one of the methods of this visitor is called for each value
+ * that is visited. Lists and maps are not visited recursively, so that the
+ * visitor can decide how, and if, to visit the values inside them.</p>
+ *
+ * @param <T> The data type.
+ * @see DataOps#visit(Object, DataVisitor)
+ */
+public interface DataVisitor<T> {
+
+    /**
+     * Visits the empty value.
+     */
+    void visitEmpty();
+
+    /**
+     * Visits a boolean value.
+     *
+     * @param value The value.
+     */
+    void visitBoolean(boolean value);
+
+    /**
+     * Visits a byte value.
+     *
+     * @param value The value.
+     */
+    void visitByte(byte value);
+
+    /**
+     * Visits a short value.
+     *
+     * @param value The value.
+     */
+    void visitShort(short value);
+
+    /**
+     * Visits an integer value.
+     *
+     * @param value The value.
+     */
+    void visitInt(int value);
+
+    /**
+     * Visits a long value.
+     *
+     * @param value The value.
+     */
+    void visitLong(long value);
+
+    /**
+     * Visits a float value.
+     *
+     * @param value The value.
+     */
+    void visitFloat(float value);
+
+    /**
+     * Visits a double value.
+     *
+     * @param value The value.
+     */
+    void visitDouble(double value);
+
+    /**
+     * Visits a string value.
+     *
+     * @param value The value.
+     */
+    void visitString(@NotNull String value);
+
+    /**
+     * Visits a byte array value.
+     *
+     * <p>The array may be the one backing the value, so it must not be
+     * modified.</p>
+     *
+     * @param value The value.
+     */
+    void visitByteArray(byte @NotNull [] value);
+
+    /**
+     * Visits an integer array value.
+     *
+     * <p>The array may be the one backing the value, so it must not be
+     * modified.</p>
+     *
+     * @param value The value.
+     */
+    void visitIntArray(int @NotNull [] value);
+
+    /**
+     * Visits a long array value.
+     *
+     * <p>The array may be the one backing the value, so it must not be
+     * modified.</p>
+     *
+     * @param value The value.
+     */
+    void visitLongArray(long @NotNull [] value);
+
+    /**
+     * Visits a list value.
+     *
+     * <p>The list follows the same rules as lists returned from
+     * {@link DataOps#getIndexedList(Object)}.</p>
+     *
+     * @param elements The elements of the list.
+     */
+    void visitList(@NotNull List<T> elements);
+
+    /**
+     * Visits a map value.
+     *
+     * @param entries The entries of the map.
+     */
+    void visitMap(@NotNull MapLike<T> entries);
+}
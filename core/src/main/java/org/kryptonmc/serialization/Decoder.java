@@ -13,7 +13,12 @@
  */
 package org.kryptonmc.serialization;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -49,6 +54,11 @@ public interface Decoder<A> {
                 return result;
             }
 
+            @Override
+            public <T> @NotNull A decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                return instance;
+            }
+
             @Override
             public String toString() {
                 return "UnitDecoder[" + instance + "]";
@@ -72,6 +82,11 @@ public interface Decoder<A> {
                 return DataResult.success(instance.get());
             }
 
+            @Override
+            public <T> @NotNull A decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                return instance.get();
+            }
+
             @Override
             public String toString() {
                 return "UnitDecoder[" + instance.get() + "]";
@@ -136,6 +151,168 @@ public interface Decoder<A> {
         return decode(input, ops).map(Pair::first);
     }
 
+    /**
+     * Decodes the given input data to the standard type that this decoder is
+     * for, without wrapping the result in a {@link DataResult}, throwing
+     * {@link FailFastException#INSTANCE} at the first failure.
+     *
+     * <p>This is the direct path used by {@link #readOrThrow(Object, DataOps)},
+     * and any partial results are discarded. The default implementation
+     * simply unwraps the result of {@link #read(Object, DataOps)}, so
+     * decoders that can decode without building data results should
+     * override this.</p>
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The decoded value.
+     * @throws FailFastException If decoding fails.
+     */
+    default <T> @NotNull A readDirect(final T input, final @NotNull DataOps<T> ops) {
+        return FailFastException.unwrap(read(input, ops));
+    }
+
+    /**
+     * Decodes the given input data to the standard type that this decoder is
+     * for, throwing an exception if decoding fails.
+     *
+     * <p>This is intended for trusted input, such as data that we wrote
+     * ourselves, as it avoids all the overhead of building data results,
+     * partial results, and error messages. If decoding does fail, the input
+     * will be decoded again with {@link #read(Object, DataOps)} to find out
+     * why.</p>
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The decoded value.
+     * @throws RuntimeException If decoding fails.
+     */
+    @ApiStatus.NonExtendable
+    default <T> @NotNull A readOrThrow(final T input, final @NotNull DataOps<T> ops) {
+        try {
+            return readDirect(input, ops);
+        } catch (final FailFastException exception) {
+            // The direct path doesn't keep any information about what went wrong, so we decode again on the standard path to find out.
+            return read(input, ops).getOrThrow(false, error -> {});
+        }
+    }
+
+    /**
+     * Decodes all the given independent inputs on the default executor,
+     * decoding at most the given number of them at once.
+     *
+     * <p>On Java 21 and newer, the default executor starts a virtual thread
+     * for every task. Otherwise, it is the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.</p>
+     *
+     * @param inputs The inputs.
+     * @param ops The data operations.
+     * @param parallelism The most inputs to decode at once.
+     * @param <T> The data type.
+     * @return The future decoded results, in the same order as the inputs.
+     * @see #readAll(Collection, DataOps, Executor, int)
+     */
+    @ApiStatus.NonExtendable
+    default <T> @NotNull CompletableFuture<List<DataResult<A>>> readAll(final @NotNull Collection<? extends T> inputs, final @NotNull DataOps<T> ops,
+                                                                       final int parallelism) {
+        return readAll(inputs, ops, BatchExecutors.defaultExecutor(), parallelism);
+    }
+
+    /**
+     * Decodes all the given independent inputs on the given executor,
+     * decoding as many at once as there are available processors.
+     *
+     * @param inputs The inputs.
+     * @param ops The data operations.
+     * @param executor The executor to decode on.
+     * @param <T> The data type.
+     * @return The future decoded results, in the same order as the inputs.
+     * @see #readAll(Collection, DataOps, Executor, int)
+     */
+    @ApiStatus.NonExtendable
+    default <T> @NotNull CompletableFuture<List<DataResult<A>>> readAll(final @NotNull Collection<? extends T> inputs, final @NotNull DataOps<T> ops,
+                                                                       final @NotNull Executor executor) {
+        return readAll(inputs, ops, executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Decodes all the given independent inputs on the given executor,
+     * decoding at most the given number of them at once.
+     *
+     * <p>Each input is decoded with {@link #read(Object, DataOps)} in its own
+     * task, so the executor may be anything from a thread pool to an
+     * executor that starts a virtual thread for every task. The parallelism
+     * limits how many tasks are running at once either way. If the data
+     * operations are not {@link DataOps#isThreadSafe() thread safe}, inputs
+     * are decoded one at a time.</p>
+     *
+     * <p>The returned future completes exceptionally if decoding any of the
+     * inputs throws an exception. Inputs that fail to decode normally just
+     * give error results.</p>
+     *
+     * @param inputs The inputs.
+     * @param ops The data operations.
+     * @param executor The executor to decode on.
+     * @param parallelism The most inputs to decode at once.
+     * @param <T> The data type.
+     * @return The future decoded results, in the same order as the inputs.
+     */
+    @ApiStatus.NonExtendable
+    default <T> @NotNull CompletableFuture<List<DataResult<A>>> readAll(final @NotNull Collection<? extends T> inputs, final @NotNull DataOps<T> ops,
+                                                                       final @NotNull Executor executor, final int parallelism) {
+        return new BatchPublisher<T, DataResult<A>>(inputs, input -> read(input, ops), executor, ops.isThreadSafe() ? parallelism : 1).collect();
+    }
+
+    /**
+     * Creates a publisher that decodes all the given independent inputs on
+     * the given executor, decoding at most the given number of them at once,
+     * and publishes each result as it is decoded.
+     *
+     * <p>Results are published in the same order as the inputs. Inputs are
+     * only decoded once their results have been requested, so a slow
+     * subscriber slows down decoding, rather than having decoded results
+     * build up. Every subscriber decodes the inputs again.</p>
+     *
+     * <p>Otherwise, inputs are decoded in the same way as
+     * {@link #readAll(Collection, DataOps, Executor, int)}, except that the
+     * subscriber is given the error if decoding any of the inputs throws an
+     * exception.</p>
+     *
+     * @param inputs The inputs.
+     * @param ops The data operations.
+     * @param executor The executor to decode on.
+     * @param parallelism The most inputs to decode at once.
+     * @param <T> The data type.
+     * @return The publisher of decoded results.
+     */
+    @ApiStatus.NonExtendable
+    default <T> Flow.@NotNull Publisher<DataResult<A>> readEach(final @NotNull Collection<? extends T> inputs, final @NotNull DataOps<T> ops,
+                                                               final @NotNull Executor executor, final int parallelism) {
+        return new BatchPublisher<T, DataResult<A>>(inputs, input -> read(input, ops), executor, ops.isThreadSafe() ? parallelism : 1);
+    }
+
+    /**
+     * Creates a publisher that decodes all the given independent inputs on
+     * the default executor, decoding at most the given number of them at
+     * once, and publishes each result as it is decoded.
+     *
+     * <p>The default executor is the same as for
+     * {@link #readAll(Collection, DataOps, int)}.</p>
+     *
+     * @param inputs The inputs.
+     * @param ops The data operations.
+     * @param parallelism The most inputs to decode at once.
+     * @param <T> The data type.
+     * @return The publisher of decoded results.
+     * @see #readEach(Collection, DataOps, Executor, int)
+     */
+    @ApiStatus.NonExtendable
+    default <T> Flow.@NotNull Publisher<DataResult<A>> readEach(final @NotNull Collection<? extends T> inputs, final @NotNull DataOps<T> ops,
+                                                               final int parallelism) {
+        return readEach(inputs, ops, BatchExecutors.defaultExecutor(), parallelism);
+    }
+
     /**
      * Decodes the given dynamic data input to the standard type that this
      * decoder is for.
@@ -195,6 +372,11 @@ public interface Decoder<A> {
                 return Decoder.this.decode(input, ops).map(result -> result.mapFirst(mapper));
             }
 
+            @Override
+            public <T> @NotNull B readDirect(final T input, final @NotNull DataOps<T> ops) {
+                return mapper.apply(Decoder.this.readDirect(input, ops));
+            }
+
             @Override
             public String toString() {
                 return Decoder.this + "[mapped]";
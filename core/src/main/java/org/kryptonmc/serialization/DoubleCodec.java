@@ -0,0 +1,63 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.kryptonmc.serialization.codecs.DoubleFieldCodec;
+
+/**
+ * A codec for a double value, which can read and write the value without
+ * boxing it.
+ *
+ * <p>The boxed methods inherited from {@link Codec} will still work as
+ * normal, but the direct decoding path, and codecs that know they are
+ * working with double values, such as {@link DoubleFieldCodec}, will use
+ * {@link #readDouble(Object, DataOps)} and
+ * {@link #writeDouble(double, DataOps)} instead.</p>
+ */
+public interface DoubleCodec extends PrimitiveCodec<Double> {
+
+    /**
+     * Reads the given input as a double value with the given ops,
+     * throwing {@link FailFastException#INSTANCE} if the input cannot be
+     * read.
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The value.
+     * @throws FailFastException If the input cannot be read.
+     */
+    <T> double readDouble(final @NotNull T input, final @NotNull DataOps<T> ops);
+
+    /**
+     * Writes the given double value with the given ops.
+     *
+     * @param value The value.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The written value.
+     */
+    <T> @NotNull T writeDouble(final double value, final @NotNull DataOps<T> ops);
+
+    @Override
+    default <T> @NotNull T write(final @NotNull Double value, final @NotNull DataOps<T> ops) {
+        return writeDouble(value, ops);
+    }
+
+    @Override
+    default <T> @NotNull Double readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        return readDouble(input, ops);
+    }
+
+    @Override
+    default @NotNull DoubleFieldCodec fieldOf(final @NotNull String name) {
+        return new DoubleFieldCodec(name, this);
+    }
+}
@@ -116,7 +116,7 @@ public final class Dynamic<T> extends DynamicLike<T> {
     public @NotNull OptionalDynamic<T> get(final @NotNull String key) {
         return new OptionalDynamic<>(ops, ops.getMap(value).flatMap(map -> {
             final var value = map.get(key);
-            if (value == null) return DataResult.error("Cannot find key " + key + " in map " + map + "!");
+            if (value == null) return DataResult.error(() -> "Cannot find key " + key + " in map " + map + "!");
             return DataResult.success(new Dynamic<>(ops, value));
         }));
     }
@@ -13,7 +13,12 @@
  */
 package org.kryptonmc.serialization;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.function.Function;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -98,6 +103,169 @@ public interface Encoder<A> {
         return encode(input, ops, ops.empty());
     }
 
+    /**
+     * Encodes the given input type to the given output data type, without
+     * wrapping the result in a {@link DataResult}, throwing
+     * {@link FailFastException#INSTANCE} at the first failure.
+     *
+     * <p>This is the direct path used by
+     * {@link #encodeStartOrThrow(Object, DataOps)}. The default
+     * implementation simply unwraps the result of
+     * {@link #encode(Object, DataOps, Object)}, so encoders that can encode
+     * without building data results should override this.</p>
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param prefix The prefix to append the results to.
+     * @param <T> The data type.
+     * @return The encoded value.
+     * @throws FailFastException If encoding fails.
+     */
+    default <T> @NotNull T encodeDirect(final A input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        return FailFastException.unwrap(encode(input, ops, prefix));
+    }
+
+    /**
+     * Encodes the given input type to the given output data type, throwing an
+     * exception if encoding fails.
+     *
+     * <p>This is intended for trusted input, as it avoids all the overhead of
+     * building data results and error messages. If encoding does fail, the
+     * input will be encoded again with {@link #encodeStart(Object, DataOps)}
+     * to find out why.</p>
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The encoded value.
+     * @throws RuntimeException If encoding fails.
+     */
+    @ApiStatus.NonExtendable
+    default <T> @NotNull T encodeStartOrThrow(final A input, final @NotNull DataOps<T> ops) {
+        try {
+            return encodeDirect(input, ops, ops.empty());
+        } catch (final FailFastException exception) {
+            // The direct path doesn't keep any information about what went wrong, so we encode again on the standard path to find out.
+            return encodeStart(input, ops).getOrThrow(false, error -> {});
+        }
+    }
+
+    /**
+     * Encodes all the given independent inputs on the default executor,
+     * encoding at most the given number of them at once.
+     *
+     * <p>On Java 21 and newer, the default executor starts a virtual thread
+     * for every task. Otherwise, it is the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.</p>
+     *
+     * @param inputs The inputs.
+     * @param ops The data operations.
+     * @param parallelism The most inputs to encode at once.
+     * @param <T> The data type.
+     * @return The future encoded results, in the same order as the inputs.
+     * @see #encodeAll(Collection, DataOps, Executor, int)
+     */
+    @ApiStatus.NonExtendable
+    default <T> @NotNull CompletableFuture<List<DataResult<T>>> encodeAll(final @NotNull Collection<? extends A> inputs, final @NotNull DataOps<T> ops,
+                                                                         final int parallelism) {
+        return encodeAll(inputs, ops, BatchExecutors.defaultExecutor(), parallelism);
+    }
+
+    /**
+     * Encodes all the given independent inputs on the given executor,
+     * encoding as many at once as there are available processors.
+     *
+     * @param inputs The inputs.
+     * @param ops The data operations.
+     * @param executor The executor to encode on.
+     * @param <T> The data type.
+     * @return The future encoded results, in the same order as the inputs.
+     * @see #encodeAll(Collection, DataOps, Executor, int)
+     */
+    @ApiStatus.NonExtendable
+    default <T> @NotNull CompletableFuture<List<DataResult<T>>> encodeAll(final @NotNull Collection<? extends A> inputs, final @NotNull DataOps<T> ops,
+                                                                         final @NotNull Executor executor) {
+        return encodeAll(inputs, ops, executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Encodes all the given independent inputs on the given executor,
+     * encoding at most the given number of them at once.
+     *
+     * <p>Each input is encoded with {@link #encodeStart(Object, DataOps)} in
+     * its own task, so the executor may be anything from a thread pool to an
+     * executor that starts a virtual thread for every task. The parallelism
+     * limits how many tasks are running at once either way. If the data
+     * operations are not {@link DataOps#isThreadSafe() thread safe}, inputs
+     * are encoded one at a time.</p>
+     *
+     * <p>The returned future completes exceptionally if encoding any of the
+     * inputs throws an exception. Inputs that fail to encode normally just
+     * give error results.</p>
+     *
+     * @param inputs The inputs.
+     * @param ops The data operations.
+     * @param executor The executor to encode on.
+     * @param parallelism The most inputs to encode at once.
+     * @param <T> The data type.
+     * @return The future encoded results, in the same order as the inputs.
+     */
+    @ApiStatus.NonExtendable
+    default <T> @NotNull CompletableFuture<List<DataResult<T>>> encodeAll(final @NotNull Collection<? extends A> inputs, final @NotNull DataOps<T> ops,
+                                                                         final @NotNull Executor executor, final int parallelism) {
+        return new BatchPublisher<A, DataResult<T>>(inputs, input -> encodeStart(input, ops), executor, ops.isThreadSafe() ? parallelism : 1)
+                .collect();
+    }
+
+    /**
+     * Creates a publisher that encodes all the given independent inputs on
+     * the given executor, encoding at most the given number of them at once,
+     * and publishes each result as it is encoded.
+     *
+     * <p>Results are published in the same order as the inputs. Inputs are
+     * only encoded once their results have been requested, so a slow
+     * subscriber slows down encoding, rather than having encoded results
+     * build up. Every subscriber encodes the inputs again.</p>
+     *
+     * <p>Otherwise, inputs are encoded in the same way as
+     * {@link #encodeAll(Collection, DataOps, Executor, int)}, except that the
+     * subscriber is given the error if encoding any of the inputs throws an
+     * exception.</p>
+     *
+     * @param inputs The inputs.
+     * @param ops The data operations.
+     * @param executor The executor to encode on.
+     * @param parallelism The most inputs to encode at once.
+     * @param <T> The data type.
+     * @return The publisher of encoded results.
+     */
+    @ApiStatus.NonExtendable
+    default <T> Flow.@NotNull Publisher<DataResult<T>> encodeEach(final @NotNull Collection<? extends A> inputs, final @NotNull DataOps<T> ops,
+                                                                 final @NotNull Executor executor, final int parallelism) {
+        return new BatchPublisher<A, DataResult<T>>(inputs, input -> encodeStart(input, ops), executor, ops.isThreadSafe() ? parallelism : 1);
+    }
+
+    /**
+     * Creates a publisher that encodes all the given independent inputs on
+     * the default executor, encoding at most the given number of them at
+     * once, and publishes each result as it is encoded.
+     *
+     * <p>The default executor is the same as for
+     * {@link #encodeAll(Collection, DataOps, int)}.</p>
+     *
+     * @param inputs The inputs.
+     * @param ops The data operations.
+     * @param parallelism The most inputs to encode at once.
+     * @param <T> The data type.
+     * @return The publisher of encoded results.
+     * @see #encodeEach(Collection, DataOps, Executor, int)
+     */
+    @ApiStatus.NonExtendable
+    default <T> Flow.@NotNull Publisher<DataResult<T>> encodeEach(final @NotNull Collection<? extends A> inputs, final @NotNull DataOps<T> ops,
+                                                                 final int parallelism) {
+        return encodeEach(inputs, ops, BatchExecutors.defaultExecutor(), parallelism);
+    }
+
     /**
      * Creates a new encoder that encodes a field with the given name using
      * this encoder to encode the value of the field.
@@ -131,6 +299,11 @@ public interface Encoder<A> {
                 return Encoder.this.encode(function.apply(input), ops, prefix);
             }
 
+            @Override
+            public <T> @NotNull T encodeDirect(final B input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+                return Encoder.this.encodeDirect(function.apply(input), ops, prefix);
+            }
+
             @Override
             public String toString() {
                 return Encoder.this + "[comapped]";
@@ -0,0 +1,300 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A structured error message, made up of individual errors, each with the
+ * path to the value that caused it, which is only rendered to a string when
+ * it is actually requested.
+ *
+ * <p>Only up to {@link #MAX_RETAINED} errors will be retained in a combined
+ * tree, with any others only being counted, and rendered as a single count
+ * at the end. Combining two errors takes at most time proportional to the
+ * number of retained errors, so the cost of failing to decode large inputs
+ * stays linear in the size of the input.</p>
+ */
+abstract sealed class ErrorTree implements Supplier<String> {
+
+    /**
+     * The maximum number of errors that will be retained in a single tree.
+     * This can be configured with the
+     * {@code org.kryptonmc.serialization.maxRetainedErrors} system property.
+     */
+    static final int MAX_RETAINED = Math.max(1, Integer.getInteger("org.kryptonmc.serialization.maxRetainedErrors", 64));
+
+    static @NotNull ErrorTree of(final @NotNull Supplier<String> message) {
+        if (message instanceof final ErrorTree tree) return tree;
+        return new Leaf(message);
+    }
+
+    static @NotNull ErrorTree append(final @NotNull ErrorTree first, final @NotNull ErrorTree second) {
+        final int count = first.count() + second.count();
+        if (count <= MAX_RETAINED) return new Combined(first, second);
+        // Optimization: Once we have retained as many errors as we are allowed, we only keep count of any others, so that the tree stays
+        // small and combining errors stays cheap, however many of them there are. Any errors that either tree only counted are folded
+        // in to the count at the end of the result, rather than being left in the middle of it.
+        final ErrorTree head = first.limit(MAX_RETAINED);
+        final int room = MAX_RETAINED - head.retainedCount();
+        final ErrorTree retained = room > 0 ? new Combined(head, second.limit(room)) : head;
+        return new Truncated(retained, count - retained.retainedCount());
+    }
+
+    /**
+     * Gets the number of errors retained in this tree.
+     *
+     * @return The number of retained errors.
+     */
+    abstract int retainedCount();
+
+    /**
+     * Gets the total number of errors that this tree represents, including
+     * any errors that were counted but not retained.
+     *
+     * @return The total number of errors.
+     */
+    int count() {
+        return retainedCount();
+    }
+
+    /**
+     * Gets a tree with the first of the errors retained in this tree, up to
+     * the given number of them, and without the counts of any errors that
+     * were not retained.
+     *
+     * @param max The maximum number of errors to retain, at least 1.
+     * @return The resulting tree.
+     */
+    abstract @NotNull ErrorTree limit(final int max);
+
+    /**
+     * Creates a new tree with the given key at the start of the path of all
+     * the errors in this tree.
+     *
+     * @param key The key.
+     * @return The resulting tree.
+     */
+    final @NotNull ErrorTree atKey(final @NotNull String key) {
+        return new Segment(key, -1, this);
+    }
+
+    /**
+     * Creates a new tree with the given index at the start of the path of all
+     * the errors in this tree.
+     *
+     * @param index The index.
+     * @return The resulting tree.
+     */
+    final @NotNull ErrorTree atIndex(final int index) {
+        return new Segment(null, index, this);
+    }
+
+    /**
+     * Creates a new tree that applies the given mapper to the rendered
+     * message of this tree.
+     *
+     * @param mapper The mapper.
+     * @return The resulting tree.
+     */
+    final @NotNull ErrorTree map(final @NotNull UnaryOperator<String> mapper) {
+        return new Mapped(this, mapper);
+    }
+
+    @Override
+    public final @NotNull String get() {
+        final var builder = new StringBuilder();
+        render(builder, "");
+        return builder.toString();
+    }
+
+    abstract void render(final @NotNull StringBuilder builder, final @NotNull String path);
+
+    static void appendError(final @NotNull StringBuilder builder, final @NotNull String path, final @NotNull String message) {
+        if (!builder.isEmpty()) builder.append("; ");
+        if (!path.isEmpty()) builder.append(path).append(": ");
+        builder.append(message);
+    }
+
+    @Override
+    public String toString() {
+        return get();
+    }
+
+    private static final class Leaf extends ErrorTree {
+
+        private final Supplier<String> message;
+
+        Leaf(final @NotNull Supplier<String> message) {
+            this.message = Objects.requireNonNull(message, "message");
+        }
+
+        @Override
+        int retainedCount() {
+            return 1;
+        }
+
+        @Override
+        @NotNull ErrorTree limit(final int max) {
+            return this;
+        }
+
+        @Override
+        void render(final @NotNull StringBuilder builder, final @NotNull String path) {
+            appendError(builder, path, message.get());
+        }
+    }
+
+    private static final class Combined extends ErrorTree {
+
+        private final ErrorTree first;
+        private final ErrorTree second;
+        private final int retained;
+        private final int count;
+
+        Combined(final @NotNull ErrorTree first, final @NotNull ErrorTree second) {
+            this.first = first;
+            this.second = second;
+            retained = first.retainedCount() + second.retainedCount();
+            count = first.count() + second.count();
+        }
+
+        @Override
+        int retainedCount() {
+            return retained;
+        }
+
+        @Override
+        int count() {
+            return count;
+        }
+
+        @Override
+        @NotNull ErrorTree limit(final int max) {
+            if (retained <= max && count == retained) return this;
+            final ErrorTree head = first.limit(max);
+            final int room = max - head.retainedCount();
+            return room > 0 ? new Combined(head, second.limit(room)) : head;
+        }
+
+        @Override
+        void render(final @NotNull StringBuilder builder, final @NotNull String path) {
+            first.render(builder, path);
+            second.render(builder, path);
+        }
+    }
+
+    private static final class Truncated extends ErrorTree {
+
+        private final ErrorTree retained;
+        private final int dropped;
+
+        Truncated(final @NotNull ErrorTree retained, final int dropped) {
+            this.retained = retained;
+            this.dropped = dropped;
+        }
+
+        @Override
+        int retainedCount() {
+            return retained.retainedCount();
+        }
+
+        @Override
+        int count() {
+            return retained.count() + dropped;
+        }
+
+        @Override
+        @NotNull ErrorTree limit(final int max) {
+            return retained.limit(max);
+        }
+
+        @Override
+        void render(final @NotNull StringBuilder builder, final @NotNull String path) {
+            retained.render(builder, path);
+            appendError(builder, path, "... and " + dropped + " more errors");
+        }
+    }
+
+    private static final class Segment extends ErrorTree {
+
+        private final @Nullable String key;
+        private final int index;
+        private final ErrorTree child;
+
+        Segment(final @Nullable String key, final int index, final @NotNull ErrorTree child) {
+            this.key = key;
+            this.index = index;
+            this.child = child;
+        }
+
+        @Override
+        int retainedCount() {
+            return child.retainedCount();
+        }
+
+        @Override
+        int count() {
+            return child.count();
+        }
+
+        @Override
+        @NotNull ErrorTree limit(final int max) {
+            final ErrorTree limited = child.limit(max);
+            return limited == child ? this : new Segment(key, index, limited);
+        }
+
+        @Override
+        void render(final @NotNull StringBuilder builder, final @NotNull String path) {
+            final String childPath;
+            if (key == null) {
+                childPath = path + '[' + index + ']';
+            } else {
+                childPath = path.isEmpty() ? key : path + '.' + key;
+            }
+            child.render(builder, childPath);
+        }
+    }
+
+    private static final class Mapped extends ErrorTree {
+
+        private final ErrorTree child;
+        private final UnaryOperator<String> mapper;
+
+        Mapped(final @NotNull ErrorTree child, final @NotNull UnaryOperator<String> mapper) {
+            this.child = child;
+            this.mapper = Objects.requireNonNull(mapper, "mapper");
+        }
+
+        @Override
+        int retainedCount() {
+            return child.retainedCount();
+        }
+
+        @Override
+        int count() {
+            return child.count();
+        }
+
+        @Override
+        @NotNull ErrorTree limit(final int max) {
+            final ErrorTree limited = child.limit(max);
+            return limited == child ? this : new Mapped(limited, mapper);
+        }
+
+        @Override
+        void render(final @NotNull StringBuilder builder, final @NotNull String path) {
+            appendError(builder, path, mapper.apply(child.get()));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import java.io.Serial;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The exception thrown by the direct decoding and encoding paths at the
+ * first failure.
+ *
+ * <p>The direct paths, such as {@link Decoder#readDirect(Object, DataOps)},
+ * are used for trusted input, where we never need partial results or error
+ * aggregation. To keep failing cheap, there is only a single, preallocated
+ * instance of this exception, which has no message and no stack trace.</p>
+ *
+ * <p>This exception should never escape
+ * {@link Decoder#readOrThrow(Object, DataOps)} or
+ * {@link Encoder#encodeStartOrThrow(Object, DataOps)}, which fall back to
+ * the standard path to find out what went wrong when it is thrown.</p>
+ */
+@ApiStatus.Internal
+public final class FailFastException extends RuntimeException {
+
+    /**
+     * The single instance of this exception.
+     */
+    public static final FailFastException INSTANCE = new FailFastException();
+
+    @Serial
+    private static final long serialVersionUID = 4216807323521963421L;
+
+    /**
+     * Gets the successful result from the given data result, throwing
+     * {@link #INSTANCE} if the given result is an error result.
+     *
+     * @param result The result to unwrap.
+     * @param <R> The result type.
+     * @return The successful result.
+     * @throws FailFastException If the given result is an error result.
+     */
+    public static <R> @NotNull R unwrap(final @NotNull DataResult<R> result) {
+        final R value = result.getOrNull();
+        if (value == null) throw INSTANCE;
+        return value;
+    }
+
+    private FailFastException() {
+        super(null, null, false, false);
+    }
+}
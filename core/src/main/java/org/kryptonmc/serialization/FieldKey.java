@@ -0,0 +1,150 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The key of a field in a map, which can remember what it looks like when it
+ * is created by long-lived data operations, so that it only has to be created
+ * once for each of them.
+ *
+ * <p>Field keys are used by field codecs to look up and add fields to
+ * {@link MapLike} and {@link RecordBuilder} through
+ * {@link DataOps#createKey(FieldKey)}. Data operations that opt in to this
+ * with a {@link Cache} will return the same key object every time, so the
+ * key objects returned by them must not be modified.</p>
+ */
+public final class FieldKey {
+
+    private final String name;
+    // The keys created by each cache, by the index of the cache. There are only ever a handful of caches, as they belong to long-lived
+    // ops, so we keep the created keys in a small array.
+    private volatile Object[] cached = new Object[0];
+
+    /**
+     * Creates a new field key with the given name.
+     *
+     * @param name The name.
+     * @return A new field key.
+     */
+    public static @NotNull FieldKey of(final @NotNull String name) {
+        return new FieldKey(name);
+    }
+
+    /**
+     * Creates a new cache that remembers the keys created by the given data
+     * operations.
+     *
+     * <p>Every cache takes a slot in every field key that it is used with,
+     * for as long as the field key exists, so a cache should only be created
+     * once for data operations that live for a long time, such as
+     * singletons, and kept by them. Data operations that are created
+     * often, such as those created for every operation, should not use a
+     * cache.</p>
+     *
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return A new cache.
+     */
+    public static <T> @NotNull Cache<T> newCache(final @NotNull DataOps<T> ops) {
+        return new Cache<>(ops);
+    }
+
+    private FieldKey(final @NotNull String name) {
+        this.name = Objects.requireNonNull(name, "name");
+    }
+
+    /**
+     * Gets the name of this key.
+     *
+     * @return The name.
+     */
+    public @NotNull String name() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> @NotNull T encoded(final int index, final @NotNull DataOps<T> ops) {
+        final var current = cached;
+        if (index < current.length) {
+            final var key = current[index];
+            if (key != null) return (T) key;
+        }
+        return cache(index, ops.createString(name));
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T> @NotNull T cache(final int index, final @NotNull T key) {
+        final var current = cached;
+        // Another thread may have created the key since we last checked, and we want everyone to get the same key.
+        if (index < current.length && current[index] != null) return (T) current[index];
+        final var newCached = Arrays.copyOf(current, Math.max(current.length, index + 1));
+        newCached[index] = key;
+        cached = newCached;
+        return key;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return name.equals(((FieldKey) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * A cache of the field keys created by one set of long-lived data
+     * operations.
+     *
+     * <p>Data operations that keep a cache should return
+     * {@link #get(FieldKey)} from {@link DataOps#createKey(FieldKey)}.</p>
+     *
+     * @param <T> The data type.
+     * @see #newCache(DataOps)
+     */
+    public static final class Cache<T> {
+
+        private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+        private final DataOps<T> ops;
+        private final int index = NEXT_INDEX.getAndIncrement();
+
+        private Cache(final @NotNull DataOps<T> ops) {
+            this.ops = Objects.requireNonNull(ops, "ops");
+        }
+
+        /**
+         * Gets the given key as created by the data operations this cache
+         * belongs to.
+         *
+         * <p>The key will only be created the first time this is called with
+         * the given key, and every call after that will return the same
+         * key.</p>
+         *
+         * @param key The field key.
+         * @return The created key.
+         */
+        public @NotNull T get(final @NotNull FieldKey key) {
+            return key.encoded(index, ops);
+        }
+    }
+}
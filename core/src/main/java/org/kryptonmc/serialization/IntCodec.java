@@ -0,0 +1,63 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.kryptonmc.serialization.codecs.IntFieldCodec;
+
+/**
+ * A codec for an int value, which can read and write the value without
+ * boxing it.
+ *
+ * <p>The boxed methods inherited from {@link Codec} will still work as
+ * normal, but the direct decoding path, and codecs that know they are
+ * working with int values, such as {@link IntFieldCodec}, will use
+ * {@link #readInt(Object, DataOps)} and
+ * {@link #writeInt(int, DataOps)} instead.</p>
+ */
+public interface IntCodec extends PrimitiveCodec<Integer> {
+
+    /**
+     * Reads the given input as an int value with the given ops,
+     * throwing {@link FailFastException#INSTANCE} if the input cannot be
+     * read.
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The value.
+     * @throws FailFastException If the input cannot be read.
+     */
+    <T> int readInt(final @NotNull T input, final @NotNull DataOps<T> ops);
+
+    /**
+     * Writes the given int value with the given ops.
+     *
+     * @param value The value.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The written value.
+     */
+    <T> @NotNull T writeInt(final int value, final @NotNull DataOps<T> ops);
+
+    @Override
+    default <T> @NotNull T write(final @NotNull Integer value, final @NotNull DataOps<T> ops) {
+        return writeInt(value, ops);
+    }
+
+    @Override
+    default <T> @NotNull Integer readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        return readInt(input, ops);
+    }
+
+    @Override
+    default @NotNull IntFieldCodec fieldOf(final @NotNull String name) {
+        return new IntFieldCodec(name, this);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A value that is only decoded the first time it is used.
+ *
+ * <p>A lazy value keeps the input it was created from, and the operations
+ * and decoder to decode it with, until it is first used. It is then decoded
+ * once, and the result is kept, and the input dropped. Lazy values may be
+ * used from any thread, and will still only be decoded once.</p>
+ *
+ * <p>A lazy value that has never been decoded is encoded by giving back the
+ * input it was created from, as long as it is encoded with the same
+ * operations and codec that it would have been decoded with. This means that
+ * values that are passed through without being looked at are never decoded
+ * at all, and are kept exactly as they were.</p>
+ *
+ * @param <A> The value type.
+ * @see Codec#lazy()
+ */
+public final class Lazy<A> {
+
+    private volatile @Nullable Source<?, A> source;
+    private volatile @Nullable DataResult<A> result;
+
+    private Lazy(final @Nullable Source<?, A> source, final @Nullable DataResult<A> result) {
+        this.source = source;
+        this.result = result;
+    }
+
+    /**
+     * Creates a new lazy value that has already been decoded to the given
+     * value.
+     *
+     * @param value The value.
+     * @param <A> The value type.
+     * @return A new lazy value.
+     */
+    public static <A> @NotNull Lazy<A> of(final @NotNull A value) {
+        return new Lazy<>(null, DataResult.success(Objects.requireNonNull(value, "value")));
+    }
+
+    /**
+     * Creates a new lazy value that will decode the given input with the
+     * given operations and decoder when it is first used.
+     *
+     * <p>The operations must be {@link DataOps#isThreadSafe() thread safe},
+     * and the input must stay valid after decoding has finished, as it may
+     * be decoded later on any thread.</p>
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param decoder The decoder.
+     * @param <T> The data type.
+     * @param <A> The value type.
+     * @return A new lazy value.
+     */
+    public static <T, A> @NotNull Lazy<A> decoding(final @NotNull T input, final @NotNull DataOps<T> ops, final @NotNull Decoder<A> decoder) {
+        return new Lazy<>(new Source<>(input, ops, decoder), null);
+    }
+
+    /**
+     * Gets the result of decoding this value, decoding it if it hasn't been
+     * decoded yet.
+     *
+     * @return The result.
+     */
+    public @NotNull DataResult<A> result() {
+        final DataResult<A> existing = result;
+        if (existing != null) return existing;
+        synchronized (this) {
+            DataResult<A> decoded = result;
+            if (decoded == null) {
+                decoded = Objects.requireNonNull(source).decode();
+                result = decoded;
+                // The result has to be set before we drop the source, so that anyone who sees the source gone can find the result.
+                source = null;
+            }
+            return decoded;
+        }
+    }
+
+    /**
+     * Gets the decoded value, decoding it if it hasn't been decoded yet, and
+     * throwing an exception if it fails to decode.
+     *
+     * @return The value.
+     * @throws RuntimeException If decoding fails.
+     */
+    public @NotNull A get() {
+        return result().getOrThrow(false, error -> {});
+    }
+
+    /**
+     * Checks if this value has been decoded yet.
+     *
+     * @return Whether this value has been decoded.
+     */
+    public boolean isDecoded() {
+        return result != null;
+    }
+
+    /**
+     * Encodes this value with the given encoder.
+     *
+     * <p>If this value hasn't been decoded yet, and it would have been
+     * decoded with the given encoder and operations, the input it was created
+     * from is given back, without decoding it.</p>
+     *
+     * @param encoder The encoder.
+     * @param ops The data operations.
+     * @param prefix The prefix to append the result to.
+     * @param <T> The data type.
+     * @return The encoded result.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> @NotNull DataResult<T> encode(final @NotNull Encoder<A> encoder, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        final Source<?, A> unread = source;
+        if (unread != null && unread.ops() == ops && unread.decoder() == encoder && Objects.equals(prefix, ops.empty())) {
+            return DataResult.success((T) unread.input());
+        }
+        return result().flatMap(value -> encoder.encode(value, ops, prefix));
+    }
+
+    @Override
+    public String toString() {
+        final DataResult<A> decoded = result;
+        return "Lazy[" + (decoded != null ? decoded : "<not decoded>") + ']';
+    }
+
+    private record Source<T, A>(@NotNull T input, @NotNull DataOps<T> ops, @NotNull Decoder<A> decoder) {
+
+        @SuppressWarnings("MissingJavadocMethod")
+        Source {
+            Objects.requireNonNull(input, "input");
+            Objects.requireNonNull(ops, "ops");
+            Objects.requireNonNull(decoder, "decoder");
+        }
+
+        @NotNull DataResult<A> decode() {
+            return decoder.read(input, ops);
+        }
+    }
+}
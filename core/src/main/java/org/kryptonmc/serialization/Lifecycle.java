@@ -1,14 +1,26 @@
 package org.kryptonmc.serialization;
 
+import java.util.Arrays;
 import java.util.Objects;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Indicates the lifecycle of an object or process, such as a codec, or a data
  * result.
+ *
+ * <p>Lifecycle tracking can be disabled entirely by setting the
+ * {@code org.kryptonmc.serialization.disableLifecycles} system property to
+ * {@code true}. When disabled, every {@link DataResult}, and so every
+ * {@link RecordBuilder} and {@link ListBuilder}, will have the
+ * {@link #stable()} lifecycle, so that nothing that checks for stable results
+ * will treat them as experimental, and combining lifecycles will do no
+ * work.</p>
  */
 public class Lifecycle {
 
+    private static final boolean TRACKED = !Boolean.getBoolean("org.kryptonmc.serialization.disableLifecycles");
+    private static final int MAX_INTERNED_DEPRECATED = 64;
+
     private static final Lifecycle STABLE = new Lifecycle() {
         @Override
         public boolean equals(final Object o) {
@@ -60,15 +72,52 @@ public class Lifecycle {
         return EXPERIMENTAL;
     }
 
+    // There are only ever a handful of different since versions in use, so we keep the interned deprecated lifecycles in a small array.
+    private static volatile Deprecated[] internedDeprecated = new Deprecated[0];
+
     /**
-     * Creates a new deprecated lifecycle that is deprecated since the given
-     * since version.
+     * Gets the deprecated lifecycle that is deprecated since the given since
+     * version.
+     *
+     * <p>Deprecated lifecycles are interned, so calling this method multiple
+     * times with the same since version will usually return the same
+     * instance.</p>
      *
      * @param since The since version.
-     * @return A new deprecated lifecycle.
+     * @return The deprecated lifecycle.
      */
     public static @NotNull Lifecycle deprecated(final int since) {
-        return new Deprecated(since);
+        // Optimization: This is called every time methods such as Codec.deprecated are called, so we avoid allocating a new lifecycle each time.
+        for (final var deprecated : internedDeprecated) {
+            if (deprecated.since == since) return deprecated;
+        }
+        return internDeprecated(since);
+    }
+
+    private static synchronized @NotNull Deprecated internDeprecated(final int since) {
+        final var interned = internedDeprecated;
+        // Another thread may have interned the lifecycle since we last checked.
+        for (final var deprecated : interned) {
+            if (deprecated.since == since) return deprecated;
+        }
+        final var deprecated = new Deprecated(since);
+        if (interned.length >= MAX_INTERNED_DEPRECATED) return deprecated;
+
+        final var newInterned = Arrays.copyOf(interned, interned.length + 1);
+        newInterned[interned.length] = deprecated;
+        internedDeprecated = newInterned;
+        return deprecated;
+    }
+
+    /**
+     * Checks if lifecycles are being tracked.
+     *
+     * <p>See the class documentation for how to disable tracking.</p>
+     *
+     * @return True if lifecycles are tracked, false otherwise.
+     */
+    public static boolean isTracked() {
+        return TRACKED;
     }
 
     private Lifecycle() {
@@ -114,6 +163,9 @@ public class Lifecycle {
         /**
          * Creates a new deprecated lifecycle with the given since version.
          *
+         * <p>{@link Lifecycle#deprecated(int)} should be preferred over this,
+         * as it will return an existing instance where possible.</p>
+         *
          * @param since The since version.
          */
         public Deprecated(final int since) {
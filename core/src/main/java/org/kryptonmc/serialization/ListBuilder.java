@@ -115,7 +115,7 @@ public non-sealed interface ListBuilder<T> extends CompoundTypeBuilder<T> {
     final class Default<T> implements ListBuilder<T> {
 
         private final DataOps<T> ops;
-        private DataResult<ImmutableList.Builder<T>> builder = DataResult.success(ImmutableList.builder(), Lifecycle.stable());
+        private DataResult<ImmutableList.Builder<T>> builder;
 
         /**
          * Creates a new default builder with the given ops.
@@ -124,6 +124,20 @@ public non-sealed interface ListBuilder<T> extends CompoundTypeBuilder<T> {
          */
         public Default(final @NotNull DataOps<T> ops) {
             this.ops = ops;
+            builder = DataResult.success(ImmutableList.builder(), Lifecycle.stable());
+        }
+
+        /**
+         * Creates a new default builder with the given ops, which is presized
+         * to hold the given number of values.
+         *
+         * @param ops The data operations.
+         * @param expectedSize The expected number of values.
+         */
+        public Default(final @NotNull DataOps<T> ops, final int expectedSize) {
+            this.ops = ops;
+            // Only the first builder is presized, as we don't know how many values will be added after it is built.
+            builder = DataResult.success(ImmutableList.builderWithExpectedSize(expectedSize), Lifecycle.stable());
         }
 
         @Override
@@ -0,0 +1,63 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import org.jetbrains.annotations.NotNull;
+import org.kryptonmc.serialization.codecs.LongFieldCodec;
+
+/**
+ * A codec for a long value, which can read and write the value without
+ * boxing it.
+ *
+ * <p>The boxed methods inherited from {@link Codec} will still work as
+ * normal, but the direct decoding path, and codecs that know they are
+ * working with long values, such as {@link LongFieldCodec}, will use
+ * {@link #readLong(Object, DataOps)} and
+ * {@link #writeLong(long, DataOps)} instead.</p>
+ */
+public interface LongCodec extends PrimitiveCodec<Long> {
+
+    /**
+     * Reads the given input as a long value with the given ops,
+     * throwing {@link FailFastException#INSTANCE} if the input cannot be
+     * read.
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The value.
+     * @throws FailFastException If the input cannot be read.
+     */
+    <T> long readLong(final @NotNull T input, final @NotNull DataOps<T> ops);
+
+    /**
+     * Writes the given long value with the given ops.
+     *
+     * @param value The value.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The written value.
+     */
+    <T> @NotNull T writeLong(final long value, final @NotNull DataOps<T> ops);
+
+    @Override
+    default <T> @NotNull T write(final @NotNull Long value, final @NotNull DataOps<T> ops) {
+        return writeLong(value, ops);
+    }
+
+    @Override
+    default <T> @NotNull Long readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        return readLong(input, ops);
+    }
+
+    @Override
+    default @NotNull LongFieldCodec fieldOf(final @NotNull String name) {
+        return new LongFieldCodec(name, this);
+    }
+}
@@ -76,6 +76,22 @@ public interface MapCodec<A> extends MapEncoder<A>, MapDecoder<A> {
                 return encoder.encode(input, ops, prefix);
             }
 
+            @Override
+            public <T> @NotNull A decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                return decoder.decodeDirect(input, ops);
+            }
+
+            @Override
+            public <T> @NotNull RecordBuilder<T> encodeDirect(final A input, final @NotNull DataOps<T> ops,
+                                                              final @NotNull RecordBuilder<T> prefix) {
+                return encoder.encodeDirect(input, ops, prefix);
+            }
+
+            @Override
+            public int expectedSize() {
+                return encoder.expectedSize();
+            }
+
             @Override
             public String toString() {
                 return name.get();
@@ -195,6 +211,11 @@ public interface MapCodec<A> extends MapEncoder<A>, MapDecoder<A> {
                 return MapCodec.this.encode(input, ops, prefix).lifecycle(lifecycle);
             }
 
+            @Override
+            public int expectedSize() {
+                return MapCodec.this.expectedSize();
+            }
+
             @Override
             public String toString() {
                 return MapCodec.this.toString();
@@ -268,7 +289,11 @@ public interface MapCodec<A> extends MapEncoder<A>, MapDecoder<A> {
             @Override
             public <T> @NotNull DataResult<A> apply(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops,
                                                     final @NotNull DataResult<A> result) {
-                return DataResult.success(result.mapError(onError).result().orElse(value));
+                final A decoded = result.getOrNull();
+                if (decoded != null) return DataResult.success(decoded);
+                // The error message is rendered lazily, so mapping it would never call the handler for a result we're discarding.
+                onError.apply(result.error().orElseThrow().message());
+                return DataResult.success(value);
             }
 
             @Override
@@ -314,7 +339,11 @@ public interface MapCodec<A> extends MapEncoder<A>, MapDecoder<A> {
             @Override
             public <T> @NotNull DataResult<A> apply(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops,
                                                     final @NotNull DataResult<A> result) {
-                return DataResult.success(result.mapError(onError).result().orElseGet(value));
+                final A decoded = result.getOrNull();
+                if (decoded != null) return DataResult.success(decoded);
+                // The error message is rendered lazily, so mapping it would never call the handler for a result we're discarding.
+                onError.apply(result.error().orElseThrow().message());
+                return DataResult.success(value.get());
             }
 
             @Override
@@ -343,7 +372,9 @@ public interface MapCodec<A> extends MapEncoder<A>, MapDecoder<A> {
             @Override
             public <T> @NotNull DataResult<A> apply(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops,
                                                     final @NotNull DataResult<A> result) {
-                return DataResult.success(result.result().orElse(value));
+                final A decoded = result.getOrNull();
+                if (decoded != null) return DataResult.success(decoded);
+                return DataResult.success(value);
             }
 
             @Override
@@ -373,7 +404,9 @@ public interface MapCodec<A> extends MapEncoder<A>, MapDecoder<A> {
             @Override
             public <T> @NotNull DataResult<A> apply(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops,
                                                     final @NotNull DataResult<A> result) {
-                return DataResult.success(result.result().orElseGet(value));
+                final A decoded = result.getOrNull();
+                if (decoded != null) return DataResult.success(decoded);
+                return DataResult.success(value.get());
             }
 
             @Override
@@ -512,7 +545,17 @@ public interface MapCodec<A> extends MapEncoder<A>, MapDecoder<A> {
 
         @Override
         public <T> @NotNull DataResult<T> encode(final @NotNull A input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
-            return codec.encode(input, ops, ops.mapBuilder()).build(prefix);
+            return codec.encode(input, ops, ops.mapBuilder(codec.expectedSize())).build(prefix);
+        }
+
+        @Override
+        public <T> @NotNull A readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+            return codec.decodeDirect(input, ops);
+        }
+
+        @Override
+        public <T> @NotNull T encodeDirect(final @NotNull A input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+            return FailFastException.unwrap(codec.encodeDirect(input, ops, ops.mapBuilder(codec.expectedSize())).build(prefix));
         }
 
         @Override
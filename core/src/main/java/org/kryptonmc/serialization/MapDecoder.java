@@ -57,6 +57,44 @@ public interface MapDecoder<A> {
         return ops.getMap(input).withLifecycle(Lifecycle.stable()).flatMap(map -> decode(map, ops));
     }
 
+    /**
+     * Decodes the given input data to the standard type that this decoder is
+     * for, without wrapping the result in a {@link DataResult}, throwing
+     * {@link FailFastException#INSTANCE} at the first failure.
+     *
+     * <p>The default implementation simply unwraps the result of
+     * {@link #decode(MapLike, DataOps)}, so decoders that can decode without
+     * building data results should override this.</p>
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The decoded value.
+     * @throws FailFastException If decoding fails.
+     * @see Decoder#readDirect(Object, DataOps)
+     */
+    default <T> @NotNull A decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        return FailFastException.unwrap(decode(input, ops));
+    }
+
+    /**
+     * Decodes the given input data to the standard type that this decoder is
+     * for, without wrapping the result in a {@link DataResult}, throwing
+     * {@link FailFastException#INSTANCE} at the first failure.
+     *
+     * <p>This uses the operations to convert the input to a map-like
+     * structure.</p>
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The decoded value.
+     * @throws FailFastException If decoding fails.
+     */
+    default <T> @NotNull A decodeDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        return decodeDirect(FailFastException.unwrap(ops.getMap(input)), ops);
+    }
+
     /**
      * Maps this decoder to a new decoder, using the given function to map
      * results from this decoder to a new type for the new decoder.
@@ -75,6 +113,11 @@ public interface MapDecoder<A> {
                 return MapDecoder.this.decode(input, ops).map(mapper);
             }
 
+            @Override
+            public <T> @NotNull B decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                return mapper.apply(MapDecoder.this.decodeDirect(input, ops));
+            }
+
             @Override
             public String toString() {
                 return MapDecoder.this + "[mapped]";
@@ -126,6 +169,11 @@ public interface MapDecoder<A> {
                 return MapDecoder.this.decode(input, ops).withLifecycle(lifecycle);
             }
 
+            @Override
+            public <T> @NotNull A decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                return MapDecoder.this.decodeDirect(input, ops);
+            }
+
             @Override
             public String toString() {
                 return MapDecoder.this.toString();
@@ -148,6 +196,11 @@ public interface MapDecoder<A> {
                 return MapDecoder.this.decode(input, ops).map(result -> Pair.of(result, input));
             }
 
+            @Override
+            public <T> @NotNull A readDirect(final T input, final @NotNull DataOps<T> ops) {
+                return MapDecoder.this.decodeDirect(input, ops);
+            }
+
             @Override
             public String toString() {
                 return MapDecoder.this.toString();
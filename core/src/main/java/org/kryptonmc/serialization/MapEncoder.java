@@ -42,6 +42,42 @@ public interface MapEncoder<A> {
      */
     <T> @NotNull RecordBuilder<T> encode(final A input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix);
 
+    /**
+     * Encodes the given input type to the given output data type, using the
+     * direct path of any encoders that this map encoder delegates to.
+     *
+     * <p>Errors from this path may either be thrown as
+     * {@link FailFastException#INSTANCE} or recorded in the prefix, as
+     * normal, and will be found when the prefix is built. The default
+     * implementation simply calls
+     * {@link #encode(Object, DataOps, RecordBuilder)}.</p>
+     *
+     * @param input The input.
+     * @param ops The data operations.
+     * @param prefix The prefix to append the results to.
+     * @param <T> The data type.
+     * @return The encoded value.
+     * @throws FailFastException If encoding fails.
+     * @see Encoder#encodeDirect(Object, DataOps, Object)
+     */
+    default <T> @NotNull RecordBuilder<T> encodeDirect(final A input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+        return encode(input, ops, prefix);
+    }
+
+    /**
+     * Gets the number of entries that this encoder is expected to add to the
+     * record builder it encodes to, or 0 if it is not known.
+     *
+     * <p>This is only used as a hint to presize the record builders that
+     * values are encoded to, so it does not need to be exact.</p>
+     *
+     * @return The expected number of entries.
+     * @see DataOps#mapBuilder(int)
+     */
+    default int expectedSize() {
+        return 0;
+    }
+
     /**
      * Maps this map encoder to a new map encoder, using the given function to
      * map results from this encoder to a new type for the new map encoder.
@@ -63,6 +99,17 @@ public interface MapEncoder<A> {
                 return MapEncoder.this.encode(function.apply(input), ops, prefix);
             }
 
+            @Override
+            public <T> @NotNull RecordBuilder<T> encodeDirect(final B input, final @NotNull DataOps<T> ops,
+                                                              final @NotNull RecordBuilder<T> prefix) {
+                return MapEncoder.this.encodeDirect(function.apply(input), ops, prefix);
+            }
+
+            @Override
+            public int expectedSize() {
+                return MapEncoder.this.expectedSize();
+            }
+
             @Override
             public String toString() {
                 return MapEncoder.this + "[comapped]";
@@ -94,7 +141,13 @@ public interface MapEncoder<A> {
             public <T> @NotNull RecordBuilder<T> encode(final B input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
                 final var aResult = function.apply(input);
                 final var builder = prefix.withErrorsFrom(aResult);
-                return aResult.map(result -> MapEncoder.this.encode(result, ops, builder)).result().orElse(builder);
+                final A result = aResult.getOrNull();
+                return result != null ? MapEncoder.this.encode(result, ops, builder) : builder;
+            }
+
+            @Override
+            public int expectedSize() {
+                return MapEncoder.this.expectedSize();
             }
 
             @Override
@@ -120,6 +173,11 @@ public interface MapEncoder<A> {
                 return MapEncoder.this.encode(input, ops, prefix).lifecycle(lifecycle);
             }
 
+            @Override
+            public int expectedSize() {
+                return MapEncoder.this.expectedSize();
+            }
+
             @Override
             public String toString() {
                 return MapEncoder.this.toString();
@@ -140,7 +198,7 @@ public interface MapEncoder<A> {
         return new Encoder<>() {
             @Override
             public <T> @NotNull DataResult<T> encode(final A input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
-                return MapEncoder.this.encode(input, ops, ops.mapBuilder()).build(prefix);
+                return MapEncoder.this.encode(input, ops, ops.mapBuilder(expectedSize())).build(prefix);
             }
 
             @Override
@@ -15,6 +15,7 @@ package org.kryptonmc.serialization;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -51,11 +52,27 @@ public interface MapLike<T> {
                 return get(ops.createString(key));
             }
 
+            @Override
+            public @Nullable T get(final @NotNull FieldKey key) {
+                // Optimization: The key is only created once for these ops, rather than every time we look it up.
+                return get(ops.createKey(key));
+            }
+
             @Override
             public @NotNull Stream<Pair<T, T>> entries() {
                 return map.entrySet().stream().map(entry -> Pair.of(entry.getKey(), entry.getValue()));
             }
 
+            @Override
+            public void forEachEntry(final @NotNull BiConsumer<T, T> consumer) {
+                map.forEach(consumer);
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+
             @Override
             public String toString() {
                 return "MapLike[" + map + "]";
@@ -81,10 +98,53 @@ public interface MapLike<T> {
      */
     @Nullable T get(final @NotNull String key);
 
+    /**
+     * Gets the value for the given field key, or returns null if there is no
+     * value for the given key.
+     *
+     * <p>Implementations that need to create keys to look up values should
+     * override this to use {@link DataOps#createKey(FieldKey)}, so that the
+     * key is only created once by data operations that cache their keys.</p>
+     *
+     * @param key The key.
+     * @return The value, or null if not present.
+     */
+    default @Nullable T get(final @NotNull FieldKey key) {
+        return get(key.name());
+    }
+
     /**
      * Gets the entries that are held by this map-like structure.
      *
      * @return The entries.
      */
     @NotNull Stream<Pair<T, T>> entries();
+
+    /**
+     * Calls the given consumer with the key and value of every entry held by
+     * this map-like structure.
+     *
+     * <p>Unlike {@link #entries()}, this does not need to create a stream or
+     * a pair for every entry, so implementations should override this to
+     * iterate their entries directly.</p>
+     *
+     * @param consumer The consumer to call with each key and value.
+     */
+    default void forEachEntry(final @NotNull BiConsumer<T, T> consumer) {
+        entries().forEach(entry -> consumer.accept(entry.first(), entry.second()));
+    }
+
+    /**
+     * Gets the number of entries held by this map-like structure.
+     *
+     * <p>This is only used to presize the collections that entries are added
+     * to, so it returns 0, meaning that the number of entries isn't known, by
+     * default. Implementations that know how many entries they hold without
+     * reading all of them should override this.</p>
+     *
+     * @return The number of entries, or 0 if it isn't known.
+     */
+    default int size() {
+        return 0;
+    }
 }
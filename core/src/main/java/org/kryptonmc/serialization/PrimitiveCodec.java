@@ -32,4 +32,11 @@ interface PrimitiveCodec<A> extends Codec<A> {
     default <T> @NotNull DataResult<T> encode(final @NotNull A input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
         return ops.mergeToPrimitive(prefix, write(input, ops));
     }
+
+    @Override
+    default <T> @NotNull T encodeDirect(final @NotNull A input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        // Optimization: Primitives are almost always encoded with an empty prefix, in which case there's nothing to merge with.
+        if (prefix == ops.empty()) return write(input, ops);
+        return FailFastException.unwrap(ops.mergeToPrimitive(prefix, write(input, ops)));
+    }
 }
@@ -87,6 +87,32 @@ public non-sealed interface RecordBuilder<T> extends CompoundTypeBuilder<T> {
         return add(ops().createString(key), value);
     }
 
+    /**
+     * Adds the given key and value to the record type being built by this
+     * builder, mapping the key to the value.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return This builder.
+     */
+    @Contract(value = "_, _ -> this", mutates = "this")
+    default @NotNull RecordBuilder<T> add(final @NotNull FieldKey key, final @NotNull T value) {
+        return add(ops().createKey(key), value);
+    }
+
+    /**
+     * Adds the given key and value to the record type being built by this
+     * builder, mapping the key to the value.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return This builder.
+     */
+    @Contract(value = "_, _ -> this", mutates = "this")
+    default @NotNull RecordBuilder<T> add(final @NotNull FieldKey key, final @NotNull DataResult<T> value) {
+        return add(ops().createKey(key), value);
+    }
+
     /**
      * Adds the given key and value to the record type being built by this
      * builder, encoding the result with the given encoder and mapping the
@@ -103,6 +129,38 @@ public non-sealed interface RecordBuilder<T> extends CompoundTypeBuilder<T> {
         return add(key, encoder.encodeStart(value, ops()));
     }
 
+    /**
+     * Adds the given key and value to the record type being built by this
+     * builder, encoding the result with the given encoder and mapping the
+     * result to the key.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @param encoder The encoder used to encode the value.
+     * @param <E> The type of the value being encoded.
+     * @return This builder.
+     */
+    @Contract(value = "_, _, _ -> this", mutates = "this")
+    default <E> @NotNull RecordBuilder<T> add(final @NotNull FieldKey key, final @NotNull E value, final @NotNull Encoder<E> encoder) {
+        return add(key, encoder.encodeStart(value, ops()));
+    }
+
+    /**
+     * Adds the given key and value to the record type being built by this
+     * builder, encoding the result with the given encoder and mapping the
+     * result to the key.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @param encoder The encoder used to encode the value.
+     * @param <E> The type of the value being encoded.
+     * @return This builder.
+     */
+    @Contract(value = "_, _, _ -> this", mutates = "this")
+    default <E> @NotNull RecordBuilder<T> add(final @NotNull DataResult<T> key, final @NotNull E value, final @NotNull Encoder<E> encoder) {
+        return add(key, encoder.encodeStart(value, ops()));
+    }
+
     /**
      * Adds all the errors, if any, from the given result to the result being
      * built by this builder.
@@ -245,6 +303,16 @@ public non-sealed interface RecordBuilder<T> extends CompoundTypeBuilder<T> {
             return this;
         }
 
+        @Override
+        public @NotNull RecordBuilder<T> add(final @NotNull FieldKey key, final @NotNull T value) {
+            return add(key.name(), value);
+        }
+
+        @Override
+        public @NotNull RecordBuilder<T> add(final @NotNull FieldKey key, final @NotNull DataResult<T> value) {
+            return add(key.name(), value);
+        }
+
         @Override
         public @NotNull RecordBuilder<T> add(final @NotNull T key, final @NotNull T value) {
             builder = ops().getStringValue(key).flatMap(k -> {
@@ -335,6 +403,19 @@ public non-sealed interface RecordBuilder<T> extends CompoundTypeBuilder<T> {
             super(ops);
         }
 
+        /**
+         * Creates a new default record builder with the given ops, which is
+         * presized to hold the given number of entries.
+         *
+         * @param ops The data operations.
+         * @param expectedSize The expected number of entries.
+         */
+        public Default(final @NotNull DataOps<T> ops, final int expectedSize) {
+            super(ops);
+            // Only the first builder is presized, as we don't know how many entries will be added after it is built.
+            builder = DataResult.success(ImmutableMap.builderWithExpectedSize(expectedSize), Lifecycle.stable());
+        }
+
         @Override
         protected @NotNull ImmutableMap.Builder<T, T> createBuilder() {
             return ImmutableMap.builder();
@@ -0,0 +1,396 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.util.Pair;
+
+/**
+ * Converts values from one data type to another, by visiting the input with
+ * its data operations and creating the output with the output operations.
+ *
+ * <p>Lists and maps are converted with an explicit stack rather than by
+ * recursion, so converting deeply nested values uses a constant amount of
+ * the call stack. Primitives and primitive arrays are converted without
+ * boxing them.</p>
+ *
+ * <p>Large values can also be converted in parallel, which splits lists and
+ * maps that have more than a certain number of values in to tasks that are
+ * converted in a fork/join pool. The output is the same as converting
+ * sequentially, with lists and maps kept in the same order.</p>
+ *
+ * @param <T> The input data type.
+ * @param <U> The output data type.
+ */
+public final class Transcoder<T, U> implements DataVisitor<T> {
+
+    /**
+     * The default number of values that a list or map must have more than
+     * for it to be converted in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
+    private final DataOps<T> inOps;
+    private final DataOps<U> outOps;
+    // Lists and maps with more than this many values are converted in parallel.
+    private final int parallelThreshold;
+    private @Nullable ArrayDeque<Frame<T, U>> stack;
+    // The last value that was converted, which is waiting to be added to the list or map it is in, or returned.
+    private @Nullable U value;
+
+    /**
+     * Converts the given input from the given input operations to the given
+     * output operations.
+     *
+     * @param inOps The input data operations.
+     * @param outOps The output data operations.
+     * @param input The input value.
+     * @param <T> The input data type.
+     * @param <U> The output data type.
+     * @return The converted value.
+     */
+    public static <T, U> @NotNull U convert(final @NotNull DataOps<T> inOps, final @NotNull DataOps<U> outOps, final @NotNull T input) {
+        return new Transcoder<>(inOps, outOps, Integer.MAX_VALUE).convert(input);
+    }
+
+    /**
+     * Converts the given input from the given input operations to the given
+     * output operations in parallel, in the common fork/join pool, with the
+     * {@link #DEFAULT_PARALLEL_THRESHOLD default threshold}.
+     *
+     * @param inOps The input data operations.
+     * @param outOps The output data operations.
+     * @param input The input value.
+     * @param <T> The input data type.
+     * @param <U> The output data type.
+     * @return The converted value.
+     * @see #convertParallel(DataOps, DataOps, Object, ForkJoinPool, int)
+     */
+    public static <T, U> @NotNull U convertParallel(final @NotNull DataOps<T> inOps, final @NotNull DataOps<U> outOps,
+                                                    final @NotNull T input) {
+        return convertParallel(inOps, outOps, input, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Converts the given input from the given input operations to the given
+     * output operations in parallel.
+     *
+     * <p>Any list or map in the input, at any depth, that has more than the
+     * given number of values is split in to tasks that are converted in the
+     * given pool. Smaller values are converted sequentially, as they aren't
+     * worth the cost of splitting.</p>
+     *
+     * <p>If either of the operations is not
+     * {@link DataOps#isThreadSafe() thread safe}, such as operations that
+     * read from or write to a stream, the input is converted sequentially
+     * instead.</p>
+     *
+     * @param inOps The input data operations.
+     * @param outOps The output data operations.
+     * @param input The input value.
+     * @param pool The pool to convert in.
+     * @param threshold The number of values a list or map must have more
+     *                  than to be converted in parallel.
+     * @param <T> The input data type.
+     * @param <U> The output data type.
+     * @return The converted value.
+     */
+    public static <T, U> @NotNull U convertParallel(final @NotNull DataOps<T> inOps, final @NotNull DataOps<U> outOps,
+                                                    final @NotNull T input, final @NotNull ForkJoinPool pool, final int threshold) {
+        if (threshold < 1) throw new IllegalArgumentException("Threshold must be at least 1, was " + threshold + "!");
+        if (!inOps.isThreadSafe() || !outOps.isThreadSafe()) return convert(inOps, outOps, input);
+        return pool.invoke(ForkJoinTask.adapt(() -> new Transcoder<>(inOps, outOps, threshold).convert(input)));
+    }
+
+    private Transcoder(final @NotNull DataOps<T> inOps, final @NotNull DataOps<U> outOps, final int parallelThreshold) {
+        this.inOps = inOps;
+        this.outOps = outOps;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    private @NotNull U convert(final @NotNull T input) {
+        // We may be converting a map key while converting the map, so we only finish the frames that this conversion started.
+        final int base = depth();
+        inOps.visit(input, this);
+        while (depth() > base) {
+            final Frame<T, U> frame = stack.peek();
+            if (value != null) frame.add(take());
+            if (!frame.visitNext(this)) {
+                stack.pop();
+                value = frame.build();
+            }
+        }
+        return take();
+    }
+
+    private int depth() {
+        return stack != null ? stack.size() : 0;
+    }
+
+    private void push(final @NotNull Frame<T, U> frame) {
+        if (stack == null) stack = new ArrayDeque<>();
+        stack.push(frame);
+    }
+
+    private @NotNull U take() {
+        final U result = value;
+        if (result == null) throw new IllegalStateException("The input operations did not visit the value!");
+        value = null;
+        return result;
+    }
+
+    @Override
+    public void visitEmpty() {
+        value = outOps.empty();
+    }
+
+    @Override
+    public void visitBoolean(final boolean value) {
+        this.value = outOps.createBoolean(value);
+    }
+
+    @Override
+    public void visitByte(final byte value) {
+        this.value = outOps.createByte(value);
+    }
+
+    @Override
+    public void visitShort(final short value) {
+        this.value = outOps.createShort(value);
+    }
+
+    @Override
+    public void visitInt(final int value) {
+        this.value = outOps.createInt(value);
+    }
+
+    @Override
+    public void visitLong(final long value) {
+        this.value = outOps.createLong(value);
+    }
+
+    @Override
+    public void visitFloat(final float value) {
+        this.value = outOps.createFloat(value);
+    }
+
+    @Override
+    public void visitDouble(final double value) {
+        this.value = outOps.createDouble(value);
+    }
+
+    @Override
+    public void visitString(final @NotNull String value) {
+        this.value = outOps.createString(value);
+    }
+
+    @Override
+    public void visitByteArray(final byte @NotNull [] value) {
+        this.value = outOps.createByteArray(value);
+    }
+
+    @Override
+    public void visitIntArray(final int @NotNull [] value) {
+        this.value = outOps.createIntArray(value);
+    }
+
+    @Override
+    public void visitLongArray(final long @NotNull [] value) {
+        this.value = outOps.createLongArray(value);
+    }
+
+    @Override
+    public void visitList(final @NotNull List<T> elements) {
+        if (elements.size() > parallelThreshold) {
+            value = outOps.createList(Arrays.stream(convertAll(elements)));
+            return;
+        }
+        push(new ListFrame<>(outOps, elements));
+    }
+
+    @Override
+    public void visitMap(final @NotNull MapLike<T> entries) {
+        if (entries.size() > parallelThreshold) {
+            final List<T> keysAndValues = MapFrame.keysAndValues(entries);
+            final U[] converted = convertAll(keysAndValues);
+            final List<Pair<U, U>> result = new ArrayList<>(converted.length / 2);
+            for (int i = 0; i < converted.length; i += 2) {
+                result.add(Pair.of(converted[i], converted[i + 1]));
+            }
+            value = outOps.createMap(result.stream());
+            return;
+        }
+        push(new MapFrame<>(outOps, entries));
+    }
+
+    // Converts all of the given values in parallel, keeping them in the same order. This must only be called from within the pool.
+    @SuppressWarnings("unchecked")
+    private U @NotNull [] convertAll(final @NotNull List<T> values) {
+        final List<T> input = values instanceof RandomAccess ? values : new ArrayList<>(values);
+        final var output = (U[]) new Object[input.size()];
+        new ConvertTask<>(inOps, outOps, parallelThreshold, input, output, 0, output.length).invoke();
+        return output;
+    }
+
+    /**
+     * A list or map that is being converted.
+     */
+    private interface Frame<T, U> {
+
+        /**
+         * Visits the next value in this list or map with the given transcoder.
+         *
+         * @param transcoder The transcoder.
+         * @return Whether there was a value to visit.
+         */
+        boolean visitNext(final @NotNull Transcoder<T, U> transcoder);
+
+        /**
+         * Adds the value that was just converted to this list or map.
+         *
+         * @param value The value.
+         */
+        void add(final @NotNull U value);
+
+        @NotNull U build();
+    }
+
+    private static final class ListFrame<T, U> implements Frame<T, U> {
+
+        private final DataOps<U> outOps;
+        private final Iterator<T> elements;
+        // We don't use a list builder here, as some operations, like NBT's, create a different type of list from a stream of values than
+        // they do from a builder, and we need to create the same value that converting used to.
+        private final List<U> result;
+
+        ListFrame(final @NotNull DataOps<U> outOps, final @NotNull List<T> elements) {
+            this.outOps = outOps;
+            this.elements = elements.iterator();
+            result = elements instanceof RandomAccess ? new ArrayList<>(elements.size()) : new ArrayList<>();
+        }
+
+        @Override
+        public boolean visitNext(final @NotNull Transcoder<T, U> transcoder) {
+            if (!elements.hasNext()) return false;
+            transcoder.inOps.visit(elements.next(), transcoder);
+            return true;
+        }
+
+        @Override
+        public void add(final @NotNull U value) {
+            result.add(value);
+        }
+
+        @Override
+        public @NotNull U build() {
+            return outOps.createList(result.stream());
+        }
+    }
+
+    private static final class MapFrame<T, U> implements Frame<T, U> {
+
+        private final DataOps<U> outOps;
+        // The keys and values of the map, one after the other. We need to be able to stop between entries to convert their values, which
+        // forEachEntry doesn't let us do, and entries creates a pair for every entry.
+        private final List<T> entries;
+        // Like lists, we create maps from a stream of entries, rather than with a record builder, so that an entry that the builder
+        // rejects doesn't lose the whole map, and we create the same value that converting used to.
+        private final List<Pair<U, U>> result;
+        private int index;
+        private @Nullable U key;
+
+        MapFrame(final @NotNull DataOps<U> outOps, final @NotNull MapLike<T> map) {
+            this.outOps = outOps;
+            entries = keysAndValues(map);
+            result = new ArrayList<>(entries.size() / 2);
+        }
+
+        static <T> @NotNull List<T> keysAndValues(final @NotNull MapLike<T> map) {
+            final List<T> result = new ArrayList<>(map.size() * 2);
+            map.forEachEntry((key, value) -> {
+                result.add(key);
+                result.add(value);
+            });
+            return result;
+        }
+
+        @Override
+        public boolean visitNext(final @NotNull Transcoder<T, U> transcoder) {
+            if (index == entries.size()) return false;
+            // Keys are almost always strings, so we convert them straight away, and only put the value on the stack.
+            key = transcoder.convert(entries.get(index));
+            transcoder.inOps.visit(entries.get(index + 1), transcoder);
+            index += 2;
+            return true;
+        }
+
+        @Override
+        public void add(final @NotNull U value) {
+            result.add(Pair.of(key, value));
+            key = null;
+        }
+
+        @Override
+        public @NotNull U build() {
+            return outOps.createMap(result.stream());
+        }
+    }
+
+    /**
+     * Converts a range of values in parallel, splitting it in half until the
+     * ranges are small enough to convert sequentially.
+     */
+    @SuppressWarnings("serial") // Tasks are never serialized.
+    private static final class ConvertTask<T, U> extends RecursiveAction {
+
+        private final DataOps<T> inOps;
+        private final DataOps<U> outOps;
+        private final int threshold;
+        private final List<T> input;
+        private final U[] output;
+        private final int from;
+        private final int to;
+
+        ConvertTask(final @NotNull DataOps<T> inOps, final @NotNull DataOps<U> outOps, final int threshold, final @NotNull List<T> input,
+                    final U @NotNull [] output, final int from, final int to) {
+            this.inOps = inOps;
+            this.outOps = outOps;
+            this.threshold = threshold;
+            this.input = input;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                // Values in this range may be large lists or maps themselves, which this transcoder will split again.
+                final var transcoder = new Transcoder<>(inOps, outOps, threshold);
+                for (int i = from; i < to; i++) {
+                    output[i] = transcoder.convert(input.get(i));
+                }
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new ConvertTask<>(inOps, outOps, threshold, input, output, from, middle),
+                    new ConvertTask<>(inOps, outOps, threshold, input, output, middle, to));
+        }
+    }
+}
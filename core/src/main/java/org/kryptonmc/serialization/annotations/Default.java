@@ -0,0 +1,36 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Makes the annotated record component an optional field in a generated
+ * codec, which uses the value of the given constant when the field is not
+ * present, and is not encoded when its value is equal to the constant.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Default {
+
+    /**
+     * The name of a static field in the record that holds the default value.
+     *
+     * <p>The field must not be private, so that the generated codec can
+     * access it.</p>
+     *
+     * @return The name of the default value field.
+     */
+    String value();
+}
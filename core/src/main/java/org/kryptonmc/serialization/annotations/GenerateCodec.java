@@ -0,0 +1,38 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that a codec should be generated for the annotated record at
+ * compile time by the serialization processor.
+ *
+ * <p>For a record named {@code Person}, the processor will generate a class
+ * named {@code PersonCodec} in the same package, which has a
+ * {@code MAP_CODEC} and a {@code CODEC} for the record. For nested records,
+ * the names of the enclosing types are included, separated by underscores,
+ * such as {@code Outer_PersonCodec}.</p>
+ *
+ * <p>Each component of the record is encoded as a field with the name of the
+ * component, which can be changed with {@link FieldName}. Components with a
+ * type of {@link java.util.Optional} are optional fields, and components
+ * annotated with {@link Default} use a default value when they are not
+ * present. The codec for each component is found from its type, or can be
+ * given explicitly with {@link WithCodec}.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateCodec {
+}
@@ -0,0 +1,38 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the codec that will be used for the value of the annotated record
+ * component in a generated codec, rather than finding one from the type of
+ * the component.
+ *
+ * <p>For components with a type of {@link java.util.Optional}, this is the
+ * codec for the value inside the optional.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface WithCodec {
+
+    /**
+     * The fully qualified name of a static field that holds the codec, such
+     * as {@code org.example.Position.CODEC}. The field must not be private,
+     * and must be a codec for the type of the component.
+     *
+     * @return The codec field.
+     */
+    String value();
+}
@@ -0,0 +1,13 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+/**
+ * This package contains the annotations used to generate codecs at compile
+ * time with the serialization processor.
+ */
+package org.kryptonmc.serialization.annotations;
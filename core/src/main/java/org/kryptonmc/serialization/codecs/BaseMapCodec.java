@@ -13,18 +13,20 @@
  */
 package org.kryptonmc.serialization.codecs;
 
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kryptonmc.serialization.Codec;
 import org.kryptonmc.serialization.DataOps;
 import org.kryptonmc.serialization.DataResult;
-import org.kryptonmc.serialization.Lifecycle;
+import org.kryptonmc.serialization.FailFastException;
 import org.kryptonmc.serialization.MapLike;
 import org.kryptonmc.serialization.RecordBuilder;
 import org.kryptonmc.util.Pair;
-import org.kryptonmc.util.Unit;
 
 /**
  * The base map codec implementation that contains the common logic for the
@@ -49,6 +51,22 @@ public sealed interface BaseMapCodec<K, V> permits SimpleMapCodec, UnboundedMapC
      */
     @NotNull Codec<V> valueCodec();
 
+    /**
+     * Gets the factory used to create the maps that inputs are decoded in to,
+     * or null if inputs should be decoded to immutable maps.
+     *
+     * <p>The factory is given the number of entries in the input, and must
+     * return a new, empty, mutable map every time it is called, which will
+     * then be owned by the caller of decode. Unlike immutable maps, which
+     * reject duplicate keys, maps created by the factory keep the last value
+     * decoded for a key.</p>
+     *
+     * @return The map factory, or null if there isn't one.
+     */
+    default @Nullable IntFunction<? extends Map<K, V>> factory() {
+        return null;
+    }
+
     /**
      * Decodes the input map to an immutable map with the given ops.
      *
@@ -58,25 +76,76 @@ public sealed interface BaseMapCodec<K, V> permits SimpleMapCodec, UnboundedMapC
      * @return The decoded map.
      */
     default <T> @NotNull DataResult<Map<K, V>> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
-        final ImmutableMap.Builder<K, V> read = ImmutableMap.builder();
-        final ImmutableList.Builder<Pair<T, T>> failed = ImmutableList.builder();
+        final IntFunction<? extends Map<K, V>> factory = factory();
+        final Map<K, V> owned = factory != null ? factory.apply(input.size()) : null;
+        final ImmutableMap.Builder<K, V> builder = owned == null ? ImmutableMap.builderWithExpectedSize(input.size()) : null;
+        final BiConsumer<K, V> read = owned != null ? owned::put : builder::put;
+        // Optimization: We accumulate the lifecycle and errors in place, rather than combining a new result for every entry, and only
+        // create the list of failed entries when one actually fails.
+        final DataResult.Accumulator<Pair<T, T>> result = new DataResult.Accumulator<>();
 
-        final DataResult<Unit> result = input.entries().reduce(DataResult.success(Unit.INSTANCE, Lifecycle.stable()), (r, pair) -> {
-            final var k = keyCodec().read(pair.first(), ops);
-            final var v = valueCodec().read(pair.second(), ops);
+        input.forEachEntry((key, value) -> {
+            final var k = keyCodec().read(key, ops);
+            final var v = valueCodec().read(value, ops);
+            final var entry = withKeyPath(k.apply2stable(Pair::of, v), k, key);
+            if (entry.isError()) result.addFailed(Pair.of(key, value));
+            final var pair = result.add(entry);
+            if (pair != null) read.accept(pair.first(), pair.second());
+        });
 
-            final var entry = k.apply2stable(Pair::of, v);
-            entry.error().ifPresent(e -> failed.add(pair));
+        final Map<K, V> elements = owned != null ? owned : builder.build();
+        // Optimization: The map of failed entries is only created if the error message is actually requested, as we otherwise have no use for it.
+        final List<Pair<T, T>> errors = result.failed();
+        return result.build(elements).mapError(error -> error + " missed input: " + ops.createMap(errors.stream()));
+    }
 
-            return r.apply2stable((u, p) -> {
-                read.put(p.first(), p.second());
-                return u;
-            }, entry);
-        }, (r1, r2) -> r1.apply2stable((u1, u2) -> u1, r2));
+    private static <K, E> @NotNull DataResult<E> withKeyPath(final @NotNull DataResult<E> entry, final @NotNull DataResult<K> key,
+                                                               final @NotNull Object rawKey) {
+        if (entry.isSuccess()) return entry;
+        // If the key itself failed to decode, the best we can do is use the raw key in the path.
+        final K decodedKey = key.getOrNull();
+        return entry.atKey(String.valueOf(decodedKey != null ? decodedKey : rawKey));
+    }
+
+    /**
+     * Decodes the input map to an immutable map with the given ops, throwing
+     * {@link FailFastException#INSTANCE} at the first failure.
+     *
+     * @param input The input map to decode.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The decoded map.
+     * @throws FailFastException If decoding fails.
+     */
+    default <T> @NotNull Map<K, V> decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        final IntFunction<? extends Map<K, V>> factory = factory();
+        if (factory != null) {
+            final Map<K, V> read = factory.apply(input.size());
+            input.forEachEntry((key, value) -> read.put(keyCodec().readDirect(key, ops), valueCodec().readDirect(value, ops)));
+            return read;
+        }
+        final ImmutableMap.Builder<K, V> read = ImmutableMap.builderWithExpectedSize(input.size());
+        input.forEachEntry((key, value) -> read.put(keyCodec().readDirect(key, ops), valueCodec().readDirect(value, ops)));
+        return read.build();
+    }
 
-        final Map<K, V> elements = read.build();
-        final var errors = ops.createMap(failed.build().stream());
-        return result.map(unit -> elements).withPartial(elements).mapError(error -> error + " missed input: " + errors);
+    /**
+     * Encodes the input map by appending all the entries to the prefix record
+     * builder, using the direct path of the key and value codecs.
+     *
+     * @param input The input map.
+     * @param ops The data operations.
+     * @param prefix The record builder to append the map entries to.
+     * @param <T> The data type.
+     * @return The resulting record builder.
+     * @throws FailFastException If encoding fails.
+     */
+    default <T> @NotNull RecordBuilder<T> encodeDirect(final @NotNull Map<K, V> input, final @NotNull DataOps<T> ops,
+                                                       final @NotNull RecordBuilder<T> prefix) {
+        for (final var entry : input.entrySet()) {
+            prefix.add(keyCodec().encodeDirect(entry.getKey(), ops, ops.empty()), valueCodec().encodeDirect(entry.getValue(), ops, ops.empty()));
+        }
+        return prefix;
     }
 
     /**
@@ -92,7 +161,7 @@ public sealed interface BaseMapCodec<K, V> permits SimpleMapCodec, UnboundedMapC
     default <T> @NotNull RecordBuilder<T> encode(final @NotNull Map<K, V> input, final @NotNull DataOps<T> ops,
                                                  final @NotNull RecordBuilder<T> prefix) {
         for (final var entry : input.entrySet()) {
-            prefix.add(keyCodec().encodeStart(entry.getKey(), ops), valueCodec().encodeStart(entry.getValue(), ops));
+            prefix.add(keyCodec().encodeStart(entry.getKey(), ops), entry.getValue(), valueCodec());
         }
         return prefix;
     }
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.codecs;
+
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import org.jetbrains.annotations.NotNull;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.FailFastException;
+import org.kryptonmc.serialization.FieldKey;
+import org.kryptonmc.serialization.DoubleCodec;
+import org.kryptonmc.serialization.MapCodec;
+import org.kryptonmc.serialization.MapLike;
+import org.kryptonmc.serialization.RecordBuilder;
+
+/**
+ * A map codec that processes a double value as the value of a field with
+ * the given key, which can decode and encode the value without boxing it.
+ *
+ * @param key The field key.
+ * @param codec The field value codec.
+ */
+public record DoubleFieldCodec(@NotNull FieldKey key, @NotNull DoubleCodec codec) implements MapCodec<Double> {
+
+    @SuppressWarnings("MissingJavadocMethod")
+    public DoubleFieldCodec {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(codec, "codec");
+    }
+
+    /**
+     * Creates a new double field codec for a field with the given name.
+     *
+     * @param name The field name.
+     * @param codec The field value codec.
+     */
+    public DoubleFieldCodec(final @NotNull String name, final @NotNull DoubleCodec codec) {
+        this(FieldKey.of(name), codec);
+    }
+
+    /**
+     * Creates a new record codec builder that uses this codec to process the
+     * result of getting the value from the complex type using the given
+     * getter function, without boxing the value when encoding.
+     *
+     * @param getter The getter function to get the value with.
+     * @param <O> The complex type.
+     * @return A new getting codec.
+     */
+    public <O> @NotNull RecordCodecBuilder<O, Double> gettingDouble(final @NotNull ToDoubleFunction<O> getter) {
+        return RecordCodecBuilder.ofDouble(getter, this);
+    }
+
+    @Override
+    public <T> @NotNull DataResult<Double> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        final var value = input.get(key);
+        if (value == null) return DataResult.error(() -> "No key " + key.name() + " found in map " + input + "!");
+        return codec.read(value, ops).atKey(key.name());
+    }
+
+    @Override
+    public <T> @NotNull Double decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        return decodeDouble(input, ops);
+    }
+
+    /**
+     * Decodes the value of this field from the given input without boxing
+     * it, throwing {@link FailFastException#INSTANCE} if the field is
+     * missing or cannot be decoded.
+     *
+     * @param input The input map.
+     * @param ops The data operations.
+     * @param <T> The data type.
+     * @return The decoded value.
+     * @throws FailFastException If decoding fails.
+     */
+    public <T> double decodeDouble(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        final var value = input.get(key);
+        if (value == null) throw FailFastException.INSTANCE;
+        return codec.readDouble(value, ops);
+    }
+
+    @Override
+    public <T> @NotNull RecordBuilder<T> encode(final @NotNull Double input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+        return prefix.add(key, codec.encodeStart(input, ops));
+    }
+
+    @Override
+    public <T> @NotNull RecordBuilder<T> encodeDirect(final @NotNull Double input, final @NotNull DataOps<T> ops,
+                                                      final @NotNull RecordBuilder<T> prefix) {
+        return encodeDouble(input, ops, prefix);
+    }
+
+    /**
+     * Encodes the given value as the value of this field without boxing it,
+     * appending it to the given prefix.
+     *
+     * @param input The value.
+     * @param ops The data operations.
+     * @param prefix The record builder to append the field to.
+     * @param <T> The data type.
+     * @return The resulting record builder.
+     */
+    public <T> @NotNull RecordBuilder<T> encodeDouble(final double input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+        return prefix.add(key, codec.writeDouble(input, ops));
+    }
+
+    @Override
+    public String toString() {
+        return "Field[" + key.name() + ": " + codec + "]";
+    }
+}
@@ -51,7 +51,7 @@ public record EitherCodec<L, R>(@NotNull Codec<L> left, @NotNull Codec<R> right)
     @Override
     public <T> @NotNull DataResult<Pair<Either<L, R>, T>> decode(final @NotNull T input, final @NotNull DataOps<T> ops) {
         final DataResult<Pair<Either<L, R>, T>> leftRead = left.decode(input, ops).map(vo -> vo.mapFirst(Either::left));
-        if (leftRead.result().isPresent()) return leftRead;
+        if (leftRead.isSuccess()) return leftRead;
         return right.decode(input, ops).map(vo -> vo.mapFirst(Either::right));
     }
 
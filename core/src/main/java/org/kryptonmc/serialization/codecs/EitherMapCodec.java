@@ -42,7 +42,7 @@ public record EitherMapCodec<L, R>(@NotNull MapCodec<L> left, @NotNull MapCodec<
     @Override
     public <T> @NotNull DataResult<Either<L, R>> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
         final DataResult<Either<L, R>> leftRead = left.decode(input, ops).map(Either::left);
-        if (leftRead.result().isPresent()) return leftRead;
+        if (leftRead.isSuccess()) return leftRead;
         return right.decode(input, ops).map(Either::right);
     }
 
@@ -18,6 +18,8 @@ import org.jetbrains.annotations.NotNull;
 import org.kryptonmc.serialization.DataOps;
 import org.kryptonmc.serialization.DataResult;
 import org.kryptonmc.serialization.Decoder;
+import org.kryptonmc.serialization.FailFastException;
+import org.kryptonmc.serialization.FieldKey;
 import org.kryptonmc.serialization.MapDecoder;
 import org.kryptonmc.serialization.MapLike;
 
@@ -26,27 +28,53 @@ import org.kryptonmc.serialization.MapLike;
  * an input map, decoding the value mapped to the name (key) in the map with
  * the element decoder.
  *
- * @param name The field name.
+ * @param key The field key.
  * @param elementDecoder The field value decoder.
  * @param <A> The output type.
  */
-public record FieldDecoder<A>(@NotNull String name, @NotNull Decoder<A> elementDecoder) implements MapDecoder<A> {
+public record FieldDecoder<A>(@NotNull FieldKey key, @NotNull Decoder<A> elementDecoder) implements MapDecoder<A> {
 
     @SuppressWarnings("MissingJavadocMethod")
     public FieldDecoder {
-        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(key, "key");
         Objects.requireNonNull(elementDecoder, "elementDecoder");
     }
 
+    /**
+     * Creates a new field decoder for a field with the given name.
+     *
+     * @param name The field name.
+     * @param elementDecoder The field value decoder.
+     */
+    public FieldDecoder(final @NotNull String name, final @NotNull Decoder<A> elementDecoder) {
+        this(FieldKey.of(name), elementDecoder);
+    }
+
+    /**
+     * Gets the name of the field.
+     *
+     * @return The field name.
+     */
+    public @NotNull String name() {
+        return key.name();
+    }
+
     @Override
     public <T> @NotNull DataResult<A> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
-        final var value = input.get(name);
-        if (value == null) return DataResult.error("No key " + name + "found in map " + input + "!");
-        return elementDecoder.read(value, ops);
+        final var value = input.get(key);
+        if (value == null) return DataResult.error(() -> "No key " + key.name() + " found in map " + input + "!");
+        return elementDecoder.read(value, ops).atKey(key.name());
+    }
+
+    @Override
+    public <T> @NotNull A decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        final var value = input.get(key);
+        if (value == null) throw FailFastException.INSTANCE;
+        return elementDecoder.readDirect(value, ops);
     }
 
     @Override
     public String toString() {
-        return "FieldDecoder[" + name + ": " + elementDecoder + ']';
+        return "FieldDecoder[" + key.name() + ": " + elementDecoder + ']';
     }
 }
@@ -17,6 +17,7 @@ import java.util.Objects;
 import org.jetbrains.annotations.NotNull;
 import org.kryptonmc.serialization.DataOps;
 import org.kryptonmc.serialization.Encoder;
+import org.kryptonmc.serialization.FieldKey;
 import org.kryptonmc.serialization.MapEncoder;
 import org.kryptonmc.serialization.RecordBuilder;
 
@@ -24,25 +25,50 @@ import org.kryptonmc.serialization.RecordBuilder;
  * A map encoder that will encode the input value with the given element
  * encoder and add it to the provided prefix with the given name as the key.
  *
- * @param name The field name.
+ * @param key The field key.
  * @param elementEncoder The field value encoder.
  * @param <A> The input type.
  */
-public record FieldEncoder<A>(@NotNull String name, @NotNull Encoder<A> elementEncoder) implements MapEncoder<A> {
+public record FieldEncoder<A>(@NotNull FieldKey key, @NotNull Encoder<A> elementEncoder) implements MapEncoder<A> {
 
     @SuppressWarnings("MissingJavadocMethod")
     public FieldEncoder {
-        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(key, "key");
         Objects.requireNonNull(elementEncoder, "elementEncoder");
     }
 
+    /**
+     * Creates a new field encoder for a field with the given name.
+     *
+     * @param name The field name.
+     * @param elementEncoder The field value encoder.
+     */
+    public FieldEncoder(final @NotNull String name, final @NotNull Encoder<A> elementEncoder) {
+        this(FieldKey.of(name), elementEncoder);
+    }
+
+    /**
+     * Gets the name of the field.
+     *
+     * @return The field name.
+     */
+    public @NotNull String name() {
+        return key.name();
+    }
+
     @Override
     public <T> @NotNull RecordBuilder<T> encode(final @NotNull A input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
-        return prefix.add(name, elementEncoder.encodeStart(input, ops));
+        return prefix.add(key, input, elementEncoder);
+    }
+
+    @Override
+    public <T> @NotNull RecordBuilder<T> encodeDirect(final @NotNull A input, final @NotNull DataOps<T> ops,
+                                                      final @NotNull RecordBuilder<T> prefix) {
+        return prefix.add(key, elementEncoder.encodeDirect(input, ops, ops.empty()));
     }
 
     @Override
     public String toString() {
-        return "FieldEncoder[" + name + ": " + elementEncoder + ']';
+        return "FieldEncoder[" + key.name() + ": " + elementEncoder + ']';
     }
 }
@@ -97,7 +97,7 @@ public final class KeyDispatchCodec<K, V> implements MapCodec<V> {
     @Override
     public <T> @NotNull DataResult<V> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
         final var elementName = input.get(typeKey);
-        if (elementName == null) return DataResult.error("Input " + input + " does not contain required type key " + typeKey);
+        if (elementName == null) return DataResult.error(() -> "Input " + input + " does not contain required type key " + typeKey);
 
         return keyCodec.decode(elementName, ops).flatMap(type -> {
             final var elementDecoder = decoder.apply(type.first());
@@ -116,9 +116,9 @@ public final class KeyDispatchCodec<K, V> implements MapCodec<V> {
     public <T> @NotNull RecordBuilder<T> encode(final @NotNull V input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
         final var elementEncoder = encoder.apply(input);
         final var builder = prefix.withErrorsFrom(elementEncoder);
-        if (elementEncoder.result().isEmpty()) return builder;
+        final var encoder = elementEncoder.getOrNull();
+        if (encoder == null) return builder;
 
-        final var encoder = elementEncoder.result().get();
         if (encoder instanceof MapCodec.StandardCodec<?>) {
             return ((MapCodec.StandardCodec<V>) encoder).codec().encode(input, ops, prefix)
                     .add(typeKey, type.apply(input).flatMap(t -> keyCodec.encodeStart(t, ops)));
@@ -128,13 +128,13 @@ public final class KeyDispatchCodec<K, V> implements MapCodec<V> {
         final var result = encoder.encodeStart(input, ops);
         if (assumeMap) {
             final var element = result.flatMap(ops::getMap);
-            return element.map(map -> {
-                prefix.add(typeString, type.apply(input).flatMap(t -> keyCodec.encodeStart(t, ops)));
-                map.entries().forEach(entry -> {
-                    if (!entry.first().equals(typeString)) prefix.add(entry.first(), entry.second());
-                });
-                return prefix;
-            }).result().orElseGet(() -> prefix.withErrorsFrom(element));
+            final var map = element.getOrNull();
+            if (map == null) return prefix.withErrorsFrom(element);
+            prefix.add(typeString, type.apply(input).flatMap(t -> keyCodec.encodeStart(t, ops)));
+            map.entries().forEach(entry -> {
+                if (!entry.first().equals(typeString)) prefix.add(entry.first(), entry.second());
+            });
+            return prefix;
         }
         prefix.add(typeString, type.apply(input).flatMap(t -> keyCodec.encodeStart(t, ops)));
         prefix.add(VALUE_KEY, result);
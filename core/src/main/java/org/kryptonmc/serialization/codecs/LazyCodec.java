@@ -0,0 +1,56 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.codecs;
+
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+import org.kryptonmc.serialization.Codec;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.Lazy;
+import org.kryptonmc.util.Pair;
+
+/**
+ * A codec that decodes inputs to {@link Lazy lazy values}, which are only
+ * decoded with the given codec when they are first used.
+ *
+ * <p>Decoding with this codec always succeeds, as the input isn't looked at
+ * until the lazy value is used, at which point any errors are given by
+ * {@link Lazy#result()}. If the data operations are not
+ * {@link DataOps#isThreadSafe() thread safe}, such as operations that read
+ * from a stream, which can't be used once decoding has finished, the value
+ * is decoded straight away instead.</p>
+ *
+ * @param elementCodec The codec for the value.
+ * @param <A> The value type.
+ */
+public record LazyCodec<A>(@NotNull Codec<A> elementCodec) implements Codec<Lazy<A>> {
+
+    @SuppressWarnings("MissingJavadocMethod")
+    public LazyCodec {
+        Objects.requireNonNull(elementCodec, "elementCodec");
+    }
+
+    @Override
+    public <T> @NotNull DataResult<Pair<Lazy<A>, T>> decode(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        final Lazy<A> lazy = Lazy.decoding(input, ops, elementCodec);
+        if (!ops.isThreadSafe()) lazy.result();
+        return DataResult.success(Pair.of(lazy, input));
+    }
+
+    @Override
+    public <T> @NotNull DataResult<T> encode(final @NotNull Lazy<A> input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        return input.encode(elementCodec, ops, prefix);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyCodec[" + elementCodec + ']';
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.codecs;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jetbrains.annotations.NotNull;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.Decoder;
+import org.kryptonmc.serialization.Encoder;
+import org.kryptonmc.serialization.ListBuilder;
+
+/**
+ * An unmodifiable list view of an input list that decodes each element the
+ * first time it is asked for, and keeps it. Elements that fail to decode
+ * are not kept, and fail again every time they are asked for.
+ *
+ * <p>Elements may be asked for from any thread. If two threads ask for the
+ * same element at once, it may be decoded twice, but they will both be
+ * given the same value.</p>
+ */
+final class LazyList<T, A> extends AbstractList<A> implements RandomAccess {
+
+    private final List<T> input;
+    private final DataOps<T> ops;
+    private final Decoder<A> decoder;
+    private final AtomicReferenceArray<A> decoded;
+
+    LazyList(final @NotNull List<T> input, final @NotNull DataOps<T> ops, final @NotNull Decoder<A> decoder) {
+        this.input = input;
+        this.ops = ops;
+        this.decoder = decoder;
+        decoded = new AtomicReferenceArray<>(input.size());
+    }
+
+    @Override
+    public A get(final int index) {
+        return result(index).getOrThrow(false, error -> {});
+    }
+
+    private @NotNull DataResult<A> result(final int index) {
+        final A existing = decoded.get(index);
+        if (existing != null) return DataResult.success(existing);
+        final DataResult<A> result = decoder.read(input.get(index), ops).atIndex(index);
+        // Errors, and any partial values they have, aren't kept, so asking for the element again gives the error again.
+        if (!result.isSuccess()) return result;
+        final A value = result.getOrThrow(false, error -> {});
+        return decoded.compareAndSet(index, null, value) ? result : DataResult.success(decoded.get(index));
+    }
+
+    @Override
+    public int size() {
+        return input.size();
+    }
+
+    /**
+     * Adds the elements of this list to the given builder, giving back the
+     * input for elements that haven't been decoded yet, if this list would
+     * have decoded them with the given encoder and operations.
+     *
+     * <p>Otherwise, elements that haven't been decoded yet are decoded, and
+     * any that fail to decode are added to the builder as errors.</p>
+     *
+     * @param builder The builder.
+     * @param ops The data operations.
+     * @param encoder The encoder.
+     * @param <U> The data type.
+     */
+    @SuppressWarnings("unchecked")
+    <U> void encodeTo(final @NotNull ListBuilder<U> builder, final @NotNull DataOps<U> ops, final @NotNull Encoder<A> encoder) {
+        final boolean passThrough = this.ops == ops && decoder == encoder;
+        for (int i = 0; i < input.size(); i++) {
+            final A value = decoded.get(i);
+            if (value != null) {
+                builder.add(value, encoder);
+            } else if (passThrough) {
+                builder.add((U) input.get(i));
+            } else {
+                builder.add(result(i).flatMap(element -> encoder.encodeStart(element, ops)));
+            }
+        }
+    }
+}
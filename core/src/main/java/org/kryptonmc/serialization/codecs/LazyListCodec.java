@@ -0,0 +1,75 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.codecs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import org.jetbrains.annotations.NotNull;
+import org.kryptonmc.serialization.Codec;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.Lifecycle;
+import org.kryptonmc.util.Pair;
+
+/**
+ * A list codec that decodes inputs to unmodifiable list views, which only
+ * decode each element with the element codec the first time it is asked
+ * for.
+ *
+ * <p>Decoding with this codec succeeds for any list, as the elements aren't
+ * looked at until they are asked for, at which point an exception is thrown
+ * if the element fails to decode. If the data operations are not
+ * {@link DataOps#isThreadSafe() thread safe}, such as operations that read
+ * from a stream, which can't be used once decoding has finished, the list is
+ * decoded straight away, in the same way as {@link ListCodec}, instead.</p>
+ *
+ * <p>Lists decoded by this codec are encoded by giving back the input for
+ * any elements that haven't been decoded, as long as they are encoded with
+ * the same operations that they were decoded with. Elements that fail to
+ * decode while encoding are given back as errors.</p>
+ *
+ * @param elementCodec The element codec.
+ * @param <A> The element type.
+ */
+public record LazyListCodec<A>(@NotNull Codec<A> elementCodec) implements Codec<List<A>> {
+
+    @SuppressWarnings("MissingJavadocMethod")
+    public LazyListCodec {
+        Objects.requireNonNull(elementCodec, "elementCodec");
+    }
+
+    @Override
+    public <T> @NotNull DataResult<Pair<List<A>, T>> decode(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        if (!ops.isThreadSafe()) return new ListCodec<>(elementCodec).decode(input, ops);
+        return ops.getIndexedList(input).withLifecycle(Lifecycle.stable()).map(list -> {
+            final List<T> elements = list instanceof RandomAccess ? list : new ArrayList<>(list);
+            return Pair.of(new LazyList<>(elements, ops, elementCodec), input);
+        });
+    }
+
+    @Override
+    public <T> @NotNull DataResult<T> encode(final @NotNull List<A> input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        final var builder = ops.listBuilder(input.size());
+        if (input instanceof final LazyList<?, A> lazy) {
+            lazy.encodeTo(builder, ops, elementCodec);
+        } else {
+            for (final var value : input) {
+                builder.add(value, elementCodec);
+            }
+        }
+        return builder.build(prefix);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyListCodec[" + elementCodec + ']';
+    }
+}
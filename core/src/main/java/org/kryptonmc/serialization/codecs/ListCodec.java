@@ -16,63 +16,114 @@ package org.kryptonmc.serialization.codecs;
 import com.google.common.collect.ImmutableList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kryptonmc.serialization.Codec;
 import org.kryptonmc.serialization.DataOps;
 import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.FailFastException;
 import org.kryptonmc.serialization.Lifecycle;
 import org.kryptonmc.util.Pair;
-import org.kryptonmc.util.Unit;
 
 /**
  * A codec that will encode a list of values by encoding each value with the
  * given element codec, and decode an input to a list of values by decoding
  * each value with the given element codec.
  *
+ * <p>By default, inputs are decoded to immutable lists. If a factory is
+ * given, it is given the number of elements in the input, and must return a
+ * new, empty, mutable list every time it is called, which inputs are then
+ * decoded straight in to, and which is owned by the caller of decode.</p>
+ *
  * @param elementCodec The element codec.
+ * @param factory The factory for decoded lists, or null to decode to
+ *                immutable lists.
  * @param <A> The element type.
  */
-public record ListCodec<A>(@NotNull Codec<A> elementCodec) implements Codec<List<A>> {
+public record ListCodec<A>(@NotNull Codec<A> elementCodec, @Nullable IntFunction<? extends List<A>> factory) implements Codec<List<A>> {
 
     @SuppressWarnings("MissingJavadocMethod")
     public ListCodec {
         Objects.requireNonNull(elementCodec, "elementCodec");
     }
 
+    @SuppressWarnings("MissingJavadocMethod")
+    public ListCodec(final @NotNull Codec<A> elementCodec) {
+        this(elementCodec, null);
+    }
+
     @Override
     public <T> @NotNull DataResult<Pair<List<A>, T>> decode(final @NotNull T input, final @NotNull DataOps<T> ops) {
-        return ops.getList(input).withLifecycle(Lifecycle.stable()).flatMap(stream -> {
-            final ImmutableList.Builder<A> read = ImmutableList.builder();
-            final Stream.Builder<T> failed = Stream.builder();
-            final AtomicReference<DataResult<Unit>> result = new AtomicReference<>(DataResult.success(Unit.INSTANCE, Lifecycle.stable()));
+        return ops.getIndexedList(input).withLifecycle(Lifecycle.stable()).flatMap(list -> {
+            final int size = expectedSize(list);
+            final List<A> owned = factory != null ? factory.apply(size) : null;
+            final ImmutableList.Builder<A> builder = owned == null ? ImmutableList.builderWithExpectedSize(size) : null;
+            // Optimization: We accumulate the lifecycle and errors in place, rather than combining a new result for every element, and only
+            // create the list of failed elements when one actually fails.
+            final DataResult.Accumulator<T> result = new DataResult.Accumulator<>();
 
-            stream.accept(t -> {
+            int index = 0;
+            for (final T t : list) {
                 final var element = elementCodec.decode(t, ops);
-                element.error().ifPresent(e -> failed.add(t));
-                result.setPlain(result.getPlain().apply2stable((r, v) -> {
-                    read.add(v.first());
-                    return r;
-                }, element));
-            });
+                if (element.isError()) result.addFailed(t);
+                final var value = result.add(element.atIndex(index++));
+                if (value == null) continue;
+                if (owned != null) {
+                    owned.add(value.first());
+                } else {
+                    builder.add(value.first());
+                }
+            }
 
-            final var elements = read.build();
-            final var errors = ops.createList(failed.build());
-            final Pair<List<A>, T> pair = Pair.of(elements, errors);
-            return result.getPlain().map(unit -> pair).withPartial(pair);
+            final List<A> elements = owned != null ? owned : builder.build();
+            final List<T> failed = result.failed();
+            final var errors = failed.isEmpty() ? ops.emptyList() : ops.createList(failed.stream());
+            return result.build(Pair.of(elements, errors));
         });
     }
 
     @Override
     public <T> @NotNull DataResult<T> encode(final @NotNull List<A> input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
-        final var builder = ops.listBuilder();
+        final var builder = ops.listBuilder(input.size());
         for (final var value : input) {
-            builder.add(elementCodec.encodeStart(value, ops));
+            builder.add(value, elementCodec);
         }
         return builder.build(prefix);
     }
 
+    @Override
+    public <T> @NotNull List<A> readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        final List<T> list = FailFastException.unwrap(ops.getIndexedList(input));
+        if (factory != null) {
+            final List<A> read = factory.apply(expectedSize(list));
+            for (final T t : list) {
+                read.add(elementCodec.readDirect(t, ops));
+            }
+            return read;
+        }
+        final ImmutableList.Builder<A> read = ImmutableList.builderWithExpectedSize(expectedSize(list));
+        for (final T t : list) {
+            read.add(elementCodec.readDirect(t, ops));
+        }
+        return read.build();
+    }
+
+    private static int expectedSize(final @NotNull List<?> list) {
+        // Lists that aren't random access may be read from a stream as they are iterated, in which case they can't know their size.
+        return list instanceof RandomAccess ? list.size() : 0;
+    }
+
+    @Override
+    public <T> @NotNull T encodeDirect(final @NotNull List<A> input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        final var builder = ops.listBuilder(input.size());
+        for (final var value : input) {
+            builder.add(elementCodec.encodeDirect(value, ops, ops.empty()));
+        }
+        return FailFastException.unwrap(builder.build(prefix));
+    }
+
     @Override
     public String toString() {
         return "ListCodec[" + elementCodec + ']';
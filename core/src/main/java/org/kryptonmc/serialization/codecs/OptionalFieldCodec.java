@@ -19,6 +19,8 @@ import org.jetbrains.annotations.NotNull;
 import org.kryptonmc.serialization.Codec;
 import org.kryptonmc.serialization.DataOps;
 import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.FailFastException;
+import org.kryptonmc.serialization.FieldKey;
 import org.kryptonmc.serialization.MapCodec;
 import org.kryptonmc.serialization.MapLike;
 import org.kryptonmc.serialization.RecordBuilder;
@@ -31,37 +33,76 @@ import org.kryptonmc.serialization.RecordBuilder;
  * <p>This is an optimisation of
  * {@code Codec.either(elementCodec.field(name), Codec.EMPTY)}</p>
  *
- * @param name The field name.
+ * @param key The field key.
  * @param elementCodec The field value codec.
  * @param <A> The field value type.
  */
-public record OptionalFieldCodec<A>(@NotNull String name, @NotNull Codec<A> elementCodec) implements MapCodec<Optional<A>> {
+public record OptionalFieldCodec<A>(@NotNull FieldKey key, @NotNull Codec<A> elementCodec) implements MapCodec<Optional<A>> {
 
     @SuppressWarnings("MissingJavadocMethod")
     public OptionalFieldCodec {
-        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(key, "key");
         Objects.requireNonNull(elementCodec, "elementCodec");
     }
 
+    /**
+     * Creates a new optional field codec for a field with the given name.
+     *
+     * @param name The field name.
+     * @param elementCodec The field value codec.
+     */
+    public OptionalFieldCodec(final @NotNull String name, final @NotNull Codec<A> elementCodec) {
+        this(FieldKey.of(name), elementCodec);
+    }
+
+    /**
+     * Gets the name of the field.
+     *
+     * @return The field name.
+     */
+    public @NotNull String name() {
+        return key.name();
+    }
+
     @Override
     public <T> @NotNull DataResult<Optional<A>> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
-        final var value = input.get(name);
+        final var value = input.get(key);
         if (value == null) return DataResult.success(Optional.empty());
         final var parsed = elementCodec.read(value, ops);
-        if (parsed.result().isPresent()) return parsed.map(Optional::of);
+        if (parsed.isSuccess()) return parsed.map(Optional::of);
         return DataResult.success(Optional.empty());
     }
 
+    @Override
+    public <T> @NotNull Optional<A> decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        final var value = input.get(key);
+        if (value == null) return Optional.empty();
+        try {
+            return Optional.of(elementCodec.readDirect(value, ops));
+        } catch (final FailFastException exception) {
+            // Values that fail to decode are treated as absent, the same as on the standard path.
+            return Optional.empty();
+        }
+    }
+
     @Override
     public <T> @NotNull RecordBuilder<T> encode(final @NotNull Optional<A> input, final @NotNull DataOps<T> ops,
                                                 final @NotNull RecordBuilder<T> prefix) {
         // noinspection OptionalIsPresent
-        if (input.isPresent()) return prefix.add(name, elementCodec.encodeStart(input.get(), ops));
+        if (input.isPresent()) return prefix.add(key, input.get(), elementCodec);
+        return prefix;
+    }
+
+    @Override
+    public <T> @NotNull RecordBuilder<T> encodeDirect(final @NotNull Optional<A> input, final @NotNull DataOps<T> ops,
+                                                      final @NotNull RecordBuilder<T> prefix) {
+        // noinspection OptionalIsPresent
+        if (input.isPresent()) return prefix.add(key, elementCodec.encodeDirect(input.get(), ops, ops.empty()));
         return prefix;
     }
 
     @Override
     public String toString() {
-        return "OptionalFieldCodec[" + name + ": " + elementCodec + ']';
+        return "OptionalFieldCodec[" + key.name() + ": " + elementCodec + ']';
     }
 }
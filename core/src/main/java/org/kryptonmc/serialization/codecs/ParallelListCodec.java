@@ -0,0 +1,145 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.codecs;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.serialization.Codec;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.FailFastException;
+import org.kryptonmc.serialization.Lifecycle;
+import org.kryptonmc.util.Pair;
+
+/**
+ * A list codec that decodes and encodes the elements of large lists in
+ * parallel.
+ *
+ * <p>Lists with more than the threshold number of elements are split in to
+ * tasks of at most that many elements, which are run in the given pool.
+ * The results are then put together in the calling thread, in order, in
+ * exactly the same way as {@link ListCodec} does it, so the decoded list,
+ * the encoded list, the lifecycle, and any errors are the same as they would
+ * be from a list codec.</p>
+ *
+ * <p>Parallel codecs are only worth using when the elements are expensive
+ * to process, such as large records. If the data operations are not
+ * {@link DataOps#isThreadSafe() thread safe}, lists are processed
+ * sequentially instead.</p>
+ *
+ * <p>By default, inputs are decoded to immutable lists. If a factory is
+ * given, it is used in the same way as the factory of a {@link ListCodec},
+ * and is only ever called from the calling thread.</p>
+ *
+ * @param elementCodec The element codec.
+ * @param threshold The most elements to process in one task.
+ * @param pool The pool to process elements in.
+ * @param factory The factory for decoded lists, or null to decode to
+ *                immutable lists.
+ * @param <A> The element type.
+ */
+public record ParallelListCodec<A>(@NotNull Codec<A> elementCodec, int threshold, @NotNull ForkJoinPool pool,
+                                   @Nullable IntFunction<? extends List<A>> factory) implements Codec<List<A>> {
+
+    @SuppressWarnings("MissingJavadocMethod")
+    public ParallelListCodec {
+        Objects.requireNonNull(elementCodec, "elementCodec");
+        Objects.requireNonNull(pool, "pool");
+        if (threshold < 1) throw new IllegalArgumentException("Threshold must be at least 1, was " + threshold + "!");
+    }
+
+    @SuppressWarnings("MissingJavadocMethod")
+    public ParallelListCodec(final @NotNull Codec<A> elementCodec, final int threshold, final @NotNull ForkJoinPool pool) {
+        this(elementCodec, threshold, pool, null);
+    }
+
+    @SuppressWarnings("MissingJavadocMethod")
+    public ParallelListCodec(final @NotNull Codec<A> elementCodec, final int threshold) {
+        this(elementCodec, threshold, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public <T> @NotNull DataResult<Pair<List<A>, T>> decode(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        if (!ops.isThreadSafe()) return sequential().decode(input, ops);
+        return ops.getIndexedList(input).withLifecycle(Lifecycle.stable()).flatMap(view -> {
+            // We need to look up the input elements that failed by index, which may be slow if the list isn't random access.
+            final List<T> list = view instanceof RandomAccess ? view : new ArrayList<>(view);
+            final List<DataResult<Pair<A, T>>> decoded = ParallelTask.apply(pool, threshold, list, element -> elementCodec.decode(element, ops));
+            final List<A> owned = factory != null ? factory.apply(decoded.size()) : null;
+            final ImmutableList.Builder<A> builder = owned == null ? ImmutableList.builderWithExpectedSize(decoded.size()) : null;
+            final DataResult.Accumulator<T> result = new DataResult.Accumulator<>();
+
+            for (int i = 0; i < decoded.size(); i++) {
+                final var element = decoded.get(i);
+                if (element.isError()) result.addFailed(list.get(i));
+                final var value = result.add(element.atIndex(i));
+                if (value == null) continue;
+                if (owned != null) {
+                    owned.add(value.first());
+                } else {
+                    builder.add(value.first());
+                }
+            }
+
+            final List<A> elements = owned != null ? owned : builder.build();
+            final List<T> failed = result.failed();
+            final var errors = failed.isEmpty() ? ops.emptyList() : ops.createList(failed.stream());
+            return result.build(Pair.of(elements, errors));
+        });
+    }
+
+    @Override
+    public <T> @NotNull DataResult<T> encode(final @NotNull List<A> input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        if (!ops.isThreadSafe()) return sequential().encode(input, ops, prefix);
+        final List<DataResult<T>> encoded = ParallelTask.apply(pool, threshold, input, value -> elementCodec.encodeStart(value, ops));
+        final var builder = ops.listBuilder(input.size());
+        for (final var value : encoded) {
+            builder.add(value);
+        }
+        return builder.build(prefix);
+    }
+
+    @Override
+    public <T> @NotNull List<A> readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        if (!ops.isThreadSafe()) return sequential().readDirect(input, ops);
+        final List<T> list = FailFastException.unwrap(ops.getIndexedList(input));
+        final List<A> decoded = ParallelTask.apply(pool, threshold, list, element -> elementCodec.readDirect(element, ops));
+        if (factory == null) return ImmutableList.copyOf(decoded);
+        final List<A> read = factory.apply(decoded.size());
+        read.addAll(decoded);
+        return read;
+    }
+
+    @Override
+    public <T> @NotNull T encodeDirect(final @NotNull List<A> input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        if (!ops.isThreadSafe()) return sequential().encodeDirect(input, ops, prefix);
+        final List<T> encoded = ParallelTask.apply(pool, threshold, input, value -> elementCodec.encodeDirect(value, ops, ops.empty()));
+        final var builder = ops.listBuilder(input.size());
+        for (final var value : encoded) {
+            builder.add(value);
+        }
+        return FailFastException.unwrap(builder.build(prefix));
+    }
+
+    private @NotNull ListCodec<A> sequential() {
+        return new ListCodec<>(elementCodec, factory);
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelListCodec[" + elementCodec + ']';
+    }
+}
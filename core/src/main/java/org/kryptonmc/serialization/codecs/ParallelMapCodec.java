@@ -0,0 +1,173 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.codecs;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.serialization.Codec;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.FailFastException;
+import org.kryptonmc.serialization.Lifecycle;
+import org.kryptonmc.serialization.MapLike;
+import org.kryptonmc.serialization.RecordBuilder;
+import org.kryptonmc.util.Pair;
+
+/**
+ * A map codec that decodes and encodes the entries of large maps in
+ * parallel.
+ *
+ * <p>Maps with more than the threshold number of entries are split in to
+ * tasks of at most that many entries, which are run in the given pool. The
+ * results are then put together in the calling thread, in order, in exactly
+ * the same way as {@link UnboundedMapCodec} does it, so the decoded map, the
+ * encoded map, the lifecycle, and any errors are the same as they would be
+ * from an unbounded map codec.</p>
+ *
+ * <p>Parallel codecs are only worth using when the values are expensive to
+ * process, such as large records. If the data operations are not
+ * {@link DataOps#isThreadSafe() thread safe}, maps are processed
+ * sequentially instead.</p>
+ *
+ * <p>By default, inputs are decoded to immutable maps. If a factory is
+ * given, it is used in the same way as {@link BaseMapCodec#factory()}, and is
+ * only ever called from the calling thread.</p>
+ *
+ * @param keyCodec The key codec.
+ * @param valueCodec The value codec.
+ * @param threshold The most entries to process in one task.
+ * @param pool The pool to process entries in.
+ * @param factory The factory for decoded maps, or null to decode to
+ *                immutable maps.
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+public record ParallelMapCodec<K, V>(@NotNull Codec<K> keyCodec, @NotNull Codec<V> valueCodec, int threshold, @NotNull ForkJoinPool pool,
+                                     @Nullable IntFunction<? extends Map<K, V>> factory) implements Codec<Map<K, V>> {
+
+    @SuppressWarnings("MissingJavadocMethod")
+    public ParallelMapCodec {
+        Objects.requireNonNull(keyCodec, "keyCodec");
+        Objects.requireNonNull(valueCodec, "valueCodec");
+        Objects.requireNonNull(pool, "pool");
+        if (threshold < 1) throw new IllegalArgumentException("Threshold must be at least 1, was " + threshold + "!");
+    }
+
+    @SuppressWarnings("MissingJavadocMethod")
+    public ParallelMapCodec(final @NotNull Codec<K> keyCodec, final @NotNull Codec<V> valueCodec, final int threshold,
+                            final @NotNull ForkJoinPool pool) {
+        this(keyCodec, valueCodec, threshold, pool, null);
+    }
+
+    @SuppressWarnings("MissingJavadocMethod")
+    public ParallelMapCodec(final @NotNull Codec<K> keyCodec, final @NotNull Codec<V> valueCodec, final int threshold) {
+        this(keyCodec, valueCodec, threshold, ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public <T> @NotNull DataResult<Pair<Map<K, V>, T>> decode(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        if (!ops.isThreadSafe()) return sequential().decode(input, ops);
+        return ops.getMap(input).withLifecycle(Lifecycle.stable()).flatMap(map -> decode(map, ops)).map(result -> Pair.of(result, input));
+    }
+
+    private <T> @NotNull DataResult<Map<K, V>> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        final List<Pair<T, T>> entries = entries(input);
+        final List<DataResult<Pair<K, V>>> decoded = ParallelTask.apply(pool, threshold, entries, entry -> decodeEntry(entry, ops));
+        final Map<K, V> owned = factory != null ? factory.apply(decoded.size()) : null;
+        final ImmutableMap.Builder<K, V> builder = owned == null ? ImmutableMap.builderWithExpectedSize(decoded.size()) : null;
+        final BiConsumer<K, V> read = owned != null ? owned::put : builder::put;
+        final DataResult.Accumulator<Pair<T, T>> result = new DataResult.Accumulator<>();
+
+        for (int i = 0; i < decoded.size(); i++) {
+            final var entry = decoded.get(i);
+            if (entry.isError()) result.addFailed(entries.get(i));
+            final var pair = result.add(entry);
+            if (pair != null) read.accept(pair.first(), pair.second());
+        }
+
+        final Map<K, V> elements = owned != null ? owned : builder.build();
+        final List<Pair<T, T>> errors = result.failed();
+        return result.build(elements).mapError(error -> error + " missed input: " + ops.createMap(errors.stream()));
+    }
+
+    private <T> @NotNull DataResult<Pair<K, V>> decodeEntry(final @NotNull Pair<T, T> input, final @NotNull DataOps<T> ops) {
+        final var key = keyCodec.read(input.first(), ops);
+        final var entry = key.apply2stable(Pair::of, valueCodec.read(input.second(), ops));
+        if (entry.isSuccess()) return entry;
+        // If the key itself failed to decode, the best we can do is use the raw key in the path.
+        final K decodedKey = key.getOrNull();
+        return entry.atKey(String.valueOf(decodedKey != null ? decodedKey : input.first()));
+    }
+
+    @Override
+    public <T> @NotNull DataResult<T> encode(final @NotNull Map<K, V> input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        if (!ops.isThreadSafe()) return sequential().encode(input, ops, prefix);
+        final List<Pair<DataResult<T>, DataResult<T>>> encoded = ParallelTask.apply(pool, threshold, new ArrayList<>(input.entrySet()),
+                entry -> Pair.of(keyCodec.encodeStart(entry.getKey(), ops), valueCodec.encodeStart(entry.getValue(), ops)));
+        final RecordBuilder<T> builder = ops.mapBuilder(input.size());
+        for (final var entry : encoded) {
+            builder.add(entry.first(), entry.second());
+        }
+        return builder.build(prefix);
+    }
+
+    @Override
+    public <T> @NotNull Map<K, V> readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        if (!ops.isThreadSafe()) return sequential().readDirect(input, ops);
+        final List<Pair<K, V>> decoded = ParallelTask.apply(pool, threshold, entries(FailFastException.unwrap(ops.getMap(input))),
+                entry -> Pair.of(keyCodec.readDirect(entry.first(), ops), valueCodec.readDirect(entry.second(), ops)));
+        if (factory != null) {
+            final Map<K, V> read = factory.apply(decoded.size());
+            for (final var entry : decoded) {
+                read.put(entry.first(), entry.second());
+            }
+            return read;
+        }
+        final ImmutableMap.Builder<K, V> read = ImmutableMap.builderWithExpectedSize(decoded.size());
+        for (final var entry : decoded) {
+            read.put(entry.first(), entry.second());
+        }
+        return read.build();
+    }
+
+    @Override
+    public <T> @NotNull T encodeDirect(final @NotNull Map<K, V> input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        if (!ops.isThreadSafe()) return sequential().encodeDirect(input, ops, prefix);
+        final List<Pair<T, T>> encoded = ParallelTask.apply(pool, threshold, new ArrayList<>(input.entrySet()),
+                entry -> Pair.of(keyCodec.encodeDirect(entry.getKey(), ops, ops.empty()), valueCodec.encodeDirect(entry.getValue(), ops, ops.empty())));
+        final RecordBuilder<T> builder = ops.mapBuilder(input.size());
+        for (final var entry : encoded) {
+            builder.add(entry.first(), entry.second());
+        }
+        return FailFastException.unwrap(builder.build(prefix));
+    }
+
+    private static <T> @NotNull List<Pair<T, T>> entries(final @NotNull MapLike<T> map) {
+        final List<Pair<T, T>> entries = new ArrayList<>(map.size());
+        map.forEachEntry((key, value) -> entries.add(Pair.of(key, value)));
+        return entries;
+    }
+
+    private @NotNull UnboundedMapCodec<K, V> sequential() {
+        return new UnboundedMapCodec<>(keyCodec, valueCodec, factory);
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelMapCodec[" + keyCodec + " -> " + valueCodec + ']';
+    }
+}
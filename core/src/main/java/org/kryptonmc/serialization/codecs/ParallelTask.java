@@ -0,0 +1,86 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.codecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Applies a function to a range of values in parallel, splitting the range
+ * in half until the ranges are small enough to apply the function to
+ * sequentially, and keeping the results in the same order as the values.
+ */
+@SuppressWarnings("serial") // Tasks are never serialized.
+final class ParallelTask<I, O> extends RecursiveAction {
+
+    private final List<I> input;
+    private final Object[] output;
+    private final Function<? super I, ? extends O> function;
+    private final int threshold;
+    private final int from;
+    private final int to;
+
+    private ParallelTask(final @NotNull List<I> input, final Object @NotNull [] output, final @NotNull Function<? super I, ? extends O> function,
+                         final int threshold, final int from, final int to) {
+        this.input = input;
+        this.output = output;
+        this.function = function;
+        this.threshold = threshold;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Applies the given function to all of the given values, in the given
+     * pool if there are more than the given threshold of them, and in the
+     * calling thread otherwise.
+     *
+     * @param pool The pool.
+     * @param threshold The most values to apply the function to in one task.
+     * @param input The values.
+     * @param function The function.
+     * @param <I> The value type.
+     * @param <O> The result type.
+     * @return The results, in the same order as the values.
+     */
+    @SuppressWarnings("unchecked")
+    static <I, O> @NotNull List<O> apply(final @NotNull ForkJoinPool pool, final int threshold, final @NotNull List<I> input,
+                                         final @NotNull Function<? super I, ? extends O> function) {
+        final List<I> values = input instanceof RandomAccess ? input : new ArrayList<>(input);
+        final var output = new Object[values.size()];
+        final var task = new ParallelTask<>(values, output, function, threshold, 0, output.length);
+        if (output.length <= threshold || ForkJoinTask.getPool() == pool) {
+            // Small inputs aren't worth handing to the pool, and if we're already in it, which we will be when a parallel codec is inside
+            // another one, we can just fork from here.
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+        return (List<O>) Arrays.asList(output);
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            for (int i = from; i < to; i++) {
+                output[i] = function.apply(input.get(i));
+            }
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        invokeAll(new ParallelTask<>(input, output, function, threshold, from, middle), new ParallelTask<>(input, output, function, threshold, middle, to));
+    }
+}
@@ -14,9 +14,14 @@
 package org.kryptonmc.serialization.codecs;
 
 import java.util.Objects;
+import java.util.StringJoiner;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kryptonmc.serialization.Codec;
 import org.kryptonmc.serialization.DataOps;
 import org.kryptonmc.serialization.DataResult;
@@ -28,8 +33,20 @@ import org.kryptonmc.serialization.MapDecoder;
 import org.kryptonmc.serialization.MapEncoder;
 import org.kryptonmc.serialization.MapLike;
 import org.kryptonmc.serialization.RecordBuilder;
+import org.kryptonmc.util.function.Function10;
+import org.kryptonmc.util.function.Function11;
+import org.kryptonmc.util.function.Function12;
+import org.kryptonmc.util.function.Function13;
+import org.kryptonmc.util.function.Function14;
+import org.kryptonmc.util.function.Function15;
+import org.kryptonmc.util.function.Function16;
 import org.kryptonmc.util.function.Function3;
 import org.kryptonmc.util.function.Function4;
+import org.kryptonmc.util.function.Function5;
+import org.kryptonmc.util.function.Function6;
+import org.kryptonmc.util.function.Function7;
+import org.kryptonmc.util.function.Function8;
+import org.kryptonmc.util.function.Function9;
 import org.kryptonmc.util.functional.App;
 import org.kryptonmc.util.functional.Applicative;
 import org.kryptonmc.util.functional.K1;
@@ -77,6 +94,9 @@ import org.kryptonmc.util.functional.K1;
  */
 public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu<O>, F> {
 
+    // Compilation can be disabled to compare compiled record codecs with the standard implementation, such as in benchmarks.
+    private static final boolean COMPILED = !Boolean.getBoolean("org.kryptonmc.serialization.disableRecordCompilation");
+
     /**
      * Creates a new instance for the record codec builder applicative.
      *
@@ -89,7 +109,52 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
 
     @SuppressWarnings("MissingJavadocMethod")
     public static <O, F> @NotNull RecordCodecBuilder<O, F> of(final @NotNull Function<O, F> getter, final @NotNull MapCodec<F> codec) {
-        return new RecordCodecBuilder<>(getter, o -> codec, codec);
+        return new RecordCodecBuilder<>(getter, o -> codec, codec, new Field<>(codec, getter, null), null);
+    }
+
+    /**
+     * Creates a new record codec builder for a field that holds an int
+     * value, which gets the value from the complex type and encodes it
+     * without boxing it.
+     *
+     * @param getter The getter function to get the value with.
+     * @param codec The field codec.
+     * @param <O> The input type.
+     * @return The record codec builder.
+     */
+    public static <O> @NotNull RecordCodecBuilder<O, Integer> ofInt(final @NotNull ToIntFunction<O> getter, final @NotNull IntFieldCodec codec) {
+        final Function<O, Integer> boxed = getter::applyAsInt;
+        return new RecordCodecBuilder<>(boxed, o -> codec, codec, new Field<>(codec, boxed, new IntGetter<>(codec, getter)), null);
+    }
+
+    /**
+     * Creates a new record codec builder for a field that holds a long
+     * value, which gets the value from the complex type and encodes it
+     * without boxing it.
+     *
+     * @param getter The getter function to get the value with.
+     * @param codec The field codec.
+     * @param <O> The input type.
+     * @return The record codec builder.
+     */
+    public static <O> @NotNull RecordCodecBuilder<O, Long> ofLong(final @NotNull ToLongFunction<O> getter, final @NotNull LongFieldCodec codec) {
+        final Function<O, Long> boxed = getter::applyAsLong;
+        return new RecordCodecBuilder<>(boxed, o -> codec, codec, new Field<>(codec, boxed, new LongGetter<>(codec, getter)), null);
+    }
+
+    /**
+     * Creates a new record codec builder for a field that holds a double
+     * value, which gets the value from the complex type and encodes it
+     * without boxing it.
+     *
+     * @param getter The getter function to get the value with.
+     * @param codec The field codec.
+     * @param <O> The input type.
+     * @return The record codec builder.
+     */
+    public static <O> @NotNull RecordCodecBuilder<O, Double> ofDouble(final @NotNull ToDoubleFunction<O> getter, final @NotNull DoubleFieldCodec codec) {
+        final Function<O, Double> boxed = getter::applyAsDouble;
+        return new RecordCodecBuilder<>(boxed, o -> codec, codec, new Field<>(codec, boxed, new DoubleGetter<>(codec, getter)), null);
     }
 
     /**
@@ -103,7 +168,7 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
      * @return The record codec builder.
      */
     public static <O, F> @NotNull RecordCodecBuilder<O, F> point(final @NotNull F instance) {
-        return new RecordCodecBuilder<>(o -> instance, o -> Encoder.empty(), Decoder.unit(instance));
+        return new RecordCodecBuilder<>(o -> instance, o -> Encoder.empty(), Decoder.unit(instance), null, new Point<>(instance, null));
     }
 
     /**
@@ -150,7 +215,7 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
      */
     public static <O, F> @NotNull RecordCodecBuilder<O, F> point(final @NotNull F instance, final @NotNull Lifecycle lifecycle) {
         return new RecordCodecBuilder<>(o -> instance, o -> Encoder.<F>empty().withLifecycle(lifecycle),
-                Decoder.unit(instance).withLifecycle(lifecycle));
+                Decoder.unit(instance).withLifecycle(lifecycle), null, new Point<>(instance, lifecycle));
     }
 
     /**
@@ -179,8 +244,12 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
         return build(builder.apply(instance()));
     }
 
+    @SuppressWarnings("unchecked")
     private static <O> @NotNull MapCodec<O> build(final @NotNull App<Mu<O>, O> builderBox) {
         final var builder = unbox(builderBox);
+        // Optimization: If the record was compiled in to a flat table of fields, we can encode the input directly, rather than creating a
+        // new encoder for every object we encode.
+        if (builder.decoder instanceof CompiledRecord<?, ?>) return buildCompiled((CompiledRecord<O, O>) builder.decoder);
         return new MapCodec<>() {
             @Override
             public <T> @NotNull DataResult<O> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
@@ -192,6 +261,17 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
                 return builder.encoder.apply(input).encode(input, ops, prefix);
             }
 
+            @Override
+            public <T> @NotNull O decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                return builder.decoder.decodeDirect(input, ops);
+            }
+
+            @Override
+            public <T> @NotNull RecordBuilder<T> encodeDirect(final O input, final @NotNull DataOps<T> ops,
+                                                              final @NotNull RecordBuilder<T> prefix) {
+                return builder.encoder.apply(input).encodeDirect(input, ops, prefix);
+            }
+
             @Override
             public String toString() {
                 return "RecordCodec[" + builder.decoder + "]";
@@ -199,6 +279,74 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
         };
     }
 
+    private static <O> @NotNull MapCodec<O> buildCompiled(final @NotNull CompiledRecord<O, O> record) {
+        if (RecordCodecGenerator.ENABLED) {
+            final MapCodec<O> generated = RecordCodecGenerator.generate(record.classData());
+            if (generated != null) return generated;
+        }
+        return new MapCodec<>() {
+            @Override
+            public <T> @NotNull DataResult<O> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                return record.decode(input, ops);
+            }
+
+            @Override
+            public <T> @NotNull RecordBuilder<T> encode(final O input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+                return record.encode(input, ops, prefix);
+            }
+
+            @Override
+            public <T> @NotNull O decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                return record.decodeDirect(input, ops);
+            }
+
+            @Override
+            public <T> @NotNull RecordBuilder<T> encodeDirect(final O input, final @NotNull DataOps<T> ops,
+                                                              final @NotNull RecordBuilder<T> prefix) {
+                return record.encodeDirect(input, ops, prefix);
+            }
+
+            @Override
+            public int expectedSize() {
+                return record.fields.length;
+            }
+
+            @Override
+            public String toString() {
+                return "RecordCodec[" + record + "]";
+            }
+        };
+    }
+
+    /**
+     * Compiles the given fields and constructor in to a record codec builder
+     * that decodes and encodes all the fields in a single pass, if all the
+     * given arguments are fields created with {@link #of(Function, MapCodec)}.
+     *
+     * @param point The point that holds the constructor.
+     * @param constructor The function that calls the constructor with the
+     *                    decoded values of the fields.
+     * @param arguments The arguments to the constructor.
+     * @param <O> The complex type.
+     * @param <R> The result type.
+     * @return The compiled builder, or null if the arguments could not be
+     *         compiled.
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private static <O, R> @Nullable RecordCodecBuilder<O, R> compile(final @NotNull Point<?> point, final @NotNull Function<Object[], R> constructor,
+                                                                     final @NotNull App<Mu<O>, ?> @NotNull ... arguments) {
+        if (!COMPILED) return null;
+        final Field<O, ?>[] fields = (Field<O, ?>[]) new Field<?, ?>[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            final var field = unbox(arguments[i]).field;
+            if (field == null) return null;
+            fields[i] = field;
+        }
+        final var record = new CompiledRecord<>(fields, constructor, point.lifecycle());
+        return new RecordCodecBuilder<>(record::construct, record::encoder, record, null, null);
+    }
+
     private static <O, F> @NotNull RecordCodecBuilder<O, F> unbox(final @NotNull App<Mu<O>, F> box) {
         return (RecordCodecBuilder<O, F>) box;
     }
@@ -206,12 +354,187 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
     private final Function<O, F> getter;
     private final Function<O, MapEncoder<F>> encoder;
     private final MapDecoder<F> decoder;
+    // Only present for builders created with of, which are the fields of a record.
+    private final @Nullable Field<O, F> field;
+    // Only present for builders created with point, which hold the constructor of a record.
+    private final @Nullable Point<F> point;
 
     private RecordCodecBuilder(final @NotNull Function<O, F> getter, final @NotNull Function<O, MapEncoder<F>> encoder,
                                final @NotNull MapDecoder<F> decoder) {
+        this(getter, encoder, decoder, null, null);
+    }
+
+    private RecordCodecBuilder(final @NotNull Function<O, F> getter, final @NotNull Function<O, MapEncoder<F>> encoder,
+                               final @NotNull MapDecoder<F> decoder, final @Nullable Field<O, F> field, final @Nullable Point<F> point) {
         this.getter = Objects.requireNonNull(getter, "getter");
         this.encoder = Objects.requireNonNull(encoder, "encoder");
         this.decoder = Objects.requireNonNull(decoder, "decoder");
+        this.field = field;
+        this.point = point;
+    }
+
+    private record Field<O, F>(@NotNull MapCodec<F> codec, @NotNull Function<O, F> getter, @Nullable PrimitiveGetter<O> primitive) {
+
+        <T> void encode(final O input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+            // Optimization: Primitive fields are encoded without boxing the value, and can never fail.
+            if (primitive != null) {
+                primitive.encode(input, ops, prefix);
+                return;
+            }
+            codec.encode(getter.apply(input), ops, prefix);
+        }
+
+        <T> void encodeDirect(final O input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+            if (primitive != null) {
+                primitive.encode(input, ops, prefix);
+                return;
+            }
+            codec.encodeDirect(getter.apply(input), ops, prefix);
+        }
+    }
+
+    // This is package-private so that generated record codecs can use it, see RecordCodecTemplate.
+    interface PrimitiveGetter<O> {
+
+        <T> void encode(final O input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix);
+    }
+
+    private record IntGetter<O>(@NotNull IntFieldCodec codec, @NotNull ToIntFunction<O> getter) implements PrimitiveGetter<O> {
+
+        @Override
+        public <T> void encode(final O input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+            codec.encodeInt(getter.applyAsInt(input), ops, prefix);
+        }
+    }
+
+    private record LongGetter<O>(@NotNull LongFieldCodec codec, @NotNull ToLongFunction<O> getter) implements PrimitiveGetter<O> {
+
+        @Override
+        public <T> void encode(final O input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+            codec.encodeLong(getter.applyAsLong(input), ops, prefix);
+        }
+    }
+
+    private record DoubleGetter<O>(@NotNull DoubleFieldCodec codec, @NotNull ToDoubleFunction<O> getter) implements PrimitiveGetter<O> {
+
+        @Override
+        public <T> void encode(final O input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+            codec.encodeDouble(getter.applyAsDouble(input), ops, prefix);
+        }
+    }
+
+    private record Point<F>(@NotNull F value, @Nullable Lifecycle lifecycle) {
+    }
+
+    /**
+     * A record that has been compiled in to a flat table of fields and a
+     * constructor, so that it can be decoded in a single loop over the fields,
+     * and encoded in another, without building up any intermediate decoders
+     * or encoders.
+     *
+     * @param <O> The complex type.
+     * @param <R> The result type.
+     */
+    private static final class CompiledRecord<O, R> implements MapDecoder<R> {
+
+        private final Field<O, ?>[] fields;
+        private final Function<Object[], R> constructor;
+        private final @Nullable Lifecycle lifecycle;
+        private final Lifecycle decodeLifecycle;
+
+        CompiledRecord(final Field<O, ?> @NotNull [] fields, final @NotNull Function<Object[], R> constructor,
+                       final @Nullable Lifecycle lifecycle) {
+            this.fields = fields;
+            this.constructor = constructor;
+            this.lifecycle = lifecycle;
+            // A point without a lifecycle decodes to a result with the default lifecycle, which is experimental.
+            decodeLifecycle = lifecycle != null ? lifecycle : Lifecycle.experimental();
+        }
+
+        @Override
+        public <T> @NotNull DataResult<R> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+            final var results = new DataResult<?>[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                results[i] = fields[i].codec.decode(input, ops);
+            }
+            return DataResult.applyAll(constructor, results).addLifecycle(decodeLifecycle);
+        }
+
+        @Override
+        public <T> @NotNull R decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+            final var values = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = fields[i].codec.decodeDirect(input, ops);
+            }
+            return constructor.apply(values);
+        }
+
+        <T> @NotNull RecordBuilder<T> encode(final O input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+            for (final var field : fields) {
+                field.encode(input, ops, prefix);
+            }
+            if (lifecycle != null) prefix.lifecycle(lifecycle);
+            return prefix;
+        }
+
+        <T> @NotNull RecordBuilder<T> encodeDirect(final O input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+            for (final var field : fields) {
+                field.encodeDirect(input, ops, prefix);
+            }
+            if (lifecycle != null) prefix.lifecycle(lifecycle);
+            return prefix;
+        }
+
+        @NotNull R construct(final O input) {
+            final var values = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                values[i] = fields[i].getter.apply(input);
+            }
+            return constructor.apply(values);
+        }
+
+        @NotNull RecordCodecGenerator.ClassData classData() {
+            final var codecs = new MapCodec<?>[fields.length];
+            final var getters = new Function<?, ?>[fields.length];
+            final var primitives = new PrimitiveGetter<?>[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                codecs[i] = fields[i].codec;
+                getters[i] = fields[i].getter;
+                primitives[i] = fields[i].primitive;
+            }
+            return new RecordCodecGenerator.ClassData(codecs, getters, primitives, constructor, lifecycle, "RecordCodec[" + this + "]");
+        }
+
+        @SuppressWarnings("Convert2Diamond")
+        @NotNull MapEncoder<R> encoder(final O input) {
+            // This is only used when the compiled record is nested inside another record, as the top level record is encoded directly.
+            return new MapEncoder<R>() {
+                @Override
+                public <T> @NotNull RecordBuilder<T> encode(final R value, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+                    return CompiledRecord.this.encode(input, ops, prefix);
+                }
+
+                @Override
+                public <T> @NotNull RecordBuilder<T> encodeDirect(final R value, final @NotNull DataOps<T> ops,
+                                                                  final @NotNull RecordBuilder<T> prefix) {
+                    return CompiledRecord.this.encodeDirect(input, ops, prefix);
+                }
+
+                @Override
+                public String toString() {
+                    return "CompiledEncoder[" + CompiledRecord.this + "]";
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            final var joiner = new StringJoiner(" * ");
+            for (final var field : fields) {
+                joiner.add(field.codec.toString());
+            }
+            return joiner.toString();
+        }
     }
 
     /**
@@ -241,10 +564,16 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public <A, R> @NotNull Function<App<RecordCodecBuilder.Mu<O>, A>, App<RecordCodecBuilder.Mu<O>, R>> lift1(
                 final @NotNull App<RecordCodecBuilder.Mu<O>, Function<A, R>> function) {
             return fa -> {
                 final var f = unbox(function);
+                if (f.point != null) {
+                    final Function<A, R> constructor = f.point.value();
+                    final var compiled = compile(f.point, values -> constructor.apply((A) values[0]), fa);
+                    if (compiled != null) return compiled;
+                }
                 final var a = unbox(fa);
                 return new RecordCodecBuilder<>(
                         o -> f.getter.apply(o).apply(a.getter.apply(o)),
@@ -261,6 +590,14 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
                                     return prefix;
                                 }
 
+                                @Override
+                                public <T> @NotNull RecordBuilder<T> encodeDirect(final R input, final @NotNull DataOps<T> ops,
+                                                                                  final @NotNull RecordBuilder<T> prefix) {
+                                    aEncoder.encodeDirect(aFromO, ops, prefix);
+                                    fEncoder.encodeDirect(a1 -> input, ops, prefix);
+                                    return prefix;
+                                }
+
                                 @Override
                                 public String toString() {
                                     return fEncoder + " * " + aEncoder;
@@ -273,6 +610,12 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
                                 return a.decoder.decode(input, ops).flatMap(ar -> f.decoder.decode(input, ops).map(fr -> fr.apply(ar)));
                             }
 
+                            @Override
+                            public <T> @NotNull R decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                                final A ar = a.decoder.decodeDirect(input, ops);
+                                return f.decoder.decodeDirect(input, ops).apply(ar);
+                            }
+
                             @Override
                             public String toString() {
                                 return f.decoder + " * " + a.decoder;
@@ -282,7 +625,7 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
             };
         }
 
-        @SuppressWarnings("Convert2Diamond")
+        @SuppressWarnings({"Convert2Diamond", "unchecked"})
         @Override
         public <A, B, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap2(final @NotNull App<RecordCodecBuilder.Mu<O>, BiFunction<A, B, R>> function,
                                                                        final @NotNull App<RecordCodecBuilder.Mu<O>, A> a,
@@ -290,6 +633,11 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
             final var f = unbox(function);
             final var fa = unbox(a);
             final var fb = unbox(b);
+            if (f.point != null) {
+                final BiFunction<A, B, R> constructor = f.point.value();
+                final var compiled = compile(f.point, values -> constructor.apply((A) values[0], (B) values[1]), a, b);
+                if (compiled != null) return compiled;
+            }
             return new RecordCodecBuilder<>(
                     o -> f.getter.apply(o).apply(fa.getter.apply(o), fb.getter.apply(o)),
                     o -> {
@@ -309,6 +657,15 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
                                 return prefix;
                             }
 
+                            @Override
+                            public <T> @NotNull RecordBuilder<T> encodeDirect(final R input, final @NotNull DataOps<T> ops,
+                                                                              final @NotNull RecordBuilder<T> prefix) {
+                                aEncoder.encodeDirect(aFromO, ops, prefix);
+                                bEncoder.encodeDirect(bFromO, ops, prefix);
+                                fEncoder.encodeDirect((a1, b1) -> input, ops, prefix);
+                                return prefix;
+                            }
+
                             @Override
                             public String toString() {
                                 return fEncoder + " * " + aEncoder + " * " + bEncoder;
@@ -325,6 +682,14 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
                             ));
                         }
 
+                        @Override
+                        public <T> @NotNull R decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                            return f.decoder.decodeDirect(input, ops).apply(
+                                    fa.decoder.decodeDirect(input, ops),
+                                    fb.decoder.decodeDirect(input, ops)
+                            );
+                        }
+
                         @Override
                         public String toString() {
                             return f.decoder + " * " + fa.decoder + " * " + fb.decoder;
@@ -333,7 +698,7 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
             );
         }
 
-        @SuppressWarnings("Convert2Diamond")
+        @SuppressWarnings({"Convert2Diamond", "unchecked"})
         @Override
         public <A, B, C, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap3(
                 final @NotNull App<RecordCodecBuilder.Mu<O>, Function3<A, B, C, R>> function, final @NotNull App<RecordCodecBuilder.Mu<O>, A> a,
@@ -342,6 +707,11 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
             final var fa = unbox(a);
             final var fb = unbox(b);
             final var fc = unbox(c);
+            if (f.point != null) {
+                final Function3<A, B, C, R> constructor = f.point.value();
+                final var compiled = compile(f.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2]), a, b, c);
+                if (compiled != null) return compiled;
+            }
             return new RecordCodecBuilder<>(
                     o -> f.getter.apply(o).apply(fa.getter.apply(o), fb.getter.apply(o), fc.getter.apply(o)),
                     o -> {
@@ -364,6 +734,16 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
                                 return prefix;
                             }
 
+                            @Override
+                            public <T> @NotNull RecordBuilder<T> encodeDirect(final R input, final @NotNull DataOps<T> ops,
+                                                                              final @NotNull RecordBuilder<T> prefix) {
+                                aEncoder.encodeDirect(aFromO, ops, prefix);
+                                bEncoder.encodeDirect(bFromO, ops, prefix);
+                                cEncoder.encodeDirect(cFromO, ops, prefix);
+                                fEncoder.encodeDirect((a1, b1, c1) -> input, ops, prefix);
+                                return prefix;
+                            }
+
                             @Override
                             public String toString() {
                                 return fEncoder + " * " + aEncoder + " * " + bEncoder + " * " + cEncoder;
@@ -381,6 +761,15 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
                             ));
                         }
 
+                        @Override
+                        public <T> @NotNull R decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                            return f.decoder.decodeDirect(input, ops).apply(
+                                    fa.decoder.decodeDirect(input, ops),
+                                    fb.decoder.decodeDirect(input, ops),
+                                    fc.decoder.decodeDirect(input, ops)
+                            );
+                        }
+
                         @Override
                         public String toString() {
                             return f.decoder + " * " + fa.decoder + " * " + fb.decoder + " * " + fc.decoder;
@@ -389,7 +778,7 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
             );
         }
 
-        @SuppressWarnings("Convert2Diamond")
+        @SuppressWarnings({"Convert2Diamond", "unchecked"})
         @Override
         public <A, B, C, D, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap4(
                 final @NotNull App<RecordCodecBuilder.Mu<O>, Function4<A, B, C, D, R>> function, final @NotNull App<RecordCodecBuilder.Mu<O>, A> a,
@@ -400,6 +789,12 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
             final var fb = unbox(b);
             final var fc = unbox(c);
             final var fd = unbox(d);
+            if (f.point != null) {
+                final Function4<A, B, C, D, R> constructor = f.point.value();
+                final var compiled = compile(f.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2], (D) values[3]),
+                        a, b, c, d);
+                if (compiled != null) return compiled;
+            }
             return new RecordCodecBuilder<>(
                     o -> f.getter.apply(o).apply(fa.getter.apply(o), fb.getter.apply(o), fc.getter.apply(o), fd.getter.apply(o)),
                     o -> {
@@ -425,6 +820,17 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
                                 return prefix;
                             }
 
+                            @Override
+                            public <T> @NotNull RecordBuilder<T> encodeDirect(final R input, final @NotNull DataOps<T> ops,
+                                                                              final @NotNull RecordBuilder<T> prefix) {
+                                aEncoder.encodeDirect(aFromO, ops, prefix);
+                                bEncoder.encodeDirect(bFromO, ops, prefix);
+                                cEncoder.encodeDirect(cFromO, ops, prefix);
+                                dEncoder.encodeDirect(dFromO, ops, prefix);
+                                fEncoder.encodeDirect((a1, b1, c1, d1) -> input, ops, prefix);
+                                return prefix;
+                            }
+
                             @Override
                             public String toString() {
                                 return fEncoder + " * " + aEncoder + " * " + bEncoder + " * " + cEncoder + " * " + dEncoder;
@@ -443,6 +849,16 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
                             ));
                         }
 
+                        @Override
+                        public <T> @NotNull R decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+                            return f.decoder.decodeDirect(input, ops).apply(
+                                    fa.decoder.decodeDirect(input, ops),
+                                    fb.decoder.decodeDirect(input, ops),
+                                    fc.decoder.decodeDirect(input, ops),
+                                    fd.decoder.decodeDirect(input, ops)
+                            );
+                        }
+
                         @Override
                         public String toString() {
                             return f.decoder + " * " + fa.decoder + " * " + fb.decoder + " * " + fc.decoder + " * " + fd.decoder;
@@ -451,6 +867,250 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
             );
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap5(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function5<A, B, C, D, E, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function5<A, B, C, D, E, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4]), a, b, c, d, e);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap5(function, a, b, c, d, e);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap6(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function6<A, B, C, D, E, F, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function6<A, B, C, D, E, F, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5]), a, b, c, d, e, f);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap6(function, a, b, c, d, e, f);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap7(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function7<A, B, C, D, E, F, G, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, G> g) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function7<A, B, C, D, E, F, G, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5], (G) values[6]), a, b, c, d, e, f, g);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap7(function, a, b, c, d, e, f, g);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap8(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function8<A, B, C, D, E, F, G, H, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, G> g, final @NotNull App<RecordCodecBuilder.Mu<O>, H> h) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function8<A, B, C, D, E, F, G, H, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7]), a, b, c, d, e, f, g, h);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap8(function, a, b, c, d, e, f, g, h);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap9(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function9<A, B, C, D, E, F, G, H, I, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, G> g, final @NotNull App<RecordCodecBuilder.Mu<O>, H> h,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, I> i) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function9<A, B, C, D, E, F, G, H, I, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8]),
+                        a, b, c, d, e, f, g, h, i);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap9(function, a, b, c, d, e, f, g, h, i);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap10(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function10<A, B, C, D, E, F, G, H, I, J, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, G> g, final @NotNull App<RecordCodecBuilder.Mu<O>, H> h,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, I> i, final @NotNull App<RecordCodecBuilder.Mu<O>, J> j) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function10<A, B, C, D, E, F, G, H, I, J, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9]),
+                        a, b, c, d, e, f, g, h, i, j);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap10(function, a, b, c, d, e, f, g, h, i, j);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap11(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function11<A, B, C, D, E, F, G, H, I, J, K, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, G> g, final @NotNull App<RecordCodecBuilder.Mu<O>, H> h,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, I> i, final @NotNull App<RecordCodecBuilder.Mu<O>, J> j,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, K> k) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function11<A, B, C, D, E, F, G, H, I, J, K, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9],
+                        (K) values[10]), a, b, c, d, e, f, g, h, i, j, k);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap11(function, a, b, c, d, e, f, g, h, i, j, k);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, L, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap12(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function12<A, B, C, D, E, F, G, H, I, J, K, L, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, G> g, final @NotNull App<RecordCodecBuilder.Mu<O>, H> h,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, I> i, final @NotNull App<RecordCodecBuilder.Mu<O>, J> j,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, K> k, final @NotNull App<RecordCodecBuilder.Mu<O>, L> l) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function12<A, B, C, D, E, F, G, H, I, J, K, L, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9],
+                        (K) values[10], (L) values[11]), a, b, c, d, e, f, g, h, i, j, k, l);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap12(function, a, b, c, d, e, f, g, h, i, j, k, l);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, L, M, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap13(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function13<A, B, C, D, E, F, G, H, I, J, K, L, M, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, G> g, final @NotNull App<RecordCodecBuilder.Mu<O>, H> h,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, I> i, final @NotNull App<RecordCodecBuilder.Mu<O>, J> j,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, K> k, final @NotNull App<RecordCodecBuilder.Mu<O>, L> l,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, M> m) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function13<A, B, C, D, E, F, G, H, I, J, K, L, M, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9],
+                        (K) values[10], (L) values[11], (M) values[12]), a, b, c, d, e, f, g, h, i, j, k, l, m);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap13(function, a, b, c, d, e, f, g, h, i, j, k, l, m);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap14(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function14<A, B, C, D, E, F, G, H, I, J, K, L, M, N, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, G> g, final @NotNull App<RecordCodecBuilder.Mu<O>, H> h,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, I> i, final @NotNull App<RecordCodecBuilder.Mu<O>, J> j,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, K> k, final @NotNull App<RecordCodecBuilder.Mu<O>, L> l,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, M> m, final @NotNull App<RecordCodecBuilder.Mu<O>, N> n) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function14<A, B, C, D, E, F, G, H, I, J, K, L, M, N, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9],
+                        (K) values[10], (L) values[11], (M) values[12], (N) values[13]), a, b, c, d, e, f, g, h, i, j, k, l, m, n);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap14(function, a, b, c, d, e, f, g, h, i, j, k, l, m, n);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, P, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap15(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function15<A, B, C, D, E, F, G, H, I, J, K, L, M, N, P, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, G> g, final @NotNull App<RecordCodecBuilder.Mu<O>, H> h,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, I> i, final @NotNull App<RecordCodecBuilder.Mu<O>, J> j,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, K> k, final @NotNull App<RecordCodecBuilder.Mu<O>, L> l,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, M> m, final @NotNull App<RecordCodecBuilder.Mu<O>, N> n,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, P> p) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function15<A, B, C, D, E, F, G, H, I, J, K, L, M, N, P, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9],
+                        (K) values[10], (L) values[11], (M) values[12], (N) values[13], (P) values[14]),
+                        a, b, c, d, e, f, g, h, i, j, k, l, m, n, p);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap15(function, a, b, c, d, e, f, g, h, i, j, k, l, m, n, p);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <A, B, C, D, E, F, G, H, I, J, K, L, M, N, P, Q, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> ap16(
+                final @NotNull App<RecordCodecBuilder.Mu<O>, Function16<A, B, C, D, E, F, G, H, I, J, K, L, M, N, P, Q, R>> function,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, A> a, final @NotNull App<RecordCodecBuilder.Mu<O>, B> b,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, C> c, final @NotNull App<RecordCodecBuilder.Mu<O>, D> d,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, E> e, final @NotNull App<RecordCodecBuilder.Mu<O>, F> f,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, G> g, final @NotNull App<RecordCodecBuilder.Mu<O>, H> h,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, I> i, final @NotNull App<RecordCodecBuilder.Mu<O>, J> j,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, K> k, final @NotNull App<RecordCodecBuilder.Mu<O>, L> l,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, M> m, final @NotNull App<RecordCodecBuilder.Mu<O>, N> n,
+                final @NotNull App<RecordCodecBuilder.Mu<O>, P> p, final @NotNull App<RecordCodecBuilder.Mu<O>, Q> q) {
+            final var builder = unbox(function);
+            if (builder.point != null) {
+                final Function16<A, B, C, D, E, F, G, H, I, J, K, L, M, N, P, Q, R> constructor = builder.point.value();
+                final var compiled = compile(builder.point, values -> constructor.apply((A) values[0], (B) values[1], (C) values[2],
+                        (D) values[3], (E) values[4], (F) values[5], (G) values[6], (H) values[7], (I) values[8], (J) values[9],
+                        (K) values[10], (L) values[11], (M) values[12], (N) values[13], (P) values[14], (Q) values[15]),
+                        a, b, c, d, e, f, g, h, i, j, k, l, m, n, p, q);
+                if (compiled != null) return compiled;
+            }
+            return Applicative.super.ap16(function, a, b, c, d, e, f, g, h, i, j, k, l, m, n, p, q);
+        }
+
         @SuppressWarnings("Convert2Diamond")
         @Override
         public <T, R> @NotNull App<RecordCodecBuilder.Mu<O>, R> map(final @NotNull Function<? super T, ? extends R> function,
@@ -470,6 +1130,12 @@ public final class RecordCodecBuilder<O, F> implements App<RecordCodecBuilder.Mu
                             return encoder.encode(getter.apply(o), ops, prefix);
                         }
 
+                        @Override
+                        public @NotNull <U> RecordBuilder<U> encodeDirect(final R input, final @NotNull DataOps<U> ops,
+                                                                          final @NotNull RecordBuilder<U> prefix) {
+                            return encoder.encodeDirect(getter.apply(o), ops, prefix);
+                        }
+
                         @Override
                         public String toString() {
                             return encoder + "[mapped]";
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.codecs;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Objects;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.serialization.Lifecycle;
+import org.kryptonmc.serialization.MapCodec;
+
+/**
+ * Generates a dedicated class for each record codec, by defining a new hidden
+ * class from the bytes of {@link RecordCodecTemplate}, with the fields of the
+ * record as its class data.
+ *
+ * <p>This is opt-in, and can be enabled by setting the
+ * {@code org.kryptonmc.serialization.generateRecordCodecs} system property to
+ * {@code true}. If a class cannot be generated, for example, because the
+ * template cannot be read, generation is disabled, the failure is logged, and
+ * record codecs use their standard implementation instead.</p>
+ */
+final class RecordCodecGenerator {
+
+    static final boolean ENABLED = Boolean.getBoolean("org.kryptonmc.serialization.generateRecordCodecs");
+
+    private static final System.Logger LOGGER = System.getLogger(RecordCodecGenerator.class.getName());
+
+    private static volatile boolean unavailable;
+    private static volatile byte @Nullable [] template;
+
+    /**
+     * Generates a new record codec for the given class data.
+     *
+     * @param data The class data.
+     * @param <O> The record type.
+     * @return The generated codec, or null if generation is not available.
+     */
+    @SuppressWarnings("unchecked")
+    static <O> @Nullable MapCodec<O> generate(final @NotNull ClassData data) {
+        if (!ENABLED || unavailable || data.codecs().length > RecordCodecTemplate.MAX_FIELDS) return null;
+        final MethodHandles.Lookup lookup;
+        try {
+            // The class is initialized when it is constructed below, so that a failure in the template isn't mistaken for a failure to
+            // define the class.
+            lookup = MethodHandles.lookup().defineHiddenClassWithClassData(template(), data, false);
+        } catch (final IOException | IllegalAccessException | LinkageError exception) {
+            // If we can't define one class, we won't be able to define any others either.
+            if (!unavailable) {
+                unavailable = true;
+                LOGGER.log(System.Logger.Level.WARNING, "Could not generate record codecs, using the standard implementation instead", exception);
+            }
+            return null;
+        }
+        try {
+            return (MapCodec<O>) lookup.lookupClass().getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException exception) {
+            throw new IllegalStateException("Could not construct generated record codec " + data.description(), exception);
+        }
+    }
+
+    private static byte @NotNull [] template() throws IOException {
+        var bytes = template;
+        if (bytes != null) return bytes;
+        try (final var stream = RecordCodecTemplate.class.getResourceAsStream("RecordCodecTemplate.class")) {
+            if (stream == null) throw new IOException("Could not find the record codec template!");
+            bytes = stream.readAllBytes();
+        }
+        template = bytes;
+        return bytes;
+    }
+
+    /**
+     * The class data for a generated record codec.
+     *
+     * @param codecs The codecs for the fields.
+     * @param getters The getters for the fields, in the same order as the
+     *                codecs.
+     * @param primitives The getters that encode primitive fields without
+     *                   boxing them, in the same order as the codecs, or null
+     *                   for fields that are not primitive.
+     * @param constructor The function that constructs the record from the
+     *                    decoded values of the fields.
+     * @param lifecycle The lifecycle of the record, if any.
+     * @param description The description of the codec.
+     */
+    record ClassData(@NotNull MapCodec<?> @NotNull [] codecs, @NotNull Function<?, ?> @NotNull [] getters,
+                     RecordCodecBuilder.@Nullable PrimitiveGetter<?> @NotNull [] primitives, @NotNull Function<Object[], ?> constructor,
+                     @Nullable Lifecycle lifecycle, @NotNull String description) {
+
+        ClassData {
+            Objects.requireNonNull(codecs, "codecs");
+            Objects.requireNonNull(getters, "getters");
+            Objects.requireNonNull(primitives, "primitives");
+            Objects.requireNonNull(constructor, "constructor");
+            Objects.requireNonNull(description, "description");
+        }
+    }
+
+    private RecordCodecGenerator() {
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.codecs;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandles;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.Lifecycle;
+import org.kryptonmc.serialization.MapCodec;
+import org.kryptonmc.serialization.MapLike;
+import org.kryptonmc.serialization.RecordBuilder;
+
+/**
+ * The template for generated record codecs.
+ *
+ * <p>This class is never loaded directly. Instead,
+ * {@link RecordCodecGenerator} defines a new hidden class from the bytes of
+ * this class for every record codec it generates, with the fields, the
+ * constructor and the lifecycle of the record as the class data. As the class
+ * data is stored in static final fields, and every field of the record has
+ * its own call site, the JIT sees every sub-codec and getter as a constant,
+ * and every call site in the generated class only ever sees one type.</p>
+ *
+ * <p>This class must not use lambdas, inner classes, or anything else that
+ * would refer to this class from another class, as those would not be able to
+ * see the hidden class.</p>
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class RecordCodecTemplate implements MapCodec<Object> {
+
+    static final int MAX_FIELDS = 16;
+
+    private static final int SIZE;
+
+    private static final MapCodec C0;
+    private static final MapCodec C1;
+    private static final MapCodec C2;
+    private static final MapCodec C3;
+    private static final MapCodec C4;
+    private static final MapCodec C5;
+    private static final MapCodec C6;
+    private static final MapCodec C7;
+    private static final MapCodec C8;
+    private static final MapCodec C9;
+    private static final MapCodec C10;
+    private static final MapCodec C11;
+    private static final MapCodec C12;
+    private static final MapCodec C13;
+    private static final MapCodec C14;
+    private static final MapCodec C15;
+    private static final Function G0;
+    private static final Function G1;
+    private static final Function G2;
+    private static final Function G3;
+    private static final Function G4;
+    private static final Function G5;
+    private static final Function G6;
+    private static final Function G7;
+    private static final Function G8;
+    private static final Function G9;
+    private static final Function G10;
+    private static final Function G11;
+    private static final Function G12;
+    private static final Function G13;
+    private static final Function G14;
+    private static final Function G15;
+    private static final RecordCodecBuilder.PrimitiveGetter P0;
+    private static final RecordCodecBuilder.PrimitiveGetter P1;
+    private static final RecordCodecBuilder.PrimitiveGetter P2;
+    private static final RecordCodecBuilder.PrimitiveGetter P3;
+    private static final RecordCodecBuilder.PrimitiveGetter P4;
+    private static final RecordCodecBuilder.PrimitiveGetter P5;
+    private static final RecordCodecBuilder.PrimitiveGetter P6;
+    private static final RecordCodecBuilder.PrimitiveGetter P7;
+    private static final RecordCodecBuilder.PrimitiveGetter P8;
+    private static final RecordCodecBuilder.PrimitiveGetter P9;
+    private static final RecordCodecBuilder.PrimitiveGetter P10;
+    private static final RecordCodecBuilder.PrimitiveGetter P11;
+    private static final RecordCodecBuilder.PrimitiveGetter P12;
+    private static final RecordCodecBuilder.PrimitiveGetter P13;
+    private static final RecordCodecBuilder.PrimitiveGetter P14;
+    private static final RecordCodecBuilder.PrimitiveGetter P15;
+    private static final Function<Object[], Object> CONSTRUCTOR;
+    private static final @Nullable Lifecycle LIFECYCLE;
+    private static final Lifecycle DECODE_LIFECYCLE;
+    private static final String DESCRIPTION;
+
+    static {
+        final RecordCodecGenerator.ClassData data;
+        try {
+            data = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, RecordCodecGenerator.ClassData.class);
+        } catch (final IllegalAccessException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+        SIZE = data.codecs().length;
+        C0 = codec(data, 0);
+        C1 = codec(data, 1);
+        C2 = codec(data, 2);
+        C3 = codec(data, 3);
+        C4 = codec(data, 4);
+        C5 = codec(data, 5);
+        C6 = codec(data, 6);
+        C7 = codec(data, 7);
+        C8 = codec(data, 8);
+        C9 = codec(data, 9);
+        C10 = codec(data, 10);
+        C11 = codec(data, 11);
+        C12 = codec(data, 12);
+        C13 = codec(data, 13);
+        C14 = codec(data, 14);
+        C15 = codec(data, 15);
+        G0 = getter(data, 0);
+        G1 = getter(data, 1);
+        G2 = getter(data, 2);
+        G3 = getter(data, 3);
+        G4 = getter(data, 4);
+        G5 = getter(data, 5);
+        G6 = getter(data, 6);
+        G7 = getter(data, 7);
+        G8 = getter(data, 8);
+        G9 = getter(data, 9);
+        G10 = getter(data, 10);
+        G11 = getter(data, 11);
+        G12 = getter(data, 12);
+        G13 = getter(data, 13);
+        G14 = getter(data, 14);
+        G15 = getter(data, 15);
+        P0 = primitive(data, 0);
+        P1 = primitive(data, 1);
+        P2 = primitive(data, 2);
+        P3 = primitive(data, 3);
+        P4 = primitive(data, 4);
+        P5 = primitive(data, 5);
+        P6 = primitive(data, 6);
+        P7 = primitive(data, 7);
+        P8 = primitive(data, 8);
+        P9 = primitive(data, 9);
+        P10 = primitive(data, 10);
+        P11 = primitive(data, 11);
+        P12 = primitive(data, 12);
+        P13 = primitive(data, 13);
+        P14 = primitive(data, 14);
+        P15 = primitive(data, 15);
+        CONSTRUCTOR = (Function<Object[], Object>) data.constructor();
+        LIFECYCLE = data.lifecycle();
+        DECODE_LIFECYCLE = LIFECYCLE != null ? LIFECYCLE : Lifecycle.experimental();
+        DESCRIPTION = data.description();
+    }
+
+    private static @Nullable MapCodec codec(final RecordCodecGenerator.@NotNull ClassData data, final int index) {
+        return index < data.codecs().length ? data.codecs()[index] : null;
+    }
+
+    private static @Nullable Function getter(final RecordCodecGenerator.@NotNull ClassData data, final int index) {
+        return index < data.getters().length ? data.getters()[index] : null;
+    }
+
+    private static RecordCodecBuilder.@Nullable PrimitiveGetter primitive(final RecordCodecGenerator.@NotNull ClassData data, final int index) {
+        return index < data.primitives().length ? data.primitives()[index] : null;
+    }
+
+    RecordCodecTemplate() {
+    }
+
+    // Every field below has its own call site, and SIZE and the primitive getters are constants, so the checks and any unused call sites
+    // are folded away by the JIT. Primitive fields are encoded through their primitive getter, so that their values are never boxed.
+
+    @Override
+    public <T> @NotNull DataResult<Object> decode(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        final var results = new DataResult<?>[SIZE];
+        if (SIZE > 0) results[0] = C0.decode(input, ops);
+        if (SIZE > 1) results[1] = C1.decode(input, ops);
+        if (SIZE > 2) results[2] = C2.decode(input, ops);
+        if (SIZE > 3) results[3] = C3.decode(input, ops);
+        if (SIZE > 4) results[4] = C4.decode(input, ops);
+        if (SIZE > 5) results[5] = C5.decode(input, ops);
+        if (SIZE > 6) results[6] = C6.decode(input, ops);
+        if (SIZE > 7) results[7] = C7.decode(input, ops);
+        if (SIZE > 8) results[8] = C8.decode(input, ops);
+        if (SIZE > 9) results[9] = C9.decode(input, ops);
+        if (SIZE > 10) results[10] = C10.decode(input, ops);
+        if (SIZE > 11) results[11] = C11.decode(input, ops);
+        if (SIZE > 12) results[12] = C12.decode(input, ops);
+        if (SIZE > 13) results[13] = C13.decode(input, ops);
+        if (SIZE > 14) results[14] = C14.decode(input, ops);
+        if (SIZE > 15) results[15] = C15.decode(input, ops);
+        return DataResult.applyAll(CONSTRUCTOR, results).addLifecycle(DECODE_LIFECYCLE);
+    }
+
+    @Override
+    public <T> @NotNull Object decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        final var values = new Object[SIZE];
+        if (SIZE > 0) values[0] = C0.decodeDirect(input, ops);
+        if (SIZE > 1) values[1] = C1.decodeDirect(input, ops);
+        if (SIZE > 2) values[2] = C2.decodeDirect(input, ops);
+        if (SIZE > 3) values[3] = C3.decodeDirect(input, ops);
+        if (SIZE > 4) values[4] = C4.decodeDirect(input, ops);
+        if (SIZE > 5) values[5] = C5.decodeDirect(input, ops);
+        if (SIZE > 6) values[6] = C6.decodeDirect(input, ops);
+        if (SIZE > 7) values[7] = C7.decodeDirect(input, ops);
+        if (SIZE > 8) values[8] = C8.decodeDirect(input, ops);
+        if (SIZE > 9) values[9] = C9.decodeDirect(input, ops);
+        if (SIZE > 10) values[10] = C10.decodeDirect(input, ops);
+        if (SIZE > 11) values[11] = C11.decodeDirect(input, ops);
+        if (SIZE > 12) values[12] = C12.decodeDirect(input, ops);
+        if (SIZE > 13) values[13] = C13.decodeDirect(input, ops);
+        if (SIZE > 14) values[14] = C14.decodeDirect(input, ops);
+        if (SIZE > 15) values[15] = C15.decodeDirect(input, ops);
+        return CONSTRUCTOR.apply(values);
+    }
+
+    @Override
+    public <T> @NotNull RecordBuilder<T> encode(final Object input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+        if (P0 != null) P0.encode(input, ops, prefix);
+        else if (SIZE > 0) C0.encode(G0.apply(input), ops, prefix);
+        if (P1 != null) P1.encode(input, ops, prefix);
+        else if (SIZE > 1) C1.encode(G1.apply(input), ops, prefix);
+        if (P2 != null) P2.encode(input, ops, prefix);
+        else if (SIZE > 2) C2.encode(G2.apply(input), ops, prefix);
+        if (P3 != null) P3.encode(input, ops, prefix);
+        else if (SIZE > 3) C3.encode(G3.apply(input), ops, prefix);
+        if (P4 != null) P4.encode(input, ops, prefix);
+        else if (SIZE > 4) C4.encode(G4.apply(input), ops, prefix);
+        if (P5 != null) P5.encode(input, ops, prefix);
+        else if (SIZE > 5) C5.encode(G5.apply(input), ops, prefix);
+        if (P6 != null) P6.encode(input, ops, prefix);
+        else if (SIZE > 6) C6.encode(G6.apply(input), ops, prefix);
+        if (P7 != null) P7.encode(input, ops, prefix);
+        else if (SIZE > 7) C7.encode(G7.apply(input), ops, prefix);
+        if (P8 != null) P8.encode(input, ops, prefix);
+        else if (SIZE > 8) C8.encode(G8.apply(input), ops, prefix);
+        if (P9 != null) P9.encode(input, ops, prefix);
+        else if (SIZE > 9) C9.encode(G9.apply(input), ops, prefix);
+        if (P10 != null) P10.encode(input, ops, prefix);
+        else if (SIZE > 10) C10.encode(G10.apply(input), ops, prefix);
+        if (P11 != null) P11.encode(input, ops, prefix);
+        else if (SIZE > 11) C11.encode(G11.apply(input), ops, prefix);
+        if (P12 != null) P12.encode(input, ops, prefix);
+        else if (SIZE > 12) C12.encode(G12.apply(input), ops, prefix);
+        if (P13 != null) P13.encode(input, ops, prefix);
+        else if (SIZE > 13) C13.encode(G13.apply(input), ops, prefix);
+        if (P14 != null) P14.encode(input, ops, prefix);
+        else if (SIZE > 14) C14.encode(G14.apply(input), ops, prefix);
+        if (P15 != null) P15.encode(input, ops, prefix);
+        else if (SIZE > 15) C15.encode(G15.apply(input), ops, prefix);
+        if (LIFECYCLE != null) prefix.lifecycle(LIFECYCLE);
+        return prefix;
+    }
+
+    @Override
+    public <T> @NotNull RecordBuilder<T> encodeDirect(final Object input, final @NotNull DataOps<T> ops, final @NotNull RecordBuilder<T> prefix) {
+        if (P0 != null) P0.encode(input, ops, prefix);
+        else if (SIZE > 0) C0.encodeDirect(G0.apply(input), ops, prefix);
+        if (P1 != null) P1.encode(input, ops, prefix);
+        else if (SIZE > 1) C1.encodeDirect(G1.apply(input), ops, prefix);
+        if (P2 != null) P2.encode(input, ops, prefix);
+        else if (SIZE > 2) C2.encodeDirect(G2.apply(input), ops, prefix);
+        if (P3 != null) P3.encode(input, ops, prefix);
+        else if (SIZE > 3) C3.encodeDirect(G3.apply(input), ops, prefix);
+        if (P4 != null) P4.encode(input, ops, prefix);
+        else if (SIZE > 4) C4.encodeDirect(G4.apply(input), ops, prefix);
+        if (P5 != null) P5.encode(input, ops, prefix);
+        else if (SIZE > 5) C5.encodeDirect(G5.apply(input), ops, prefix);
+        if (P6 != null) P6.encode(input, ops, prefix);
+        else if (SIZE > 6) C6.encodeDirect(G6.apply(input), ops, prefix);
+        if (P7 != null) P7.encode(input, ops, prefix);
+        else if (SIZE > 7) C7.encodeDirect(G7.apply(input), ops, prefix);
+        if (P8 != null) P8.encode(input, ops, prefix);
+        else if (SIZE > 8) C8.encodeDirect(G8.apply(input), ops, prefix);
+        if (P9 != null) P9.encode(input, ops, prefix);
+        else if (SIZE > 9) C9.encodeDirect(G9.apply(input), ops, prefix);
+        if (P10 != null) P10.encode(input, ops, prefix);
+        else if (SIZE > 10) C10.encodeDirect(G10.apply(input), ops, prefix);
+        if (P11 != null) P11.encode(input, ops, prefix);
+        else if (SIZE > 11) C11.encodeDirect(G11.apply(input), ops, prefix);
+        if (P12 != null) P12.encode(input, ops, prefix);
+        else if (SIZE > 12) C12.encodeDirect(G12.apply(input), ops, prefix);
+        if (P13 != null) P13.encode(input, ops, prefix);
+        else if (SIZE > 13) C13.encodeDirect(G13.apply(input), ops, prefix);
+        if (P14 != null) P14.encode(input, ops, prefix);
+        else if (SIZE > 14) C14.encodeDirect(G14.apply(input), ops, prefix);
+        if (P15 != null) P15.encode(input, ops, prefix);
+        else if (SIZE > 15) C15.encodeDirect(G15.apply(input), ops, prefix);
+        if (LIFECYCLE != null) prefix.lifecycle(LIFECYCLE);
+        return prefix;
+    }
+
+    @Override
+    public int expectedSize() {
+        return SIZE;
+    }
+
+    @Override
+    public String toString() {
+        return DESCRIPTION;
+    }
+}
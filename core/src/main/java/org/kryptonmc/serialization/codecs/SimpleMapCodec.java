@@ -50,6 +50,17 @@ public record SimpleMapCodec<K, V>(@NotNull Codec<K> keyCodec, @NotNull Codec<V>
         return BaseMapCodec.super.encode(input, ops, prefix);
     }
 
+    @Override
+    public <T> @NotNull Map<K, V> decodeDirect(final @NotNull MapLike<T> input, final @NotNull DataOps<T> ops) {
+        return BaseMapCodec.super.decodeDirect(input, ops);
+    }
+
+    @Override
+    public <T> @NotNull RecordBuilder<T> encodeDirect(final @NotNull Map<K, V> input, final @NotNull DataOps<T> ops,
+                                                      final @NotNull RecordBuilder<T> prefix) {
+        return BaseMapCodec.super.encodeDirect(input, ops, prefix);
+    }
+
     @Override
     public String toString() {
         return "SimpleMapCodec[" + keyCodec + " -> " + valueCodec + "]";
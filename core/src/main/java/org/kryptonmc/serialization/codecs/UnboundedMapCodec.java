@@ -15,10 +15,13 @@ package org.kryptonmc.serialization.codecs;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.IntFunction;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kryptonmc.serialization.Codec;
 import org.kryptonmc.serialization.DataOps;
 import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.FailFastException;
 import org.kryptonmc.serialization.Lifecycle;
 import org.kryptonmc.util.Pair;
 
@@ -27,10 +30,13 @@ import org.kryptonmc.util.Pair;
  *
  * @param keyCodec The key codec.
  * @param valueCodec The value codec.
+ * @param factory The factory for decoded maps, or null to decode to
+ *                immutable maps.
  * @param <K> The key type.
  * @param <V> The value type.
  */
-public record UnboundedMapCodec<K, V>(@NotNull Codec<K> keyCodec, @NotNull Codec<V> valueCodec) implements BaseMapCodec<K, V>, Codec<Map<K, V>> {
+public record UnboundedMapCodec<K, V>(@NotNull Codec<K> keyCodec, @NotNull Codec<V> valueCodec, @Nullable IntFunction<? extends Map<K, V>> factory)
+        implements BaseMapCodec<K, V>, Codec<Map<K, V>> {
 
     @SuppressWarnings("MissingJavadocMethod")
     public UnboundedMapCodec {
@@ -38,6 +44,11 @@ public record UnboundedMapCodec<K, V>(@NotNull Codec<K> keyCodec, @NotNull Codec
         Objects.requireNonNull(valueCodec, "valueCodec");
     }
 
+    @SuppressWarnings("MissingJavadocMethod")
+    public UnboundedMapCodec(final @NotNull Codec<K> keyCodec, final @NotNull Codec<V> valueCodec) {
+        this(keyCodec, valueCodec, null);
+    }
+
     @Override
     public <T> @NotNull DataResult<Pair<Map<K, V>, T>> decode(final @NotNull T input, final @NotNull DataOps<T> ops) {
         return ops.getMap(input).withLifecycle(Lifecycle.stable()).flatMap(map -> decode(map, ops)).map(result -> Pair.of(result, input));
@@ -45,7 +56,17 @@ public record UnboundedMapCodec<K, V>(@NotNull Codec<K> keyCodec, @NotNull Codec
 
     @Override
     public <T> @NotNull DataResult<T> encode(final @NotNull Map<K, V> input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
-        return encode(input, ops, ops.mapBuilder()).build(prefix);
+        return encode(input, ops, ops.mapBuilder(input.size())).build(prefix);
+    }
+
+    @Override
+    public <T> @NotNull Map<K, V> readDirect(final @NotNull T input, final @NotNull DataOps<T> ops) {
+        return decodeDirect(FailFastException.unwrap(ops.getMap(input)), ops);
+    }
+
+    @Override
+    public <T> @NotNull T encodeDirect(final @NotNull Map<K, V> input, final @NotNull DataOps<T> ops, final @NotNull T prefix) {
+        return FailFastException.unwrap(encodeDirect(input, ops, ops.mapBuilder(input.size())).build(prefix));
     }
 
     @Override
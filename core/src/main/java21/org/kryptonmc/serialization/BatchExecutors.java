@@ -0,0 +1,35 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Provides the executor that batches of inputs are decoded and encoded on
+ * when no executor is given.
+ *
+ * <p>This is the Java 21 version, which starts a virtual thread for every
+ * task. The parallelism given with the batch still limits how many of them
+ * are running at once.</p>
+ */
+final class BatchExecutors {
+
+    // Never shut down. The executor has no threads of its own, only the virtual threads for the tasks that are running.
+    private static final ExecutorService VIRTUAL = Executors.newVirtualThreadPerTaskExecutor();
+
+    static @NotNull Executor defaultExecutor() {
+        return VIRTUAL;
+    }
+
+    private BatchExecutors() {
+    }
+}
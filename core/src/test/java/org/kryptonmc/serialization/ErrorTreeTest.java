@@ -0,0 +1,76 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ErrorTreeTest {
+
+    @Test
+    void path() {
+        final ErrorTree tree = ErrorTree.append(leaf("bad").atIndex(3).atKey("b"), leaf("other").atKey("c")).atKey("a");
+        assertEquals("a.b[3]: bad; a.c: other", tree.get());
+    }
+
+    @Test
+    void mappedPath() {
+        final ErrorTree tree = leaf("bad").map(message -> message + "!").atIndex(0).atKey("xs");
+        assertEquals("xs[0]: bad!", tree.get());
+    }
+
+    @Test
+    void capAppliesToCombinedTrees() {
+        // Two trees that are each under the cap, which together are over it, like the errors of two elements of a list of lists.
+        final int size = ErrorTree.MAX_RETAINED - 1;
+        final ErrorTree tree = ErrorTree.append(errors(size).atIndex(0), errors(size).atIndex(1));
+        assertEquals(ErrorTree.MAX_RETAINED, tree.retainedCount());
+        assertEquals(size * 2, tree.count());
+        assertEquals(ErrorTree.MAX_RETAINED + 1, tree.get().split("; ").length);
+        assertTrue(tree.get().endsWith("; ... and " + (size * 2 - ErrorTree.MAX_RETAINED) + " more errors"));
+    }
+
+    @Test
+    void truncatedTreeInSecondPositionIsFolded() {
+        final int size = ErrorTree.MAX_RETAINED + 10;
+        final ErrorTree tree = ErrorTree.append(leaf("first"), errors(size).atIndex(1));
+        assertEquals(ErrorTree.MAX_RETAINED, tree.retainedCount());
+        assertEquals(size + 1, tree.count());
+        final String message = tree.get();
+        assertTrue(message.startsWith("first; [1]: error 0; "));
+        // There is only one count of the dropped errors, at the very end.
+        assertEquals(message.indexOf("more errors"), message.lastIndexOf("more errors"));
+        assertTrue(message.endsWith("; ... and " + (size + 1 - ErrorTree.MAX_RETAINED) + " more errors"));
+    }
+
+    @Test
+    void errorsAfterCapAreOnlyCounted() {
+        ErrorTree tree = leaf("error 0");
+        for (int i = 1; i < ErrorTree.MAX_RETAINED * 3; i++) {
+            tree = ErrorTree.append(tree, leaf("error " + i));
+        }
+        assertEquals(ErrorTree.MAX_RETAINED, tree.retainedCount());
+        assertEquals(ErrorTree.MAX_RETAINED * 3, tree.count());
+        assertTrue(tree.get().endsWith("; ... and " + ErrorTree.MAX_RETAINED * 2 + " more errors"));
+    }
+
+    private static ErrorTree errors(final int count) {
+        ErrorTree tree = leaf("error 0");
+        for (int i = 1; i < count; i++) {
+            tree = ErrorTree.append(tree, leaf("error " + i));
+        }
+        return tree;
+    }
+
+    private static ErrorTree leaf(final String message) {
+        return ErrorTree.of(() -> message);
+    }
+}
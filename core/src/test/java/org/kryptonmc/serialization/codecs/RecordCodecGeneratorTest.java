@@ -0,0 +1,48 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.codecs;
+
+import org.junit.jupiter.api.Test;
+import org.kryptonmc.serialization.Codec;
+import org.kryptonmc.serialization.MapCodec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The generatedRecordCodecsTest task runs this with generation enabled, and
+ * the test task runs it with generation disabled.
+ */
+class RecordCodecGeneratorTest {
+
+    private static final MapCodec<Point> POINT = RecordCodecBuilder.createMap(instance -> instance.group(
+            Codec.INT.fieldOf("x").getting(Point::x),
+            Codec.INT.fieldOf("y").getting(Point::y)
+    ).apply(instance, Point::new));
+
+    @Test
+    void generatedOnlyWhenEnabled() {
+        assertEquals(RecordCodecGenerator.ENABLED, POINT.getClass().isHidden());
+    }
+
+    @Test
+    void generationStaysAvailable() {
+        final MapCodec<Named> named = RecordCodecBuilder.createMap(instance -> instance.group(
+                Codec.STRING.fieldOf("name").getting(Named::name)
+        ).apply(instance, Named::new));
+        assertEquals(RecordCodecGenerator.ENABLED, named.getClass().isHidden());
+        // Each generated codec is its own class, where the standard implementation shares one class between all of them.
+        assertEquals(RecordCodecGenerator.ENABLED, POINT.getClass() != named.getClass());
+    }
+
+    record Point(int x, int y) {
+    }
+
+    record Named(String name) {
+    }
+}
@@ -25,7 +25,16 @@ import org.kryptonmc.serialization.ListBuilder;
 
 final class ArrayBuilder implements ListBuilder<JsonElement> {
 
-    private DataResult<JsonArray> builder = DataResult.success(new JsonArray(), Lifecycle.stable());
+    private DataResult<JsonArray> builder;
+
+    ArrayBuilder() {
+        builder = DataResult.success(new JsonArray(), Lifecycle.stable());
+    }
+
+    ArrayBuilder(final int expectedSize) {
+        // Only the first array is presized, as we don't know how many values will be added after it is built.
+        builder = DataResult.success(new JsonArray(expectedSize), Lifecycle.stable());
+    }
 
     @Override
     public @NotNull DataOps<JsonElement> ops() {
@@ -65,9 +74,11 @@ final class ArrayBuilder implements ListBuilder<JsonElement> {
     @Override
     public @NotNull DataResult<JsonElement> build(final @Nullable JsonElement prefix) {
         final DataResult<JsonElement> result = builder.flatMap(b -> {
-            if (!(prefix instanceof JsonArray) && prefix != ops().empty()) return DataResult.error("Cannot append a list to a non-list: " + prefix);
+            if (!(prefix instanceof JsonArray) && prefix != ops().empty()) return DataResult.error(() -> "Cannot append a list to a non-list: " + prefix);
+            // Optimization: We replace our array below, so if there is nothing to merge with, we can hand it out rather than copying it.
+            if (prefix == ops().empty()) return DataResult.success(b, Lifecycle.stable());
             final var array = new JsonArray();
-            if (prefix != ops().empty()) array.addAll(prefix.getAsJsonArray());
+            array.addAll(prefix.getAsJsonArray());
             array.addAll(b);
             return DataResult.success(array, Lifecycle.stable());
         });
@@ -18,9 +18,11 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -29,9 +31,13 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.kryptonmc.serialization.DataOps;
 import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.DataVisitor;
+import org.kryptonmc.serialization.FailFastException;
+import org.kryptonmc.serialization.FieldKey;
 import org.kryptonmc.serialization.ListBuilder;
 import org.kryptonmc.serialization.MapLike;
 import org.kryptonmc.serialization.RecordBuilder;
+import org.kryptonmc.serialization.Transcoder;
 import org.kryptonmc.util.Pair;
 
 /**
@@ -40,6 +46,10 @@ import org.kryptonmc.util.Pair;
 public final class GsonOps implements DataOps<JsonElement> {
 
     public static final @NotNull GsonOps INSTANCE = new GsonOps();
+    // Doubles can hold every whole number smaller than this exactly, but not every one above it.
+    private static final double MAX_EXACT_DOUBLE = 0x1p53;
+
+    private final FieldKey.Cache<JsonElement> keys = FieldKey.newCache(this);
 
     private GsonOps() {
     }
@@ -67,6 +77,60 @@ public final class GsonOps implements DataOps<JsonElement> {
         return error("getNumberValue", "number", input);
     }
 
+    @Override
+    public @NotNull DataResult<Integer> getIntValue(final @NotNull JsonElement input) {
+        if (input instanceof final JsonPrimitive primitive) {
+            if (primitive.isNumber()) return DataResult.success(primitive.getAsInt());
+            if (primitive.isBoolean()) return DataResult.success(primitive.getAsBoolean() ? 1 : 0);
+        }
+        return error("getIntValue", "number", input);
+    }
+
+    @Override
+    public @NotNull DataResult<Long> getLongValue(final @NotNull JsonElement input) {
+        if (input instanceof final JsonPrimitive primitive) {
+            if (primitive.isNumber()) return DataResult.success(primitive.getAsLong());
+            if (primitive.isBoolean()) return DataResult.success(primitive.getAsBoolean() ? 1L : 0L);
+        }
+        return error("getLongValue", "number", input);
+    }
+
+    @Override
+    public @NotNull DataResult<Double> getDoubleValue(final @NotNull JsonElement input) {
+        if (input instanceof final JsonPrimitive primitive) {
+            if (primitive.isNumber()) return DataResult.success(primitive.getAsDouble());
+            if (primitive.isBoolean()) return DataResult.success(primitive.getAsBoolean() ? 1.0 : 0.0);
+        }
+        return error("getDoubleValue", "number", input);
+    }
+
+    @Override
+    public int getIntDirect(final @NotNull JsonElement input) {
+        if (input instanceof final JsonPrimitive primitive) {
+            if (primitive.isNumber()) return primitive.getAsInt();
+            if (primitive.isBoolean()) return primitive.getAsBoolean() ? 1 : 0;
+        }
+        throw FailFastException.INSTANCE;
+    }
+
+    @Override
+    public long getLongDirect(final @NotNull JsonElement input) {
+        if (input instanceof final JsonPrimitive primitive) {
+            if (primitive.isNumber()) return primitive.getAsLong();
+            if (primitive.isBoolean()) return primitive.getAsBoolean() ? 1L : 0L;
+        }
+        throw FailFastException.INSTANCE;
+    }
+
+    @Override
+    public double getDoubleDirect(final @NotNull JsonElement input) {
+        if (input instanceof final JsonPrimitive primitive) {
+            if (primitive.isNumber()) return primitive.getAsDouble();
+            if (primitive.isBoolean()) return primitive.getAsBoolean() ? 1.0 : 0.0;
+        }
+        throw FailFastException.INSTANCE;
+    }
+
     @Override
     public @NotNull DataResult<String> getStringValue(final @NotNull JsonElement input) {
         if (input instanceof final JsonPrimitive primitive && primitive.isString()) return DataResult.success(input.getAsString());
@@ -91,18 +155,71 @@ public final class GsonOps implements DataOps<JsonElement> {
         return error("getList", "json array", input);
     }
 
+    @Override
+    public @NotNull DataResult<List<JsonElement>> getIndexedList(final @NotNull JsonElement input) {
+        if (!(input instanceof final JsonArray array)) return error("getIndexedList", "json array", input);
+        return DataResult.success(new ArrayView(array));
+    }
+
+    @Override
+    public @NotNull DataResult<byte[]> getByteArray(final @NotNull JsonElement input) {
+        if (!(input instanceof final JsonArray array)) return error("getByteArray", "json array", input);
+        final byte[] result = new byte[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            if (!(array.get(i) instanceof final JsonPrimitive element) || !element.isNumber() && !element.isBoolean()) {
+                return DataResult.error(() -> "Some elements in the given input " + input + " are not bytes!");
+            }
+            // Booleans are read as 1 and 0, the same as they are when each element is read on its own.
+            result[i] = element.isBoolean() ? (element.getAsBoolean() ? (byte) 1 : (byte) 0) : element.getAsByte();
+        }
+        return DataResult.success(result);
+    }
+
+    @Override
+    public @NotNull DataResult<int[]> getIntArray(final @NotNull JsonElement input) {
+        if (!(input instanceof final JsonArray array)) return error("getIntArray", "json array", input);
+        final int[] result = new int[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            if (!(array.get(i) instanceof final JsonPrimitive element) || !element.isNumber() && !element.isBoolean()) {
+                return DataResult.error(() -> "Some elements in the given input " + input + " are not integers!");
+            }
+            result[i] = element.isBoolean() ? (element.getAsBoolean() ? 1 : 0) : element.getAsInt();
+        }
+        return DataResult.success(result);
+    }
+
+    @Override
+    public @NotNull DataResult<long[]> getLongArray(final @NotNull JsonElement input) {
+        if (!(input instanceof final JsonArray array)) return error("getLongArray", "json array", input);
+        final long[] result = new long[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            if (!(array.get(i) instanceof final JsonPrimitive element) || !element.isNumber() && !element.isBoolean()) {
+                return DataResult.error(() -> "Some elements in the given input " + input + " are not longs!");
+            }
+            result[i] = element.isBoolean() ? (element.getAsBoolean() ? 1L : 0L) : element.getAsLong();
+        }
+        return DataResult.success(result);
+    }
+
     @Override
     public @NotNull DataResult<JsonElement> mergeToList(final @NotNull JsonElement list, final @NotNull JsonElement value) {
-        if (!list.isJsonArray() && list != empty()) return DataResult.error("Cannot merge value " + value + " in to non-list " + list + "!");
+        if (!list.isJsonArray() && list != empty()) return DataResult.error(() -> "Cannot merge value " + value + " in to non-list " + list + "!");
         final var result = new JsonArray();
         if (list != empty()) result.addAll(list.getAsJsonArray());
         result.add(value);
         return DataResult.success(result);
     }
 
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToListOwned(final @NotNull JsonElement list, final @NotNull JsonElement value) {
+        if (!(list instanceof final JsonArray array)) return mergeToList(list, value);
+        array.add(value);
+        return DataResult.success(array);
+    }
+
     @Override
     public @NotNull DataResult<JsonElement> mergeToList(final @NotNull JsonElement list, final @NotNull List<JsonElement> values) {
-        if (!list.isJsonArray() && list != empty()) return DataResult.error("Cannot merge values " + values + " in to non-list " + list + "!");
+        if (!list.isJsonArray() && list != empty()) return DataResult.error(() -> "Cannot merge values " + values + " in to non-list " + list + "!");
         final var result = new JsonArray();
         if (list != empty()) result.addAll(list.getAsJsonArray());
         values.forEach(result::add);
@@ -128,7 +245,11 @@ public final class GsonOps implements DataOps<JsonElement> {
     @Override
     public @NotNull DataResult<MapLike<JsonElement>> getMap(final @NotNull JsonElement input) {
         if (!(input instanceof final JsonObject object)) return error("getMap", "json object", input);
-        return DataResult.success(new MapLike<>() {
+        return DataResult.success(mapView(object));
+    }
+
+    private static @NotNull MapLike<JsonElement> mapView(final @NotNull JsonObject object) {
+        return new MapLike<>() {
             @Override
             public @Nullable JsonElement get(final @NotNull JsonElement key) {
                 return orNull(object.get(key.getAsString()));
@@ -144,11 +265,23 @@ public final class GsonOps implements DataOps<JsonElement> {
                 return object.entrySet().stream().map(entry -> Pair.of(new JsonPrimitive(entry.getKey()), entry.getValue()));
             }
 
+            @Override
+            public void forEachEntry(final @NotNull BiConsumer<JsonElement, JsonElement> consumer) {
+                for (final var entry : object.entrySet()) {
+                    consumer.accept(new JsonPrimitive(entry.getKey()), entry.getValue());
+                }
+            }
+
+            @Override
+            public int size() {
+                return object.size();
+            }
+
             @Override
             public String toString() {
                 return "MapLike[" + object + "]";
             }
-        });
+        };
     }
 
     @Override
@@ -166,31 +299,39 @@ public final class GsonOps implements DataOps<JsonElement> {
     public @NotNull DataResult<JsonElement> mergeToMap(final @NotNull JsonElement map, final @NotNull JsonElement key,
                                                        final @NotNull JsonElement value) {
         if (!map.isJsonObject() && map != empty()) {
-            return DataResult.error("Cannot merge key " + key + " and value " + value + " in to non-map " + map + "!");
+            return DataResult.error(() -> "Cannot merge key " + key + " and value " + value + " in to non-map " + map + "!");
         }
-        if (!key.isJsonPrimitive() || !key.getAsJsonPrimitive().isString()) return DataResult.error("Key " + key + " is not a string!");
+        if (!key.isJsonPrimitive() || !key.getAsJsonPrimitive().isString()) return DataResult.error(() -> "Key " + key + " is not a string!");
         final var result = new JsonObject();
         if (map != empty()) map.getAsJsonObject().entrySet().forEach(entry -> result.add(entry.getKey(), entry.getValue()));
         result.add(key.getAsString(), value);
         return DataResult.success(result);
     }
 
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToMapOwned(final @NotNull JsonElement map, final @NotNull JsonElement key,
+                                                            final @NotNull JsonElement value) {
+        if (!(map instanceof final JsonObject object)) return mergeToMap(map, key, value);
+        if (!key.isJsonPrimitive() || !key.getAsJsonPrimitive().isString()) return DataResult.error(() -> "Key " + key + " is not a string!");
+        object.add(key.getAsString(), value);
+        return DataResult.success(object);
+    }
+
     @Override
     public @NotNull DataResult<JsonElement> mergeToMap(final @NotNull JsonElement map, final @NotNull MapLike<JsonElement> values) {
-        if (!map.isJsonObject() && map != empty()) return DataResult.error("Cannot merge values " + values + " in to non-map " + map + "!");
+        if (!map.isJsonObject() && map != empty()) return DataResult.error(() -> "Cannot merge values " + values + " in to non-map " + map + "!");
         final var result = new JsonObject();
         if (map != empty()) map.getAsJsonObject().entrySet().forEach(entry -> result.add(entry.getKey(), entry.getValue()));
         final var missed = new ArrayList<JsonElement>();
-        values.entries().forEach(entry -> {
-            final var key = entry.first();
+        values.forEachEntry((key, value) -> {
             if (!key.isJsonPrimitive() || !key.getAsJsonPrimitive().isString()) {
                 missed.add(key);
                 return;
             }
-            result.add(key.getAsString(), entry.second());
+            result.add(key.getAsString(), value);
         });
         if (!missed.isEmpty()) {
-            return DataResult.error("Cannot merge values " + values + " in to map " + map + " as keys " + missed + " are not strings!");
+            return DataResult.error(() -> "Cannot merge values " + values + " in to map " + map + " as keys " + missed + " are not strings!");
         }
         return DataResult.success(result);
     }
@@ -210,6 +351,11 @@ public final class GsonOps implements DataOps<JsonElement> {
         return new JsonPrimitive(value);
     }
 
+    @Override
+    public @NotNull JsonElement createKey(final @NotNull FieldKey key) {
+        return keys.get(key);
+    }
+
     @Override
     public @NotNull JsonElement createList(final @NotNull Stream<JsonElement> input) {
         final var result = new JsonArray();
@@ -217,11 +363,43 @@ public final class GsonOps implements DataOps<JsonElement> {
         return result;
     }
 
+    @Override
+    public @NotNull JsonElement createByteArray(final byte @NotNull [] input) {
+        final var result = new JsonArray(input.length);
+        for (final var value : input) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull JsonElement createIntArray(final int @NotNull [] input) {
+        final var result = new JsonArray(input.length);
+        for (final var value : input) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull JsonElement createLongArray(final long @NotNull [] input) {
+        final var result = new JsonArray(input.length);
+        for (final var value : input) {
+            result.add(value);
+        }
+        return result;
+    }
+
     @Override
     public @NotNull ListBuilder<JsonElement> listBuilder() {
         return new ArrayBuilder();
     }
 
+    @Override
+    public @NotNull ListBuilder<JsonElement> listBuilder(final int expectedSize) {
+        return new ArrayBuilder(expectedSize);
+    }
+
     @Override
     public @NotNull JsonElement createMap(final @NotNull Stream<Pair<JsonElement, JsonElement>> map) {
         final var result = new JsonObject();
@@ -235,27 +413,124 @@ public final class GsonOps implements DataOps<JsonElement> {
     }
 
     @Override
-    public <U> @NotNull U convertTo(final @NotNull DataOps<U> outOps, final @NotNull JsonElement input) {
-        if (input.isJsonObject()) return convertMap(outOps, input);
-        if (input.isJsonArray()) return convertList(outOps, input);
-        if (input.isJsonNull()) return outOps.empty();
-        final JsonPrimitive primitive = input.getAsJsonPrimitive();
-        if (primitive.isString()) return outOps.createString(primitive.getAsString());
-        if (primitive.isBoolean()) return outOps.createBoolean(primitive.getAsBoolean());
+    public void visit(final @NotNull JsonElement input, final @NotNull DataVisitor<JsonElement> visitor) {
+        if (input instanceof final JsonObject object) {
+            visitor.visitMap(mapView(object));
+        } else if (input instanceof final JsonArray array) {
+            visitor.visitList(new ArrayView(array));
+        } else if (input instanceof final JsonPrimitive primitive) {
+            if (primitive.isString()) {
+                visitor.visitString(primitive.getAsString());
+            } else if (primitive.isBoolean()) {
+                visitor.visitBoolean(primitive.getAsBoolean());
+            } else {
+                visitNumber(primitive, visitor);
+            }
+        } else {
+            visitor.visitEmpty();
+        }
+    }
+
+    /*
+     * Numbers are visited as the narrowest type that can hold them exactly, with whole numbers visited as whole number types and
+     * everything else visited as a float or a double.
+     *
+     * Optimization: This used to be done by converting every number to a BigDecimal, which is expensive, and most numbers don't need.
+     * Numbers that were created from Java numbers are already the type we need, and numbers that were parsed from JSON text, which
+     * Gson keeps as the text until they are used, can almost always be parsed as a long or a double. A number that isn't whole, or
+     * whose text has a fraction that isn't all zeros, isn't whole, however close the double is to a whole number. We only fall back to
+     * BigDecimal when a double can't be trusted to say whether the value is whole, which is when the text has an exponent, or when the
+     * value is too big for a double to hold every whole number around it.
+     */
+    private static void visitNumber(final @NotNull JsonPrimitive primitive, final @NotNull DataVisitor<JsonElement> visitor) {
+        final Number number = primitive.getAsNumber();
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            visitWhole(number.longValue(), visitor);
+            return;
+        }
+        try {
+            final double value;
+            // Whether the double is the exact value of the number, so it is whole exactly when the double is.
+            final boolean exact;
+            // Floats go through their text, like everything else, so that they convert to the same value they always have.
+            if (number instanceof Double) {
+                value = number.doubleValue();
+                exact = true;
+            } else {
+                final String text = number.toString();
+                final boolean exponent = text.indexOf('e') != -1 || text.indexOf('E') != -1;
+                final int point = text.indexOf('.');
+                if (point == -1 && !exponent) {
+                    visitWhole(Long.parseLong(text), visitor);
+                    return;
+                }
+                value = Double.parseDouble(text);
+                if (!exponent && !zeros(text, point + 1)) {
+                    visitFraction(value, visitor);
+                    return;
+                }
+                exact = !exponent;
+            }
+            if (!isWhole(value)) {
+                visitFraction(value, visitor);
+                return;
+            }
+            if (exact && Math.abs(value) < MAX_EXACT_DOUBLE) {
+                visitWhole((long) value, visitor);
+                return;
+            }
+        } catch (final NumberFormatException ignored) {
+            // Either a whole number too big for a long, or something Gson accepted that Java doesn't, which BigDecimal will sort out.
+        }
         final var value = primitive.getAsBigDecimal();
         try {
-            final var longValue = value.longValueExact();
-            if ((byte) longValue == longValue) return outOps.createByte((byte) longValue);
-            if ((short) longValue == longValue) return outOps.createShort((short) longValue);
-            if ((int) longValue == longValue) return outOps.createInt((int) longValue);
-            return outOps.createLong(longValue);
+            visitWhole(value.longValueExact(), visitor);
         } catch (final ArithmeticException exception) {
-            final var doubleValue = value.doubleValue();
-            if ((float) doubleValue == doubleValue) return outOps.createFloat((float) doubleValue);
-            return outOps.createDouble(doubleValue);
+            visitFraction(value.doubleValue(), visitor);
+        }
+    }
+
+    private static boolean zeros(final @NotNull String text, final int start) {
+        for (int i = start; i < text.length(); i++) {
+            if (text.charAt(i) != '0') return false;
+        }
+        return true;
+    }
+
+    private static boolean isWhole(final double value) {
+        return value == Math.rint(value) && value >= Long.MIN_VALUE && value < 0x1p63;
+    }
+
+    private static void visitWhole(final long value, final @NotNull DataVisitor<JsonElement> visitor) {
+        if ((byte) value == value) {
+            visitor.visitByte((byte) value);
+        } else if ((short) value == value) {
+            visitor.visitShort((short) value);
+        } else if ((int) value == value) {
+            visitor.visitInt((int) value);
+        } else {
+            visitor.visitLong(value);
+        }
+    }
+
+    private static void visitFraction(final double value, final @NotNull DataVisitor<JsonElement> visitor) {
+        if ((float) value == value) {
+            visitor.visitFloat((float) value);
+        } else {
+            visitor.visitDouble(value);
         }
     }
 
+    @Override
+    public <U> @NotNull U convertTo(final @NotNull DataOps<U> outOps, final @NotNull JsonElement input) {
+        return Transcoder.convert(this, outOps, input);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return "JSON";
@@ -266,6 +541,25 @@ public final class GsonOps implements DataOps<JsonElement> {
     }
 
     private static <R> @NotNull DataResult<R> error(final @NotNull String methodName, final @NotNull String name, final @NotNull JsonElement input) {
-        return DataResult.error("Provided input " + input + " for " + methodName + " is not a " + name + "!");
+        return DataResult.error(() -> "Provided input " + input + " for " + methodName + " is not a " + name + "!");
+    }
+
+    private static final class ArrayView extends AbstractList<JsonElement> implements RandomAccess {
+
+        private final JsonArray array;
+
+        ArrayView(final @NotNull JsonArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public JsonElement get(final int index) {
+            return orNull(array.get(index));
+        }
+
+        @Override
+        public int size() {
+            return array.size();
+        }
     }
 }
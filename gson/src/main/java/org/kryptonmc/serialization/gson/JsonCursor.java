@@ -0,0 +1,132 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A value in a JSON document that is being read by {@link JsonReaderOps},
+ * which is only read from the reader when it is first used.
+ *
+ * <p>Objects and arrays are read from the reader as they are used, without
+ * being built. Any other value is built when it is first used, and can then
+ * be used as many times as needed. If the value hasn't been used by the time
+ * the reader needs to move past it, it is built then, so that it can still be
+ * used afterwards.</p>
+ *
+ * <p>An array that has been read can be built afterwards from the elements
+ * it kept, as long as none of them were read as objects or arrays that can't
+ * be built. Otherwise, an object or array that has been read has no built
+ * value, and the operations tell anyone who asks for one that it has already
+ * been read.</p>
+ */
+final class JsonCursor extends JsonElement {
+
+    private final JsonReaderOps ops;
+    private @Nullable JsonElement element;
+    private @Nullable Object view;
+
+    JsonCursor(final @NotNull JsonReaderOps ops) {
+        this.ops = ops;
+    }
+
+    /**
+     * Gets this value as a built element, building it if it hasn't been
+     * used yet, or null if it has been read without being built, and can't
+     * be built any more.
+     *
+     * @return The element, or null if it can't be built.
+     */
+    @Nullable JsonElement element() {
+        if (element == null) {
+            if (view == null) {
+                element = ops.parse();
+            } else if (view instanceof final StreamedArray array) {
+                // Someone else wants an array that has already been read, so we build it out of the elements it kept, if we can.
+                element = array.replay();
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Checks whether this value can still be built, once it has been
+     * finished.
+     *
+     * @return Whether this value can be built.
+     */
+    boolean buildable() {
+        return element != null || view instanceof final StreamedArray array && array.replayable();
+    }
+    /**
+     * Gets this value as an object read from the reader, starting to read it
+     * if it hasn't been used yet.
+     *
+     * <p>This returns the same object every time it is called, so that
+     * decoders that try more than one way of decoding the same value can
+     * still find the values they have already read.</p>
+     *
+     * @return The object, or null if this value is not an object, or is
+     *         already being read as something else.
+     */
+    @Nullable StreamedObject object() {
+        if (view instanceof final StreamedObject object) return object;
+        if (view != null || element != null || ops.peek() != JsonToken.BEGIN_OBJECT) return null;
+        ops.beginObject();
+        final var object = new StreamedObject(ops);
+        view = object;
+        return object;
+    }
+
+    /**
+     * Gets this value as an array read from the reader, starting to read it
+     * if it hasn't been used yet.
+     *
+     * @return The array, or null if this value is not an array, or is
+     *         already being read.
+     */
+    @Nullable StreamedArray array() {
+        if (view instanceof final StreamedArray array && !array.started()) return array;
+        if (view != null || element != null || ops.peek() != JsonToken.BEGIN_ARRAY) return null;
+        ops.beginArray();
+        final var array = new StreamedArray(ops);
+        view = array;
+        return array;
+    }
+
+    /**
+     * Moves the reader past the end of this value, building it first if it
+     * hasn't been used yet.
+     */
+    void finish() {
+        if (view instanceof final StreamedObject object) {
+            object.finish();
+        } else if (view instanceof final StreamedArray array) {
+            array.finish();
+        } else if (element == null) {
+            element = ops.parse();
+        }
+    }
+
+    @Override
+    public @NotNull JsonElement deepCopy() {
+        final JsonElement result = element();
+        // Nothing about a value that has been read without being built can change any more.
+        return result != null ? result.deepCopy() : this;
+    }
+
+    @Override
+    public String toString() {
+        final JsonElement result = view == null ? element() : element;
+        return result != null ? result.toString() : String.valueOf(view);
+    }
+}
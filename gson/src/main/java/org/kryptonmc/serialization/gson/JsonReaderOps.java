@@ -0,0 +1,415 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.DataVisitor;
+import org.kryptonmc.serialization.Decoder;
+import org.kryptonmc.serialization.FailFastException;
+import org.kryptonmc.serialization.FieldKey;
+import org.kryptonmc.serialization.MapLike;
+import org.kryptonmc.util.Pair;
+
+/**
+ * Data operations for the Gson JSON library that read values straight from a
+ * {@link JsonReader} as they are decoded, rather than from a tree of JSON
+ * elements.
+ *
+ * <p>Objects and arrays are read from the reader as their values are asked
+ * for, in the order they appear in the document, and the values of objects
+ * that are never asked for are skipped without being built. The values that
+ * a decoder asks for out of order are built and kept until the object they
+ * are in has been decoded. This means that the memory used to decode a
+ * document grows with the size of the largest object in it that is not
+ * decoded in order, not with the size of the document.</p>
+ *
+ * <p>As the reader can't go backwards, an object or array can only be read
+ * once. Decoders that try more than one way of decoding the same value, such
+ * as either codecs, still work as long as every way reads the object's
+ * values in the same way, as the values that have already been read are
+ * kept. Arrays keep their elements until one of them is read as an object or
+ * array, so that they can be built if they are read again, which is what
+ * happens when the first way fails on an element that isn't an object or
+ * array. Any other value, and any value that is passed over, is built, so it
+ * can be read as many times as needed.</p>
+ *
+ * <p>Asking for a value that has already been read, and can't be built,
+ * gives an error saying so, rather than the value.</p>
+ */
+public final class JsonReaderOps implements DataOps<JsonElement> {
+
+    private static final String ALREADY_READ = "Value has already been read from the stream and can't be read again: ";
+
+    private final JsonReader reader;
+
+    /**
+     * Decodes a value from the given reader with the given decoder.
+     *
+     * <p>The whole of the next value in the reader is read, whether the
+     * decoder uses all of it or not, so the reader will be positioned after
+     * it once this returns.</p>
+     *
+     * @param decoder The decoder.
+     * @param reader The reader to read the value to decode from.
+     * @param <A> The value type.
+     * @return The result of decoding.
+     * @throws IOException If reading from the reader fails, or the document
+     *                     is not valid JSON.
+     */
+    public static <A> @NotNull DataResult<A> decode(final @NotNull Decoder<A> decoder, final @NotNull JsonReader reader) throws IOException {
+        final var ops = new JsonReaderOps(Objects.requireNonNull(reader, "reader"));
+        try {
+            final var root = new JsonCursor(ops);
+            final DataResult<A> result = decoder.read(root, ops);
+            root.finish();
+            return result;
+        } catch (final UncheckedIOException exception) {
+            throw exception.getCause();
+        } catch (final JsonParseException exception) {
+            if (exception.getCause() instanceof final IOException cause) throw cause;
+            throw exception;
+        }
+    }
+
+    private JsonReaderOps(final @NotNull JsonReader reader) {
+        this.reader = reader;
+    }
+
+    private static @Nullable JsonElement resolve(final @NotNull JsonElement input) {
+        return input instanceof final JsonCursor cursor ? cursor.element() : input;
+    }
+
+    // Values that have been read without being built are left as they are, so anything that asks for them later is told that they
+    // have been read, rather than given something else.
+    private static @NotNull JsonElement built(final @NotNull JsonElement input) {
+        final JsonElement result = resolve(input);
+        return result != null ? result : input;
+    }
+
+    private static <R> @NotNull DataResult<R> read(final @NotNull JsonElement input, final @NotNull Function<JsonElement, DataResult<R>> getter) {
+        final JsonElement result = resolve(input);
+        if (result == null) return DataResult.error(() -> ALREADY_READ + input);
+        return getter.apply(result);
+    }
+
+    private static @NotNull JsonElement readDirect(final @NotNull JsonElement input) {
+        final JsonElement result = resolve(input);
+        if (result == null) throw FailFastException.INSTANCE;
+        return result;
+    }
+
+    @NotNull JsonElement parse() {
+        return JsonParser.parseReader(reader);
+    }
+
+    @NotNull JsonToken peek() {
+        try {
+            return reader.peek();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    boolean hasNext() {
+        try {
+            return reader.hasNext();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @NotNull String nextName() {
+        try {
+            return reader.nextName();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void nextNull() {
+        try {
+            reader.nextNull();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void skipValue() {
+        try {
+            reader.skipValue();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void beginObject() {
+        try {
+            reader.beginObject();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void endObject() {
+        try {
+            reader.endObject();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void beginArray() {
+        try {
+            reader.beginArray();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void endArray() {
+        try {
+            reader.endArray();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public @NotNull JsonElement empty() {
+        return JsonNull.INSTANCE;
+    }
+
+    @Override
+    public @NotNull DataResult<Boolean> getBooleanValue(final @NotNull JsonElement input) {
+        return read(input, GsonOps.INSTANCE::getBooleanValue);
+    }
+
+    @Override
+    public @NotNull DataResult<Number> getNumberValue(final @NotNull JsonElement input) {
+        return read(input, GsonOps.INSTANCE::getNumberValue);
+    }
+
+    @Override
+    public @NotNull DataResult<Integer> getIntValue(final @NotNull JsonElement input) {
+        return read(input, GsonOps.INSTANCE::getIntValue);
+    }
+
+    @Override
+    public @NotNull DataResult<Long> getLongValue(final @NotNull JsonElement input) {
+        return read(input, GsonOps.INSTANCE::getLongValue);
+    }
+
+    @Override
+    public @NotNull DataResult<Double> getDoubleValue(final @NotNull JsonElement input) {
+        return read(input, GsonOps.INSTANCE::getDoubleValue);
+    }
+
+    @Override
+    public int getIntDirect(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getIntDirect(readDirect(input));
+    }
+
+    @Override
+    public long getLongDirect(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getLongDirect(readDirect(input));
+    }
+
+    @Override
+    public double getDoubleDirect(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getDoubleDirect(readDirect(input));
+    }
+
+    @Override
+    public @NotNull DataResult<String> getStringValue(final @NotNull JsonElement input) {
+        return read(input, GsonOps.INSTANCE::getStringValue);
+    }
+
+    @Override
+    public @NotNull DataResult<Stream<JsonElement>> getStream(final @NotNull JsonElement input) {
+        if (input instanceof final JsonCursor cursor) {
+            final StreamedArray array = cursor.array();
+            if (array != null) return DataResult.success(StreamSupport.stream(Spliterators.spliteratorUnknownSize(array.iterator(), Spliterator.ORDERED), false));
+        }
+        return read(input, GsonOps.INSTANCE::getStream);
+    }
+
+    @Override
+    public @NotNull DataResult<Consumer<Consumer<JsonElement>>> getList(final @NotNull JsonElement input) {
+        if (input instanceof final JsonCursor cursor) {
+            final StreamedArray array = cursor.array();
+            if (array != null) return DataResult.success(array::forEach);
+        }
+        return read(input, GsonOps.INSTANCE::getList);
+    }
+
+    @Override
+    public @NotNull DataResult<List<JsonElement>> getIndexedList(final @NotNull JsonElement input) {
+        if (input instanceof final JsonCursor cursor) {
+            final StreamedArray array = cursor.array();
+            if (array != null) return DataResult.success(array);
+        }
+        return read(input, GsonOps.INSTANCE::getIndexedList);
+    }
+
+    @Override
+    public @NotNull DataResult<byte[]> getByteArray(final @NotNull JsonElement input) {
+        return read(input, GsonOps.INSTANCE::getByteArray);
+    }
+
+    @Override
+    public @NotNull DataResult<int[]> getIntArray(final @NotNull JsonElement input) {
+        return read(input, GsonOps.INSTANCE::getIntArray);
+    }
+
+    @Override
+    public @NotNull DataResult<long[]> getLongArray(final @NotNull JsonElement input) {
+        return read(input, GsonOps.INSTANCE::getLongArray);
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToList(final @NotNull JsonElement list, final @NotNull JsonElement value) {
+        return GsonOps.INSTANCE.mergeToList(built(list), built(value));
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToList(final @NotNull JsonElement list, final @NotNull List<JsonElement> values) {
+        return GsonOps.INSTANCE.mergeToList(built(list), values.stream().map(JsonReaderOps::built).toList());
+    }
+
+    @Override
+    public @NotNull DataResult<Stream<Pair<JsonElement, JsonElement>>> getMapValues(final @NotNull JsonElement input) {
+        return getMap(input).map(MapLike::entries);
+    }
+
+    @Override
+    public @NotNull DataResult<Consumer<BiConsumer<JsonElement, JsonElement>>> getMapEntries(final @NotNull JsonElement input) {
+        return getMap(input).map(map -> map::forEachEntry);
+    }
+
+    @Override
+    public @NotNull DataResult<MapLike<JsonElement>> getMap(final @NotNull JsonElement input) {
+        if (input instanceof final JsonCursor cursor) {
+            final StreamedObject object = cursor.object();
+            if (object != null) return DataResult.success(object);
+        }
+        return read(input, GsonOps.INSTANCE::getMap);
+    }
+
+    @Override
+    public @NotNull JsonElement remove(final @NotNull JsonElement input, final @NotNull String key) {
+        return GsonOps.INSTANCE.remove(built(input), key);
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToMap(final @NotNull JsonElement map, final @NotNull JsonElement key,
+                                                       final @NotNull JsonElement value) {
+        return GsonOps.INSTANCE.mergeToMap(built(map), built(key), built(value));
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToMap(final @NotNull JsonElement map, final @NotNull MapLike<JsonElement> values) {
+        final Map<JsonElement, JsonElement> resolved = new LinkedHashMap<>();
+        values.forEachEntry((key, value) -> resolved.put(built(key), built(value)));
+        return GsonOps.INSTANCE.mergeToMap(built(map), resolved);
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToMap(final @NotNull JsonElement map, final @NotNull Map<JsonElement, JsonElement> values) {
+        final Map<JsonElement, JsonElement> resolved = new LinkedHashMap<>();
+        values.forEach((key, value) -> resolved.put(built(key), built(value)));
+        return GsonOps.INSTANCE.mergeToMap(built(map), resolved);
+    }
+
+    @Override
+    public @NotNull JsonElement createNumber(final @NotNull Number number) {
+        return GsonOps.INSTANCE.createNumber(number);
+    }
+
+    @Override
+    public @NotNull JsonElement createBoolean(final boolean value) {
+        return GsonOps.INSTANCE.createBoolean(value);
+    }
+
+    @Override
+    public @NotNull JsonElement createString(final @NotNull String value) {
+        return GsonOps.INSTANCE.createString(value);
+    }
+
+    @Override
+    public @NotNull JsonElement createKey(final @NotNull FieldKey key) {
+        return GsonOps.INSTANCE.createKey(key);
+    }
+
+    @Override
+    public @NotNull JsonElement createList(final @NotNull Stream<JsonElement> input) {
+        return GsonOps.INSTANCE.createList(input.map(JsonReaderOps::built));
+    }
+
+    @Override
+    public @NotNull JsonElement createByteArray(final byte @NotNull [] input) {
+        return GsonOps.INSTANCE.createByteArray(input);
+    }
+
+    @Override
+    public @NotNull JsonElement createIntArray(final int @NotNull [] input) {
+        return GsonOps.INSTANCE.createIntArray(input);
+    }
+
+    @Override
+    public @NotNull JsonElement createLongArray(final long @NotNull [] input) {
+        return GsonOps.INSTANCE.createLongArray(input);
+    }
+
+    @Override
+    public @NotNull JsonElement createMap(final @NotNull Stream<Pair<JsonElement, JsonElement>> map) {
+        return GsonOps.INSTANCE.createMap(map.map(entry -> Pair.of(built(entry.first()), built(entry.second()))));
+    }
+
+    @Override
+    public <U> @NotNull U convertTo(final @NotNull DataOps<U> outOps, final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.convertTo(outOps, built(input));
+    }
+
+    @Override
+    public void visit(final @NotNull JsonElement input, final @NotNull DataVisitor<JsonElement> visitor) {
+        GsonOps.INSTANCE.visit(built(input), visitor);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "JSON (streaming)";
+    }
+}
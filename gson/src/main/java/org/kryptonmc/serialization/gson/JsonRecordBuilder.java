@@ -27,6 +27,10 @@ final class JsonRecordBuilder extends RecordBuilder.AbstractStringBuilder<JsonEl
         super(GsonOps.INSTANCE);
     }
 
+    JsonRecordBuilder(final @NotNull JsonWriterOps ops) {
+        super(ops);
+    }
+
     @Override
     protected @NotNull JsonObject createBuilder() {
         return new JsonObject();
@@ -41,8 +45,10 @@ final class JsonRecordBuilder extends RecordBuilder.AbstractStringBuilder<JsonEl
     @Override
     protected @NotNull DataResult<JsonElement> build(final @NotNull JsonObject builder, final @Nullable JsonElement prefix) {
         if (prefix == null || prefix instanceof JsonNull) return DataResult.success(builder);
+        // The map that was written by the streaming ops for the value being encoded, that these entries are being merged in to.
+        if (prefix == JsonWriterOps.WRITTEN && ops() instanceof final JsonWriterOps writer) return writer.mergeToWritten(builder);
         if (!(prefix instanceof final JsonObject object)) {
-            return DataResult.error("Cannot merge map " + builder + " with a non-map " + prefix + " (attempting to build record builder)");
+            return DataResult.error(() -> "Cannot merge map " + builder + " with a non-map " + prefix + " (attempting to build record builder)");
         }
         final var result = new JsonObject();
         for (final var entry : object.entrySet()) {
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.Encoder;
+import org.kryptonmc.serialization.Lifecycle;
+import org.kryptonmc.serialization.ListBuilder;
+
+final class JsonWriterListBuilder implements ListBuilder<JsonElement> {
+
+    private final JsonWriterOps ops;
+    // The result only ever holds the written marker, and is only used to keep track of the lifecycle and any errors.
+    private DataResult<JsonElement> builder = DataResult.success(JsonWriterOps.WRITTEN, Lifecycle.stable());
+    private boolean built;
+
+    JsonWriterListBuilder(final @NotNull JsonWriterOps ops) {
+        this.ops = ops;
+        try {
+            ops.writer().beginArray();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public @NotNull DataOps<JsonElement> ops() {
+        return ops;
+    }
+
+    @Override
+    public @NotNull ListBuilder<JsonElement> add(final @NotNull JsonElement value) {
+        checkNotBuilt();
+        ops.write(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull ListBuilder<JsonElement> add(final @NotNull DataResult<JsonElement> value) {
+        checkNotBuilt();
+        builder = builder.apply2stable((written, element) -> {
+            ops.write(element);
+            return written;
+        }, value);
+        return this;
+    }
+
+    @Override
+    public <E> @NotNull ListBuilder<JsonElement> add(final @NotNull E value, final @NotNull Encoder<E> encoder) {
+        checkNotBuilt();
+        builder = builder.apply2stable((written, element) -> written, ops.encodeValue(value, encoder, false));
+        return this;
+    }
+
+    @Override
+    public @NotNull ListBuilder<JsonElement> withErrorsFrom(final @NotNull DataResult<?> result) {
+        builder = builder.flatMap(written -> result.map(value -> written));
+        return this;
+    }
+
+    @Override
+    public @NotNull ListBuilder<JsonElement> mapError(final @NotNull UnaryOperator<String> onError) {
+        builder = builder.mapError(onError);
+        return this;
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> build(final @Nullable JsonElement prefix) {
+        checkNotBuilt();
+        built = true;
+        try {
+            ops.writer().endArray();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        // Unlike with maps, the order of a list matters, and we have already written our values, so we can't put a prefix before them.
+        if (prefix != null && !(prefix instanceof JsonNull)) {
+            return builder.flatMap(written -> DataResult.error(() -> "Cannot prepend " + prefix + " to a written list (attempting to build list builder)"));
+        }
+        return builder;
+    }
+
+    private void checkNotBuilt() {
+        if (built) throw new IllegalStateException("This builder has already been built, and its list has been written!");
+    }
+}
@@ -0,0 +1,493 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.DataVisitor;
+import org.kryptonmc.serialization.Encoder;
+import org.kryptonmc.serialization.FieldKey;
+import org.kryptonmc.serialization.ListBuilder;
+import org.kryptonmc.serialization.MapLike;
+import org.kryptonmc.serialization.RecordBuilder;
+import org.kryptonmc.util.Pair;
+import org.kryptonmc.util.Unit;
+
+/**
+ * Data operations for the Gson JSON library that write encoded values
+ * straight to a {@link JsonWriter}, rather than building a tree of JSON
+ * elements.
+ *
+ * <p>When a record, list or map is encoded, the builder created for it writes
+ * each value to the writer as soon as it is added, and values that are
+ * encoded with an encoder, such as fields, list elements and map values, are
+ * written in place, without ever being built. This means that only the
+ * values that are not records, lists or maps need to be held in memory, and
+ * the memory used to encode a value grows with its depth, not its size.</p>
+ *
+ * <p>Encoders that build a value and then inspect or merge it in to another
+ * value, rather than adding it to a builder, still work, but the values they
+ * build are built as trees with {@link GsonOps} and written once they are
+ * added. A map that has been written is only closed once the encoder that
+ * wrote it has finished, so encoders that merge other entries in to it, such
+ * as the encoders of {@link org.kryptonmc.serialization.Codec#pair(
+ * org.kryptonmc.serialization.Codec, org.kryptonmc.serialization.Codec)
+ * pair codecs}, still work, and the entries are written after the map's own.
+ * Merging in to a list that has already been written is not supported, as
+ * the values would have to be written before the list's own, and will result
+ * in an error.</p>
+ *
+ * <p>If encoding fails, whatever has been written so far should be
+ * discarded, as it may not be the complete value.</p>
+ */
+public final class JsonWriterOps implements DataOps<JsonElement> {
+
+    // The value returned for records, lists and maps that have been written to the writer, which is never actually written anywhere.
+    static final JsonElement WRITTEN = new Written();
+
+    private final JsonWriter writer;
+    // Whether the writer is waiting for the value currently being encoded. Only the first record or list builder created while this is
+    // set writes to the writer, as any others are for values that the encoder is going to do something else with first.
+    private boolean positioned;
+    // Whether the object written for the value currently being encoded has been built, but not closed yet, as the encoder may still merge
+    // other entries in to it.
+    private boolean open;
+
+    /**
+     * Encodes the given value with the given encoder, writing it to the given
+     * writer.
+     *
+     * <p>The returned result holds no value, only the lifecycle and any
+     * errors that occurred while encoding. If it is an error, what has been
+     * written to the writer should be discarded.</p>
+     *
+     * @param encoder The encoder.
+     * @param value The value to encode.
+     * @param writer The writer to write the encoded value to.
+     * @param <A> The value type.
+     * @return The result of encoding.
+     * @throws IOException If writing to the writer fails.
+     */
+    public static <A> @NotNull DataResult<Unit> encode(final @NotNull Encoder<A> encoder, final A value,
+                                                       final @NotNull JsonWriter writer) throws IOException {
+        final var ops = new JsonWriterOps(Objects.requireNonNull(writer, "writer"));
+        try {
+            return ops.encodeValue(value, encoder, false).map(element -> Unit.INSTANCE);
+        } catch (final UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    private JsonWriterOps(final @NotNull JsonWriter writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Encodes the given value with the given encoder, after the writer has
+     * been moved to where the value should be written, and writes it if the
+     * encoder didn't write it itself.
+     *
+     * <p>If the value fails to encode without a partial result, nothing is
+     * written, and if a name was written for it, the name is removed.</p>
+     *
+     * @param value The value.
+     * @param encoder The encoder.
+     * @param named If a name was written for the value.
+     * @param <E> The value type.
+     * @return The result of encoding the value.
+     */
+    <E> @NotNull DataResult<JsonElement> encodeValue(final E value, final @NotNull Encoder<E> encoder, final boolean named) {
+        final boolean outerOpen = open;
+        positioned = true;
+        open = false;
+        final DataResult<JsonElement> result = encoder.encodeStart(value, this);
+        if (open) endObject();
+        open = outerOpen;
+        if (!positioned) return result;
+        positioned = false;
+        final JsonElement element = result.resultOrPartial(error -> {}).orElse(null);
+        if (element != null) {
+            write(element);
+        } else if (named) {
+            removeName();
+        }
+        return result;
+    }
+
+    @NotNull JsonWriter writer() {
+        return writer;
+    }
+
+    void write(final @NotNull JsonElement element) {
+        try {
+            writeElement(element);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void writeName(final @NotNull String name) {
+        try {
+            writer.name(name);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Leaves the object that has just been built open until the value being
+     * encoded has finished encoding, so that entries can still be merged in
+     * to it.
+     */
+    void holdOpen() {
+        open = true;
+    }
+
+    /**
+     * Writes the given entries in to the object that has been built for the
+     * value being encoded, if it is still open.
+     *
+     * @param entries The entries.
+     * @return The result of merging.
+     */
+    @NotNull DataResult<JsonElement> mergeToWritten(final @NotNull JsonElement entries) {
+        if (!open) return DataResult.error(() -> "Cannot merge " + entries + " in to a value that has already been written");
+        for (final var entry : entries.getAsJsonObject().entrySet()) {
+            writeName(entry.getKey());
+            write(entry.getValue());
+        }
+        return DataResult.success(WRITTEN);
+    }
+
+    private void endObject() {
+        try {
+            writer.endObject();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void removeName() {
+        // The writer only writes a name when it writes the value for it, and writing a null value when nulls aren't serialized drops both.
+        final boolean serializeNulls = writer.getSerializeNulls();
+        writer.setSerializeNulls(false);
+        try {
+            writer.nullValue();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            writer.setSerializeNulls(serializeNulls);
+        }
+    }
+
+    private void writeElement(final @NotNull JsonElement element) throws IOException {
+        if (element == WRITTEN) throw new IllegalStateException("Cannot write a value that has already been written!");
+        if (element instanceof final JsonObject object) {
+            writer.beginObject();
+            for (final var entry : object.entrySet()) {
+                writer.name(entry.getKey());
+                writeElement(entry.getValue());
+            }
+            writer.endObject();
+        } else if (element instanceof final JsonArray array) {
+            writer.beginArray();
+            for (final var value : array) {
+                writeElement(value);
+            }
+            writer.endArray();
+        } else if (element instanceof final JsonPrimitive primitive) {
+            if (primitive.isNumber()) {
+                writer.value(primitive.getAsNumber());
+            } else if (primitive.isBoolean()) {
+                writer.value(primitive.getAsBoolean());
+            } else {
+                writer.value(primitive.getAsString());
+            }
+        } else {
+            writer.nullValue();
+        }
+    }
+
+    @Override
+    public @NotNull JsonElement empty() {
+        return JsonNull.INSTANCE;
+    }
+
+    @Override
+    public @NotNull DataResult<Boolean> getBooleanValue(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getBooleanValue(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Number> getNumberValue(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getNumberValue(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Integer> getIntValue(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getIntValue(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Long> getLongValue(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getLongValue(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Double> getDoubleValue(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getDoubleValue(input);
+    }
+
+    @Override
+    public int getIntDirect(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getIntDirect(input);
+    }
+
+    @Override
+    public long getLongDirect(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getLongDirect(input);
+    }
+
+    @Override
+    public double getDoubleDirect(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getDoubleDirect(input);
+    }
+
+    @Override
+    public @NotNull DataResult<String> getStringValue(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getStringValue(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Stream<JsonElement>> getStream(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getStream(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Consumer<Consumer<JsonElement>>> getList(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getList(input);
+    }
+
+    @Override
+    public @NotNull DataResult<List<JsonElement>> getIndexedList(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getIndexedList(input);
+    }
+
+    @Override
+    public @NotNull DataResult<ByteBuffer> getByteBuffer(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getByteBuffer(input);
+    }
+
+    @Override
+    public @NotNull DataResult<IntStream> getIntStream(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getIntStream(input);
+    }
+
+    @Override
+    public @NotNull DataResult<LongStream> getLongStream(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getLongStream(input);
+    }
+
+    @Override
+    public @NotNull DataResult<byte[]> getByteArray(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getByteArray(input);
+    }
+
+    @Override
+    public @NotNull DataResult<int[]> getIntArray(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getIntArray(input);
+    }
+
+    @Override
+    public @NotNull DataResult<long[]> getLongArray(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getLongArray(input);
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToList(final @NotNull JsonElement list, final @NotNull JsonElement value) {
+        return GsonOps.INSTANCE.mergeToList(list, value);
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToList(final @NotNull JsonElement list, final @NotNull List<JsonElement> values) {
+        return GsonOps.INSTANCE.mergeToList(list, values);
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToListOwned(final @NotNull JsonElement list, final @NotNull JsonElement value) {
+        return GsonOps.INSTANCE.mergeToListOwned(list, value);
+    }
+
+    @Override
+    public @NotNull DataResult<Stream<Pair<JsonElement, JsonElement>>> getMapValues(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getMapValues(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Consumer<BiConsumer<JsonElement, JsonElement>>> getMapEntries(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getMapEntries(input);
+    }
+
+    @Override
+    public @NotNull DataResult<MapLike<JsonElement>> getMap(final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.getMap(input);
+    }
+
+    @Override
+    public @NotNull JsonElement remove(final @NotNull JsonElement input, final @NotNull String key) {
+        return GsonOps.INSTANCE.remove(input, key);
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToMap(final @NotNull JsonElement map, final @NotNull JsonElement key,
+                                                       final @NotNull JsonElement value) {
+        if (map == WRITTEN) return GsonOps.INSTANCE.mergeToMapOwned(new JsonObject(), key, value).flatMap(this::mergeToWritten);
+        return GsonOps.INSTANCE.mergeToMap(map, key, value);
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToMapOwned(final @NotNull JsonElement map, final @NotNull JsonElement key,
+                                                            final @NotNull JsonElement value) {
+        if (map == WRITTEN) return mergeToMap(map, key, value);
+        return GsonOps.INSTANCE.mergeToMapOwned(map, key, value);
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToMap(final @NotNull JsonElement map, final @NotNull MapLike<JsonElement> values) {
+        if (map == WRITTEN) return GsonOps.INSTANCE.mergeToMap(new JsonObject(), values).flatMap(this::mergeToWritten);
+        return GsonOps.INSTANCE.mergeToMap(map, values);
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> mergeToMap(final @NotNull JsonElement map, final @NotNull Map<JsonElement, JsonElement> values) {
+        if (map == WRITTEN) return GsonOps.INSTANCE.mergeToMap(new JsonObject(), values).flatMap(this::mergeToWritten);
+        return GsonOps.INSTANCE.mergeToMap(map, values);
+    }
+
+    @Override
+    public @NotNull JsonElement createNumber(final @NotNull Number number) {
+        return GsonOps.INSTANCE.createNumber(number);
+    }
+
+    @Override
+    public @NotNull JsonElement createBoolean(final boolean value) {
+        return GsonOps.INSTANCE.createBoolean(value);
+    }
+
+    @Override
+    public @NotNull JsonElement createString(final @NotNull String value) {
+        return GsonOps.INSTANCE.createString(value);
+    }
+
+    @Override
+    public @NotNull JsonElement createKey(final @NotNull FieldKey key) {
+        return GsonOps.INSTANCE.createKey(key);
+    }
+
+    @Override
+    public @NotNull JsonElement createList(final @NotNull Stream<JsonElement> input) {
+        return GsonOps.INSTANCE.createList(input);
+    }
+
+    @Override
+    public @NotNull JsonElement createByteArray(final byte @NotNull [] input) {
+        return GsonOps.INSTANCE.createByteArray(input);
+    }
+
+    @Override
+    public @NotNull JsonElement createIntArray(final int @NotNull [] input) {
+        return GsonOps.INSTANCE.createIntArray(input);
+    }
+
+    @Override
+    public @NotNull JsonElement createLongArray(final long @NotNull [] input) {
+        return GsonOps.INSTANCE.createLongArray(input);
+    }
+
+    @Override
+    public @NotNull ListBuilder<JsonElement> listBuilder() {
+        return listBuilder(0);
+    }
+
+    @Override
+    public @NotNull ListBuilder<JsonElement> listBuilder(final int expectedSize) {
+        if (!positioned) return GsonOps.INSTANCE.listBuilder(expectedSize);
+        positioned = false;
+        return new JsonWriterListBuilder(this);
+    }
+
+    @Override
+    public @NotNull JsonElement createMap(final @NotNull Stream<Pair<JsonElement, JsonElement>> map) {
+        return GsonOps.INSTANCE.createMap(map);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> mapBuilder() {
+        return mapBuilder(0);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> mapBuilder(final int expectedSize) {
+        // Maps that aren't written straight away are built by this rather than by Gson's ops, so that they can be merged in to a written map.
+        if (!positioned) return new JsonRecordBuilder(this);
+        positioned = false;
+        return new JsonWriterRecordBuilder(this);
+    }
+
+    @Override
+    public <U> @NotNull U convertTo(final @NotNull DataOps<U> outOps, final @NotNull JsonElement input) {
+        return GsonOps.INSTANCE.convertTo(outOps, input);
+    }
+
+    @Override
+    public void visit(final @NotNull JsonElement input, final @NotNull DataVisitor<JsonElement> visitor) {
+        GsonOps.INSTANCE.visit(input, visitor);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "JSON (streaming)";
+    }
+
+    private static final class Written extends JsonElement {
+
+        @Override
+        public @NotNull JsonElement deepCopy() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "<written>";
+        }
+    }
+}
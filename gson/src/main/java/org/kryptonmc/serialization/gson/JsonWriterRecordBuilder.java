@@ -0,0 +1,163 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.Encoder;
+import org.kryptonmc.serialization.FieldKey;
+import org.kryptonmc.serialization.Lifecycle;
+import org.kryptonmc.serialization.RecordBuilder;
+
+final class JsonWriterRecordBuilder implements RecordBuilder<JsonElement> {
+
+    private final JsonWriterOps ops;
+    // The result only ever holds the written marker, and is only used to keep track of the lifecycle and any errors.
+    private DataResult<JsonElement> builder = DataResult.success(JsonWriterOps.WRITTEN, Lifecycle.stable());
+    private boolean built;
+
+    JsonWriterRecordBuilder(final @NotNull JsonWriterOps ops) {
+        this.ops = ops;
+        try {
+            ops.writer().beginObject();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public @NotNull DataOps<JsonElement> ops() {
+        return ops;
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> add(final @NotNull String key, final @NotNull JsonElement value) {
+        checkNotBuilt();
+        ops.writeName(key);
+        ops.write(value);
+        return this;
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> add(final @NotNull String key, final @NotNull DataResult<JsonElement> value) {
+        checkNotBuilt();
+        builder = builder.apply2stable((written, element) -> {
+            ops.writeName(key);
+            ops.write(element);
+            return written;
+        }, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> add(final @NotNull JsonElement key, final @NotNull JsonElement value) {
+        return add(key, DataResult.success(value));
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> add(final @NotNull JsonElement key, final @NotNull DataResult<JsonElement> value) {
+        final var name = ops.getStringValue(key);
+        if (name.isError()) return keyError(name);
+        return add(name.getOrThrow(false, error -> {}), value);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> add(final @NotNull DataResult<JsonElement> key, final @NotNull DataResult<JsonElement> value) {
+        final var name = key.flatMap(ops::getStringValue);
+        if (name.isError()) return keyError(name);
+        return add(name.getOrThrow(false, error -> {}), value);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> add(final @NotNull FieldKey key, final @NotNull JsonElement value) {
+        return add(key.name(), value);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> add(final @NotNull FieldKey key, final @NotNull DataResult<JsonElement> value) {
+        return add(key.name(), value);
+    }
+
+    @Override
+    public <E> @NotNull RecordBuilder<JsonElement> add(final @NotNull String key, final @NotNull E value, final @NotNull Encoder<E> encoder) {
+        checkNotBuilt();
+        ops.writeName(key);
+        builder = builder.apply2stable((written, element) -> written, ops.encodeValue(value, encoder, true));
+        return this;
+    }
+
+    @Override
+    public <E> @NotNull RecordBuilder<JsonElement> add(final @NotNull FieldKey key, final @NotNull E value, final @NotNull Encoder<E> encoder) {
+        return add(key.name(), value, encoder);
+    }
+
+    @Override
+    public <E> @NotNull RecordBuilder<JsonElement> add(final @NotNull DataResult<JsonElement> key, final @NotNull E value,
+                                                       final @NotNull Encoder<E> encoder) {
+        final var name = key.flatMap(ops::getStringValue);
+        // There's nothing to write the value with if the key is invalid, so we don't even encode it.
+        if (name.isError()) return keyError(name);
+        return add(name.getOrThrow(false, error -> {}), value, encoder);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> withErrorsFrom(final @NotNull DataResult<?> result) {
+        builder = builder.flatMap(written -> result.map(value -> written));
+        return this;
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> lifecycle(final @NotNull Lifecycle lifecycle) {
+        builder = builder.withLifecycle(lifecycle);
+        return this;
+    }
+
+    @Override
+    public @NotNull RecordBuilder<JsonElement> mapError(final @NotNull UnaryOperator<String> onError) {
+        builder = builder.mapError(onError);
+        return this;
+    }
+
+    @Override
+    public @NotNull DataResult<JsonElement> build(final @Nullable JsonElement prefix) {
+        checkNotBuilt();
+        built = true;
+        // We have already written our entries, but as the order of entries in an object doesn't matter, we can still write the prefix's.
+        if (prefix instanceof final JsonObject object) {
+            for (final var entry : object.entrySet()) {
+                ops.writeName(entry.getKey());
+                ops.write(entry.getValue());
+            }
+        }
+        // The object is closed once the value has been encoded, as the encoder may still merge other entries in to it.
+        ops.holdOpen();
+        if (prefix != null && !(prefix instanceof JsonNull) && !(prefix instanceof JsonObject)) {
+            return builder.flatMap(written -> DataResult.error(() -> "Cannot merge a written map with a non-map " + prefix + " (attempting to build record builder)"));
+        }
+        return builder;
+    }
+
+    private @NotNull RecordBuilder<JsonElement> keyError(final @NotNull DataResult<String> name) {
+        checkNotBuilt();
+        builder = builder.apply2stable((written, key) -> written, name);
+        return this;
+    }
+
+    private void checkNotBuilt() {
+        if (built) throw new IllegalStateException("This builder has already been built, and its map has been written!");
+    }
+}
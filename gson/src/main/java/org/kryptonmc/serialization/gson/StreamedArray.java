@@ -0,0 +1,159 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.stream.JsonToken;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A JSON array that is read from a {@link JsonReaderOps} reader as it is
+ * iterated over.
+ *
+ * <p>This can only be iterated over once, and doesn't know its size. This
+ * is not {@link java.util.RandomAccess}, which tells codecs that it should
+ * only be iterated.</p>
+ *
+ * <p>So that another decoder can still decode the array after it has been
+ * iterated over, the elements are kept until one of them is read as an
+ * object or array without being built, after which the array can't be
+ * built any more, and none of them are kept.</p>
+ */
+final class StreamedArray extends AbstractList<JsonElement> {
+
+    private final JsonReaderOps ops;
+    private @Nullable JsonCursor current;
+    private @Nullable List<JsonElement> elements = new ArrayList<>();
+    private boolean started;
+    private boolean finished;
+
+    StreamedArray(final @NotNull JsonReaderOps ops) {
+        this.ops = ops;
+    }
+
+    boolean started() {
+        return started;
+    }
+
+    @Override
+    public @NotNull Iterator<JsonElement> iterator() {
+        if (started) throw new IllegalStateException("An array read from a stream can only be iterated over once!");
+        started = true;
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                finishCurrent();
+                if (finished) return false;
+                if (ops.hasNext()) return true;
+                end();
+                return false;
+            }
+
+            @Override
+            public JsonElement next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (ops.peek() == JsonToken.NULL) {
+                    ops.nextNull();
+                    keep(JsonNull.INSTANCE);
+                    return JsonNull.INSTANCE;
+                }
+                final var cursor = new JsonCursor(ops);
+                current = cursor;
+                keep(cursor);
+                return cursor;
+            }
+        };
+    }
+
+    @Override
+    public JsonElement get(final int index) {
+        throw new UnsupportedOperationException("An array read from a stream can only be iterated over!");
+    }
+
+    @Override
+    public int size() {
+        throw new UnsupportedOperationException("An array read from a stream doesn't know its size!");
+    }
+
+    boolean replayable() {
+        return elements != null;
+    }
+
+    /**
+     * Finishes this array, and builds it out of the elements that were kept.
+     *
+     * @return The built array, or null if it can't be built.
+     */
+    @Nullable JsonArray replay() {
+        finish();
+        if (elements == null) return null;
+        final var result = new JsonArray(elements.size());
+        for (final JsonElement element : elements) {
+            final JsonElement built = element instanceof final JsonCursor cursor ? cursor.element() : element;
+            if (built == null) return null;
+            result.add(built);
+        }
+        // The cursor keeps the built array from now on.
+        elements = null;
+        return result;
+    }
+
+    void finish() {
+        if (finished) return;
+        started = true;
+        finishCurrent();
+        while (ops.hasNext()) {
+            if (elements != null) {
+                elements.add(ops.parse());
+            } else {
+                ops.skipValue();
+            }
+        }
+        end();
+    }
+
+    private void keep(final @NotNull JsonElement element) {
+        if (elements != null) elements.add(element);
+    }
+
+    private void finishCurrent() {
+        if (current == null) return;
+        current.finish();
+        if (!current.buildable()) elements = null;
+        current = null;
+    }
+
+    private void end() {
+        ops.endArray();
+        finished = true;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return "[<streamed json array>]";
+    }
+}
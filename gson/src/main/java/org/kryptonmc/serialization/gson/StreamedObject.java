@@ -0,0 +1,152 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonToken;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.serialization.FieldKey;
+import org.kryptonmc.serialization.MapLike;
+import org.kryptonmc.util.Pair;
+
+/**
+ * A JSON object that is read from a {@link JsonReaderOps} reader as its
+ * values are asked for.
+ *
+ * <p>When a value is asked for, the reader moves forward to it, and any
+ * values it passes on the way, which may be asked for later, are built and
+ * kept. When the object is finished, any values that were never passed are
+ * skipped without being built. This means that when values are asked for in
+ * the same order that they appear in the document, which is the usual case,
+ * nothing is kept apart from the values that were asked for.</p>
+ *
+ * <p>Entries that are iterated over, rather than asked for, are not kept, so
+ * they can only be iterated over once.</p>
+ */
+final class StreamedObject implements MapLike<JsonElement> {
+
+    private final JsonReaderOps ops;
+    private @Nullable Map<String, JsonElement> read;
+    private @Nullable JsonCursor current;
+    private boolean finished;
+
+    StreamedObject(final @NotNull JsonReaderOps ops) {
+        this.ops = ops;
+    }
+
+    @Override
+    public @Nullable JsonElement get(final @NotNull JsonElement key) {
+        if (key instanceof final JsonPrimitive primitive && primitive.isString()) return get(primitive.getAsString());
+        return null;
+    }
+
+    @Override
+    public @Nullable JsonElement get(final @NotNull FieldKey key) {
+        return get(key.name());
+    }
+
+    @Override
+    public @Nullable JsonElement get(final @NotNull String key) {
+        if (read != null) {
+            final JsonElement value = read.get(key);
+            if (value != null) return value instanceof JsonNull ? null : value;
+        }
+        if (finished) return null;
+        finishCurrent();
+        while (ops.hasNext()) {
+            final String name = ops.nextName();
+            if (!name.equals(key)) {
+                keep(name, ops.parse());
+                continue;
+            }
+            if (ops.peek() == JsonToken.NULL) {
+                ops.nextNull();
+                keep(name, JsonNull.INSTANCE);
+                return null;
+            }
+            final var cursor = new JsonCursor(ops);
+            current = cursor;
+            keep(name, cursor);
+            return cursor;
+        }
+        end();
+        return null;
+    }
+
+    private void keep(final @NotNull String name, final @NotNull JsonElement value) {
+        if (read == null) read = new LinkedHashMap<>();
+        read.put(name, value);
+    }
+
+    @Override
+    public @NotNull Stream<Pair<JsonElement, JsonElement>> entries() {
+        final var entries = new ArrayList<Pair<JsonElement, JsonElement>>();
+        // The values are built as we move past them, so they can still be used once they are in the stream.
+        forEachEntry((key, value) -> entries.add(Pair.of(key, value)));
+        return entries.stream();
+    }
+
+    @Override
+    public void forEachEntry(final @NotNull BiConsumer<JsonElement, JsonElement> consumer) {
+        if (read != null) {
+            for (final var entry : read.entrySet()) {
+                consumer.accept(ops.createString(entry.getKey()), entry.getValue());
+            }
+        }
+        if (finished) return;
+        finishCurrent();
+        while (ops.hasNext()) {
+            final var key = ops.createString(ops.nextName());
+            final var cursor = new JsonCursor(ops);
+            consumer.accept(key, cursor);
+            cursor.finish();
+        }
+        end();
+    }
+
+    @Override
+    public int size() {
+        // We can't know how many entries there are without reading all of them.
+        return 0;
+    }
+
+    void finish() {
+        if (finished) return;
+        finishCurrent();
+        while (ops.hasNext()) {
+            ops.nextName();
+            ops.skipValue();
+        }
+        end();
+    }
+
+    private void finishCurrent() {
+        if (current == null) return;
+        current.finish();
+        current = null;
+    }
+
+    private void end() {
+        ops.endObject();
+        finished = true;
+    }
+
+    @Override
+    public String toString() {
+        return "MapLike[<streamed json object>]";
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.kryptonmc.serialization.DataVisitor;
+import org.kryptonmc.serialization.MapLike;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GsonOpsTest {
+
+    @Test
+    void wholeNumbersAreVisitedAsNarrowestWholeType() {
+        assertEquals((byte) 1, visitNumber("1"));
+        assertEquals((byte) 1, visitNumber("1.0"));
+        assertEquals((byte) 100, visitNumber("1e2"));
+        assertEquals((short) 300, visitNumber("300.000"));
+        assertEquals(3_000_000_000L, visitNumber("3000000000"));
+    }
+
+    @Test
+    void numbersThatAreNotWholeAreVisitedAsFractions() {
+        assertEquals(1.5F, visitNumber("1.5"));
+        assertEquals(0.1, visitNumber("0.1"));
+        // These are close enough to whole numbers that they parse to whole doubles, but they aren't whole.
+        assertEquals(1.0F, visitNumber("1.00000000000000000001"));
+        assertEquals(0.0F, visitNumber("1.0E-400"));
+    }
+
+    @Test
+    void convertListOnlyConvertsLists() {
+        assertEquals(new JsonArray(), GsonOps.INSTANCE.convertList(GsonOps.INSTANCE, new JsonPrimitive(5)));
+        assertEquals(JsonParser.parseString("[1, [2]]"), GsonOps.INSTANCE.convertList(GsonOps.INSTANCE, JsonParser.parseString("[1, [2]]")));
+    }
+
+    @Test
+    void convertMapOnlyConvertsMaps() {
+        assertEquals(new JsonObject(), GsonOps.INSTANCE.convertMap(GsonOps.INSTANCE, new JsonPrimitive(5)));
+        final JsonElement map = JsonParser.parseString("{\"a\": {\"b\": [true]}}");
+        assertEquals(map, GsonOps.INSTANCE.convertMap(GsonOps.INSTANCE, map));
+    }
+
+    private static Object visitNumber(final String json) {
+        final var visitor = new NumberVisitor();
+        GsonOps.INSTANCE.visit(JsonParser.parseString(json), visitor);
+        return visitor.value;
+    }
+
+    private static final class NumberVisitor implements DataVisitor<JsonElement> {
+
+        Object value;
+
+        @Override
+        public void visitEmpty() {
+        }
+
+        @Override
+        public void visitBoolean(final boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitByte(final byte value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitShort(final short value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitInt(final int value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitLong(final long value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitFloat(final float value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitDouble(final double value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitString(final @NotNull String value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitByteArray(final byte @NotNull [] value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitIntArray(final int @NotNull [] value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitLongArray(final long @NotNull [] value) {
+            this.value = value;
+        }
+
+        @Override
+        public void visitList(final @NotNull List<JsonElement> elements) {
+            value = elements;
+        }
+
+        @Override
+        public void visitMap(final @NotNull MapLike<JsonElement> entries) {
+            value = entries;
+        }
+    }
+}
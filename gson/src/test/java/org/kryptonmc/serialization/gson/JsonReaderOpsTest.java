@@ -0,0 +1,136 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.kryptonmc.serialization.Codec;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.codecs.RecordCodecBuilder;
+import org.kryptonmc.util.Either;
+import org.kryptonmc.util.Pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonReaderOpsTest {
+
+    private static final Codec<Square> SQUARE = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.fieldOf("s").getting(Square::side)
+    ).apply(instance, Square::new));
+    private static final Codec<Circle> CIRCLE = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.fieldOf("r").getting(Circle::radius)
+    ).apply(instance, Circle::new));
+    private static final Codec<Shape> SHAPE = Codec.STRING.dispatch(Shape::type, type -> type.equals("square") ? SQUARE : CIRCLE);
+
+    @Test
+    void eitherOfListAndStringRejectsArray() throws IOException {
+        final DataResult<Either<List<Square>, String>> result = assertSameAsTree(Codec.either(SQUARE.listOf(), Codec.STRING), "[1, 2]");
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    void eitherOfListAndStringRejectsObject() throws IOException {
+        final DataResult<Either<List<Square>, String>> result = assertSameAsTree(Codec.either(SQUARE.listOf(), Codec.STRING), "{\"s\": 2}");
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    void eitherOfRecordAndStringRejectsObject() throws IOException {
+        final DataResult<Either<Square, String>> result = assertSameAsTree(Codec.either(SQUARE, Codec.STRING), "{\"r\": 2}");
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    void eitherReadsArrayAgain() throws IOException {
+        final DataResult<Either<List<Square>, List<Integer>>> result = assertSameAsTree(Codec.either(SQUARE.listOf(), Codec.INT.listOf()), "[1, 2]");
+        assertEquals(Either.right(List.of(1, 2)), result.result().orElseThrow());
+    }
+
+    @Test
+    void eitherReadsNestedArrayAgain() throws IOException {
+        final var codec = Codec.either(Codec.pair(SQUARE.listOf().fieldOf("xs").codec(), Codec.STRING.fieldOf("n").codec()),
+                Codec.INT.listOf().fieldOf("xs").codec());
+        final var result = assertSameAsTree(codec, "{\"xs\": [1, 2], \"n\": \"a\"}");
+        assertEquals(Either.right(List.of(1, 2)), result.result().orElseThrow());
+    }
+
+    @Test
+    void eitherReadsArrayOfArraysAgain() throws IOException {
+        final var result = assertSameAsTree(Codec.either(Codec.INT.listOf().listOf(), Codec.STRING.listOf().listOf()), "[[\"a\"]]");
+        assertEquals(Either.right(List.of(List.of("a"))), result.result().orElseThrow());
+    }
+
+    @Test
+    void arrayThatCantBeBuiltIsReportedAsRead() throws IOException {
+        final var codec = Codec.either(SQUARE.listOf(), CIRCLE.listOf());
+        final DataResult<?> streamed = JsonReaderOps.decode(codec, reader("[{\"r\": 1}]"));
+        // The object in the array was read by the first codec, so the array can't be built for the second.
+        assertFalse(streamed.isSuccess());
+        assertTrue(streamed.error().orElseThrow().message().contains("already been read"));
+    }
+
+    @Test
+    void dispatch() throws IOException {
+        assertEquals(new Square(2), assertSameAsTree(SHAPE, "{\"type\": \"square\", \"s\": 2}").result().orElseThrow());
+        assertEquals(new Circle(3), assertSameAsTree(SHAPE, "{\"r\": 3, \"type\": \"circle\"}").result().orElseThrow());
+        assertFalse(assertSameAsTree(SHAPE, "{\"type\": \"square\"}").isSuccess());
+    }
+
+    @Test
+    void pair() throws IOException {
+        final DataResult<Pair<Circle, Square>> result = assertSameAsTree(Codec.pair(CIRCLE, SQUARE), "{\"s\": 2, \"r\": 1}");
+        assertEquals(Pair.of(new Circle(1), new Square(2)), result.result().orElseThrow());
+    }
+
+    @Test
+    void eitherOfPairs() throws IOException {
+        final var codec = Codec.either(Codec.pair(CIRCLE, Codec.STRING.fieldOf("name").codec()), Codec.pair(CIRCLE, SQUARE));
+        final var result = assertSameAsTree(codec, "{\"r\": 1, \"s\": 2}");
+        assertEquals(Either.right(Pair.of(new Circle(1), new Square(2))), result.result().orElseThrow());
+    }
+
+    private static <A> DataResult<A> assertSameAsTree(final Codec<A> codec, final String json) throws IOException {
+        final DataResult<A> tree = codec.read(JsonParser.parseString(json), GsonOps.INSTANCE);
+        final DataResult<A> streamed = JsonReaderOps.decode(codec, reader(json));
+        assertEquals(tree.isSuccess(), streamed.isSuccess(), () -> "tree: " + tree + ", streamed: " + streamed);
+        assertEquals(tree.result(), streamed.result());
+        return streamed;
+    }
+
+    private static JsonReader reader(final String json) {
+        return new JsonReader(new StringReader(json));
+    }
+
+    sealed interface Shape permits Square, Circle {
+
+        String type();
+    }
+
+    record Square(int side) implements Shape {
+
+        @Override
+        public String type() {
+            return "square";
+        }
+    }
+
+    record Circle(int radius) implements Shape {
+
+        @Override
+        public String type() {
+            return "circle";
+        }
+    }
+}
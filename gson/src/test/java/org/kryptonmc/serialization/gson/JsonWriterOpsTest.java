@@ -0,0 +1,125 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.kryptonmc.serialization.Codec;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.codecs.RecordCodecBuilder;
+import org.kryptonmc.util.Either;
+import org.kryptonmc.util.Pair;
+import org.kryptonmc.util.Unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class JsonWriterOpsTest {
+
+    private static final Codec<Square> SQUARE = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.fieldOf("s").getting(Square::side),
+            Codec.INT.listOf().fieldOf("xs").getting(Square::xs)
+    ).apply(instance, Square::new));
+    private static final Codec<Circle> CIRCLE = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.fieldOf("r").getting(Circle::radius),
+            Codec.STRING.optionalFieldOf("name").getting(Circle::name)
+    ).apply(instance, Circle::new));
+    private static final Codec<Shape> SHAPE = Codec.STRING.dispatch(Shape::type, type -> type.equals("square") ? SQUARE : CIRCLE);
+
+    @Test
+    void record() throws IOException {
+        assertRoundTrip(SQUARE, new Square(2, List.of(5, 6)));
+        assertRoundTrip(CIRCLE, new Circle(1, Optional.of("a")));
+        assertRoundTrip(CIRCLE, new Circle(1, Optional.empty()));
+    }
+
+    @Test
+    void pair() throws IOException {
+        assertRoundTrip(Codec.pair(CIRCLE, SQUARE), Pair.of(new Circle(1, Optional.empty()), new Square(2, List.of(5))));
+    }
+
+    @Test
+    void pairOfPairs() throws IOException {
+        final var codec = Codec.pair(Codec.pair(CIRCLE, Codec.STRING.fieldOf("n").codec()), SQUARE);
+        assertRoundTrip(codec, Pair.of(Pair.of(new Circle(1, Optional.of("a")), "b"), new Square(2, List.of())));
+    }
+
+    @Test
+    void nestedPair() throws IOException {
+        final var codec = Codec.pair(CIRCLE, SQUARE).listOf().fieldOf("pairs").codec();
+        assertRoundTrip(codec, List.of(Pair.of(new Circle(1, Optional.empty()), new Square(2, List.of(5))),
+                Pair.of(new Circle(3, Optional.of("c")), new Square(4, List.of()))));
+    }
+
+    @Test
+    void pairWithPrimitiveFails() throws IOException {
+        final var codec = Codec.pair(Codec.INT, SQUARE);
+        final var value = Pair.of(1, new Square(2, List.of(5)));
+        assertFalse(codec.encodeStart(value, GsonOps.INSTANCE).isSuccess());
+        assertFalse(JsonWriterOps.encode(codec, value, new JsonWriter(new StringWriter())).isSuccess());
+    }
+
+    @Test
+    void either() throws IOException {
+        final var codec = Codec.either(SQUARE, CIRCLE);
+        assertRoundTrip(codec, Either.left(new Square(2, List.of(5))));
+        assertRoundTrip(codec, Either.right(new Circle(1, Optional.empty())));
+    }
+
+    @Test
+    void dispatch() throws IOException {
+        assertRoundTrip(SHAPE, new Square(2, List.of(5)));
+        assertRoundTrip(SHAPE, new Circle(1, Optional.of("a")));
+        assertRoundTrip(SHAPE.listOf(), List.of(new Square(2, List.of(5)), new Circle(1, Optional.empty())));
+    }
+
+    @Test
+    void map() throws IOException {
+        assertRoundTrip(Codec.map(Codec.STRING, SHAPE), Map.of("a", new Square(2, List.of(5)), "b", new Circle(1, Optional.empty())));
+    }
+
+    private static <A> void assertRoundTrip(final Codec<A> codec, final A value) throws IOException {
+        final JsonElement tree = codec.encodeStart(value, GsonOps.INSTANCE).result().orElseThrow();
+        final var output = new StringWriter();
+        final DataResult<Unit> result = JsonWriterOps.encode(codec, value, new JsonWriter(output));
+        assertEquals(DataResult.success(Unit.INSTANCE), result);
+        assertEquals(tree, JsonParser.parseString(output.toString()));
+        assertEquals(DataResult.success(value), JsonReaderOps.decode(codec, new JsonReader(new StringReader(output.toString()))));
+    }
+
+    sealed interface Shape permits Square, Circle {
+
+        String type();
+    }
+
+    record Square(int side, List<Integer> xs) implements Shape {
+
+        @Override
+        public String type() {
+            return "square";
+        }
+    }
+
+    record Circle(int radius, Optional<String> name) implements Shape {
+
+        @Override
+        public String type() {
+            return "circle";
+        }
+    }
+}
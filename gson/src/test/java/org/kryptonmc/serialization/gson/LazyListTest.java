@@ -0,0 +1,44 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.gson;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.kryptonmc.serialization.Codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LazyListTest {
+
+    private static final Codec<List<List<Integer>>> CODEC = Codec.lazyList(Codec.INT.listOf());
+
+    @Test
+    void elementIsDecodedOnce() {
+        final List<List<Integer>> list = CODEC.read(parse("[[1, 2], [3]]"), GsonOps.INSTANCE).getOrThrow(false, error -> {});
+        assertEquals(List.of(1, 2), list.get(0));
+        assertSame(list.get(0), list.get(0));
+    }
+
+    @Test
+    void elementThatFailsToDecodeFailsEveryTime() {
+        // The inner list decodes to a partial [1, 3], which must not be kept and given back the second time.
+        final List<List<Integer>> list = CODEC.read(parse("[[1, \"x\", 3], [4]]"), GsonOps.INSTANCE).getOrThrow(false, error -> {});
+        assertThrows(RuntimeException.class, () -> list.get(0));
+        assertThrows(RuntimeException.class, () -> list.get(0));
+        assertEquals(List.of(4), list.get(1));
+    }
+
+    private static JsonElement parse(final String json) {
+        return JsonParser.parseString(json);
+    }
+}
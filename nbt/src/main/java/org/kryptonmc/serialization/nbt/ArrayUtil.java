@@ -8,7 +8,9 @@
  */
 package org.kryptonmc.serialization.nbt;
 
-import java.util.stream.Stream;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kryptonmc.nbt.ByteTag;
 import org.kryptonmc.nbt.IntTag;
 import org.kryptonmc.nbt.LongTag;
@@ -16,29 +18,29 @@ import org.kryptonmc.nbt.Tag;
 
 final class ArrayUtil {
 
-    static byte[] toByteArray(final Stream<Tag> stream) {
-        final var list = stream.toList();
+    static byte @Nullable [] toByteArray(final @NotNull List<? extends Tag> list) {
         final var result = new byte[list.size()];
         for (int i = 0; i < result.length; i++) {
-            result[i] = ((ByteTag) list.get(i)).value();
+            if (!(list.get(i) instanceof final ByteTag tag)) return null;
+            result[i] = tag.value();
         }
         return result;
     }
 
-    static int[] toIntArray(final Stream<Tag> stream) {
-        final var list = stream.toList();
+    static int @Nullable [] toIntArray(final @NotNull List<? extends Tag> list) {
         final var result = new int[list.size()];
         for (int i = 0; i < result.length; i++) {
-            result[i] = ((IntTag) list.get(i)).value();
+            if (!(list.get(i) instanceof final IntTag tag)) return null;
+            result[i] = tag.value();
         }
         return result;
     }
 
-    static long[] toLongArray(final Stream<Tag> stream) {
-        final var list = stream.toList();
+    static long @Nullable [] toLongArray(final @NotNull List<? extends Tag> list) {
         final var result = new long[list.size()];
         for (int i = 0; i < result.length; i++) {
-            result[i] = ((LongTag) list.get(i)).value();
+            if (!(list.get(i) instanceof final LongTag tag)) return null;
+            result[i] = tag.value();
         }
         return result;
     }
@@ -0,0 +1,138 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.nbt;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.nbt.CompoundTag;
+import org.kryptonmc.nbt.ListTag;
+import org.kryptonmc.nbt.MutableListTag;
+import org.kryptonmc.nbt.Tag;
+
+/**
+ * A compound or list in a binary NBT input that is being read by
+ * {@link NbtReaderOps}, which is only read from the input when it is first
+ * used.
+ *
+ * <p>Cursors are passed to decoders as a placeholder tag, which the
+ * operations use to find the cursor again. When a cursor is read as a
+ * compound or list, it is read from the input as it is used, without being
+ * built. If it hasn't been used by the time the input needs to move past it,
+ * it is built then, so that it can still be used afterwards.</p>
+ *
+ * <p>A list that has been read can be built afterwards from the elements it
+ * kept, as long as none of them were read as compounds or lists that can't
+ * be built. Otherwise, a compound or list that has been read has no built
+ * value, and the operations tell anyone who asks for one that it has already
+ * been read.</p>
+ */
+final class NbtCursor {
+
+    // What compounds keep in place of a value that has been read from the input without being built, which the operations recognise
+    // by identity and never hand out. This is never modified.
+    static final Tag READ = MutableListTag.empty();
+
+    private final NbtReaderOps ops;
+    private final int type;
+    // This is only ever compared by identity, and is never modified.
+    private final Tag placeholder = MutableListTag.empty();
+    private @Nullable Tag element;
+    private @Nullable Object view;
+
+    NbtCursor(final @NotNull NbtReaderOps ops, final int type) {
+        this.ops = ops;
+        this.type = type;
+    }
+
+    @NotNull Tag placeholder() {
+        return placeholder;
+    }
+
+    /**
+     * Gets this value as a built tag, building it if it hasn't been used
+     * yet, or null if it has been read without being built, and can't be
+     * built any more.
+     *
+     * @return The tag, or null if it can't be built.
+     */
+    @Nullable Tag element() {
+        if (element == null) {
+            if (view == null) {
+                element = ops.readPayload(type);
+            } else if (view instanceof final StreamedList list) {
+                // Someone else wants a list that has already been read, so we build it out of the elements it kept, if we can.
+                element = list.replay();
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Checks whether this value can still be built, once it has been
+     * finished.
+     *
+     * @return Whether this value can be built.
+     */
+    boolean buildable() {
+        return element != null || view instanceof final StreamedList list && list.replayable();
+    }
+
+    /**
+     * Gets this value as a compound read from the input, starting to read it
+     * if it hasn't been used yet.
+     *
+     * <p>This returns the same compound every time it is called, so that
+     * decoders that try more than one way of decoding the same value can
+     * still find the values they have already read.</p>
+     *
+     * @return The compound, or null if this value is not a compound, or is
+     *         already being read as something else.
+     */
+    @Nullable StreamedCompound compound() {
+        if (view instanceof final StreamedCompound compound) return compound;
+        if (view != null || element != null || type != CompoundTag.ID) return null;
+        final var compound = new StreamedCompound(ops);
+        view = compound;
+        return compound;
+    }
+
+    /**
+     * Gets this value as a list read from the input, starting to read it if
+     * it hasn't been used yet.
+     *
+     * @return The list, or null if this value is not a list, or is already
+     *         being read.
+     */
+    @Nullable StreamedList list() {
+        if (view instanceof final StreamedList list && !list.started()) return list;
+        if (view != null || element != null || type != ListTag.ID) return null;
+        final var list = new StreamedList(ops);
+        view = list;
+        return list;
+    }
+
+    /**
+     * Moves the input past the end of this value, building it first if it
+     * hasn't been used yet.
+     */
+    void finish() {
+        if (view instanceof final StreamedCompound compound) {
+            compound.finish();
+        } else if (view instanceof final StreamedList list) {
+            list.finish();
+        } else if (element == null) {
+            element = ops.readPayload(type);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return element != null ? element.toString() : String.valueOf(view);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.nbt;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.jetbrains.annotations.NotNull;
+import org.kryptonmc.nbt.ByteArrayTag;
+import org.kryptonmc.nbt.ByteTag;
+import org.kryptonmc.nbt.CollectionTag;
+import org.kryptonmc.nbt.CompoundTag;
+import org.kryptonmc.nbt.DoubleTag;
+import org.kryptonmc.nbt.EndTag;
+import org.kryptonmc.nbt.FloatTag;
+import org.kryptonmc.nbt.ImmutableCompoundTag;
+import org.kryptonmc.nbt.ImmutableListTag;
+import org.kryptonmc.nbt.IntArrayTag;
+import org.kryptonmc.nbt.IntTag;
+import org.kryptonmc.nbt.ListTag;
+import org.kryptonmc.nbt.LongArrayTag;
+import org.kryptonmc.nbt.LongTag;
+import org.kryptonmc.nbt.NumberTag;
+import org.kryptonmc.nbt.ShortTag;
+import org.kryptonmc.nbt.StringTag;
+import org.kryptonmc.nbt.Tag;
+
+/**
+ * Reads and writes the payloads of tags in the binary NBT format, for the
+ * streaming data operations.
+ */
+final class NbtIo {
+
+    static void writePayload(final @NotNull DataOutput output, final @NotNull Tag tag) throws IOException {
+        switch (tag.id()) {
+            case EndTag.ID -> {}
+            case ByteTag.ID -> output.writeByte(((NumberTag) tag).toByte());
+            case ShortTag.ID -> output.writeShort(((NumberTag) tag).toShort());
+            case IntTag.ID -> output.writeInt(((NumberTag) tag).toInt());
+            case LongTag.ID -> output.writeLong(((NumberTag) tag).toLong());
+            case FloatTag.ID -> output.writeFloat(((NumberTag) tag).toFloat());
+            case DoubleTag.ID -> output.writeDouble(((NumberTag) tag).toDouble());
+            case ByteArrayTag.ID -> writeByteArray(output, ((ByteArrayTag) tag).getData());
+            case StringTag.ID -> output.writeUTF(((StringTag) tag).value());
+            case ListTag.ID -> {
+                final var list = (CollectionTag<?>) tag;
+                output.writeByte(list.elementType());
+                output.writeInt(list.size());
+                for (final Tag element : list) {
+                    writePayload(output, element);
+                }
+            }
+            case CompoundTag.ID -> {
+                final var compound = (CompoundTag) tag;
+                for (final String key : compound.keySet()) {
+                    final Tag value = compound.get(key);
+                    // An end tag would end the compound early, and has nothing in it anyway.
+                    if (value.id() == EndTag.ID) continue;
+                    output.writeByte(value.id());
+                    output.writeUTF(key);
+                    writePayload(output, value);
+                }
+                output.writeByte(EndTag.ID);
+            }
+            case IntArrayTag.ID -> writeIntArray(output, ((IntArrayTag) tag).getData());
+            case LongArrayTag.ID -> writeLongArray(output, ((LongArrayTag) tag).getData());
+            default -> throw new IllegalStateException("Unknown tag type " + tag.id() + "!");
+        }
+    }
+
+    static void writeByteArray(final @NotNull DataOutput output, final byte @NotNull [] data) throws IOException {
+        output.writeInt(data.length);
+        output.write(data);
+    }
+
+    // Optimization: Writing elements one at a time goes through the output once per element, and most outputs don't buffer, so we
+    // put the whole array in to a buffer and write that all at once.
+    static void writeIntArray(final @NotNull DataOutput output, final int @NotNull [] data) throws IOException {
+        output.writeInt(data.length);
+        final var buffer = ByteBuffer.allocate(data.length * Integer.BYTES);
+        buffer.asIntBuffer().put(data);
+        output.write(buffer.array());
+    }
+
+    static void writeLongArray(final @NotNull DataOutput output, final long @NotNull [] data) throws IOException {
+        output.writeInt(data.length);
+        final var buffer = ByteBuffer.allocate(data.length * Long.BYTES);
+        buffer.asLongBuffer().put(data);
+        output.write(buffer.array());
+    }
+
+    static @NotNull Tag readPayload(final @NotNull DataInput input, final int type) throws IOException {
+        return switch (type) {
+            case EndTag.ID -> EndTag.INSTANCE;
+            case ByteTag.ID -> ByteTag.of(input.readByte());
+            case ShortTag.ID -> ShortTag.of(input.readShort());
+            case IntTag.ID -> IntTag.of(input.readInt());
+            case LongTag.ID -> LongTag.of(input.readLong());
+            case FloatTag.ID -> FloatTag.of(input.readFloat());
+            case DoubleTag.ID -> DoubleTag.of(input.readDouble());
+            case ByteArrayTag.ID -> ByteArrayTag.of(readByteArray(input));
+            case StringTag.ID -> StringTag.of(input.readUTF());
+            case ListTag.ID -> {
+                final int elementType = input.readByte();
+                final int size = readLength(input);
+                final var result = ImmutableListTag.builder();
+                for (int i = 0; i < size; i++) {
+                    result.add(readPayload(input, elementType));
+                }
+                yield result.build();
+            }
+            case CompoundTag.ID -> {
+                final var result = ImmutableCompoundTag.builder();
+                int valueType;
+                while ((valueType = input.readByte()) != EndTag.ID) {
+                    final String key = input.readUTF();
+                    result.put(key, readPayload(input, valueType));
+                }
+                yield result.build();
+            }
+            case IntArrayTag.ID -> IntArrayTag.of(readIntArray(input));
+            case LongArrayTag.ID -> LongArrayTag.of(readLongArray(input));
+            default -> throw new IOException("Unknown tag type " + type + "!");
+        };
+    }
+
+    static void skipPayload(final @NotNull DataInput input, final int type) throws IOException {
+        switch (type) {
+            case EndTag.ID -> {}
+            case ByteTag.ID -> skip(input, Byte.BYTES);
+            case ShortTag.ID -> skip(input, Short.BYTES);
+            case IntTag.ID, FloatTag.ID -> skip(input, Integer.BYTES);
+            case LongTag.ID, DoubleTag.ID -> skip(input, Long.BYTES);
+            case ByteArrayTag.ID -> skip(input, readLength(input));
+            case StringTag.ID -> skip(input, input.readUnsignedShort());
+            case ListTag.ID -> {
+                final int elementType = input.readByte();
+                final int size = readLength(input);
+                for (int i = 0; i < size; i++) {
+                    skipPayload(input, elementType);
+                }
+            }
+            case CompoundTag.ID -> {
+                int valueType;
+                while ((valueType = input.readByte()) != EndTag.ID) {
+                    skip(input, input.readUnsignedShort());
+                    skipPayload(input, valueType);
+                }
+            }
+            case IntArrayTag.ID -> skip(input, (long) readLength(input) * Integer.BYTES);
+            case LongArrayTag.ID -> skip(input, (long) readLength(input) * Long.BYTES);
+            default -> throw new IOException("Unknown tag type " + type + "!");
+        }
+    }
+
+    static byte @NotNull [] readByteArray(final @NotNull DataInput input) throws IOException {
+        final var result = new byte[readLength(input)];
+        input.readFully(result);
+        return result;
+    }
+
+    static int @NotNull [] readIntArray(final @NotNull DataInput input) throws IOException {
+        final int length = readLength(input);
+        final var bytes = new byte[length * Integer.BYTES];
+        input.readFully(bytes);
+        final var result = new int[length];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(result);
+        return result;
+    }
+
+    static long @NotNull [] readLongArray(final @NotNull DataInput input) throws IOException {
+        final int length = readLength(input);
+        final var bytes = new byte[length * Long.BYTES];
+        input.readFully(bytes);
+        final var result = new long[length];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(result);
+        return result;
+    }
+
+    static int readLength(final @NotNull DataInput input) throws IOException {
+        final int length = input.readInt();
+        if (length < 0) throw new IOException("Invalid negative length " + length + "!");
+        return length;
+    }
+
+    // DataInput.skipBytes is allowed to skip fewer bytes than we ask it to, so we have to keep going until it's done.
+    private static void skip(final @NotNull DataInput input, final long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            final int skipped = input.skipBytes((int) Math.min(remaining, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                // Some inputs, like DataInputStream over a stream that can't skip, skip nothing without being at the end.
+                input.readByte();
+                remaining--;
+            } else {
+                remaining -= skipped;
+            }
+        }
+    }
+
+    private NbtIo() {
+    }
+}
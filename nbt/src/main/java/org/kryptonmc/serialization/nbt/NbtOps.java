@@ -8,13 +8,13 @@
  */
 package org.kryptonmc.serialization.nbt;
 
-import com.google.common.collect.Iterators;
-import com.google.common.collect.PeekingIterator;
 import java.nio.ByteBuffer;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
@@ -42,8 +42,13 @@ import org.kryptonmc.nbt.StringTag;
 import org.kryptonmc.nbt.Tag;
 import org.kryptonmc.serialization.DataOps;
 import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.DataVisitor;
+import org.kryptonmc.serialization.FailFastException;
+import org.kryptonmc.serialization.FieldKey;
+import org.kryptonmc.serialization.ListBuilder;
 import org.kryptonmc.serialization.MapLike;
 import org.kryptonmc.serialization.RecordBuilder;
+import org.kryptonmc.serialization.Transcoder;
 import org.kryptonmc.util.Pair;
 
 /**
@@ -53,6 +58,8 @@ public final class NbtOps implements DataOps<Tag> {
 
     public static @NotNull NbtOps INSTANCE = new NbtOps();
 
+    private final FieldKey.Cache<Tag> keys = FieldKey.newCache(this);
+
     private NbtOps() {
     }
 
@@ -66,6 +73,39 @@ public final class NbtOps implements DataOps<Tag> {
         return input instanceof final NumberTag tag ? DataResult.success(tag.asNumber()) : error("getNumberValue", "number", input);
     }
 
+    @Override
+    public @NotNull DataResult<Integer> getIntValue(final @NotNull Tag input) {
+        return input instanceof final NumberTag tag ? DataResult.success(tag.toInt()) : error("getIntValue", "number", input);
+    }
+
+    @Override
+    public @NotNull DataResult<Long> getLongValue(final @NotNull Tag input) {
+        return input instanceof final NumberTag tag ? DataResult.success(tag.toLong()) : error("getLongValue", "number", input);
+    }
+
+    @Override
+    public @NotNull DataResult<Double> getDoubleValue(final @NotNull Tag input) {
+        return input instanceof final NumberTag tag ? DataResult.success(tag.toDouble()) : error("getDoubleValue", "number", input);
+    }
+
+    @Override
+    public int getIntDirect(final @NotNull Tag input) {
+        if (input instanceof final NumberTag tag) return tag.toInt();
+        throw FailFastException.INSTANCE;
+    }
+
+    @Override
+    public long getLongDirect(final @NotNull Tag input) {
+        if (input instanceof final NumberTag tag) return tag.toLong();
+        throw FailFastException.INSTANCE;
+    }
+
+    @Override
+    public double getDoubleDirect(final @NotNull Tag input) {
+        if (input instanceof final NumberTag tag) return tag.toDouble();
+        throw FailFastException.INSTANCE;
+    }
+
     @Override
     public @NotNull DataResult<String> getStringValue(final @NotNull Tag input) {
         return input instanceof final StringTag tag ? DataResult.success(tag.value()) : error("getStringValue", "string", input);
@@ -81,6 +121,12 @@ public final class NbtOps implements DataOps<Tag> {
         return input instanceof final CollectionTag<?> tag ? DataResult.success(tag::forEach) : error("getList", "list", input);
     }
 
+    @Override
+    public @NotNull DataResult<List<Tag>> getIndexedList(final @NotNull Tag input) {
+        if (!(input instanceof final ListTag tag)) return DataOps.super.getIndexedList(input);
+        return DataResult.success(new ListView(tag));
+    }
+
     /*
      * This implementation and the one below it may look a bit weird, but it's designed carefully to be as consistent will vanilla
      * Minecraft as possible.
@@ -91,7 +137,7 @@ public final class NbtOps implements DataOps<Tag> {
     @Override
     public @NotNull DataResult<Tag> mergeToList(final @NotNull Tag list, final @NotNull Tag value) {
         if (!(list instanceof CollectionTag<?>) && !(list instanceof EndTag)) {
-            return DataResult.error("Cannot merge value " + value + " in to non-list " + list + "!");
+            return DataResult.error(() -> "Cannot merge value " + value + " in to non-list " + list + "!");
         }
         final var result = NbtUtil.createGenericList(list, value.id());
         NbtUtil.fillOne(result, list, value);
@@ -101,7 +147,7 @@ public final class NbtOps implements DataOps<Tag> {
     @Override
     public @NotNull DataResult<Tag> mergeToList(final @NotNull Tag list, final @NotNull List<Tag> values) {
         if (!(list instanceof CollectionTag<?>) && !(list instanceof EndTag)) {
-            return DataResult.error("Cannot merge values " + values + " in to non-list " + list + "!");
+            return DataResult.error(() -> "Cannot merge values " + values + " in to non-list " + list + "!");
         }
         final var result = NbtUtil.createGenericList(list, values.stream().findFirst().map(Tag::id).orElse(EndTag.ID));
         NbtUtil.fillMany(result, list, values);
@@ -123,6 +169,21 @@ public final class NbtOps implements DataOps<Tag> {
         return input instanceof final LongArrayTag tag ? DataResult.success(Arrays.stream(tag.getData())) : DataOps.super.getLongStream(input);
     }
 
+    @Override
+    public @NotNull DataResult<byte[]> getByteArray(final @NotNull Tag input) {
+        return input instanceof final ByteArrayTag tag ? DataResult.success(tag.getData()) : DataOps.super.getByteArray(input);
+    }
+
+    @Override
+    public @NotNull DataResult<int[]> getIntArray(final @NotNull Tag input) {
+        return input instanceof final IntArrayTag tag ? DataResult.success(tag.getData()) : DataOps.super.getIntArray(input);
+    }
+
+    @Override
+    public @NotNull DataResult<long[]> getLongArray(final @NotNull Tag input) {
+        return input instanceof final LongArrayTag tag ? DataResult.success(tag.getData()) : DataOps.super.getLongArray(input);
+    }
+
     @Override
     public @NotNull DataResult<Stream<Pair<Tag, Tag>>> getMapValues(final @NotNull Tag input) {
         if (!(input instanceof final CompoundTag tag)) return error("getMapValues", "compound", input);
@@ -138,27 +199,7 @@ public final class NbtOps implements DataOps<Tag> {
     @Override
     public @NotNull DataResult<MapLike<Tag>> getMap(final @NotNull Tag input) {
         if (!(input instanceof final CompoundTag tag)) return error("getMap", "compound", input);
-        return DataResult.success(new MapLike<>() {
-            @Override
-            public @Nullable Tag get(final @NotNull Tag key) {
-                return get(key.asString());
-            }
-
-            @Override
-            public @Nullable Tag get(final @NotNull String key) {
-                return tag.get(key);
-            }
-
-            @Override
-            public @NotNull Stream<Pair<Tag, Tag>> entries() {
-                return tag.keySet().stream().map(key -> Pair.of(createString(key), tag.get(key)));
-            }
-
-            @Override
-            public String toString() {
-                return "MapLike[" + tag + "]";
-            }
-        });
+        return DataResult.success(mapView(tag));
     }
 
     @Override
@@ -172,9 +213,9 @@ public final class NbtOps implements DataOps<Tag> {
     @Override
     public @NotNull DataResult<Tag> mergeToMap(final @NotNull Tag map, final @NotNull Tag key, final @NotNull Tag value) {
         if (!(map instanceof CompoundTag) && !(map instanceof EndTag)) {
-            return DataResult.error("Cannot merge value " + value + " in to non-map " + map + "!");
+            return DataResult.error(() -> "Cannot merge value " + value + " in to non-map " + map + "!");
         }
-        if (!(key instanceof StringTag)) return DataResult.error("Key " + key + " for mergeToMap is not a string!");
+        if (!(key instanceof StringTag)) return DataResult.error(() -> "Key " + key + " for mergeToMap is not a string!");
         final var result = ImmutableCompoundTag.builder();
         if (map instanceof final CompoundTag tag) tag.keySet().forEach(k -> result.put(k, Objects.requireNonNull(tag.get(k))));
         result.put(((StringTag) key).value(), value);
@@ -184,23 +225,22 @@ public final class NbtOps implements DataOps<Tag> {
     @Override
     public @NotNull DataResult<Tag> mergeToMap(final @NotNull Tag map, final @NotNull MapLike<Tag> values) {
         if (!(map instanceof CompoundTag) && !(map instanceof EndTag)) {
-            return DataResult.error("Cannot merge values " + values + " in to non-map " + map + "!");
+            return DataResult.error(() -> "Cannot merge values " + values + " in to non-map " + map + "!");
         }
         final var result = ImmutableCompoundTag.builder();
         if (map instanceof final CompoundTag tag) tag.keySet().forEach(k -> result.put(k, Objects.requireNonNull(tag.get(k))));
 
         final var failed = new ArrayList<Tag>();
-        values.entries().forEach(entry -> {
-            final var key = entry.first();
+        values.forEachEntry((key, value) -> {
             if (key instanceof final StringTag tag) {
-                result.put(tag.value(), Objects.requireNonNull(entry.second()));
+                result.put(tag.value(), Objects.requireNonNull(value));
             } else {
                 failed.add(key);
             }
         });
 
         if (!failed.isEmpty()) {
-            return DataResult.error("Cannot merge values " + values + " in to map " + map + "! Keys " + failed + " are not strings!");
+            return DataResult.error(() -> "Cannot merge values " + values + " in to map " + map + "! Keys " + failed + " are not strings!");
         }
         return DataResult.success(result.build());
     }
@@ -250,17 +290,29 @@ public final class NbtOps implements DataOps<Tag> {
         return StringTag.of(value);
     }
 
+    @Override
+    public @NotNull Tag createKey(final @NotNull FieldKey key) {
+        return keys.get(key);
+    }
+
     @Override
     public @NotNull Tag createList(final @NotNull Stream<Tag> input) {
-        final PeekingIterator<? extends Tag> iterator = Iterators.peekingIterator(input.iterator());
-        if (!iterator.hasNext()) return ListTag.EMPTY;
-        final var first = iterator.peek();
-        if (first instanceof ByteTag) return ByteArrayTag.of(ArrayUtil.toByteArray(input));
-        if (first instanceof IntTag) return IntArrayTag.of(ArrayUtil.toIntArray(input));
-        if (first instanceof LongTag) return LongArrayTag.of(ArrayUtil.toLongArray(input));
+        final List<Tag> elements = input.toList();
+        if (elements.isEmpty()) return ListTag.EMPTY;
+        // Lists of bytes, ints, or longs become arrays, but only if every element is the same type, as we can't put anything else in them.
+        final Tag first = elements.get(0);
+        if (first instanceof ByteTag) {
+            final byte[] array = ArrayUtil.toByteArray(elements);
+            if (array != null) return ByteArrayTag.of(array);
+        } else if (first instanceof IntTag) {
+            final int[] array = ArrayUtil.toIntArray(elements);
+            if (array != null) return IntArrayTag.of(array);
+        } else if (first instanceof LongTag) {
+            final long[] array = ArrayUtil.toLongArray(elements);
+            if (array != null) return LongArrayTag.of(array);
+        }
         final var result = ImmutableListTag.builder();
-        while (iterator.hasNext()) {
-            final var element = iterator.next();
+        for (final Tag element : elements) {
             if (!(element instanceof EndTag)) result.add(element);
         }
         return result.build();
@@ -281,6 +333,21 @@ public final class NbtOps implements DataOps<Tag> {
         return LongArrayTag.of(input.toArray());
     }
 
+    @Override
+    public @NotNull Tag createByteArray(final byte @NotNull [] input) {
+        return ByteArrayTag.of(input);
+    }
+
+    @Override
+    public @NotNull Tag createIntArray(final int @NotNull [] input) {
+        return IntArrayTag.of(input);
+    }
+
+    @Override
+    public @NotNull Tag createLongArray(final long @NotNull [] input) {
+        return LongArrayTag.of(input);
+    }
+
     @Override
     public @NotNull Tag createMap(final @NotNull Stream<Pair<Tag, Tag>> map) {
         final var result = ImmutableCompoundTag.builder();
@@ -288,29 +355,44 @@ public final class NbtOps implements DataOps<Tag> {
         return result.build();
     }
 
+    @Override
+    public @NotNull ListBuilder<Tag> listBuilder(final int expectedSize) {
+        return new ListBuilder.Default<>(this, expectedSize);
+    }
+
     @Override
     public @NotNull RecordBuilder<Tag> mapBuilder() {
         return new NbtRecordBuilder();
     }
 
     @Override
-    public <U> @NotNull U convertTo(final @NotNull DataOps<U> outOps, final @NotNull Tag input) {
-        return switch (input.id()) {
-            case EndTag.ID -> outOps.empty();
-            case ByteTag.ID -> outOps.createByte(((NumberTag) input).toByte());
-            case ShortTag.ID -> outOps.createShort(((NumberTag) input).toShort());
-            case IntTag.ID -> outOps.createInt(((NumberTag) input).toInt());
-            case LongTag.ID -> outOps.createLong(((NumberTag) input).toLong());
-            case FloatTag.ID -> outOps.createFloat(((NumberTag) input).toFloat());
-            case DoubleTag.ID -> outOps.createDouble(((NumberTag) input).toDouble());
-            case ByteArrayTag.ID -> outOps.createByteList(ByteBuffer.wrap(((ByteArrayTag) input).getData()));
-            case StringTag.ID -> outOps.createString(input.asString());
-            case ListTag.ID -> convertList(outOps, input);
-            case CompoundTag.ID -> convertMap(outOps, input);
-            case IntArrayTag.ID -> outOps.createIntList(Arrays.stream(((IntArrayTag) input).getData()));
-            case LongArrayTag.ID -> outOps.createLongList(Arrays.stream(((LongArrayTag) input).getData()));
+    public void visit(final @NotNull Tag input, final @NotNull DataVisitor<Tag> visitor) {
+        switch (input.id()) {
+            case EndTag.ID -> visitor.visitEmpty();
+            case ByteTag.ID -> visitor.visitByte(((NumberTag) input).toByte());
+            case ShortTag.ID -> visitor.visitShort(((NumberTag) input).toShort());
+            case IntTag.ID -> visitor.visitInt(((NumberTag) input).toInt());
+            case LongTag.ID -> visitor.visitLong(((NumberTag) input).toLong());
+            case FloatTag.ID -> visitor.visitFloat(((NumberTag) input).toFloat());
+            case DoubleTag.ID -> visitor.visitDouble(((NumberTag) input).toDouble());
+            case ByteArrayTag.ID -> visitor.visitByteArray(((ByteArrayTag) input).getData());
+            case StringTag.ID -> visitor.visitString(((StringTag) input).value());
+            case ListTag.ID -> visitor.visitList(new ListView((ListTag) input));
+            case CompoundTag.ID -> visitor.visitMap(mapView((CompoundTag) input));
+            case IntArrayTag.ID -> visitor.visitIntArray(((IntArrayTag) input).getData());
+            case LongArrayTag.ID -> visitor.visitLongArray(((LongArrayTag) input).getData());
             default -> throw new IllegalStateException("Unknown tag type " + input.id() + "!");
-        };
+        }
+    }
+
+    @Override
+    public <U> @NotNull U convertTo(final @NotNull DataOps<U> outOps, final @NotNull Tag input) {
+        return Transcoder.convert(this, outOps, input);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
     }
 
     @Override
@@ -318,7 +400,62 @@ public final class NbtOps implements DataOps<Tag> {
         return "NBT";
     }
 
+    private @NotNull MapLike<Tag> mapView(final @NotNull CompoundTag tag) {
+        return new MapLike<>() {
+            @Override
+            public @Nullable Tag get(final @NotNull Tag key) {
+                return get(key.asString());
+            }
+
+            @Override
+            public @Nullable Tag get(final @NotNull String key) {
+                return tag.get(key);
+            }
+
+            @Override
+            public @NotNull Stream<Pair<Tag, Tag>> entries() {
+                return tag.keySet().stream().map(key -> Pair.of(createString(key), tag.get(key)));
+            }
+
+            @Override
+            public void forEachEntry(final @NotNull BiConsumer<Tag, Tag> consumer) {
+                for (final var key : tag.keySet()) {
+                    consumer.accept(createString(key), tag.get(key));
+                }
+            }
+
+            @Override
+            public int size() {
+                return tag.size();
+            }
+
+            @Override
+            public String toString() {
+                return "MapLike[" + tag + "]";
+            }
+        };
+    }
+
     private static <R> @NotNull DataResult<R> error(final @NotNull String methodName, final @NotNull String name, final @NotNull Tag input) {
-        return DataResult.error("Provided input " + input + " for " + methodName + " is not a " + name + "!");
+        return DataResult.error(() -> "Provided input " + input + " for " + methodName + " is not a " + name + "!");
+    }
+
+    private static final class ListView extends AbstractList<Tag> implements RandomAccess {
+
+        private final ListTag tag;
+
+        ListView(final @NotNull ListTag tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public Tag get(final int index) {
+            return tag.get(index);
+        }
+
+        @Override
+        public int size() {
+            return tag.size();
+        }
     }
 }
@@ -0,0 +1,490 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.nbt;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.nbt.CompoundTag;
+import org.kryptonmc.nbt.EndTag;
+import org.kryptonmc.nbt.ListTag;
+import org.kryptonmc.nbt.StringTag;
+import org.kryptonmc.nbt.Tag;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.DataVisitor;
+import org.kryptonmc.serialization.Decoder;
+import org.kryptonmc.serialization.FailFastException;
+import org.kryptonmc.serialization.FieldKey;
+import org.kryptonmc.serialization.MapLike;
+import org.kryptonmc.util.Pair;
+
+/**
+ * Data operations for the Krypton NBT library that read values straight from
+ * a {@link DataInput} in the binary NBT format as they are decoded, rather
+ * than from a tree of tags.
+ *
+ * <p>Compounds and lists are read from the input as their values are asked
+ * for, in the order they appear in the input, and the values of compounds
+ * that are never asked for are skipped without being built. The values that
+ * a decoder asks for out of order are built and kept until the compound they
+ * are in has been decoded. This means that the memory used to decode an
+ * input grows with the size of the largest compound in it that is not
+ * decoded in order, not with the size of the input.</p>
+ *
+ * <p>As the input can't go backwards, a compound or list can only be read
+ * once. Decoders that try more than one way of decoding the same value, such
+ * as either codecs, still work as long as every way reads the compound's
+ * values in the same way, as the values that have already been read are
+ * kept. Lists keep their elements until one of them is read as a compound or
+ * list, so that they can be built if they are read again, which is what
+ * happens when the first way fails on an element that isn't a compound or
+ * list. Any other value, and any value that is passed over, is built, so it
+ * can be read as many times as needed.</p>
+ *
+ * <p>Asking for a value that has already been read, and can't be built,
+ * gives an error saying so, rather than the value.</p>
+ */
+public final class NbtReaderOps implements DataOps<Tag> {
+
+    private static final String ALREADY_READ = "Value has already been read from the stream and can't be read again: ";
+
+    private final DataInput input;
+    // The compounds and lists that have been passed to decoders, by the placeholder tag they were passed as.
+    private final Map<Tag, NbtCursor> cursors = new IdentityHashMap<>();
+
+    /**
+     * Decodes a value from the given input with the given decoder.
+     *
+     * <p>The input must be positioned at the start of a named root tag, the
+     * name of which is ignored. The whole of the root tag is read, whether
+     * the decoder uses all of it or not, so the input will be positioned
+     * after it once this returns.</p>
+     *
+     * @param decoder The decoder.
+     * @param input The input to read the value to decode from.
+     * @param <A> The value type.
+     * @return The result of decoding.
+     * @throws IOException If reading from the input fails, or the input is
+     *                     not valid NBT.
+     */
+    public static <A> @NotNull DataResult<A> decode(final @NotNull Decoder<A> decoder, final @NotNull DataInput input) throws IOException {
+        final var ops = new NbtReaderOps(Objects.requireNonNull(input, "input"));
+        try {
+            final int type = ops.readType();
+            if (type != EndTag.ID) ops.skipName();
+            final Tag root = ops.readValue(type);
+            final DataResult<A> result = decoder.read(root, ops);
+            ops.finish(root);
+            return result;
+        } catch (final UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    private NbtReaderOps(final @NotNull DataInput input) {
+        this.input = input;
+    }
+
+    /**
+     * Reads a value of the given type, returning the placeholder for a new
+     * cursor if it is a compound or list, or the value otherwise.
+     *
+     * @param type The type of the value.
+     * @return The value.
+     */
+    @NotNull Tag readValue(final int type) {
+        if (type != CompoundTag.ID && type != ListTag.ID) return readPayload(type);
+        final var cursor = new NbtCursor(this, type);
+        cursors.put(cursor.placeholder(), cursor);
+        return cursor.placeholder();
+    }
+
+    /**
+     * Moves the input past the end of the given value, if it is a compound or
+     * list that is being read.
+     *
+     * @param value The value.
+     * @return Whether the value was read without being built, and so can't be
+     *         used any more.
+     */
+    boolean finish(final @NotNull Tag value) {
+        final NbtCursor cursor = cursors.get(value);
+        if (cursor == null) return false;
+        cursor.finish();
+        if (cursor.buildable()) return false;
+        cursors.remove(value);
+        return true;
+    }
+
+    int readType() {
+        try {
+            return input.readByte();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    int readLength() {
+        try {
+            return NbtIo.readLength(input);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @NotNull String readName() {
+        try {
+            return input.readUTF();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void skipName() {
+        try {
+            NbtIo.skipPayload(input, StringTag.ID);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @NotNull Tag readPayload(final int type) {
+        try {
+            return NbtIo.readPayload(input, type);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void skipPayload(final int type) {
+        try {
+            NbtIo.skipPayload(input, type);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Gets the built value of the given value, or null if it has been read
+     * without being built, and can't be built any more.
+     *
+     * @param input The value.
+     * @return The built value, or null if it can't be built.
+     */
+    @Nullable Tag resolve(final @NotNull Tag input) {
+        if (input == NbtCursor.READ) return null;
+        final NbtCursor cursor = cursors.get(input);
+        return cursor != null ? cursor.element() : input;
+    }
+
+    // Values that have been read without being built are left as they are, so anything that asks for them later is told that they
+    // have been read, rather than given something else.
+    private @NotNull Tag built(final @NotNull Tag input) {
+        final Tag result = resolve(input);
+        return result != null ? result : input;
+    }
+
+    private <R> @NotNull DataResult<R> read(final @NotNull Tag input, final @NotNull Function<Tag, DataResult<R>> getter) {
+        final Tag result = resolve(input);
+        if (result == null) return DataResult.error(() -> ALREADY_READ + describe(input));
+        return getter.apply(result);
+    }
+
+    private @NotNull Tag readDirect(final @NotNull Tag input) {
+        final Tag result = resolve(input);
+        if (result == null) throw FailFastException.INSTANCE;
+        return result;
+    }
+
+    private @NotNull String describe(final @NotNull Tag input) {
+        final NbtCursor cursor = cursors.get(input);
+        return cursor != null ? cursor.toString() : "<read from stream>";
+    }
+
+    @Override
+    public @NotNull Tag empty() {
+        return EndTag.INSTANCE;
+    }
+
+    @Override
+    public @NotNull DataResult<Number> getNumberValue(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getNumberValue);
+    }
+
+    @Override
+    public @NotNull DataResult<Integer> getIntValue(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getIntValue);
+    }
+
+    @Override
+    public @NotNull DataResult<Long> getLongValue(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getLongValue);
+    }
+
+    @Override
+    public @NotNull DataResult<Double> getDoubleValue(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getDoubleValue);
+    }
+
+    @Override
+    public int getIntDirect(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getIntDirect(readDirect(input));
+    }
+
+    @Override
+    public long getLongDirect(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getLongDirect(readDirect(input));
+    }
+
+    @Override
+    public double getDoubleDirect(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getDoubleDirect(readDirect(input));
+    }
+
+    @Override
+    public @NotNull DataResult<String> getStringValue(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getStringValue);
+    }
+
+    @Override
+    public @NotNull DataResult<Stream<Tag>> getStream(final @NotNull Tag input) {
+        final NbtCursor cursor = cursors.get(input);
+        final StreamedList list = cursor != null ? cursor.list() : null;
+        if (list != null) {
+            return DataResult.success(StreamSupport.stream(Spliterators.spliterator(list.iterator(), list.size(), Spliterator.ORDERED), false));
+        }
+        return read(input, NbtOps.INSTANCE::getStream);
+    }
+
+    @Override
+    public @NotNull DataResult<Consumer<Consumer<Tag>>> getList(final @NotNull Tag input) {
+        final NbtCursor cursor = cursors.get(input);
+        final StreamedList list = cursor != null ? cursor.list() : null;
+        if (list != null) return DataResult.success(list::forEach);
+        return read(input, NbtOps.INSTANCE::getList);
+    }
+
+    @Override
+    public @NotNull DataResult<List<Tag>> getIndexedList(final @NotNull Tag input) {
+        final NbtCursor cursor = cursors.get(input);
+        final StreamedList list = cursor != null ? cursor.list() : null;
+        if (list != null) return DataResult.success(list);
+        return read(input, NbtOps.INSTANCE::getIndexedList);
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> mergeToList(final @NotNull Tag list, final @NotNull Tag value) {
+        return NbtOps.INSTANCE.mergeToList(built(list), built(value));
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> mergeToList(final @NotNull Tag list, final @NotNull List<Tag> values) {
+        return NbtOps.INSTANCE.mergeToList(built(list), values.stream().map(this::built).toList());
+    }
+
+    @Override
+    public @NotNull DataResult<ByteBuffer> getByteBuffer(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getByteBuffer);
+    }
+
+    @Override
+    public @NotNull DataResult<IntStream> getIntStream(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getIntStream);
+    }
+
+    @Override
+    public @NotNull DataResult<LongStream> getLongStream(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getLongStream);
+    }
+
+    @Override
+    public @NotNull DataResult<byte[]> getByteArray(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getByteArray);
+    }
+
+    @Override
+    public @NotNull DataResult<int[]> getIntArray(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getIntArray);
+    }
+
+    @Override
+    public @NotNull DataResult<long[]> getLongArray(final @NotNull Tag input) {
+        return read(input, NbtOps.INSTANCE::getLongArray);
+    }
+
+    @Override
+    public @NotNull DataResult<Stream<Pair<Tag, Tag>>> getMapValues(final @NotNull Tag input) {
+        return getMap(input).map(MapLike::entries);
+    }
+
+    @Override
+    public @NotNull DataResult<Consumer<BiConsumer<Tag, Tag>>> getMapEntries(final @NotNull Tag input) {
+        return getMap(input).map(map -> map::forEachEntry);
+    }
+
+    @Override
+    public @NotNull DataResult<MapLike<Tag>> getMap(final @NotNull Tag input) {
+        final NbtCursor cursor = cursors.get(input);
+        final StreamedCompound compound = cursor != null ? cursor.compound() : null;
+        if (compound != null) return DataResult.success(compound);
+        return read(input, NbtOps.INSTANCE::getMap);
+    }
+
+    @Override
+    public @NotNull Tag remove(final @NotNull Tag input, final @NotNull String key) {
+        return NbtOps.INSTANCE.remove(built(input), key);
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> mergeToMap(final @NotNull Tag map, final @NotNull Tag key, final @NotNull Tag value) {
+        return NbtOps.INSTANCE.mergeToMap(built(map), built(key), built(value));
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> mergeToMap(final @NotNull Tag map, final @NotNull MapLike<Tag> values) {
+        final Map<Tag, Tag> resolved = new LinkedHashMap<>();
+        values.forEachEntry((key, value) -> resolved.put(built(key), built(value)));
+        return NbtOps.INSTANCE.mergeToMap(built(map), resolved);
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> mergeToMap(final @NotNull Tag map, final @NotNull Map<Tag, Tag> values) {
+        final Map<Tag, Tag> resolved = new LinkedHashMap<>();
+        values.forEach((key, value) -> resolved.put(built(key), built(value)));
+        return NbtOps.INSTANCE.mergeToMap(built(map), resolved);
+    }
+
+    @Override
+    public @NotNull Tag createNumber(final @NotNull Number number) {
+        return NbtOps.INSTANCE.createNumber(number);
+    }
+
+    @Override
+    public @NotNull Tag createBoolean(final boolean value) {
+        return NbtOps.INSTANCE.createBoolean(value);
+    }
+
+    @Override
+    public @NotNull Tag createByte(final byte value) {
+        return NbtOps.INSTANCE.createByte(value);
+    }
+
+    @Override
+    public @NotNull Tag createShort(final short value) {
+        return NbtOps.INSTANCE.createShort(value);
+    }
+
+    @Override
+    public Tag createInt(final int value) {
+        return NbtOps.INSTANCE.createInt(value);
+    }
+
+    @Override
+    public Tag createLong(final long value) {
+        return NbtOps.INSTANCE.createLong(value);
+    }
+
+    @Override
+    public Tag createFloat(final float value) {
+        return NbtOps.INSTANCE.createFloat(value);
+    }
+
+    @Override
+    public Tag createDouble(final double value) {
+        return NbtOps.INSTANCE.createDouble(value);
+    }
+
+    @Override
+    public @NotNull Tag createString(final @NotNull String value) {
+        return NbtOps.INSTANCE.createString(value);
+    }
+
+    @Override
+    public @NotNull Tag createKey(final @NotNull FieldKey key) {
+        return NbtOps.INSTANCE.createKey(key);
+    }
+
+    @Override
+    public @NotNull Tag createList(final @NotNull Stream<Tag> input) {
+        return NbtOps.INSTANCE.createList(input.map(this::built));
+    }
+
+    @Override
+    public @NotNull Tag createByteList(final @NotNull ByteBuffer input) {
+        return NbtOps.INSTANCE.createByteList(input);
+    }
+
+    @Override
+    public @NotNull Tag createIntList(final @NotNull IntStream input) {
+        return NbtOps.INSTANCE.createIntList(input);
+    }
+
+    @Override
+    public @NotNull Tag createLongList(final @NotNull LongStream input) {
+        return NbtOps.INSTANCE.createLongList(input);
+    }
+
+    @Override
+    public @NotNull Tag createByteArray(final byte @NotNull [] input) {
+        return NbtOps.INSTANCE.createByteArray(input);
+    }
+
+    @Override
+    public @NotNull Tag createIntArray(final int @NotNull [] input) {
+        return NbtOps.INSTANCE.createIntArray(input);
+    }
+
+    @Override
+    public @NotNull Tag createLongArray(final long @NotNull [] input) {
+        return NbtOps.INSTANCE.createLongArray(input);
+    }
+
+    @Override
+    public @NotNull Tag createMap(final @NotNull Stream<Pair<Tag, Tag>> map) {
+        return NbtOps.INSTANCE.createMap(map.map(entry -> Pair.of(built(entry.first()), built(entry.second()))));
+    }
+
+    @Override
+    public <U> @NotNull U convertTo(final @NotNull DataOps<U> outOps, final @NotNull Tag input) {
+        return NbtOps.INSTANCE.convertTo(outOps, built(input));
+    }
+
+    @Override
+    public void visit(final @NotNull Tag input, final @NotNull DataVisitor<Tag> visitor) {
+        NbtOps.INSTANCE.visit(built(input), visitor);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "NBT (streaming)";
+    }
+}
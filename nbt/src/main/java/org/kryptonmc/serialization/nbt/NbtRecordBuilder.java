@@ -23,6 +23,10 @@ final class NbtRecordBuilder extends RecordBuilder.AbstractStringBuilder<Tag, Co
         super(NbtOps.INSTANCE);
     }
 
+    NbtRecordBuilder(final @NotNull NbtWriterOps ops) {
+        super(ops);
+    }
+
     @Override
     protected @NotNull CompoundTag.Builder createBuilder() {
         return ImmutableCompoundTag.builder();
@@ -36,8 +40,10 @@ final class NbtRecordBuilder extends RecordBuilder.AbstractStringBuilder<Tag, Co
     @Override
     protected @NotNull DataResult<Tag> build(final CompoundTag.@NotNull Builder builder, final @Nullable Tag prefix) {
         if (prefix == null || prefix == EndTag.INSTANCE) return DataResult.success(builder.build());
+        // The map that was written by the streaming ops for the value being encoded, that these entries are being merged in to.
+        if (prefix == NbtWriterOps.WRITTEN && ops() instanceof final NbtWriterOps writer) return writer.mergeToWritten(builder.build());
         if (!(prefix instanceof final CompoundTag tag)) {
-            return DataResult.error("Cannot merge map " + builder + " with a non-map " + prefix + "! (attempting to build record builder)");
+            return DataResult.error(() -> "Cannot merge map " + builder + " with a non-map " + prefix + "! (attempting to build record builder)");
         }
         return DataResult.success(tag.toBuilder().from(builder).build());
     }
@@ -0,0 +1,160 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.nbt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.nbt.CollectionTag;
+import org.kryptonmc.nbt.EndTag;
+import org.kryptonmc.nbt.ListTag;
+import org.kryptonmc.nbt.Tag;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.Encoder;
+import org.kryptonmc.serialization.Lifecycle;
+import org.kryptonmc.serialization.ListBuilder;
+
+/**
+ * A list builder that writes each element to a buffer as soon as it is
+ * added, and writes the list to the output of a {@link NbtWriterOps} when it
+ * is built.
+ *
+ * <p>The buffer is needed because a list's length and element type are
+ * written before its elements, and neither are known until it is built.</p>
+ */
+final class NbtWriterListBuilder implements ListBuilder<Tag> {
+
+    private final NbtWriterOps ops;
+    private final Buffer buffer = new Buffer();
+    private final DataOutput bufferOutput = new DataOutputStream(buffer);
+    private final NbtWriterOps.Header elementHeader = this::addElement;
+    // The result only ever holds the written marker, and is only used to keep track of the lifecycle and any errors.
+    private DataResult<Tag> builder = DataResult.success(NbtWriterOps.WRITTEN, Lifecycle.stable());
+    private int elementType = EndTag.ID;
+    private int size;
+    private boolean built;
+
+    NbtWriterListBuilder(final @NotNull NbtWriterOps ops) {
+        this.ops = ops;
+    }
+
+    @Override
+    public @NotNull DataOps<Tag> ops() {
+        return ops;
+    }
+
+    @Override
+    public @NotNull ListBuilder<Tag> add(final @NotNull Tag value) {
+        checkNotBuilt();
+        final DataOutput parent = ops.swapOutput(bufferOutput);
+        try {
+            ops.write(value, elementHeader);
+        } finally {
+            ops.swapOutput(parent);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull ListBuilder<Tag> add(final @NotNull DataResult<Tag> value) {
+        checkNotBuilt();
+        builder = builder.apply2stable((written, tag) -> {
+            add(tag);
+            return written;
+        }, value);
+        return this;
+    }
+
+    @Override
+    public <E> @NotNull ListBuilder<Tag> add(final @NotNull E value, final @NotNull Encoder<E> encoder) {
+        checkNotBuilt();
+        final DataOutput parent = ops.swapOutput(bufferOutput);
+        try {
+            builder = builder.apply2stable((written, tag) -> written, ops.encodeValue(value, encoder, elementHeader));
+        } finally {
+            ops.swapOutput(parent);
+        }
+        return this;
+    }
+
+    @Override
+    public @NotNull ListBuilder<Tag> withErrorsFrom(final @NotNull DataResult<?> result) {
+        builder = builder.flatMap(written -> result.map(value -> written));
+        return this;
+    }
+
+    @Override
+    public @NotNull ListBuilder<Tag> mapError(final @NotNull UnaryOperator<String> onError) {
+        builder = builder.mapError(onError);
+        return this;
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> build(final @Nullable Tag prefix) {
+        checkNotBuilt();
+        built = true;
+        // We haven't written anything yet, so unlike when writing JSON, we can put the prefix's elements before ours, as long as they fit.
+        CollectionTag<?> prefixList = null;
+        if (prefix != null && prefix.id() == ListTag.ID) {
+            final var list = (CollectionTag<?>) prefix;
+            if (list.size() > 0 && (elementType == EndTag.ID || elementType == list.elementType())) {
+                prefixList = list;
+                elementType = list.elementType();
+            } else if (list.size() > 0) {
+                builder = builder.flatMap(written -> DataResult.error(() -> "Cannot prepend " + prefix + " to a list of type " + elementType + " (attempting to build list builder)"));
+            }
+        } else if (prefix != null && !(prefix instanceof EndTag)) {
+            builder = builder.flatMap(written -> DataResult.error(() -> "Cannot prepend to non-list " + prefix + " (attempting to build list builder)"));
+        }
+        try {
+            final DataOutput output = ops.output();
+            output.writeByte(elementType);
+            output.writeInt(prefixList != null ? prefixList.size() + size : size);
+            if (prefixList != null) {
+                for (final Tag element : prefixList) {
+                    NbtIo.writePayload(output, element);
+                }
+            }
+            buffer.writeTo(output);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return builder;
+    }
+
+    private void addElement(final int type) {
+        // Lists can't hold end tags, so they are left out, like they are when creating lists with the tag operations.
+        if (type == EndTag.ID) return;
+        if (elementType == EndTag.ID) {
+            elementType = type;
+        } else if (elementType != type) {
+            builder = builder.flatMap(written -> DataResult.error(() -> "Cannot add a tag of type " + type + " to a list of type " + elementType + "!"));
+        }
+        size++;
+    }
+
+    private void checkNotBuilt() {
+        if (built) throw new IllegalStateException("This builder has already been built, and its list has been written!");
+    }
+
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        // Optimization: ByteArrayOutputStream.writeTo only takes an OutputStream, and toByteArray copies the whole buffer, so we write
+        // the backing array directly.
+        void writeTo(final @NotNull DataOutput output) throws IOException {
+            output.write(buf, 0, count);
+        }
+    }
+}
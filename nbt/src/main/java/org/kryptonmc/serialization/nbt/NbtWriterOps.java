@@ -0,0 +1,498 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.nbt;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.nbt.CompoundTag;
+import org.kryptonmc.nbt.EndTag;
+import org.kryptonmc.nbt.ListTag;
+import org.kryptonmc.nbt.MutableListTag;
+import org.kryptonmc.nbt.Tag;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.DataVisitor;
+import org.kryptonmc.serialization.Encoder;
+import org.kryptonmc.serialization.FieldKey;
+import org.kryptonmc.serialization.ListBuilder;
+import org.kryptonmc.serialization.MapLike;
+import org.kryptonmc.serialization.RecordBuilder;
+import org.kryptonmc.util.Pair;
+import org.kryptonmc.util.Unit;
+
+/**
+ * Data operations for the Krypton NBT library that write encoded values
+ * straight to a {@link DataOutput} in the binary NBT format, rather than
+ * building a tree of tags.
+ *
+ * <p>When a record or map is encoded, the builder created for it writes each
+ * value to the output as soon as it is added, and values that are encoded
+ * with an encoder, such as fields and map values, are written in place,
+ * without ever being built. Lists must have their length written before
+ * their elements, so the elements of a list are written to a buffer, which
+ * is written to the output once the list is built, but they are still never
+ * built as tags.</p>
+ *
+ * <p>Encoders that build a value and then inspect or merge it in to another
+ * value, rather than adding it to a builder, still work, but the values they
+ * build are built as tags with {@link NbtOps} and written once they are
+ * added. A map that has been written is only ended once the encoder that
+ * wrote it has finished, so encoders that merge other entries in to it, such
+ * as the encoders of {@link org.kryptonmc.serialization.Codec#pair(
+ * org.kryptonmc.serialization.Codec, org.kryptonmc.serialization.Codec)
+ * pair codecs}, still work, and the entries are written after the map's own.
+ * Merging in to a list that has already been written is not supported, as
+ * the values would have to be written before the list's own, and will result
+ * in an error.</p>
+ *
+ * <p>If encoding fails, whatever has been written so far should be
+ * discarded, as it may not be the complete value.</p>
+ */
+public final class NbtWriterOps implements DataOps<Tag> {
+
+    // The value returned for records, lists and maps that have been written to the output, which is never actually written anywhere.
+    // This is only ever compared by identity.
+    static final Tag WRITTEN = MutableListTag.empty();
+
+    private DataOutput output;
+    // What to write before the value currently being encoded once we know its type, or null if we aren't waiting for a value. Only the
+    // first record or list builder created while this is set writes to the output, as any others are for values that the encoder is
+    // going to do something else with first.
+    private @Nullable Header header;
+    // Whether the compound written for the value currently being encoded has been built, but not ended yet, as the encoder may still
+    // merge other entries in to it.
+    private boolean open;
+
+    /**
+     * Encodes the given value with the given encoder, writing it to the given
+     * output as a named root tag.
+     *
+     * <p>The returned result holds no value, only the lifecycle and any
+     * errors that occurred while encoding. If it is an error, what has been
+     * written to the output should be discarded.</p>
+     *
+     * @param encoder The encoder.
+     * @param value The value to encode.
+     * @param output The output to write the encoded value to.
+     * @param name The name of the root tag.
+     * @param <A> The value type.
+     * @return The result of encoding.
+     * @throws IOException If writing to the output fails.
+     */
+    public static <A> @NotNull DataResult<Unit> encode(final @NotNull Encoder<A> encoder, final A value, final @NotNull DataOutput output,
+                                                       final @NotNull String name) throws IOException {
+        Objects.requireNonNull(name, "name");
+        final var ops = new NbtWriterOps(Objects.requireNonNull(output, "output"));
+        try {
+            return ops.encodeValue(value, encoder, type -> {
+                ops.output.writeByte(type);
+                if (type != EndTag.ID) ops.output.writeUTF(name);
+            }).map(tag -> Unit.INSTANCE);
+        } catch (final UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    private NbtWriterOps(final @NotNull DataOutput output) {
+        this.output = output;
+    }
+
+    /**
+     * Encodes the given value with the given encoder, and writes it if the
+     * encoder didn't write it itself.
+     *
+     * <p>The header is written as soon as the type of the value is known,
+     * right before its payload. If the value fails to encode without a partial
+     * result, nothing is written.</p>
+     *
+     * @param value The value.
+     * @param encoder The encoder.
+     * @param header What to write before the value.
+     * @param <E> The value type.
+     * @return The result of encoding the value.
+     */
+    <E> @NotNull DataResult<Tag> encodeValue(final E value, final @NotNull Encoder<E> encoder, final @NotNull Header header) {
+        final boolean outerOpen = open;
+        this.header = header;
+        open = false;
+        final DataResult<Tag> result = encoder.encodeStart(value, this);
+        if (open) endCompound();
+        open = outerOpen;
+        if (this.header == null) return result;
+        this.header = null;
+        result.resultOrPartial(error -> {}).ifPresent(tag -> write(tag, header));
+        return result;
+    }
+
+    @NotNull DataOutput output() {
+        return output;
+    }
+
+    /**
+     * Sets the output that values are written to, returning the old one.
+     *
+     * @param output The new output.
+     * @return The old output.
+     */
+    @NotNull DataOutput swapOutput(final @NotNull DataOutput output) {
+        final DataOutput old = this.output;
+        this.output = output;
+        return old;
+    }
+
+    void write(final @NotNull Tag tag, final @NotNull Header header) {
+        if (tag == WRITTEN) throw new IllegalStateException("Cannot write a value that has already been written!");
+        try {
+            header.write(tag.id());
+            NbtIo.writePayload(output, tag);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @NotNull Header entryHeader(final @NotNull String key) {
+        return type -> {
+            // An end tag would end the compound early, and has nothing in it anyway, so we leave it out, like the tag writer does.
+            if (type == EndTag.ID) return;
+            output.writeByte(type);
+            output.writeUTF(key);
+        };
+    }
+
+    /**
+     * Leaves the compound that has just been built open until the value being
+     * encoded has finished encoding, so that entries can still be merged in
+     * to it.
+     */
+    void holdOpen() {
+        open = true;
+    }
+
+    /**
+     * Writes the given entries in to the compound that has been built for the
+     * value being encoded, if it is still open.
+     *
+     * @param entries The entries.
+     * @return The result of merging.
+     */
+    @NotNull DataResult<Tag> mergeToWritten(final @NotNull Tag entries) {
+        if (!open) return DataResult.error(() -> "Cannot merge " + entries + " in to a value that has already been written");
+        final var compound = (CompoundTag) entries;
+        for (final String key : compound.keySet()) {
+            write(compound.get(key), entryHeader(key));
+        }
+        return DataResult.success(WRITTEN);
+    }
+
+    private void endCompound() {
+        try {
+            output.writeByte(EndTag.ID);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeHeader(final int type) {
+        final Header current = Objects.requireNonNull(header);
+        header = null;
+        try {
+            current.write(type);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public @NotNull Tag empty() {
+        return EndTag.INSTANCE;
+    }
+
+    @Override
+    public @NotNull DataResult<Number> getNumberValue(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getNumberValue(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Integer> getIntValue(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getIntValue(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Long> getLongValue(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getLongValue(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Double> getDoubleValue(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getDoubleValue(input);
+    }
+
+    @Override
+    public int getIntDirect(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getIntDirect(input);
+    }
+
+    @Override
+    public long getLongDirect(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getLongDirect(input);
+    }
+
+    @Override
+    public double getDoubleDirect(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getDoubleDirect(input);
+    }
+
+    @Override
+    public @NotNull DataResult<String> getStringValue(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getStringValue(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Stream<Tag>> getStream(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getStream(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Consumer<Consumer<Tag>>> getList(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getList(input);
+    }
+
+    @Override
+    public @NotNull DataResult<List<Tag>> getIndexedList(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getIndexedList(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> mergeToList(final @NotNull Tag list, final @NotNull Tag value) {
+        return NbtOps.INSTANCE.mergeToList(list, value);
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> mergeToList(final @NotNull Tag list, final @NotNull List<Tag> values) {
+        return NbtOps.INSTANCE.mergeToList(list, values);
+    }
+
+    @Override
+    public @NotNull DataResult<ByteBuffer> getByteBuffer(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getByteBuffer(input);
+    }
+
+    @Override
+    public @NotNull DataResult<IntStream> getIntStream(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getIntStream(input);
+    }
+
+    @Override
+    public @NotNull DataResult<LongStream> getLongStream(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getLongStream(input);
+    }
+
+    @Override
+    public @NotNull DataResult<byte[]> getByteArray(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getByteArray(input);
+    }
+
+    @Override
+    public @NotNull DataResult<int[]> getIntArray(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getIntArray(input);
+    }
+
+    @Override
+    public @NotNull DataResult<long[]> getLongArray(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getLongArray(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Stream<Pair<Tag, Tag>>> getMapValues(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getMapValues(input);
+    }
+
+    @Override
+    public @NotNull DataResult<Consumer<BiConsumer<Tag, Tag>>> getMapEntries(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getMapEntries(input);
+    }
+
+    @Override
+    public @NotNull DataResult<MapLike<Tag>> getMap(final @NotNull Tag input) {
+        return NbtOps.INSTANCE.getMap(input);
+    }
+
+    @Override
+    public @NotNull Tag remove(final @NotNull Tag input, final @NotNull String key) {
+        return NbtOps.INSTANCE.remove(input, key);
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> mergeToMap(final @NotNull Tag map, final @NotNull Tag key, final @NotNull Tag value) {
+        if (map == WRITTEN) return NbtOps.INSTANCE.mergeToMap(EndTag.INSTANCE, key, value).flatMap(this::mergeToWritten);
+        return NbtOps.INSTANCE.mergeToMap(map, key, value);
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> mergeToMap(final @NotNull Tag map, final @NotNull MapLike<Tag> values) {
+        if (map == WRITTEN) return NbtOps.INSTANCE.mergeToMap(EndTag.INSTANCE, values).flatMap(this::mergeToWritten);
+        return NbtOps.INSTANCE.mergeToMap(map, values);
+    }
+
+    @Override
+    public @NotNull Tag createNumber(final @NotNull Number number) {
+        return NbtOps.INSTANCE.createNumber(number);
+    }
+
+    @Override
+    public @NotNull Tag createBoolean(final boolean value) {
+        return NbtOps.INSTANCE.createBoolean(value);
+    }
+
+    @Override
+    public @NotNull Tag createByte(final byte value) {
+        return NbtOps.INSTANCE.createByte(value);
+    }
+
+    @Override
+    public @NotNull Tag createShort(final short value) {
+        return NbtOps.INSTANCE.createShort(value);
+    }
+
+    @Override
+    public Tag createInt(final int value) {
+        return NbtOps.INSTANCE.createInt(value);
+    }
+
+    @Override
+    public Tag createLong(final long value) {
+        return NbtOps.INSTANCE.createLong(value);
+    }
+
+    @Override
+    public Tag createFloat(final float value) {
+        return NbtOps.INSTANCE.createFloat(value);
+    }
+
+    @Override
+    public Tag createDouble(final double value) {
+        return NbtOps.INSTANCE.createDouble(value);
+    }
+
+    @Override
+    public @NotNull Tag createString(final @NotNull String value) {
+        return NbtOps.INSTANCE.createString(value);
+    }
+
+    @Override
+    public @NotNull Tag createKey(final @NotNull FieldKey key) {
+        return NbtOps.INSTANCE.createKey(key);
+    }
+
+    @Override
+    public @NotNull Tag createList(final @NotNull Stream<Tag> input) {
+        return NbtOps.INSTANCE.createList(input);
+    }
+
+    @Override
+    public @NotNull Tag createByteList(final @NotNull ByteBuffer input) {
+        return NbtOps.INSTANCE.createByteList(input);
+    }
+
+    @Override
+    public @NotNull Tag createIntList(final @NotNull IntStream input) {
+        return NbtOps.INSTANCE.createIntList(input);
+    }
+
+    @Override
+    public @NotNull Tag createLongList(final @NotNull LongStream input) {
+        return NbtOps.INSTANCE.createLongList(input);
+    }
+
+    @Override
+    public @NotNull Tag createByteArray(final byte @NotNull [] input) {
+        return NbtOps.INSTANCE.createByteArray(input);
+    }
+
+    @Override
+    public @NotNull Tag createIntArray(final int @NotNull [] input) {
+        return NbtOps.INSTANCE.createIntArray(input);
+    }
+
+    @Override
+    public @NotNull Tag createLongArray(final long @NotNull [] input) {
+        return NbtOps.INSTANCE.createLongArray(input);
+    }
+
+    @Override
+    public @NotNull Tag createMap(final @NotNull Stream<Pair<Tag, Tag>> map) {
+        return NbtOps.INSTANCE.createMap(map);
+    }
+
+    @Override
+    public @NotNull ListBuilder<Tag> listBuilder() {
+        return listBuilder(0);
+    }
+
+    @Override
+    public @NotNull ListBuilder<Tag> listBuilder(final int expectedSize) {
+        if (header == null) return NbtOps.INSTANCE.listBuilder(expectedSize);
+        writeHeader(ListTag.ID);
+        return new NbtWriterListBuilder(this);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> mapBuilder() {
+        return mapBuilder(0);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> mapBuilder(final int expectedSize) {
+        // Maps that aren't written straight away are built by this rather than by NBT ops, so that they can be merged in to a written map.
+        if (header == null) return new NbtRecordBuilder(this);
+        writeHeader(CompoundTag.ID);
+        return new NbtWriterRecordBuilder(this);
+    }
+
+    @Override
+    public <U> @NotNull U convertTo(final @NotNull DataOps<U> outOps, final @NotNull Tag input) {
+        return NbtOps.INSTANCE.convertTo(outOps, input);
+    }
+
+    @Override
+    public void visit(final @NotNull Tag input, final @NotNull DataVisitor<Tag> visitor) {
+        NbtOps.INSTANCE.visit(input, visitor);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "NBT (streaming)";
+    }
+
+    /**
+     * What is written before the payload of a value, which depends on the
+     * type of the value, and so can only be written once that is known.
+     */
+    @FunctionalInterface
+    interface Header {
+
+        void write(int type) throws IOException;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.nbt;
+
+import java.util.function.UnaryOperator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.nbt.CompoundTag;
+import org.kryptonmc.nbt.EndTag;
+import org.kryptonmc.nbt.Tag;
+import org.kryptonmc.serialization.DataOps;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.Encoder;
+import org.kryptonmc.serialization.FieldKey;
+import org.kryptonmc.serialization.Lifecycle;
+import org.kryptonmc.serialization.RecordBuilder;
+
+/**
+ * A record builder that writes each value to the output of a
+ * {@link NbtWriterOps} as a compound entry as soon as it is added.
+ */
+final class NbtWriterRecordBuilder implements RecordBuilder<Tag> {
+
+    private final NbtWriterOps ops;
+    // The result only ever holds the written marker, and is only used to keep track of the lifecycle and any errors.
+    private DataResult<Tag> builder = DataResult.success(NbtWriterOps.WRITTEN, Lifecycle.stable());
+    private boolean built;
+
+    NbtWriterRecordBuilder(final @NotNull NbtWriterOps ops) {
+        this.ops = ops;
+    }
+
+    @Override
+    public @NotNull DataOps<Tag> ops() {
+        return ops;
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> add(final @NotNull String key, final @NotNull Tag value) {
+        checkNotBuilt();
+        ops.write(value, ops.entryHeader(key));
+        return this;
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> add(final @NotNull String key, final @NotNull DataResult<Tag> value) {
+        checkNotBuilt();
+        builder = builder.apply2stable((written, tag) -> {
+            ops.write(tag, ops.entryHeader(key));
+            return written;
+        }, value);
+        return this;
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> add(final @NotNull Tag key, final @NotNull Tag value) {
+        return add(key, DataResult.success(value));
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> add(final @NotNull Tag key, final @NotNull DataResult<Tag> value) {
+        final var name = ops.getStringValue(key);
+        if (name.isError()) return keyError(name);
+        return add(name.getOrThrow(false, error -> {}), value);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> add(final @NotNull DataResult<Tag> key, final @NotNull DataResult<Tag> value) {
+        final var name = key.flatMap(ops::getStringValue);
+        if (name.isError()) return keyError(name);
+        return add(name.getOrThrow(false, error -> {}), value);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> add(final @NotNull FieldKey key, final @NotNull Tag value) {
+        return add(key.name(), value);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> add(final @NotNull FieldKey key, final @NotNull DataResult<Tag> value) {
+        return add(key.name(), value);
+    }
+
+    @Override
+    public <E> @NotNull RecordBuilder<Tag> add(final @NotNull String key, final @NotNull E value, final @NotNull Encoder<E> encoder) {
+        checkNotBuilt();
+        builder = builder.apply2stable((written, tag) -> written, ops.encodeValue(value, encoder, ops.entryHeader(key)));
+        return this;
+    }
+
+    @Override
+    public <E> @NotNull RecordBuilder<Tag> add(final @NotNull FieldKey key, final @NotNull E value, final @NotNull Encoder<E> encoder) {
+        return add(key.name(), value, encoder);
+    }
+
+    @Override
+    public <E> @NotNull RecordBuilder<Tag> add(final @NotNull DataResult<Tag> key, final @NotNull E value, final @NotNull Encoder<E> encoder) {
+        final var name = key.flatMap(ops::getStringValue);
+        // There's nothing to write the value with if the key is invalid, so we don't even encode it.
+        if (name.isError()) return keyError(name);
+        return add(name.getOrThrow(false, error -> {}), value, encoder);
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> withErrorsFrom(final @NotNull DataResult<?> result) {
+        builder = builder.flatMap(written -> result.map(value -> written));
+        return this;
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> lifecycle(final @NotNull Lifecycle lifecycle) {
+        builder = builder.withLifecycle(lifecycle);
+        return this;
+    }
+
+    @Override
+    public @NotNull RecordBuilder<Tag> mapError(final @NotNull UnaryOperator<String> onError) {
+        builder = builder.mapError(onError);
+        return this;
+    }
+
+    @Override
+    public @NotNull DataResult<Tag> build(final @Nullable Tag prefix) {
+        checkNotBuilt();
+        built = true;
+        // We have already written our entries, but as the order of entries in a compound doesn't matter, we can still write the prefix's.
+        if (prefix instanceof final CompoundTag compound) {
+            for (final String key : compound.keySet()) {
+                ops.write(compound.get(key), ops.entryHeader(key));
+            }
+        }
+        // The compound is ended once the value has been encoded, as the encoder may still merge other entries in to it.
+        ops.holdOpen();
+        if (prefix != null && !(prefix instanceof EndTag) && !(prefix instanceof CompoundTag)) {
+            return builder.flatMap(written -> DataResult.error(() -> "Cannot merge a written map with a non-map " + prefix + " (attempting to build record builder)"));
+        }
+        return builder;
+    }
+
+    private @NotNull RecordBuilder<Tag> keyError(final @NotNull DataResult<String> name) {
+        checkNotBuilt();
+        builder = builder.apply2stable((written, key) -> written, name);
+        return this;
+    }
+
+    private void checkNotBuilt() {
+        if (built) throw new IllegalStateException("This builder has already been built, and its compound has been written!");
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.nbt;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.nbt.EndTag;
+import org.kryptonmc.nbt.StringTag;
+import org.kryptonmc.nbt.Tag;
+import org.kryptonmc.serialization.FieldKey;
+import org.kryptonmc.serialization.MapLike;
+import org.kryptonmc.util.Pair;
+
+/**
+ * A compound that is read from a {@link NbtReaderOps} input as its values
+ * are asked for.
+ *
+ * <p>When a value is asked for, the input moves forward to it, and any
+ * values it passes on the way, which may be asked for later, are built and
+ * kept. When the compound is finished, any values that were never passed are
+ * skipped without being built. This means that when values are asked for in
+ * the same order that they appear in the input, which is the usual case,
+ * nothing is kept apart from the values that were asked for.</p>
+ *
+ * <p>Entries that are iterated over, rather than asked for, are not kept, so
+ * they can only be iterated over once.</p>
+ */
+final class StreamedCompound implements MapLike<Tag> {
+
+    private final NbtReaderOps ops;
+    private @Nullable Map<String, Tag> read;
+    private @Nullable String currentName;
+    private @Nullable Tag current;
+    private boolean finished;
+
+    StreamedCompound(final @NotNull NbtReaderOps ops) {
+        this.ops = ops;
+    }
+
+    @Override
+    public @Nullable Tag get(final @NotNull Tag key) {
+        if (key instanceof final StringTag string) return get(string.value());
+        return null;
+    }
+
+    @Override
+    public @Nullable Tag get(final @NotNull FieldKey key) {
+        return get(key.name());
+    }
+
+    @Override
+    public @Nullable Tag get(final @NotNull String key) {
+        if (read != null) {
+            final Tag value = read.get(key);
+            if (value != null) return value;
+        }
+        if (finished) return null;
+        finishCurrent();
+        int type;
+        while ((type = ops.readType()) != EndTag.ID) {
+            final String name = ops.readName();
+            if (!name.equals(key)) {
+                keep(name, ops.readPayload(type));
+                continue;
+            }
+            final Tag value = ops.readValue(type);
+            currentName = name;
+            current = value;
+            keep(name, value);
+            return value;
+        }
+        finished = true;
+        return null;
+    }
+
+    private void keep(final @NotNull String name, final @NotNull Tag value) {
+        if (read == null) read = new LinkedHashMap<>();
+        read.put(name, value);
+    }
+
+    @Override
+    public @NotNull Stream<Pair<Tag, Tag>> entries() {
+        final var entries = new ArrayList<Pair<Tag, Tag>>();
+        // The values are built as we move past them, so they can still be used once they are in the stream.
+        forEachEntry((key, value) -> entries.add(Pair.of(key, value)));
+        return entries.stream();
+    }
+
+    @Override
+    public void forEachEntry(final @NotNull BiConsumer<Tag, Tag> consumer) {
+        if (read != null) {
+            for (final var entry : read.entrySet()) {
+                consumer.accept(ops.createString(entry.getKey()), entry.getValue());
+            }
+        }
+        if (finished) return;
+        finishCurrent();
+        int type;
+        while ((type = ops.readType()) != EndTag.ID) {
+            final var key = ops.createString(ops.readName());
+            final Tag value = ops.readValue(type);
+            consumer.accept(key, value);
+            ops.finish(value);
+        }
+        finished = true;
+    }
+
+    @Override
+    public int size() {
+        // We can't know how many entries there are without reading all of them.
+        return 0;
+    }
+
+    void finish() {
+        if (finished) return;
+        finishCurrent();
+        int type;
+        while ((type = ops.readType()) != EndTag.ID) {
+            ops.skipName();
+            ops.skipPayload(type);
+        }
+        finished = true;
+    }
+
+    private void finishCurrent() {
+        if (current == null) return;
+        // Once a value that was read without being built has been finished, its placeholder can't be used any more, so anyone who
+        // asks for it again gets told that it has already been read instead.
+        if (ops.finish(current) && read != null) read.put(currentName, NbtCursor.READ);
+        currentName = null;
+        current = null;
+    }
+
+    @Override
+    public String toString() {
+        return "MapLike[<streamed compound>]";
+    }
+}
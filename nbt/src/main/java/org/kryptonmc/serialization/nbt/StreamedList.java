@@ -0,0 +1,144 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.nbt;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.nbt.ImmutableListTag;
+import org.kryptonmc.nbt.Tag;
+
+/**
+ * A list that is read from a {@link NbtReaderOps} input as it is iterated
+ * over.
+ *
+ * <p>This can only be iterated over once. This is not
+ * {@link java.util.RandomAccess}, which tells codecs that it should only be
+ * iterated.</p>
+ *
+ * <p>So that another decoder can still decode the list after it has been
+ * iterated over, the elements are kept until one of them is read as a
+ * compound or list without being built, after which the list can't be built
+ * any more, and none of them are kept.</p>
+ */
+final class StreamedList extends AbstractList<Tag> {
+
+    private final NbtReaderOps ops;
+    private final int elementType;
+    private final int size;
+    private int index;
+    private @Nullable Tag current;
+    private @Nullable List<Tag> elements;
+    private boolean started;
+
+    StreamedList(final @NotNull NbtReaderOps ops) {
+        this.ops = ops;
+        elementType = ops.readType();
+        size = ops.readLength();
+        elements = new ArrayList<>();
+    }
+
+    boolean started() {
+        return started;
+    }
+
+    @Override
+    public @NotNull Iterator<Tag> iterator() {
+        if (started) throw new IllegalStateException("A list read from a stream can only be iterated over once!");
+        started = true;
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                finishCurrent();
+                index++;
+                final Tag value = ops.readValue(elementType);
+                current = value;
+                if (elements != null) elements.add(value);
+                return value;
+            }
+        };
+    }
+
+    @Override
+    public Tag get(final int index) {
+        throw new UnsupportedOperationException("A list read from a stream can only be iterated over!");
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    boolean replayable() {
+        return elements != null;
+    }
+
+    /**
+     * Finishes this list, and builds it out of the elements that were kept.
+     *
+     * @return The built list, or null if it can't be built.
+     */
+    @Nullable Tag replay() {
+        finish();
+        if (elements == null) return null;
+        final var result = ImmutableListTag.builder();
+        for (final Tag element : elements) {
+            final Tag built = ops.resolve(element);
+            if (built == null) return null;
+            result.add(built);
+        }
+        // The cursor keeps the built list from now on.
+        elements = null;
+        return result.build();
+    }
+
+    void finish() {
+        started = true;
+        finishCurrent();
+        while (index < size) {
+            if (elements != null) {
+                elements.add(ops.readPayload(elementType));
+            } else {
+                ops.skipPayload(elementType);
+            }
+            index++;
+        }
+    }
+
+    private void finishCurrent() {
+        if (current == null) return;
+        if (ops.finish(current)) elements = null;
+        current = null;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return "[<streamed list>]";
+    }
+}
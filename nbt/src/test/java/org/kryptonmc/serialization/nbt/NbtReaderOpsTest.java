@@ -0,0 +1,160 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.kryptonmc.nbt.Tag;
+import org.kryptonmc.serialization.Codec;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.codecs.RecordCodecBuilder;
+import org.kryptonmc.util.Either;
+import org.kryptonmc.util.Pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NbtReaderOpsTest {
+
+    private static final Codec<Square> SQUARE = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.fieldOf("s").getting(Square::side)
+    ).apply(instance, Square::new));
+    private static final Codec<Circle> CIRCLE = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.fieldOf("r").getting(Circle::radius)
+    ).apply(instance, Circle::new));
+    private static final Codec<Shape> SHAPE = Codec.STRING.dispatch(Shape::type, type -> type.equals("square") ? SQUARE : CIRCLE);
+
+    @Test
+    void eitherOfListAndStringRejectsList() throws IOException {
+        final var result = assertSameAsTree(Codec.either(SQUARE.listOf(), Codec.STRING), list(string("a"), string("b")));
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    void eitherOfListAndStringRejectsCompound() throws IOException {
+        final var result = assertSameAsTree(Codec.either(SQUARE.listOf(), Codec.STRING), compound("s", integer(2)));
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    void eitherOfRecordAndStringRejectsCompound() throws IOException {
+        final var result = assertSameAsTree(Codec.either(SQUARE, Codec.STRING), compound("r", integer(2)));
+        assertFalse(result.isSuccess());
+    }
+
+    @Test
+    void eitherReadsListAgain() throws IOException {
+        final var result = assertSameAsTree(Codec.either(SQUARE.listOf(), Codec.STRING.listOf()), list(string("a"), string("b")));
+        assertEquals(Either.right(List.of("a", "b")), result.result().orElseThrow());
+    }
+
+    @Test
+    void eitherReadsListOfListsAgain() throws IOException {
+        final var codec = Codec.either(Codec.INT.listOf().listOf(), Codec.STRING.listOf().listOf());
+        final var result = assertSameAsTree(codec, list(list(string("a"))));
+        assertEquals(Either.right(List.of(List.of("a"))), result.result().orElseThrow());
+    }
+
+    @Test
+    void eitherReadsNestedListAgain() throws IOException {
+        final var codec = Codec.either(SQUARE.listOf().fieldOf("xs").codec(), Codec.STRING.listOf().fieldOf("xs").codec());
+        final var result = assertSameAsTree(codec, compound("xs", list(string("a"))));
+        assertEquals(Either.right(List.of("a")), result.result().orElseThrow());
+    }
+
+    @Test
+    void listThatCantBeBuiltIsReportedAsRead() throws IOException {
+        final var codec = Codec.either(SQUARE.listOf(), CIRCLE.listOf());
+        final DataResult<?> streamed = NbtReaderOps.decode(codec, input(list(compound("r", integer(1)))));
+        // The compound in the list was read by the first codec, so the list can't be built for the second.
+        assertFalse(streamed.isSuccess());
+        assertTrue(streamed.error().orElseThrow().message().contains("already been read"));
+    }
+
+    @Test
+    void dispatch() throws IOException {
+        final Tag square = NbtOps.INSTANCE.createMap(Stream.of(entry("type", string("square")), entry("s", integer(2))));
+        final Tag circle = NbtOps.INSTANCE.createMap(Stream.of(entry("r", integer(3)), entry("type", string("circle"))));
+        assertEquals(new Square(2), assertSameAsTree(SHAPE, square).result().orElseThrow());
+        assertEquals(new Circle(3), assertSameAsTree(SHAPE, circle).result().orElseThrow());
+        assertFalse(assertSameAsTree(SHAPE, compound("type", string("square"))).isSuccess());
+    }
+
+    @Test
+    void pair() throws IOException {
+        final Tag input = NbtOps.INSTANCE.createMap(Stream.of(entry("s", integer(2)), entry("r", integer(1))));
+        final DataResult<Pair<Circle, Square>> result = assertSameAsTree(Codec.pair(CIRCLE, SQUARE), input);
+        assertEquals(Pair.of(new Circle(1), new Square(2)), result.result().orElseThrow());
+    }
+
+    private static <A> DataResult<A> assertSameAsTree(final Codec<A> codec, final Tag input) throws IOException {
+        final DataResult<A> tree = codec.read(input, NbtOps.INSTANCE);
+        final DataResult<A> streamed = NbtReaderOps.decode(codec, input(input));
+        assertEquals(tree.isSuccess(), streamed.isSuccess(), () -> "tree: " + tree + ", streamed: " + streamed);
+        assertEquals(tree.result(), streamed.result());
+        return streamed;
+    }
+
+    private static DataInputStream input(final Tag root) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var output = new DataOutputStream(bytes);
+        output.writeByte(root.id());
+        output.writeUTF("");
+        NbtIo.writePayload(output, root);
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    private static Tag compound(final String key, final Tag value) {
+        return NbtOps.INSTANCE.createMap(Stream.of(entry(key, value)));
+    }
+
+    private static Pair<Tag, Tag> entry(final String key, final Tag value) {
+        return Pair.of(string(key), value);
+    }
+
+    private static Tag list(final Tag... elements) {
+        return NbtOps.INSTANCE.createList(Stream.of(elements));
+    }
+
+    private static Tag string(final String value) {
+        return NbtOps.INSTANCE.createString(value);
+    }
+
+    private static Tag integer(final int value) {
+        return NbtOps.INSTANCE.createInt(value);
+    }
+
+    sealed interface Shape permits Square, Circle {
+
+        String type();
+    }
+
+    record Square(int side) implements Shape {
+
+        @Override
+        public String type() {
+            return "square";
+        }
+    }
+
+    record Circle(int radius) implements Shape {
+
+        @Override
+        public String type() {
+            return "circle";
+        }
+    }
+}
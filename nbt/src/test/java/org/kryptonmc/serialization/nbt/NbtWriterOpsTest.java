@@ -0,0 +1,128 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.nbt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.kryptonmc.nbt.Tag;
+import org.kryptonmc.serialization.Codec;
+import org.kryptonmc.serialization.DataResult;
+import org.kryptonmc.serialization.codecs.RecordCodecBuilder;
+import org.kryptonmc.util.Either;
+import org.kryptonmc.util.Pair;
+import org.kryptonmc.util.Unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class NbtWriterOpsTest {
+
+    private static final Codec<Square> SQUARE = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.fieldOf("s").getting(Square::side),
+            Codec.INT.listOf().fieldOf("xs").getting(Square::xs)
+    ).apply(instance, Square::new));
+    private static final Codec<Circle> CIRCLE = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.fieldOf("r").getting(Circle::radius),
+            Codec.STRING.optionalFieldOf("name").getting(Circle::name)
+    ).apply(instance, Circle::new));
+    private static final Codec<Shape> SHAPE = Codec.STRING.dispatch(Shape::type, type -> type.equals("square") ? SQUARE : CIRCLE);
+
+    @Test
+    void record() throws IOException {
+        assertRoundTrip(SQUARE, new Square(2, List.of(5, 6)));
+        assertRoundTrip(CIRCLE, new Circle(1, Optional.of("a")));
+        assertRoundTrip(CIRCLE, new Circle(1, Optional.empty()));
+    }
+
+    @Test
+    void pair() throws IOException {
+        assertRoundTrip(Codec.pair(CIRCLE, SQUARE), Pair.of(new Circle(1, Optional.empty()), new Square(2, List.of(5))));
+    }
+
+    @Test
+    void pairOfPairs() throws IOException {
+        final var codec = Codec.pair(Codec.pair(CIRCLE, Codec.STRING.fieldOf("n").codec()), SQUARE);
+        assertRoundTrip(codec, Pair.of(Pair.of(new Circle(1, Optional.of("a")), "b"), new Square(2, List.of())));
+    }
+
+    @Test
+    void nestedPair() throws IOException {
+        final var codec = Codec.pair(CIRCLE, SQUARE).listOf().fieldOf("pairs").codec();
+        assertRoundTrip(codec, List.of(Pair.of(new Circle(1, Optional.empty()), new Square(2, List.of(5))),
+                Pair.of(new Circle(3, Optional.of("c")), new Square(4, List.of()))));
+    }
+
+    @Test
+    void pairWithPrimitiveFails() throws IOException {
+        final var codec = Codec.pair(Codec.INT, SQUARE);
+        final var value = Pair.of(1, new Square(2, List.of(5)));
+        assertFalse(codec.encodeStart(value, NbtOps.INSTANCE).isSuccess());
+        assertFalse(NbtWriterOps.encode(codec, value, new DataOutputStream(new ByteArrayOutputStream()), "").isSuccess());
+    }
+
+    @Test
+    void either() throws IOException {
+        final var codec = Codec.either(SQUARE, CIRCLE);
+        assertRoundTrip(codec, Either.left(new Square(2, List.of(5))));
+        assertRoundTrip(codec, Either.right(new Circle(1, Optional.empty())));
+    }
+
+    @Test
+    void dispatch() throws IOException {
+        assertRoundTrip(SHAPE, new Square(2, List.of(5)));
+        assertRoundTrip(SHAPE, new Circle(1, Optional.of("a")));
+        assertRoundTrip(SHAPE.listOf().fieldOf("shapes").codec(), List.of(new Square(2, List.of(5)), new Circle(1, Optional.empty())));
+    }
+
+    @Test
+    void map() throws IOException {
+        assertRoundTrip(Codec.map(Codec.STRING, SHAPE), Map.of("a", new Square(2, List.of(5)), "b", new Circle(1, Optional.empty())));
+    }
+
+    private static <A> void assertRoundTrip(final Codec<A> codec, final A value) throws IOException {
+        final Tag tree = codec.encodeStart(value, NbtOps.INSTANCE).result().orElseThrow();
+        final var bytes = new ByteArrayOutputStream();
+        final DataResult<Unit> result = NbtWriterOps.encode(codec, value, new DataOutputStream(bytes), "");
+        assertEquals(DataResult.success(Unit.INSTANCE), result);
+
+        final var input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        final int type = input.readByte();
+        input.readUTF();
+        assertEquals(tree, NbtIo.readPayload(input, type));
+        assertEquals(DataResult.success(value), NbtReaderOps.decode(codec, new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+    }
+
+    sealed interface Shape permits Square, Circle {
+
+        String type();
+    }
+
+    record Square(int side, List<Integer> xs) implements Shape {
+
+        @Override
+        public String type() {
+            return "square";
+        }
+    }
+
+    record Circle(int radius, Optional<String> name) implements Shape {
+
+        @Override
+        public String type() {
+            return "circle";
+        }
+    }
+}
@@ -0,0 +1,7 @@
+plugins {
+    id("serialization.common")
+}
+
+dependencies {
+    implementation(projects.serializationCore)
+}
@@ -0,0 +1,418 @@
+/*
+ * This file is part of Krypton Serialization, licensed under the MIT license.
+ *
+ * Copyright (C) 2022 KryptonMC and contributors
+ *
+ * This project is licensed under the terms of the MIT license.
+ * For more details, please reference the LICENSE file in the top-level directory.
+ */
+package org.kryptonmc.serialization.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kryptonmc.serialization.annotations.Default;
+import org.kryptonmc.serialization.annotations.FieldName;
+import org.kryptonmc.serialization.annotations.GenerateCodec;
+import org.kryptonmc.serialization.annotations.WithCodec;
+
+/**
+ * The annotation processor that generates codecs for records annotated with
+ * {@link GenerateCodec}.
+ *
+ * <p>The generated codecs are straight-line implementations of
+ * {@code MapCodec}, which hold the codec for each field in a static final
+ * field, and call the record's constructor and accessors directly, so they
+ * don't build anything up when they are initialized, and don't go through
+ * any applicative or functional layers when they are used.</p>
+ */
+@SupportedAnnotationTypes({
+        "org.kryptonmc.serialization.annotations.GenerateCodec",
+        "org.kryptonmc.serialization.annotations.FieldName",
+        "org.kryptonmc.serialization.annotations.Default",
+        "org.kryptonmc.serialization.annotations.WithCodec"
+})
+public final class CodecProcessor extends AbstractProcessor {
+
+    private static final String CODEC = "org.kryptonmc.serialization.Codec";
+    private static final String MAP_CODEC = "org.kryptonmc.serialization.MapCodec";
+    private static final String DATA_RESULT = "org.kryptonmc.serialization.DataResult";
+    private static final Map<String, String> BOXED_CODECS = Map.of(
+            "java.lang.Boolean", "BOOLEAN",
+            "java.lang.Byte", "BYTE",
+            "java.lang.Short", "SHORT",
+            "java.lang.Integer", "INT",
+            "java.lang.Long", "LONG",
+            "java.lang.Float", "FLOAT",
+            "java.lang.Double", "DOUBLE",
+            "java.lang.String", "STRING"
+    );
+    private static final Map<TypeKind, String> PRIMITIVE_FIELDS = Map.of(
+            TypeKind.INT, "Int",
+            TypeKind.LONG, "Long",
+            TypeKind.DOUBLE, "Double"
+    );
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(GenerateCodec.class)) {
+            if (element.getKind() != ElementKind.RECORD) {
+                error(element, "@GenerateCodec can only be used on records!");
+                continue;
+            }
+            final var record = (TypeElement) element;
+            if (!record.getTypeParameters().isEmpty()) {
+                error(record, "Codecs cannot be generated for generic records!");
+                continue;
+            }
+            if (record.getModifiers().contains(Modifier.PRIVATE)) {
+                error(record, "Codecs cannot be generated for private records!");
+                continue;
+            }
+
+            final var components = new ArrayList<Component>();
+            boolean valid = true;
+            for (final RecordComponentElement recordComponent : record.getRecordComponents()) {
+                final var component = parseComponent(record, recordComponent);
+                if (component == null) {
+                    valid = false;
+                } else {
+                    components.add(component);
+                }
+            }
+            if (valid) write(record, components);
+        }
+        return true;
+    }
+
+    private @Nullable Component parseComponent(final @NotNull TypeElement record, final @NotNull RecordComponentElement component) {
+        final var fieldName = component.getAnnotation(FieldName.class);
+        final var defaultValue = component.getAnnotation(Default.class);
+        final var withCodec = component.getAnnotation(WithCodec.class);
+        final var name = fieldName != null ? fieldName.value() : component.getSimpleName().toString();
+
+        final var type = component.asType();
+        final var optionalValue = optionalValueType(type);
+        final var valueType = optionalValue != null ? optionalValue : type;
+        if (withCodec != null && !isCodecFor(component, withCodec.value(), valueType)) return null;
+        final var valueCodec = withCodec != null ? withCodec.value() : findCodec(valueType);
+        if (valueCodec == null) {
+            error(component, "Could not find a codec for type " + valueType + " of component " + component.getSimpleName() +
+                    "! Use @WithCodec to specify one.");
+            return null;
+        }
+
+        final String codec;
+        if (optionalValue != null) {
+            if (defaultValue != null) {
+                error(component, "@Default cannot be used on optional components!");
+                return null;
+            }
+            codec = valueCodec + ".optionalFieldOf(" + literal(name) + ")";
+        } else if (defaultValue != null) {
+            if (!hasStaticField(record, defaultValue.value())) {
+                error(component, "Could not find a non-private static field named " + defaultValue.value() + " in " + record.getQualifiedName() +
+                        " for the default value!");
+                return null;
+            }
+            codec = valueCodec + ".optionalFieldOf(" + literal(name) + ", " + record.getQualifiedName() + "." + defaultValue.value() + ")";
+        } else {
+            codec = valueCodec + ".fieldOf(" + literal(name) + ")";
+        }
+        final var accessor = component.getAccessor().getSimpleName().toString();
+        // Primitive components with the standard codec use the primitive field codecs, so that their values are never boxed.
+        final var primitive = withCodec == null && defaultValue == null ? PRIMITIVE_FIELDS.get(type.getKind()) : null;
+        return new Component(constantName(component.getSimpleName().toString()), accessor, renderType(type), codec, primitive);
+    }
+
+    private @Nullable TypeMirror optionalValueType(final @NotNull TypeMirror type) {
+        if (!(type instanceof final DeclaredType declared)) return null;
+        final var element = (TypeElement) declared.asElement();
+        if (!element.getQualifiedName().contentEquals("java.util.Optional") || declared.getTypeArguments().size() != 1) return null;
+        return declared.getTypeArguments().get(0);
+    }
+
+    private @Nullable String findCodec(final @NotNull TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> findCodec(boxed((PrimitiveType) type));
+            case DECLARED -> findDeclaredCodec((DeclaredType) type);
+            default -> null;
+        };
+    }
+
+    private @Nullable String findDeclaredCodec(final @NotNull DeclaredType type) {
+        final var element = (TypeElement) type.asElement();
+        final var name = element.getQualifiedName().toString();
+        final var boxedCodec = BOXED_CODECS.get(name);
+        if (boxedCodec != null) return CODEC + "." + boxedCodec;
+
+        final var arguments = type.getTypeArguments();
+        if (name.equals("java.util.List") && arguments.size() == 1) {
+            final var elementCodec = findCodec(arguments.get(0));
+            return elementCodec != null ? elementCodec + ".listOf()" : null;
+        }
+        if (name.equals("java.util.Map") && arguments.size() == 2) {
+            final var keyCodec = findCodec(arguments.get(0));
+            final var valueCodec = findCodec(arguments.get(1));
+            return keyCodec != null && valueCodec != null ? CODEC + ".map(" + keyCodec + ", " + valueCodec + ")" : null;
+        }
+        if (!arguments.isEmpty()) return null;
+        if (element.getKind() == ElementKind.RECORD && element.getAnnotation(GenerateCodec.class) != null) return codecName(element) + ".CODEC";
+
+        // Otherwise, we look for a codec that the type provides itself.
+        final var codecType = processingEnv.getTypeUtils().erasure(processingEnv.getElementUtils().getTypeElement(CODEC).asType());
+        for (final Element member : element.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.FIELD || !member.getSimpleName().contentEquals("CODEC")) continue;
+            if (!member.getModifiers().contains(Modifier.STATIC) || member.getModifiers().contains(Modifier.PRIVATE)) continue;
+            if (processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(member.asType()), codecType)) return name + ".CODEC";
+        }
+        return null;
+    }
+
+    private boolean isCodecFor(final @NotNull RecordComponentElement component, final @NotNull String codec, final @NotNull TypeMirror type) {
+        final var separator = codec.lastIndexOf('.');
+        final var owner = separator > 0 ? processingEnv.getElementUtils().getTypeElement(codec.substring(0, separator)) : null;
+        if (owner == null) {
+            error(component, "Could not resolve codec " + codec + " for component " + component.getSimpleName() +
+                    "! @WithCodec must be the fully qualified name of a static field, such as org.example.Position.CODEC.");
+            return false;
+        }
+        final var name = codec.substring(separator + 1);
+        final var types = processingEnv.getTypeUtils();
+        for (final Element member : owner.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.FIELD || !member.getSimpleName().contentEquals(name)) continue;
+            if (!member.getModifiers().contains(Modifier.STATIC) || member.getModifiers().contains(Modifier.PRIVATE)) {
+                error(component, "Codec " + codec + " for component " + component.getSimpleName() + " must be a non-private static field!");
+                return false;
+            }
+            final var valueType = type.getKind().isPrimitive() ? boxed((PrimitiveType) type) : type;
+            final var codecType = types.getDeclaredType(processingEnv.getElementUtils().getTypeElement(CODEC), valueType);
+            if (!types.isAssignable(member.asType(), codecType)) {
+                error(component, "Codec " + codec + " of type " + member.asType() + " cannot be used for type " + valueType + " of component " +
+                        component.getSimpleName() + "!");
+                return false;
+            }
+            return true;
+        }
+        error(component, "Could not find a static field named " + name + " in " + owner.getQualifiedName() + " for the codec of component " +
+                component.getSimpleName() + "!");
+        return false;
+    }
+
+    private static boolean hasStaticField(final @NotNull TypeElement record, final @NotNull String name) {
+        for (final Element member : record.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.FIELD || !member.getSimpleName().contentEquals(name)) continue;
+            return member.getModifiers().contains(Modifier.STATIC) && !member.getModifiers().contains(Modifier.PRIVATE);
+        }
+        return false;
+    }
+
+    private void write(final @NotNull TypeElement record, final @NotNull List<Component> components) {
+        final var codecName = codecName(record);
+        try (final var writer = processingEnv.getFiler().createSourceFile(codecName, record).openWriter()) {
+            writer.write(generate(record, components));
+        } catch (final IOException exception) {
+            error(record, "Failed to write codec " + codecName + ": " + exception.getMessage());
+        }
+    }
+
+    private @NotNull String generate(final @NotNull TypeElement record, final @NotNull List<Component> components) {
+        final var recordName = record.getQualifiedName().toString();
+        final var codecName = codecName(record);
+        final var packageName = packageOf(record).getQualifiedName().toString();
+        final var simpleName = codecName.substring(codecName.lastIndexOf('.') + 1);
+        final var builder = new StringBuilder();
+
+        if (!packageName.isEmpty()) builder.append("package ").append(packageName).append(";\n\n");
+        builder.append("/**\n");
+        builder.append(" * The generated codec for {@link ").append(recordName).append("}.\n");
+        builder.append(" *\n");
+        builder.append(" * <p>This class was generated by the serialization processor, and should not\n");
+        builder.append(" * be edited.</p>\n");
+        builder.append(" */\n");
+        builder.append("public final class ").append(simpleName).append(" implements ").append(MAP_CODEC).append('<').append(recordName).append("> {\n\n");
+
+        for (final var component : components) {
+            builder.append("    private static final ").append(component.codecType()).append(' ').append(component.constant())
+                    .append(" = ").append(component.codec()).append(";\n");
+        }
+        if (!components.isEmpty()) builder.append('\n');
+        builder.append("    /**\n");
+        builder.append("     * The map codec for {@link ").append(recordName).append("}.\n");
+        builder.append("     */\n");
+        builder.append("    public static final ").append(MAP_CODEC).append('<').append(recordName).append("> MAP_CODEC = new ").append(simpleName)
+                .append("();\n");
+        builder.append("    /**\n");
+        builder.append("     * The codec for {@link ").append(recordName).append("}.\n");
+        builder.append("     */\n");
+        builder.append("    public static final ").append(CODEC).append('<').append(recordName).append("> CODEC = MAP_CODEC.codec();\n\n");
+        builder.append("    private ").append(simpleName).append("() {\n");
+        builder.append("    }\n\n");
+
+        // Decoding with errors, which has to collect the results of all the fields, so that it can report all of the errors.
+        builder.append("    @Override\n");
+        builder.append("    public <T> ").append(DATA_RESULT).append('<').append(recordName).append("> decode(final org.kryptonmc.serialization.MapLike<T> input,\n");
+        builder.append("            final org.kryptonmc.serialization.DataOps<T> ops) {\n");
+        builder.append("        return ").append(DATA_RESULT).append(".applyAll(").append(simpleName).append("::construct, new ").append(DATA_RESULT)
+                .append("<?>[] {");
+        appendEach(builder, components, component -> component.constant() + ".decode(input, ops)", ",");
+        builder.append("\n        });\n");
+        builder.append("    }\n\n");
+
+        builder.append("    @Override\n");
+        builder.append("    public <T> ").append(recordName).append(" decodeDirect(final org.kryptonmc.serialization.MapLike<T> input,\n");
+        builder.append("            final org.kryptonmc.serialization.DataOps<T> ops) {\n");
+        builder.append("        return new ").append(recordName).append('(');
+        appendEach(builder, components, component -> component.constant() + ".decode" + component.directSuffix() + "(input, ops)", ",");
+        builder.append("\n        );\n");
+        builder.append("    }\n\n");
+
+        for (final var method : List.of("encode", "encodeDirect")) {
+            builder.append("    @Override\n");
+            builder.append("    public <T> org.kryptonmc.serialization.RecordBuilder<T> ").append(method).append("(final ").append(recordName)
+                    .append(" input, final org.kryptonmc.serialization.DataOps<T> ops,\n");
+            builder.append("            final org.kryptonmc.serialization.RecordBuilder<T> prefix) {\n");
+            for (final var component : components) {
+                final var call = component.primitive() != null ? "encode" + component.primitive() : method;
+                builder.append("        ").append(component.constant()).append('.').append(call).append("(input.").append(component.accessor())
+                        .append("(), ops, prefix);\n");
+            }
+            builder.append("        return prefix;\n");
+            builder.append("    }\n\n");
+        }
+
+        builder.append("    @SuppressWarnings(\"unchecked\")\n");
+        builder.append("    private static ").append(recordName).append(" construct(final Object[] values) {\n");
+        builder.append("        return new ").append(recordName).append('(');
+        final var index = new int[1];
+        appendEach(builder, components, component -> "(" + component.type() + ") values[" + index[0]++ + "]", ",");
+        builder.append("\n        );\n");
+        builder.append("    }\n\n");
+
+        builder.append("    @Override\n");
+        builder.append("    public int expectedSize() {\n");
+        builder.append("        return ").append(components.size()).append(";\n");
+        builder.append("    }\n\n");
+
+        builder.append("    @Override\n");
+        builder.append("    public String toString() {\n");
+        builder.append("        return \"GeneratedCodec[").append(recordName).append("]\";\n");
+        builder.append("    }\n");
+        builder.append("}\n");
+        return builder.toString();
+    }
+
+    private static void appendEach(final @NotNull StringBuilder builder, final @NotNull List<Component> components,
+                                   final @NotNull Function<Component, String> mapper, final @NotNull String separator) {
+        for (int i = 0; i < components.size(); i++) {
+            builder.append("\n                ").append(mapper.apply(components.get(i)));
+            if (i < components.size() - 1) builder.append(separator);
+        }
+    }
+
+    private @NotNull String renderType(final @NotNull TypeMirror type) {
+        // We render types ourselves, rather than using toString, as that would also include any type annotations.
+        return switch (type.getKind()) {
+            case BOOLEAN, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, CHAR -> renderType(boxed((PrimitiveType) type));
+            case ARRAY -> renderArrayComponent(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED -> {
+                final var declared = (DeclaredType) type;
+                final var name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+                if (declared.getTypeArguments().isEmpty()) yield name;
+                final var arguments = new ArrayList<String>();
+                for (final TypeMirror argument : declared.getTypeArguments()) {
+                    arguments.add(renderType(argument));
+                }
+                yield name + '<' + String.join(", ", arguments) + '>';
+            }
+            default -> type.toString();
+        };
+    }
+
+    private @NotNull String renderArrayComponent(final @NotNull TypeMirror type) {
+        // Arrays of primitives must stay arrays of primitives.
+        if (type.getKind().isPrimitive()) return type.getKind().name().toLowerCase(Locale.ROOT);
+        return renderType(type);
+    }
+
+    private @NotNull TypeMirror boxed(final @NotNull PrimitiveType type) {
+        return processingEnv.getTypeUtils().boxedClass(type).asType();
+    }
+
+    private static @NotNull String codecName(final @NotNull TypeElement record) {
+        final var packageName = packageOf(record).getQualifiedName().toString();
+        var simpleName = record.getSimpleName().toString();
+        Element enclosing = record.getEnclosingElement();
+        while (enclosing instanceof final TypeElement type) {
+            simpleName = type.getSimpleName() + "_" + simpleName;
+            enclosing = type.getEnclosingElement();
+        }
+        return packageName.isEmpty() ? simpleName + "Codec" : packageName + "." + simpleName + "Codec";
+    }
+
+    private static @NotNull PackageElement packageOf(final @NotNull Element element) {
+        Element current = element;
+        while (!(current instanceof PackageElement)) {
+            current = current.getEnclosingElement();
+        }
+        return (PackageElement) current;
+    }
+
+    private static @NotNull String constantName(final @NotNull String name) {
+        final var builder = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            final char character = name.charAt(i);
+            if (Character.isUpperCase(character) && i > 0 && !Character.isUpperCase(name.charAt(i - 1))) builder.append('_');
+            builder.append(Character.toUpperCase(character));
+        }
+        return builder.append("_FIELD").toString();
+    }
+
+    private static @NotNull String literal(final @NotNull String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private void error(final @NotNull Element element, final @NotNull String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private record Component(@NotNull String constant, @NotNull String accessor, @NotNull String type, @NotNull String codec,
+                             @Nullable String primitive) {
+
+        @NotNull String codecType() {
+            if (primitive != null) return "org.kryptonmc.serialization.codecs." + primitive + "FieldCodec";
+            return MAP_CODEC + '<' + type + '>';
+        }
+
+        @NotNull String directSuffix() {
+            return primitive != null ? primitive : "Direct";
+        }
+    }
+}
@@ -25,7 +25,11 @@ pluginManagement {
 
 rootProject.name = "serialization"
 
-sequenceOf("core", "gson", "nbt").forEach {
+sequenceOf("core", "gson", "nbt", "processor").forEach {
     include("serialization-$it")
     project(":serialization-$it").projectDir = file(it)
 }
+
+// The benchmarks aren't published, so they don't use the common conventions.
+include("serialization-benchmarks")
+project(":serialization-benchmarks").projectDir = file("benchmarks")